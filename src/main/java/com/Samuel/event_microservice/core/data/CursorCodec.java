@@ -0,0 +1,57 @@
+package com.Samuel.event_microservice.core.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Classe utilitária que codifica e decodifica os cursores opacos da paginação por chave (keyset).
+ * <p>
+ * Os componentes do cursor são unidos por um separador e codificados em Base64 URL-safe,
+ * de modo que o formato interno possa mudar sem quebrar o contrato da API.
+ */
+final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Construtor privado para impedir a instanciação da classe utilitária.
+     */
+    private CursorCodec() {}
+
+    /**
+     * Codifica os componentes de um cursor.
+     *
+     * @param parts Os componentes, na ordem em que serão decodificados.
+     * @return O cursor codificado.
+     */
+    static String encode(Object... parts) {
+        String raw = String.join(SEPARATOR, Arrays.stream(parts).map(String::valueOf).toList());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor nos seus componentes.
+     *
+     * @param encoded O cursor codificado.
+     * @param expectedParts O número de componentes esperado.
+     * @return Os componentes do cursor.
+     * @throws IllegalArgumentException se o cursor estiver malformado.
+     */
+    static List<String> decode(String encoded, int expectedParts) {
+        String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        List<String> parts = List.of(raw.split("\\" + SEPARATOR, -1));
+        if (parts.size() != expectedParts) {
+            throw invalidCursor();
+        }
+        return parts;
+    }
+
+    /**
+     * @return A exceção padrão para cursores inválidos.
+     */
+    static IllegalArgumentException invalidCursor() {
+        return new IllegalArgumentException("Cursor de paginação inválido.");
+    }
+}
@@ -0,0 +1,45 @@
+package com.Samuel.event_microservice.core.data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Objeto de dados com os filtros opcionais da listagem de eventos ativos.
+ * Campos nulos não restringem a listagem.
+ *
+ * @param remote Restringe a eventos remotos ({@code true}) ou presenciais ({@code false}).
+ * @param location Prefixo do local do evento, comparado sem distinção de maiúsculas.
+ * @param startFrom Data e hora mínima de início (inclusiva).
+ * @param startTo Data e hora máxima de início (inclusiva).
+ * @param onlyWithAvailableSpots Se {@code true}, restringe a eventos que ainda têm vagas.
+ */
+public record EventFilter(
+        Boolean remote,
+        String location,
+        LocalDateTime startFrom,
+        LocalDateTime startTo,
+        boolean onlyWithAvailableSpots
+) {
+
+    /**
+     * Filtro que não restringe a listagem.
+     */
+    public static final EventFilter NONE = new EventFilter(null, null, null, null, false);
+
+    /**
+     * @return true se nenhum filtro foi informado.
+     */
+    public boolean isEmpty() {
+        return remote == null && location == null && startFrom == null && startTo == null && !onlyWithAvailableSpots;
+    }
+
+    /**
+     * Cria uma cópia do filtro que começa, no mínimo, na data informada.
+     *
+     * @param dateTime A data e hora mínima de início.
+     * @return O novo filtro.
+     */
+    public EventFilter startingNoEarlierThan(LocalDateTime dateTime) {
+        LocalDateTime from = startFrom == null || startFrom.isBefore(dateTime) ? dateTime : startFrom;
+        return new EventFilter(remote, location, from, startTo, onlyWithAvailableSpots);
+    }
+}
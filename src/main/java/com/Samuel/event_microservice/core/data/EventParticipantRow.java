@@ -0,0 +1,31 @@
+package com.Samuel.event_microservice.core.data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha de resultado da consulta paginada de participantes de um evento.
+ * <p>
+ * A página de inscrições é lida pelo índice da inscrição, e o evento, pela chave primária, informa
+ * a existência e o contador no mesmo comando, numa única ida ao banco de dados.
+ * Quando o evento existe mas não há inscrições na página, é retornada uma única linha
+ * cujos campos da inscrição são nulos.
+ *
+ * @param registeredParticipants O contador de participantes registrados do evento.
+ * @param participantEmail O e-mail do participante, ou {@code null} se não houver inscrição.
+ * @param createdAt A data de criação da inscrição, ou {@code null} se não houver inscrição.
+ * @param subscriptionId O ID da inscrição, ou {@code null} se não houver inscrição.
+ */
+public record EventParticipantRow(
+        int registeredParticipants,
+        String participantEmail,
+        LocalDateTime createdAt,
+        Long subscriptionId
+) {
+
+    /**
+     * @return true se esta linha corresponde a uma inscrição real.
+     */
+    public boolean hasSubscription() {
+        return subscriptionId != null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.Samuel.event_microservice.core.data;
+
+import java.util.UUID;
+
+/**
+ * Projeção de um resultado da busca textual de eventos.
+ * <p>
+ * Contém apenas o ID e a relevância, que bastam para ordenar e paginar os resultados;
+ * os eventos da página são carregados em seguida pela chave primária.
+ */
+public interface EventSearchHit {
+
+    /**
+     * @return O ID do evento encontrado.
+     */
+    UUID getId();
+
+    /**
+     * @return A relevância do evento para a busca, calculada pelo {@code ts_rank}.
+     */
+    float getRank();
+}
@@ -0,0 +1,13 @@
+package com.Samuel.event_microservice.core.data;
+
+import com.Samuel.event_microservice.core.models.EventStatus;
+
+/**
+ * Totais dos eventos de um status, calculados diretamente da tabela de eventos.
+ *
+ * @param status O status dos eventos.
+ * @param eventCount O número de eventos com o status.
+ * @param registeredParticipants A soma dos participantes registrados nesses eventos.
+ */
+public record EventStatusTotals(EventStatus status, long eventCount, long registeredParticipants) {
+}
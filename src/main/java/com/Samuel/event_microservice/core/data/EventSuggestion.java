@@ -0,0 +1,15 @@
+package com.Samuel.event_microservice.core.data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Sugestão de evento para o autocompletar de títulos.
+ * Carrega apenas o necessário para exibir a sugestão e navegar até o evento.
+ *
+ * @param id O ID do evento.
+ * @param title O título original do evento.
+ * @param startDateTime A data e hora de início do evento.
+ */
+public record EventSuggestion(UUID id, String title, LocalDateTime startDateTime) {
+}
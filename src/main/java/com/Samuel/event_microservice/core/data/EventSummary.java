@@ -0,0 +1,34 @@
+package com.Samuel.event_microservice.core.data;
+
+import com.Samuel.event_microservice.core.models.EventStatus;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Dados de um evento exibidos nas listagens, lidos sem carregar a entidade.
+ * <p>
+ * Por não ser uma entidade, não entra no contexto de persistência: o Hibernate não guarda
+ * uma cópia para a verificação de alterações (dirty checking) nem cria a sua entrada de controle.
+ *
+ * @param id O ID do evento.
+ * @param title O título do evento.
+ * @param description A descrição do evento.
+ * @param startDateTime A data e hora de início do evento.
+ * @param endDateTime A data e hora de encerramento do evento.
+ * @param maxParticipants O número máximo de participantes.
+ * @param registeredParticipants O número de participantes inscritos.
+ * @param imageUrl A URL da imagem de banner do evento.
+ * @param eventUrl A URL do evento, caso seja remoto.
+ * @param location O endereço do evento, caso seja presencial.
+ * @param remote Indica se o evento é remoto.
+ * @param status O status do evento.
+ * @param version A versão do evento, usada nos ETags.
+ * @param updatedAt O instante da última alteração, usado como Last-Modified.
+ */
+public record EventSummary(UUID id, String title, String description, LocalDateTime startDateTime,
+                           LocalDateTime endDateTime, int maxParticipants, int registeredParticipants,
+                           String imageUrl, String eventUrl, String location, boolean remote, EventStatus status,
+                           long version, Instant updatedAt) {
+}
@@ -0,0 +1,15 @@
+package com.Samuel.event_microservice.core.data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Versão de um evento, lida sem carregar a entidade completa.
+ * Basta para decidir se o cliente já tem a representação atual (requisições condicionais).
+ *
+ * @param id O ID do evento.
+ * @param version A versão do evento, incrementada a cada alteração.
+ * @param updatedAt O instante da última alteração.
+ */
+public record EventVersion(UUID id, long version, Instant updatedAt) {
+}
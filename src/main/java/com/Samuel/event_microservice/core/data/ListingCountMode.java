@@ -0,0 +1,47 @@
+package com.Samuel.event_microservice.core.data;
+
+import java.util.Locale;
+
+/**
+ * Como o total de uma listagem paginada é informado ao cliente, escolhido por requisição.
+ */
+public enum ListingCountMode {
+
+    /**
+     * Total exato: a listagem executa também um {@code count(*)} sobre os eventos filtrados.
+     */
+    EXACT,
+
+    /**
+     * Sem total: busca uma linha a mais para saber se há uma próxima página, sem contar.
+     */
+    NONE,
+
+    /**
+     * Sem contagem na requisição, com um total aproximado mantido em cache e atualizado em segundo plano.
+     */
+    ESTIMATED;
+
+    /**
+     * Converte o valor do parâmetro {@code count} da requisição.
+     *
+     * @param value O valor recebido ({@code exact}, {@code none} ou {@code estimated}, sem diferenciar maiúsculas).
+     * @return O modo correspondente.
+     * @throws IllegalArgumentException se o valor não corresponder a nenhum modo.
+     */
+    public static ListingCountMode fromParameter(String value) {
+        for (ListingCountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value == null ? "" : value.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("O parâmetro count deve ser exact, none ou estimated.");
+    }
+
+    /**
+     * @return O valor do modo no parâmetro {@code count}.
+     */
+    public String parameterValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
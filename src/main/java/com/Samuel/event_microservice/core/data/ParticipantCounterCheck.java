@@ -0,0 +1,32 @@
+package com.Samuel.event_microservice.core.data;
+
+import java.util.UUID;
+
+/**
+ * Projeção do contador de participantes registrados de um evento ao lado do número de
+ * inscrições gravadas, lidos no mesmo comando.
+ */
+public interface ParticipantCounterCheck {
+
+    /**
+     * @return O ID do evento.
+     */
+    UUID getId();
+
+    /**
+     * @return O valor do contador {@code registered_participants}.
+     */
+    int getRecorded();
+
+    /**
+     * @return O número de inscrições do evento na tabela {@code subscription}.
+     */
+    long getActual();
+
+    /**
+     * @return {@code true} se o contador diverge das inscrições.
+     */
+    default boolean isDrifted() {
+        return getRecorded() != getActual();
+    }
+}
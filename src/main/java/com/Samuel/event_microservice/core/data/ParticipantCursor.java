@@ -0,0 +1,42 @@
+package com.Samuel.event_microservice.core.data;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Cursor opaco da paginação por chave (keyset) da listagem de participantes.
+ * <p>
+ * Representa a posição da última inscrição retornada, na ordenação (createdAt, id).
+ *
+ * @param createdAt A data de criação da última inscrição retornada.
+ * @param subscriptionId O ID da última inscrição retornada.
+ */
+public record ParticipantCursor(LocalDateTime createdAt, Long subscriptionId) {
+
+    /**
+     * Codifica o cursor no formato opaco enviado ao cliente.
+     *
+     * @return O cursor codificado.
+     */
+    public String encode() {
+        return CursorCodec.encode(createdAt, subscriptionId);
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     *
+     * @param encoded O cursor codificado.
+     * @return O cursor decodificado.
+     * @throws IllegalArgumentException se o cursor estiver malformado.
+     */
+    public static ParticipantCursor decode(String encoded) {
+        try {
+            List<String> parts = CursorCodec.decode(encoded, 2);
+            return new ParticipantCursor(LocalDateTime.parse(parts.get(0)), Long.parseLong(parts.get(1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException é subclasse de IllegalArgumentException
+            throw CursorCodec.invalidCursor();
+        }
+    }
+}
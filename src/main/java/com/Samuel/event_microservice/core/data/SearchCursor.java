@@ -0,0 +1,42 @@
+package com.Samuel.event_microservice.core.data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cursor opaco da paginação por chave (keyset) da busca textual de eventos.
+ * <p>
+ * Representa a posição do último resultado retornado, na ordenação (rank DESC, id ASC).
+ * O rank é mantido como {@code float} para coincidir exatamente com o tipo {@code real}
+ * retornado pelo {@code ts_rank} do PostgreSQL na comparação da próxima página.
+ *
+ * @param rank A relevância do último resultado retornado.
+ * @param eventId O ID do último evento retornado.
+ */
+public record SearchCursor(float rank, UUID eventId) {
+
+    /**
+     * Codifica o cursor no formato opaco enviado ao cliente.
+     *
+     * @return O cursor codificado.
+     */
+    public String encode() {
+        return CursorCodec.encode(rank, eventId);
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     *
+     * @param encoded O cursor codificado.
+     * @return O cursor decodificado.
+     * @throws IllegalArgumentException se o cursor estiver malformado.
+     */
+    public static SearchCursor decode(String encoded) {
+        try {
+            List<String> parts = CursorCodec.decode(encoded, 2);
+            return new SearchCursor(Float.parseFloat(parts.get(0)), UUID.fromString(parts.get(1)));
+        } catch (IllegalArgumentException e) {
+            throw CursorCodec.invalidCursor();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.Samuel.event_microservice.core.exceptions;
+
+import com.Samuel.event_microservice.infrastructure.exceptions.GlobalExceptionHandler;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando uma inscrição chega à sala de espera sem um token de admissão válido
+ * (ausente, adulterado, de outro evento, expirado ou já usado).
+ * <p>
+ * Esta exceção resulta em uma resposta HTTP 403 (Forbidden) quando tratada pelo
+ * {@link GlobalExceptionHandler}.
+ */
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class AdmissionTokenInvalidException extends RuntimeException {
+
+    public AdmissionTokenInvalidException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.Samuel.event_microservice.core.exceptions;
+
+import com.Samuel.event_microservice.infrastructure.exceptions.GlobalExceptionHandler;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.Map;
+
+/**
+ * Exceção lançada quando uma inscrição em grupo no modo "tudo ou nada" não pode inscrever
+ * todos os participantes. Nenhuma inscrição do grupo é mantida.
+ * <p>
+ * Esta exceção resulta em uma resposta HTTP 409 (Conflict) quando tratada pelo
+ * {@link GlobalExceptionHandler}, com o motivo de cada participante que impediu a inscrição.
+ */
+@Getter
+@ResponseStatus(HttpStatus.CONFLICT)
+public class GroupRegistrationRejectedException extends RuntimeException {
+
+    private final Map<String, String> failures; // E-mail do participante -> motivo da recusa.
+
+    public GroupRegistrationRejectedException(Map<String, String> failures) {
+        super("O grupo não pôde ser inscrito por completo; nenhuma inscrição foi realizada.");
+        this.failures = failures;
+    }
+}
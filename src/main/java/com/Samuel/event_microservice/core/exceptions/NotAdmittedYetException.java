@@ -0,0 +1,29 @@
+package com.Samuel.event_microservice.core.exceptions;
+
+import com.Samuel.event_microservice.infrastructure.exceptions.GlobalExceptionHandler;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+/**
+ * Exceção lançada quando uma inscrição usa um token de admissão válido cuja vez na sala de espera
+ * ainda não chegou.
+ * <p>
+ * Esta exceção resulta em uma resposta HTTP 429 (Too Many Requests) quando tratada pelo
+ * {@link GlobalExceptionHandler}, com o cabeçalho {@code Retry-After}.
+ */
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class NotAdmittedYetException extends RuntimeException {
+
+    private final long ahead; // Quantos clientes ainda estão à frente na fila.
+    private final Duration retryAfter; // Estimativa de quando o cliente será admitido.
+
+    public NotAdmittedYetException(long ahead, Duration retryAfter) {
+        super("Ainda não é a sua vez na sala de espera. Há " + ahead + " pessoa(s) à sua frente.");
+        this.ahead = ahead;
+        this.retryAfter = retryAfter;
+    }
+}
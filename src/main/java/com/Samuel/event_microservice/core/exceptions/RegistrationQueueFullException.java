@@ -0,0 +1,26 @@
+package com.Samuel.event_microservice.core.exceptions;
+
+import com.Samuel.event_microservice.infrastructure.exceptions.GlobalExceptionHandler;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+/**
+ * Exceção lançada quando a fila de inscrições assíncronas atingiu a sua capacidade.
+ * <p>
+ * Esta exceção resulta em uma resposta HTTP 503 (Service Unavailable) quando tratada pelo
+ * {@link GlobalExceptionHandler}, com o cabeçalho {@code Retry-After}.
+ */
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class RegistrationQueueFullException extends RuntimeException {
+
+    private final Duration retryAfter; // Quanto tempo o cliente deve esperar antes de tentar de novo.
+
+    public RegistrationQueueFullException(Duration retryAfter) {
+        super("A fila de inscrições está cheia. Tente novamente em instantes.");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,23 @@
+package com.Samuel.event_microservice.core.exceptions;
+
+import com.Samuel.event_microservice.infrastructure.exceptions.GlobalExceptionHandler;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando um ticket de inscrição assíncrona não existe.
+ * <p>
+ * Esta exceção resulta em uma resposta HTTP 404 (Not Found) quando tratada pelo
+ * {@link GlobalExceptionHandler}.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class RegistrationTicketNotFoundException extends RuntimeException {
+
+    public RegistrationTicketNotFoundException() {
+        super("Pedido de inscrição não encontrado.");
+    }
+
+    public RegistrationTicketNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.Samuel.event_microservice.core.exceptions;
+
+import com.Samuel.event_microservice.infrastructure.exceptions.GlobalExceptionHandler;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando uma operação tenta usar uma reserva de vaga que não existe,
+ * que já expirou ou que já foi confirmada ou liberada.
+ * <p>
+ * Esta exceção resulta em uma resposta HTTP 404 (Not Found) quando tratada pelo
+ * {@link GlobalExceptionHandler}.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class SeatHoldNotFoundException extends RuntimeException {
+
+    public SeatHoldNotFoundException() {
+        super("Reserva não encontrada ou expirada.");
+    }
+
+    public SeatHoldNotFoundException(String message) {
+        super(message);
+    }
+}
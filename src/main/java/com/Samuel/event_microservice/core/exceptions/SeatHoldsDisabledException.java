@@ -0,0 +1,24 @@
+package com.Samuel.event_microservice.core.exceptions;
+
+import com.Samuel.event_microservice.infrastructure.exceptions.GlobalExceptionHandler;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando uma operação de reserva de vaga é pedida a uma implantação em que as
+ * reservas não estão habilitadas ({@code app.holds.enabled}).
+ * <p>
+ * Esta exceção resulta em uma resposta HTTP 501 (Not Implemented) quando tratada pelo
+ * {@link GlobalExceptionHandler}.
+ */
+@ResponseStatus(HttpStatus.NOT_IMPLEMENTED)
+public class SeatHoldsDisabledException extends RuntimeException {
+
+    public SeatHoldsDisabledException() {
+        super("As reservas de vagas não estão habilitadas nesta implantação.");
+    }
+
+    public SeatHoldsDisabledException(String message) {
+        super(message);
+    }
+}
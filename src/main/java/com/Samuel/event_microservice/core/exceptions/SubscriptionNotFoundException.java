@@ -0,0 +1,23 @@
+package com.Samuel.event_microservice.core.exceptions;
+
+import com.Samuel.event_microservice.infrastructure.exceptions.GlobalExceptionHandler;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando uma operação tenta usar uma inscrição que não existe.
+ * <p>
+ * Esta exceção resulta em uma resposta HTTP 404 (Not Found) quando tratada pelo
+ * {@link GlobalExceptionHandler}.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class SubscriptionNotFoundException extends RuntimeException {
+
+    public SubscriptionNotFoundException() {
+        super("Inscrição não encontrada para este evento.");
+    }
+
+    public SubscriptionNotFoundException(String message) {
+        super(message);
+    }
+}
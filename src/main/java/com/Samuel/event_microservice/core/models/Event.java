@@ -1,19 +1,33 @@
 package com.Samuel.event_microservice.core.models;
 
 import com.Samuel.event_microservice.core.data.EventUpdateData;
-import com.Samuel.event_microservice.core.exceptions.EventFullException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Representa a entidade Event no banco de dados.
+ * <p>
+ * A classe passa pelo enhancement do Hibernate no build ({@code hibernate-enhance-maven-plugin}):
+ * as alterações são registradas na própria escrita dos campos, em vez de comparadas com uma cópia
+ * no flush, e o {@code UPDATE} ({@link DynamicUpdate}) grava apenas as colunas alteradas.
+ * <p>
+ * Os eventos carregados pelo ID ficam na região {@code event} do cache de segundo nível. A
+ * estratégia {@code READ_WRITE} bloqueia a entrada durante as alterações feitas pelo Hibernate;
+ * os comandos nativos que alteram a linha do evento invalidam a entrada explicitamente.
  */
 @Entity(name = "event")
 @Table(name = "event")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event")
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
 @AllArgsConstructor // Mantido para o @Builder
@@ -27,6 +41,7 @@ public class Event {
     private int maxParticipants; // O número máximo de participantes permitidos no evento.
     private int registeredParticipants; // O número de participantes atualmente registrados no evento.
     private String title; // O título do evento.
+    @Basic(fetch = FetchType.LAZY) // Coluna TEXT, carregada só quando acessada; as listagens usam projeções
     private String description; // Uma descrição detalhada do evento.
     private LocalDateTime startDateTime; // A data e hora de início do evento.
     private LocalDateTime endDateTime; // A data e hora de encerramento do evento.
@@ -38,6 +53,11 @@ public class Event {
     @Enumerated(EnumType.STRING) // Salva o nome do enum (ACTIVE, CANCELLED) no banco
     private EventStatus status;
 
+    @Version
+    private long version; // Incrementada a cada alteração; usada no bloqueio otimista e como ETag.
+
+    private Instant updatedAt; // O instante (UTC) da última alteração; usado como Last-Modified.
+
     /**
      * Construtor para criar uma instância de Event com validações de domínio.
      *
@@ -63,18 +83,31 @@ public class Event {
     }
 
     /**
-     * Incrementa o contador de participantes registrados no evento.
+     * Verifica se o evento aceita novas inscrições ou reservas de vagas.
      *
-     * @throws EventFullException se o evento já atingiu a sua capacidade máxima.
+     * @throws IllegalStateException se o evento não estiver ativo.
      */
-    public void registerParticipant() {
+    public void ensureOpenForRegistration() {
         if (this.status != EventStatus.ACTIVE) {
             throw new IllegalStateException("Não é possível se inscrever em um evento que não está ativo.");
         }
-        if (this.registeredParticipants >= this.maxParticipants) {
-            throw new EventFullException("O evento já está lotado.");
-        }
-        this.registeredParticipants++;
+    }
+
+    /**
+     * Verifica se ainda há vaga livre, tratando as vagas reservadas temporariamente como ocupadas.
+     *
+     * @param heldSeats O número de vagas reservadas por outros participantes.
+     * @return {@code true} se as inscrições e as reservas ainda não ocupam todas as vagas.
+     */
+    public boolean hasAvailableSeat(int heldSeats) {
+        return this.registeredParticipants + heldSeats < this.maxParticipants;
+    }
+
+    /**
+     * @return O número de vagas ainda não ocupadas por inscrições.
+     */
+    public int availableSeats() {
+        return Math.max(0, this.maxParticipants - this.registeredParticipants);
     }
 
     /**
@@ -177,6 +210,17 @@ public class Event {
         }
     }
 
+    /**
+     * Registra o instante da alteração sempre que o evento é inserido ou modificado. Como um
+     * {@link Instant}, gravado em uma coluna {@code TIMESTAMPTZ}, ele é comparável com o
+     * {@code now()} dos comandos nativos, independentemente do fuso da JVM ou do banco.
+     */
+    @PrePersist
+    @PreUpdate
+    private void touch() {
+        this.updatedAt = Instant.now();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
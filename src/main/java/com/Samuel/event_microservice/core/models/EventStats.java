@@ -0,0 +1,30 @@
+package com.Samuel.event_microservice.core.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Representa a entidade EventStats (contadores dos eventos de um status) no banco de dados.
+ * Há uma linha por status; os contadores são alterados por comandos atômicos a cada transição
+ * de status e recalculados periodicamente pela reconciliação.
+ */
+@Entity(name = "event_stats")
+@Table(name = "event_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+@AllArgsConstructor // Necessário para o @Builder
+@Builder // Adicionado para facilitar a criação de objetos em testes
+public class EventStats {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private final EventStatus status; // O status ao qual os contadores se referem.
+
+    private final long eventCount; // O número de eventos com o status.
+
+    private final long registeredParticipants; // A soma dos participantes registrados nesses eventos.
+
+    private final LocalDateTime updatedAt; // A data e hora da última alteração dos contadores.
+}
@@ -0,0 +1,110 @@
+package com.Samuel.event_microservice.core.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Representa a entidade IdempotencyRecord (resposta gravada de uma chave de idempotência) no banco de dados.
+ * Guarda a resposta de uma requisição enviada com o cabeçalho {@code Idempotency-Key}, para que
+ * novas tentativas com a mesma chave recebam a mesma resposta sem executar a operação novamente.
+ */
+@Entity(name = "idempotency_key")
+@Table(name = "idempotency_key")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+@AllArgsConstructor // Necessário para o @Builder
+@Builder // Adicionado para facilitar a criação de objetos em testes
+public class IdempotencyRecord {
+
+    @Id
+    private final String idempotencyKey; // A chave enviada pelo cliente.
+
+    private final String requestFingerprint; // Hash do método, caminho e corpo da requisição original.
+
+    private final int statusCode; // O status HTTP da resposta gravada.
+
+    private final String contentType; // O Content-Type da resposta gravada, se houver.
+
+    private final String location; // O cabeçalho Location da resposta gravada, se houver.
+
+    private final byte[] responseBody; // O corpo da resposta gravada.
+
+    private final LocalDateTime createdAt; // A data e hora em que a resposta foi gravada.
+
+    private final LocalDateTime expiresAt; // A partir de quando a chave pode ser reutilizada.
+
+    /**
+     * Construtor que cria uma nova instância de IdempotencyRecord.
+     * Realiza validações básicas antes de criar o objeto.
+     *
+     * @param idempotencyKey A chave enviada pelo cliente.
+     * @param requestFingerprint O hash da requisição original.
+     * @param statusCode O status HTTP da resposta.
+     * @param contentType O Content-Type da resposta (opcional).
+     * @param location O cabeçalho Location da resposta (opcional).
+     * @param responseBody O corpo da resposta.
+     * @param ttl Por quanto tempo a resposta fica gravada.
+     * @throws IllegalArgumentException se a chave, o hash ou o corpo forem nulos/vazios ou se a duração não for positiva.
+     */
+    public IdempotencyRecord(String idempotencyKey, String requestFingerprint, int statusCode, String contentType,
+                             String location, byte[] responseBody, Duration ttl) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("A chave de idempotência não pode ser nula ou vazia.");
+        }
+        if (requestFingerprint == null || requestFingerprint.isBlank()) {
+            throw new IllegalArgumentException("O hash da requisição não pode ser nulo ou vazio.");
+        }
+        if (responseBody == null) {
+            throw new IllegalArgumentException("O corpo da resposta não pode ser nulo.");
+        }
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("A duração da chave de idempotência deve ser positiva.");
+        }
+
+        this.idempotencyKey = idempotencyKey;
+        this.requestFingerprint = requestFingerprint;
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.location = location;
+        this.responseBody = responseBody;
+        this.createdAt = LocalDateTime.now();
+        this.expiresAt = this.createdAt.plus(ttl);
+    }
+
+    /**
+     * Verifica se a resposta gravada já expirou no instante informado.
+     *
+     * @param now O instante de referência.
+     * @return {@code true} se a chave pode ser reutilizada.
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * Verifica se a resposta gravada pertence à mesma requisição.
+     *
+     * @param fingerprint O hash da requisição recebida.
+     * @return {@code true} se a requisição é uma nova tentativa da original.
+     */
+    public boolean matches(String fingerprint) {
+        return requestFingerprint.equals(fingerprint);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IdempotencyRecord that = (IdempotencyRecord) o;
+        return Objects.equals(idempotencyKey, that.idempotencyKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(idempotencyKey);
+    }
+}
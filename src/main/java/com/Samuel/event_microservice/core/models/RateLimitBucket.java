@@ -0,0 +1,38 @@
+package com.Samuel.event_microservice.core.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Objects;
+
+/**
+ * Representa a entidade RateLimitBucket (balde de tokens de um cliente) no banco de dados.
+ * Usada apenas no modo compartilhado do limite de requisições, para que todas as instâncias
+ * consumam do mesmo balde; a linha é lida e alterada por um único comando atômico.
+ */
+@Entity(name = "rate_limit_bucket")
+@Table(name = "rate_limit_bucket")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+@AllArgsConstructor // Necessário para o @Builder
+@Builder // Adicionado para facilitar a criação de objetos em testes
+public class RateLimitBucket {
+
+    @Id
+    private final String bucketKey; // Hash do grupo de endpoints e do cliente.
+
+    private final long tat; // Instante teórico de chegada, em microssegundos desde a época.
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RateLimitBucket that = (RateLimitBucket) o;
+        return Objects.equals(bucketKey, that.bucketKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(bucketKey);
+    }
+}
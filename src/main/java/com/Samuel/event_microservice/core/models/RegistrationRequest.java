@@ -0,0 +1,113 @@
+package com.Samuel.event_microservice.core.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Representa a entidade RegistrationRequest (inscrição assíncrona) no banco de dados.
+ * Registra um pedido de inscrição aceito sem ser processado na requisição; os pedidos são
+ * processados em ordem de chegada e o resultado fica disponível para consulta pelo ticket.
+ */
+@Entity(name = "registration_request")
+@Table(name = "registration_request")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+@AllArgsConstructor // Necessário para o @Builder
+@Builder // Adicionado para facilitar a criação de objetos em testes
+public class RegistrationRequest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private final Long id; // Identificador do pedido; também define a ordem na fila.
+
+    private final UUID ticket; // O identificador devolvido ao cliente para consultar o resultado.
+
+    private final UUID eventId; // O ID do evento.
+
+    private final String participantEmail; // O e-mail do participante.
+
+    @Enumerated(EnumType.STRING)
+    private RegistrationRequestStatus status; // A situação do pedido.
+
+    private String message; // O motivo da recusa, se houver.
+
+    private final LocalDateTime createdAt; // A data e hora em que o pedido foi aceito.
+
+    private LocalDateTime processedAt; // A data e hora em que o pedido foi processado.
+
+    private LocalDateTime claimedUntil; // Até quando o pedido está reservado por uma rodada do consumidor.
+
+    /**
+     * Construtor que cria um novo pedido de inscrição pendente.
+     * Realiza validações básicas antes de criar o objeto.
+     *
+     * @param eventId O ID do evento.
+     * @param participantEmail O e-mail do participante.
+     * @throws IllegalArgumentException se o evento for nulo ou o e-mail do participante for nulo/vazio.
+     */
+    public RegistrationRequest(UUID eventId, String participantEmail) {
+        if (eventId == null) {
+            throw new IllegalArgumentException("O evento não pode ser nulo.");
+        }
+        if (participantEmail == null || participantEmail.isBlank()) {
+            throw new IllegalArgumentException("O email do participante não pode ser nulo ou vazio.");
+        }
+
+        this.id = null; // O ID será gerado pelo JPA
+        this.ticket = UUID.randomUUID();
+        this.eventId = eventId;
+        this.participantEmail = participantEmail;
+        this.status = RegistrationRequestStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * Reserva o pedido para uma rodada do consumidor: até o instante informado, outras rodadas o pulam.
+     *
+     * @param until O instante em que a reserva expira.
+     * @throws IllegalStateException se o pedido já foi processado.
+     */
+    public void claim(LocalDateTime until) {
+        if (this.status != RegistrationRequestStatus.PENDING) {
+            throw new IllegalStateException("Este pedido de inscrição já foi processado.");
+        }
+        this.claimedUntil = until;
+    }
+
+    /**
+     * Registra o resultado do processamento do pedido.
+     *
+     * @param status O resultado do pedido.
+     * @param message O motivo da recusa, ou {@code null} se o participante foi inscrito.
+     * @throws IllegalStateException se o pedido já foi processado.
+     * @throws IllegalArgumentException se o resultado informado for {@code PENDING}.
+     */
+    public void complete(RegistrationRequestStatus status, String message) {
+        if (this.status != RegistrationRequestStatus.PENDING) {
+            throw new IllegalStateException("Este pedido de inscrição já foi processado.");
+        }
+        if (status == null || status == RegistrationRequestStatus.PENDING) {
+            throw new IllegalArgumentException("O resultado do pedido de inscrição deve ser final.");
+        }
+        this.status = status;
+        this.message = message;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RegistrationRequest that = (RegistrationRequest) o;
+        return Objects.equals(ticket, that.ticket);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(ticket);
+    }
+}
@@ -0,0 +1,13 @@
+package com.Samuel.event_microservice.core.models;
+
+/**
+ * Representa a situação de uma inscrição assíncrona.
+ */
+public enum RegistrationRequestStatus {
+
+    PENDING, // Na fila, aguardando o processamento.
+    REGISTERED, // O participante foi inscrito.
+    ALREADY_SUBSCRIBED, // O participante já estava inscrito no evento.
+    EVENT_FULL, // Não havia vaga no evento.
+    REJECTED // O evento não existe, não está ativo ou a inscrição falhou.
+}
@@ -0,0 +1,101 @@
+package com.Samuel.event_microservice.core.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Representa a entidade SeatHold (reserva de vaga) no banco de dados.
+ * Segura uma vaga de um evento para um participante por um tempo limitado, até que a
+ * inscrição seja confirmada ou a reserva seja liberada ou expire.
+ * <p>
+ * O ID é gerado na criação do objeto, para que a reserva possa ser registrada em memória
+ * antes de ser persistida.
+ */
+@Entity(name = "seat_hold")
+@Table(name = "seat_hold")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class SeatHold implements Persistable<UUID> {
+
+    @Id
+    private final UUID id; // Identificador único da reserva (UUID).
+
+    private final UUID eventId; // O ID do evento cuja vaga está reservada.
+
+    private final String participantEmail; // O e-mail do participante que detém a reserva.
+
+    private final LocalDateTime expiresAt; // A data e hora em que a reserva expira.
+
+    private final LocalDateTime createdAt; // A data e hora em que a reserva foi criada.
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean isNew = true; // Evita a consulta prévia do merge: a reserva só é inserida uma vez.
+
+    /**
+     * Construtor que cria uma nova instância de SeatHold.
+     * Realiza validações básicas antes de criar o objeto.
+     *
+     * @param eventId O ID do evento cuja vaga será reservada.
+     * @param participantEmail O e-mail do participante.
+     * @param ttl Por quanto tempo a vaga fica reservada.
+     * @throws IllegalArgumentException se algum dos dados for nulo/vazio ou se a duração não for positiva.
+     */
+    public SeatHold(UUID eventId, String participantEmail, Duration ttl) {
+        if (eventId == null) {
+            throw new IllegalArgumentException("O evento não pode ser nulo.");
+        }
+        if (participantEmail == null || participantEmail.isBlank()) {
+            throw new IllegalArgumentException("O email do participante não pode ser nulo ou vazio.");
+        }
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("A duração da reserva deve ser positiva.");
+        }
+
+        this.id = UUID.randomUUID();
+        this.eventId = eventId;
+        this.participantEmail = participantEmail;
+        this.createdAt = LocalDateTime.now();
+        this.expiresAt = this.createdAt.plus(ttl);
+    }
+
+    /**
+     * Verifica se a reserva já expirou no instante informado.
+     *
+     * @param now O instante de referência.
+     * @return {@code true} se a reserva não é mais válida.
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    private void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SeatHold that = (SeatHold) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -11,7 +11,8 @@ import java.util.Objects;
  * Registra a participação de um usuário num evento.
  */
 @Entity(name = "subscription")
-@Table(name = "subscription")
+@Table(name = "subscription", uniqueConstraints = @UniqueConstraint(
+        name = "uk_subscription_event_participant", columnNames = {"event_id", "participant_email"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
 @AllArgsConstructor // Necessário para o @Builder
@@ -0,0 +1,69 @@
+package com.Samuel.event_microservice.core.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Representa a entidade WaitlistEntry (entrada na lista de espera) no banco de dados.
+ * Registra um participante aguardando uma vaga em um evento lotado; as entradas são
+ * promovidas a inscrições em ordem de chegada quando vagas são abertas.
+ */
+@Entity(name = "waitlist")
+@Table(name = "waitlist")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+@AllArgsConstructor // Necessário para o @Builder
+@Builder // Adicionado para facilitar a criação de objetos em testes
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private final Long id; // Identificador da entrada; também define a ordem na fila.
+
+    private final UUID eventId; // O ID do evento aguardado.
+
+    private final String participantEmail; // O e-mail do participante na fila.
+
+    private final LocalDateTime createdAt; // A data e hora em que o participante entrou na fila.
+
+    /**
+     * Construtor que cria uma nova instância de WaitlistEntry.
+     * Realiza validações básicas antes de criar o objeto.
+     *
+     * @param eventId O ID do evento aguardado.
+     * @param participantEmail O e-mail do participante.
+     * @throws IllegalArgumentException se o evento for nulo ou o e-mail do participante for nulo/vazio.
+     */
+    public WaitlistEntry(UUID eventId, String participantEmail) {
+        if (eventId == null) {
+            throw new IllegalArgumentException("O evento não pode ser nulo.");
+        }
+        if (participantEmail == null || participantEmail.isBlank()) {
+            throw new IllegalArgumentException("O email do participante não pode ser nulo ou vazio.");
+        }
+
+        this.id = null; // O ID será gerado pelo JPA
+        this.eventId = eventId;
+        this.participantEmail = participantEmail;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        WaitlistEntry that = (WaitlistEntry) o;
+        // Compara pela identidade (ID) apenas se o ID não for nulo.
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        // Retorna um valor constante para garantir que o hashCode não mude.
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,37 @@
+package com.Samuel.event_microservice.core.ports;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Interface (Port) que define como as alterações de um evento são executadas.
+ * <p>
+ * Cada alteração é executada em uma transação; a implementação decide se ela roda na thread
+ * do chamador ou se é serializada com as demais alterações do mesmo evento. Em qualquer caso, a
+ * chamada só retorna depois do commit, com o resultado da alteração ou a exceção lançada por ela.
+ */
+public interface EventMutationExecutorPort {
+
+    /**
+     * Executa uma alteração de um evento em uma transação.
+     *
+     * @param eventId O ID do evento alterado.
+     * @param mutation A alteração. Uma exceção lançada por ela desfaz as suas escritas.
+     * @param <T> O tipo do resultado.
+     * @return O resultado da alteração.
+     */
+    <T> T execute(UUID eventId, Supplier<T> mutation);
+
+    /**
+     * Executa uma alteração sem resultado de um evento em uma transação.
+     *
+     * @param eventId O ID do evento alterado.
+     * @param mutation A alteração. Uma exceção lançada por ela desfaz as suas escritas.
+     */
+    default void executeWithoutResult(UUID eventId, Runnable mutation) {
+        execute(eventId, () -> {
+            mutation.run();
+            return null;
+        });
+    }
+}
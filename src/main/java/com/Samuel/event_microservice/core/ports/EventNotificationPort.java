@@ -17,7 +17,7 @@ public interface EventNotificationPort {
     void notifyParticipantsOfCancellation(Event event);
 
     /**
-     * Envia um e-mail de confirmação de inscrição para um participante.
+     * Envia um e-mail de confirmação de inscrição para um participante, sem esperar pelo envio.
      *
      * @param event O evento ao qual o participante se inscreveu.
      * @param participantEmail O e-mail do participante.
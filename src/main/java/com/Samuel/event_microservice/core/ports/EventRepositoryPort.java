@@ -1,10 +1,21 @@
 package com.Samuel.event_microservice.core.ports;
 
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.data.EventSearchHit;
+import com.Samuel.event_microservice.core.data.EventStatusTotals;
+import com.Samuel.event_microservice.core.data.EventSuggestion;
+import com.Samuel.event_microservice.core.data.EventSummary;
+import com.Samuel.event_microservice.core.data.EventVersion;
+import com.Samuel.event_microservice.core.data.ParticipantCounterCheck;
 import com.Samuel.event_microservice.core.models.Event;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,12 +37,60 @@ public interface EventRepositoryPort {
     Event save(Event event);
 
     /**
-     * Busca uma página de todos os eventos.
+     * Busca uma página de eventos ativos que atendem aos filtros informados.
      *
+     * @param filter Os filtros da listagem; campos nulos não restringem o resultado.
      * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
-     * @return Uma página de eventos.
+     * @return Uma página de eventos ativos.
      */
-    Page<Event> findAll(Pageable pageable);
+    Page<Event> findActiveEvents(EventFilter filter, Pageable pageable);
+
+    /**
+     * Busca os resumos dos eventos da mesma página que {@link #findActiveEvents} retornaria, lidos
+     * diretamente das colunas, sem carregar as entidades no contexto de persistência.
+     *
+     * @param filter Os filtros da listagem; campos nulos não restringem o resultado.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma página com os resumos dos eventos ativos.
+     */
+    Page<EventSummary> findActiveEventSummaries(EventFilter filter, Pageable pageable);
+
+    /**
+     * Busca apenas as versões dos eventos da mesma página que {@link #findActiveEvents} retornaria,
+     * sem carregar as entidades.
+     *
+     * @param filter Os filtros da listagem; campos nulos não restringem o resultado.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma página com as versões dos eventos ativos.
+     */
+    Page<EventVersion> findActiveEventVersions(EventFilter filter, Pageable pageable);
+
+    /**
+     * Busca os resumos dos eventos da mesma página que {@link #findActiveEventSummaries}, sem contar
+     * o total: a próxima página é detectada buscando um evento a mais.
+     *
+     * @param filter Os filtros da listagem; campos nulos não restringem o resultado.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma fatia com os resumos dos eventos ativos.
+     */
+    Slice<EventSummary> findActiveEventSummariesSlice(EventFilter filter, Pageable pageable);
+
+    /**
+     * Busca apenas as versões dos eventos da mesma fatia que {@link #findActiveEventSummariesSlice} retornaria.
+     *
+     * @param filter Os filtros da listagem; campos nulos não restringem o resultado.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma fatia com as versões dos eventos ativos.
+     */
+    Slice<EventVersion> findActiveEventVersionsSlice(EventFilter filter, Pageable pageable);
+
+    /**
+     * Conta os eventos ativos que atendem aos filtros.
+     *
+     * @param filter Os filtros da listagem; campos nulos não restringem o resultado.
+     * @return O número de eventos ativos.
+     */
+    long countActiveEvents(EventFilter filter);
 
     /**
      * Busca um evento pelo seu ID.
@@ -41,6 +100,23 @@ public interface EventRepositoryPort {
      */
     Optional<Event> findById(UUID id);
 
+    /**
+     * Busca o resumo de um evento pelo seu ID, lido diretamente das colunas, sem carregar a entidade.
+     *
+     * @param id O UUID do evento.
+     * @return Um Optional contendo o resumo do evento, se encontrado.
+     */
+    Optional<EventSummary> findSummaryById(UUID id);
+
+    /**
+     * Lê as vagas de um evento ainda não ocupadas por inscrições diretamente do banco, sem
+     * passar por nenhum cache.
+     *
+     * @param id O UUID do evento.
+     * @return Um Optional com o número de vagas livres, se o evento for encontrado.
+     */
+    Optional<Integer> findAvailableSeatsById(UUID id);
+
     /**
      * Verifica se um evento com o ID especificado existe.
      *
@@ -59,13 +135,13 @@ public interface EventRepositoryPort {
     Event getReferenceById(UUID id);
 
     /**
-     * Busca uma página de eventos futuros a partir de uma data de referência.
+     * Busca as sugestões de título de todos os eventos ativos que começam após uma data de referência.
+     * Usado para construir o índice do autocompletar.
      *
      * @param currentDate A data e hora a partir da qual os eventos são considerados futuros.
-     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
-     * @return Uma página de eventos futuros.
+     * @return Uma lista com o ID, o título e a data de início de cada evento futuro.
      */
-    Page<Event> findUpcomingEvents(LocalDateTime currentDate, Pageable pageable);
+    List<EventSuggestion> findUpcomingEventSuggestions(LocalDateTime currentDate);
 
     /**
      * Busca todos os eventos que estão com status ATIVO e cuja data de término já passou.
@@ -74,4 +150,70 @@ public interface EventRepositoryPort {
      * @return Uma lista de eventos ativos que já terminaram.
      */
     List<Event> findActiveEventsFinishedBefore(LocalDateTime now);
+
+    /**
+     * Calcula, com um único agrupamento, o número de eventos e a soma dos participantes
+     * registrados de cada status.
+     *
+     * @return Os totais dos status que têm ao menos um evento.
+     */
+    List<EventStatusTotals> countEventsByStatus();
+
+    /**
+     * Lê um bloco de eventos, em ordem de ID, com o contador de participantes registrados e o
+     * número de inscrições de cada um.
+     *
+     * @param afterId O ID do último evento do bloco anterior; o bloco começa no evento seguinte.
+     * @param chunkSize O número máximo de eventos do bloco.
+     * @return Os eventos do bloco, em ordem de ID.
+     */
+    List<ParticipantCounterCheck> findParticipantCounters(UUID afterId, int chunkSize);
+
+    /**
+     * Recalcula o contador de participantes registrados de um evento a partir das inscrições,
+     * desde que o contador ainda tenha o valor lido na comparação.
+     *
+     * @param eventId O ID do evento.
+     * @param recorded O valor do contador lido na comparação.
+     * @return 1 se o contador foi corrigido, 0 se ele mudou desde a leitura.
+     */
+    int repairRegisteredParticipants(UUID eventId, int recorded);
+
+    /**
+     * Busca os resumos de todos os eventos cujos IDs foram informados, sem carregar as entidades.
+     *
+     * @param ids Os UUIDs dos eventos.
+     * @return Uma lista com os resumos dos eventos encontrados, sem ordem garantida.
+     */
+    List<EventSummary> findSummariesByIds(Collection<UUID> ids);
+
+    /**
+     * Busca os IDs dos eventos alterados a partir de um instante, por qualquer instância.
+     *
+     * @param since O instante a partir do qual as alterações são buscadas.
+     * @return Uma lista com os IDs dos eventos alterados, sem ordem garantida.
+     */
+    List<UUID> findIdsUpdatedSince(Instant since);
+
+    /**
+     * Busca a primeira página de eventos ativos que correspondem a uma busca textual,
+     * ordenados pela relevância (decrescente) e, em caso de empate, pelo ID.
+     *
+     * @param query Os termos da busca, na sintaxe de busca web (aspas, "or" e "-" são suportados).
+     * @param limit O número máximo de resultados.
+     * @return Uma lista com o ID e a relevância de cada evento encontrado.
+     */
+    List<EventSearchHit> searchActiveEvents(String query, Limit limit);
+
+    /**
+     * Busca a página de eventos ativos que correspondem a uma busca textual, posicionada
+     * após o resultado identificado pelo cursor (afterRank, afterId).
+     *
+     * @param query Os termos da busca, na sintaxe de busca web.
+     * @param afterRank A relevância do último resultado da página anterior.
+     * @param afterId O ID do último evento da página anterior.
+     * @param limit O número máximo de resultados.
+     * @return Uma lista com o ID e a relevância de cada evento encontrado.
+     */
+    List<EventSearchHit> searchActiveEventsAfter(String query, float afterRank, UUID afterId, Limit limit);
 }
@@ -0,0 +1,61 @@
+package com.Samuel.event_microservice.core.ports;
+
+import com.Samuel.event_microservice.core.models.EventStats;
+import com.Samuel.event_microservice.core.models.EventStatus;
+
+import java.util.List;
+
+/**
+ * Interface (Port) que define o contrato para a persistência dos contadores de eventos por status.
+ */
+public interface EventStatsRepositoryPort {
+
+    /**
+     * Busca os contadores de todos os status.
+     *
+     * @return Uma linha por status.
+     */
+    List<EventStats> findAll();
+
+    /**
+     * Busca os contadores de todos os status, bloqueando as linhas até o fim da transação.
+     * As linhas são bloqueadas sempre na mesma ordem (pelo status).
+     *
+     * @return Uma linha por status.
+     */
+    List<EventStats> findAllForUpdate();
+
+    /**
+     * Soma os valores informados (positivos ou negativos) aos contadores de um status.
+     *
+     * @param status O status cujos contadores são ajustados.
+     * @param eventDelta A variação do número de eventos.
+     * @param participantsDelta A variação da soma dos participantes registrados.
+     * @return O número de linhas alteradas.
+     */
+    int adjust(EventStatus status, long eventDelta, long participantsDelta);
+
+    /**
+     * Substitui os contadores de um status pelos valores recalculados.
+     *
+     * @param status O status cujos contadores são substituídos.
+     * @param eventCount O número de eventos com o status.
+     * @param registeredParticipants A soma dos participantes registrados nesses eventos.
+     * @return O número de linhas alteradas.
+     */
+    int overwrite(EventStatus status, long eventCount, long registeredParticipants);
+
+    /**
+     * Move um evento (e os seus participantes registrados) de um status para outro.
+     * O status de origem é ajustado primeiro, na mesma ordem de bloqueio de {@link #findAllForUpdate()}
+     * para as transições a partir de {@link EventStatus#ACTIVE}.
+     *
+     * @param from O status anterior do evento.
+     * @param to O novo status do evento.
+     * @param registeredParticipants Os participantes registrados no evento.
+     */
+    default void recordTransition(EventStatus from, EventStatus to, int registeredParticipants) {
+        adjust(from, -1, -registeredParticipants);
+        adjust(to, 1, registeredParticipants);
+    }
+}
@@ -0,0 +1,41 @@
+package com.Samuel.event_microservice.core.ports;
+
+import com.Samuel.event_microservice.core.data.EventSuggestion;
+import com.Samuel.event_microservice.core.models.Event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Interface (Port) que define o contrato do índice de sugestões de títulos de eventos.
+ * <p>
+ * O índice cobre apenas eventos ATIVOS e futuros, e é mantido pelo núcleo da aplicação
+ * a cada criação, alteração, cancelamento ou finalização de evento.
+ */
+public interface EventSuggestionIndexPort {
+
+    /**
+     * Insere ou atualiza um evento no índice. Eventos que não estejam ativos ou que já
+     * tenham começado são removidos.
+     *
+     * @param event O evento criado ou alterado.
+     */
+    void upsert(Event event);
+
+    /**
+     * Remove um evento do índice.
+     *
+     * @param eventId O UUID do evento.
+     */
+    void remove(UUID eventId);
+
+    /**
+     * Busca os eventos futuros cujo título começa com o prefixo informado,
+     * ignorando maiúsculas e acentos.
+     *
+     * @param prefix O prefixo digitado.
+     * @param limit O número máximo de sugestões.
+     * @return As sugestões, ordenadas pela data de início (as mais próximas primeiro).
+     */
+    List<EventSuggestion> suggest(String prefix, int limit);
+}
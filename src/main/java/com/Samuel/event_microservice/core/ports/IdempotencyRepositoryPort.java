@@ -0,0 +1,38 @@
+package com.Samuel.event_microservice.core.ports;
+
+import com.Samuel.event_microservice.core.models.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Interface (Port) que define o contrato para a persistência das respostas gravadas por chave de idempotência.
+ */
+public interface IdempotencyRepositoryPort {
+
+    /**
+     * Busca a resposta gravada para uma chave, expirada ou não.
+     *
+     * @param idempotencyKey A chave enviada pelo cliente.
+     * @return Um {@link Optional} contendo a resposta gravada, se existir.
+     */
+    Optional<IdempotencyRecord> findById(String idempotencyKey);
+
+    /**
+     * Grava a resposta, a menos que a chave já tenha uma resposta ainda válida.
+     * Uma resposta expirada e ainda não removida é substituída.
+     *
+     * @param record A resposta a ser gravada.
+     * @return 1 se a resposta foi gravada, 0 se a chave já tinha uma resposta válida.
+     */
+    int saveIfAbsent(IdempotencyRecord record);
+
+    /**
+     * Remove um lote de respostas expiradas.
+     *
+     * @param now O instante de referência.
+     * @param batchSize O número máximo de respostas removidas.
+     * @return O número de respostas removidas.
+     */
+    int deleteExpired(LocalDateTime now, int batchSize);
+}
@@ -0,0 +1,27 @@
+package com.Samuel.event_microservice.core.ports;
+
+/**
+ * Interface (Port) que define o contrato para a persistência dos baldes de tokens compartilhados
+ * do limite de requisições.
+ */
+public interface RateLimitBucketRepositoryPort {
+
+    /**
+     * Consome um token do balde, criando-o cheio se ainda não existir. O relógio é o do banco,
+     * comum a todas as instâncias.
+     *
+     * @param bucketKey A chave do balde.
+     * @param emissionIntervalMicros O intervalo entre dois tokens, em microssegundos.
+     * @param burstToleranceMicros Quanto o balde pode se adiantar ao relógio (a rajada), em microssegundos.
+     * @return 1 se o token foi consumido, 0 se o balde está vazio.
+     */
+    int tryConsume(String bucketKey, long emissionIntervalMicros, long burstToleranceMicros);
+
+    /**
+     * Remove um lote de baldes cheios, que podem ser recriados sem perda.
+     *
+     * @param batchSize O número máximo de baldes removidos.
+     * @return O número de baldes removidos.
+     */
+    int deleteFull(int batchSize);
+}
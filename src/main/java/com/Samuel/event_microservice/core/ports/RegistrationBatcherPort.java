@@ -0,0 +1,34 @@
+package com.Samuel.event_microservice.core.ports;
+
+import com.Samuel.event_microservice.core.exceptions.EventFullException;
+import com.Samuel.event_microservice.core.exceptions.EventNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+
+import java.util.UUID;
+
+/**
+ * Interface (Port) que define o contrato para o agrupamento de inscrições individuais concorrentes
+ * em um mesmo evento.
+ * <p>
+ * As inscrições que chegam em uma janela curta são gravadas juntas, em uma única transação, e
+ * cada chamador recebe o resultado da sua própria inscrição.
+ */
+public interface RegistrationBatcherPort {
+
+    /**
+     * @return {@code true} se as inscrições individuais devem ser feitas por este agrupador.
+     */
+    boolean isEnabled();
+
+    /**
+     * Adiciona a inscrição ao lote do evento e aguarda o commit do lote.
+     *
+     * @param eventId O UUID do evento.
+     * @param participantEmail O e-mail do participante.
+     * @throws EventNotFoundException se o evento não existir.
+     * @throws IllegalStateException se o evento não estiver ativo.
+     * @throws SubscriptionAlreadyExistsException se o participante já estiver inscrito.
+     * @throws EventFullException se não houver vaga para o participante.
+     */
+    void register(UUID eventId, String participantEmail);
+}
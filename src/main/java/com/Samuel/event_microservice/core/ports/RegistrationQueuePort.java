@@ -0,0 +1,36 @@
+package com.Samuel.event_microservice.core.ports;
+
+import com.Samuel.event_microservice.core.exceptions.RegistrationQueueFullException;
+import com.Samuel.event_microservice.core.models.RegistrationRequest;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Interface (Port) que define o contrato para a fila limitada de inscrições assíncronas.
+ */
+public interface RegistrationQueuePort {
+
+    /**
+     * Adiciona um pedido de inscrição ao fim da fila.
+     *
+     * @param eventId O UUID do evento.
+     * @param participantEmail O e-mail do participante.
+     * @return O pedido aceito, com o ticket para a consulta do resultado.
+     * @throws RegistrationQueueFullException se a fila atingiu a sua capacidade.
+     */
+    RegistrationRequest enqueue(UUID eventId, String participantEmail);
+
+    /**
+     * Busca um pedido de inscrição pelo ticket.
+     *
+     * @param ticket O ticket devolvido ao cliente.
+     * @return Um Optional contendo o pedido, se encontrado.
+     */
+    Optional<RegistrationRequest> findByTicket(UUID ticket);
+
+    /**
+     * @return O número aproximado de pedidos pendentes na fila.
+     */
+    long depth();
+}
@@ -0,0 +1,59 @@
+package com.Samuel.event_microservice.core.ports;
+
+import com.Samuel.event_microservice.core.models.RegistrationRequest;
+import com.Samuel.event_microservice.core.models.RegistrationRequestStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Interface (Port) que define o contrato para a persistência da fila de inscrições assíncronas.
+ */
+public interface RegistrationRequestRepositoryPort {
+
+    /**
+     * Salva um pedido de inscrição.
+     *
+     * @param registrationRequest O pedido a ser salvo.
+     * @return O pedido salvo, com o ID gerado.
+     */
+    RegistrationRequest save(RegistrationRequest registrationRequest);
+
+    /**
+     * Busca um pedido de inscrição pelo ticket.
+     *
+     * @param ticket O ticket devolvido ao cliente.
+     * @return Um Optional contendo o pedido, se encontrado.
+     */
+    Optional<RegistrationRequest> findByTicket(UUID ticket);
+
+    /**
+     * Conta os pedidos em uma situação.
+     *
+     * @param status A situação dos pedidos.
+     * @return O número de pedidos na situação.
+     */
+    long countByStatus(RegistrationRequestStatus status);
+
+    /**
+     * Busca os primeiros pedidos pendentes e não reservados da fila, em ordem de chegada, e os bloqueia
+     * até o fim da transação atual. Pedidos bloqueados por outra transação (outra instância) ou com
+     * uma reserva ainda válida são pulados.
+     *
+     * @param limit O número máximo de pedidos.
+     * @param now O instante atual; reservas que expiram até ele não valem mais.
+     * @return Os pedidos pendentes bloqueados.
+     */
+    List<RegistrationRequest> lockNextPending(int limit, LocalDateTime now);
+
+    /**
+     * Remove um lote de pedidos já processados antes de um instante.
+     *
+     * @param processedBefore O instante limite do processamento.
+     * @param batchSize O número máximo de pedidos removidos.
+     * @return O número de pedidos removidos.
+     */
+    int deleteProcessedBefore(LocalDateTime processedBefore, int batchSize);
+}
@@ -0,0 +1,53 @@
+package com.Samuel.event_microservice.core.ports;
+
+import com.Samuel.event_microservice.core.models.SeatHold;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Interface (Port) para o registro das reservas de vagas ativas.
+ * <p>
+ * O registro é a fonte de verdade das reservas durante a execução: é ele que conta as vagas
+ * seguradas de cada evento e que expira as reservas vencidas. Alterações feitas dentro de uma
+ * transação são desfeitas se a transação sofrer rollback.
+ */
+public interface SeatHoldRegistryPort {
+
+    /**
+     * Registra uma reserva se o evento ainda tiver vagas livres além das já reservadas.
+     *
+     * @param seatHold A reserva a ser registrada.
+     * @param availableSeats As vagas do evento ainda não ocupadas por inscrições.
+     * @return {@code true} se a reserva foi registrada; {@code false} se as vagas livres já estão todas reservadas.
+     * @throws IllegalStateException se o participante já tiver uma reserva ativa para o evento.
+     */
+    boolean tryHold(SeatHold seatHold, int availableSeats);
+
+    /**
+     * Retira uma reserva ativa do registro, para confirmá-la ou liberá-la.
+     *
+     * @param eventId O UUID do evento da reserva.
+     * @param holdId O UUID da reserva.
+     * @return Um Optional com a reserva retirada, ou vazio se ela não existir, pertencer a
+     *         outro evento ou já tiver expirado.
+     */
+    Optional<SeatHold> claim(UUID eventId, UUID holdId);
+
+    /**
+     * Retorna o número de vagas atualmente reservadas para um evento.
+     *
+     * @param eventId O UUID do evento.
+     * @return O número de reservas ativas.
+     */
+    int activeHolds(UUID eventId);
+
+    /**
+     * Registra um ouvinte chamado, fora de qualquer transação, com o UUID de cada evento que
+     * teve reservas expiradas e, portanto, vagas devolvidas.
+     *
+     * @param listener O ouvinte a ser notificado.
+     */
+    void addExpiryListener(Consumer<UUID> listener);
+}
@@ -0,0 +1,44 @@
+package com.Samuel.event_microservice.core.ports;
+
+import com.Samuel.event_microservice.core.models.SeatHold;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Interface (Port) que define o contrato para a persistência de Reservas de Vagas.
+ * <p>
+ * As reservas ativas vivem no {@link SeatHoldRegistryPort}; esta porta mantém apenas o
+ * espelho usado para restaurá-las após um reinício.
+ */
+public interface SeatHoldRepositoryPort {
+
+    /**
+     * Salva uma nova reserva.
+     *
+     * @param seatHold A reserva a ser salva.
+     * @return A reserva salva.
+     */
+    SeatHold save(SeatHold seatHold);
+
+    /**
+     * Busca todas as reservas gravadas, expiradas ou não.
+     *
+     * @return Uma lista com todas as reservas.
+     */
+    List<SeatHold> findAll();
+
+    /**
+     * Remove uma reserva pelo seu ID.
+     *
+     * @param id O UUID da reserva.
+     */
+    void deleteById(UUID id);
+
+    /**
+     * Remove as reservas informadas em um único comando.
+     *
+     * @param ids Os UUIDs das reservas.
+     */
+    void deleteAllByIdInBatch(Iterable<UUID> ids);
+}
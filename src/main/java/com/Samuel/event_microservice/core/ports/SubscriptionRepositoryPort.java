@@ -1,12 +1,15 @@
 package com.Samuel.event_microservice.core.ports;
 
+import com.Samuel.event_microservice.core.data.EventParticipantRow;
 import com.Samuel.event_microservice.core.models.Event;
 import com.Samuel.event_microservice.core.models.Subscription;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Interface (Port) que define o contrato para a persistência de Inscrições.
@@ -24,13 +27,30 @@ public interface SubscriptionRepositoryPort {
     Subscription save(Subscription subscription);
 
     /**
-     * Busca uma página de inscrições para um determinado evento.
+     * Busca a primeira página de participantes de um evento, ordenada por (createdAt, id).
+     * <p>
+     * A existência do evento é derivada do mesmo comando: uma lista vazia indica que o evento
+     * não existe; um evento sem inscrições retorna uma única linha sem dados de inscrição.
      *
-     * @param event O evento para o qual as inscrições serão buscadas.
-     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
-     * @return Uma página de inscrições para o evento.
+     * @param eventId O UUID do evento.
+     * @param limit O número máximo de linhas a retornar.
+     * @return As linhas da página, cada uma com o contador de participantes do evento.
+     */
+    List<EventParticipantRow> findParticipantsPage(UUID eventId, Limit limit);
+
+    /**
+     * Busca a página de participantes de um evento posterior ao cursor informado,
+     * ordenada por (createdAt, id).
+     * <p>
+     * Segue as mesmas regras de {@link #findParticipantsPage(UUID, Limit)} quanto à existência do evento.
+     *
+     * @param eventId O UUID do evento.
+     * @param afterCreatedAt A data de criação da última inscrição da página anterior.
+     * @param afterId O ID da última inscrição da página anterior.
+     * @param limit O número máximo de linhas a retornar.
+     * @return As linhas da página, cada uma com o contador de participantes do evento.
      */
-    Page<Subscription> findByEvent(Event event, Pageable pageable);
+    List<EventParticipantRow> findParticipantsPageAfter(UUID eventId, LocalDateTime afterCreatedAt, Long afterId, Limit limit);
 
     /**
      * Busca todas as inscrições para um determinado evento, sem paginação.
@@ -48,4 +68,42 @@ public interface SubscriptionRepositoryPort {
      * @return Um Optional contendo a inscrição, se encontrada.
      */
     Optional<Subscription> findByEventAndParticipantEmail(Event event, String participantEmail);
+
+    /**
+     * Remove a inscrição de um participante e devolve a sua vaga ao contador de participantes
+     * do evento, sem carregar o evento nem a inscrição.
+     * <p>
+     * A remoção e o decremento acontecem no mesmo comando; a versão do evento é incrementada,
+     * de modo que inscrições concorrentes feitas com a versão antiga falham com conflito em vez
+     * de sobrescrever o contador.
+     *
+     * @param eventId O UUID do evento.
+     * @param participantEmail O e-mail do participante.
+     * @return {@code 1} se a inscrição existia e foi removida; {@code 0} caso contrário.
+     */
+    int deleteParticipant(UUID eventId, String participantEmail);
+
+    /**
+     * Inscreve um grupo de participantes em um evento ativo em um único comando: reserva as
+     * vagas com uma única atualização do contador (e da versão) do evento e insere as inscrições
+     * em lote, ignorando os participantes já inscritos.
+     * <p>
+     * Os participantes são inscritos na ordem da lista até ocupar as vagas livres; os que não
+     * couberem ficam de fora.
+     *
+     * @param eventId O UUID do evento.
+     * @param participantEmails Os e-mails dos participantes, sem repetições.
+     * @param heldSeats As vagas reservadas temporariamente, que não podem ser ocupadas.
+     * @return Os e-mails dos participantes inscritos.
+     */
+    List<String> registerGroup(UUID eventId, List<String> participantEmails, int heldSeats);
+
+    /**
+     * Filtra, dentre os e-mails informados, os participantes inscritos em um evento.
+     *
+     * @param eventId O UUID do evento.
+     * @param participantEmails Os e-mails a verificar.
+     * @return Os e-mails que já possuem inscrição no evento.
+     */
+    List<String> findSubscribedEmails(UUID eventId, Collection<String> participantEmails);
 }
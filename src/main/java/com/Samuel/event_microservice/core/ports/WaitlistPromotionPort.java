@@ -0,0 +1,18 @@
+package com.Samuel.event_microservice.core.ports;
+
+import java.util.UUID;
+
+/**
+ * Interface (Port) para a promoção da lista de espera quando vagas de um evento são abertas.
+ */
+public interface WaitlistPromotionPort {
+
+    /**
+     * Agenda a promoção da lista de espera de um evento para depois do commit da transação
+     * corrente (ou imediatamente, fora de uma transação). A promoção e as notificações dos
+     * promovidos acontecem de forma assíncrona.
+     *
+     * @param eventId O UUID do evento que teve vagas abertas.
+     */
+    void promoteAfterCommit(UUID eventId);
+}
@@ -0,0 +1,54 @@
+package com.Samuel.event_microservice.core.ports;
+
+import com.Samuel.event_microservice.core.models.WaitlistEntry;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Interface (Port) que define o contrato para a persistência da Lista de Espera.
+ * <p>
+ * Esta porta abstrai os detalhes de implementação do banco de dados.
+ */
+public interface WaitlistRepositoryPort {
+
+    /**
+     * Salva uma nova entrada na lista de espera.
+     *
+     * @param entry A entrada a ser salva.
+     * @return A entrada salva, com o ID (posição na fila) gerado.
+     */
+    WaitlistEntry save(WaitlistEntry entry);
+
+    /**
+     * Verifica se um participante já está na lista de espera de um evento.
+     *
+     * @param eventId O UUID do evento.
+     * @param participantEmail O e-mail do participante.
+     * @return {@code true} se o participante já estiver na fila.
+     */
+    boolean existsByEventIdAndParticipantEmail(UUID eventId, String participantEmail);
+
+    /**
+     * Conta as entradas de um evento até a entrada informada, inclusive: a posição dela na fila.
+     *
+     * @param eventId O UUID do evento.
+     * @param id O ID da entrada.
+     * @return A posição da entrada na fila, começando em 1.
+     */
+    long countByEventIdAndIdLessThanEqual(UUID eventId, Long id);
+
+    /**
+     * Promove os primeiros da fila de um evento a inscritos, em ordem de chegada, até ocupar as
+     * vagas livres, em um único comando: as entradas são removidas da fila, as inscrições
+     * criadas e o contador de participantes (e a versão) do evento atualizado.
+     * <p>
+     * Eventos inativos não promovem ninguém. A linha do evento fica bloqueada apenas durante
+     * o comando.
+     *
+     * @param eventId O UUID do evento.
+     * @param heldSeats As vagas reservadas temporariamente, que não podem ser ocupadas.
+     * @return Os e-mails dos participantes promovidos, em ordem de chegada.
+     */
+    List<String> promoteWaitlist(UUID eventId, int heldSeats);
+}
@@ -1,16 +1,36 @@
 package com.Samuel.event_microservice.core.usecases;
 
+import com.Samuel.event_microservice.core.data.EventVersion;
+import com.Samuel.event_microservice.infrastructure.dto.CursorPageResponseDTO;
 import com.Samuel.event_microservice.infrastructure.dto.PageResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.SliceResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventFilterDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventRequestDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventStatsResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventSuggestionDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventUpdateDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupRegistrationResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupSubscriptionRequestDTO;
 import com.Samuel.event_microservice.infrastructure.dto.subscription.RegisteredParticipantDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.RegistrationTicketResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.SeatHoldResponseDTO;
 import com.Samuel.event_microservice.infrastructure.dto.subscription.SubscriptionRequestDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.WaitlistResponseDTO;
 import com.Samuel.event_microservice.core.exceptions.EventFullException;
 import com.Samuel.event_microservice.core.exceptions.EventNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.GroupRegistrationRejectedException;
+import com.Samuel.event_microservice.core.exceptions.RegistrationQueueFullException;
+import com.Samuel.event_microservice.core.exceptions.RegistrationTicketNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SeatHoldNotFoundException;
 import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionNotFoundException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -28,20 +48,128 @@ public interface EventUseCase {
     EventResponseDTO createEvent(EventRequestDTO eventRequest);
 
     /**
-     * Retorna uma página de todos os eventos, incluindo futuros e passados.
+     * Retorna uma página de todos os eventos ativos, incluindo futuros e passados, que atendem aos filtros.
      *
+     * @param filter Os filtros opcionais da listagem.
      * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
      * @return Um DTO de resposta paginada contendo {@link EventResponseDTO}.
+     * @throws IllegalArgumentException se a combinação de filtros, ordenação e página não puder ser atendida por um índice.
      */
-    PageResponseDTO<EventResponseDTO> getAllEvents(Pageable pageable);
+    PageResponseDTO<EventResponseDTO> getAllEvents(EventFilterDTO filter, Pageable pageable);
 
     /**
-     * Retorna uma página de eventos que ainda não ocorreram.
+     * Retorna uma página de eventos que ainda não ocorreram e que atendem aos filtros.
      *
+     * @param filter Os filtros opcionais da listagem.
      * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
      * @return Um DTO de resposta paginada contendo {@link EventResponseDTO} dos eventos futuros.
+     * @throws IllegalArgumentException se a combinação de filtros, ordenação e página não puder ser atendida por um índice.
      */
-    PageResponseDTO<EventResponseDTO> getUpcomingEvents(Pageable pageable);
+    PageResponseDTO<EventResponseDTO> getUpcomingEvents(EventFilterDTO filter, Pageable pageable);
+
+    /**
+     * Retorna apenas as versões dos eventos da página que {@link #getAllEvents} retornaria,
+     * para responder requisições condicionais sem carregar os eventos.
+     *
+     * @param filter Os filtros opcionais da listagem.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma página com as {@link EventVersion} dos eventos.
+     * @throws IllegalArgumentException se a combinação de filtros, ordenação e página não puder ser atendida por um índice.
+     */
+    Page<EventVersion> getAllEventVersions(EventFilterDTO filter, Pageable pageable);
+
+    /**
+     * Retorna apenas as versões dos eventos da página que {@link #getUpcomingEvents} retornaria.
+     *
+     * @param filter Os filtros opcionais da listagem.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma página com as {@link EventVersion} dos eventos futuros.
+     * @throws IllegalArgumentException se a combinação de filtros, ordenação e página não puder ser atendida por um índice.
+     */
+    Page<EventVersion> getUpcomingEventVersions(EventFilterDTO filter, Pageable pageable);
+
+    /**
+     * Carrega pelo ID os eventos de uma página de versões já consultada por
+     * {@link #getAllEventVersions} ou {@link #getUpcomingEventVersions}, na mesma ordem, e
+     * reaproveita o seu total: a página completa sai sem uma nova consulta paginada nem contagem.
+     *
+     * @param versions A página de versões.
+     * @return Um DTO de resposta paginada contendo {@link EventResponseDTO}.
+     */
+    PageResponseDTO<EventResponseDTO> getEventPage(Page<EventVersion> versions);
+
+    /**
+     * Retorna a mesma página que {@link #getAllEvents}, sem contar o total de eventos.
+     *
+     * @param filter Os filtros opcionais da listagem.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @param estimateTotal Se a resposta deve trazer o total aproximado, mantido em cache.
+     * @return Um DTO de página sem contagem contendo {@link EventResponseDTO}.
+     * @throws IllegalArgumentException se a combinação de filtros, ordenação e página não puder ser atendida por um índice.
+     */
+    SliceResponseDTO<EventResponseDTO> getAllEventsSlice(EventFilterDTO filter, Pageable pageable, boolean estimateTotal);
+
+    /**
+     * Retorna a mesma página que {@link #getUpcomingEvents}, sem contar o total de eventos.
+     *
+     * @param filter Os filtros opcionais da listagem.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @param estimateTotal Se a resposta deve trazer o total aproximado, mantido em cache.
+     * @return Um DTO de página sem contagem contendo {@link EventResponseDTO} dos eventos futuros.
+     * @throws IllegalArgumentException se a combinação de filtros, ordenação e página não puder ser atendida por um índice.
+     */
+    SliceResponseDTO<EventResponseDTO> getUpcomingEventsSlice(EventFilterDTO filter, Pageable pageable, boolean estimateTotal);
+
+    /**
+     * Retorna apenas as versões dos eventos da página que {@link #getAllEventsSlice} retornaria, sem contagem.
+     *
+     * @param filter Os filtros opcionais da listagem.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma fatia com as {@link EventVersion} dos eventos.
+     * @throws IllegalArgumentException se a combinação de filtros, ordenação e página não puder ser atendida por um índice.
+     */
+    Slice<EventVersion> getAllEventVersionsSlice(EventFilterDTO filter, Pageable pageable);
+
+    /**
+     * Retorna apenas as versões dos eventos da página que {@link #getUpcomingEventsSlice} retornaria, sem contagem.
+     *
+     * @param filter Os filtros opcionais da listagem.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma fatia com as {@link EventVersion} dos eventos futuros.
+     * @throws IllegalArgumentException se a combinação de filtros, ordenação e página não puder ser atendida por um índice.
+     */
+    Slice<EventVersion> getUpcomingEventVersionsSlice(EventFilterDTO filter, Pageable pageable);
+
+    /**
+     * Busca eventos ativos pelo título e pela descrição, ordenados por relevância
+     * e paginados por cursor.
+     *
+     * @param query Os termos da busca.
+     * @param cursor O cursor retornado pela página anterior, ou {@code null} para a primeira página.
+     * @param size O tamanho da página.
+     * @return Um DTO de resposta paginada por cursor contendo {@link EventResponseDTO} dos eventos encontrados.
+     * @throws IllegalArgumentException se a busca estiver vazia, for longa demais ou se o cursor for inválido.
+     */
+    CursorPageResponseDTO<EventResponseDTO> searchEvents(String query, String cursor, int size);
+
+    /**
+     * Sugere eventos ativos e futuros cujo título começa com o prefixo informado,
+     * para o autocompletar da interface.
+     *
+     * @param prefix O prefixo digitado, comparado sem distinção de maiúsculas e acentos.
+     * @param limit O número máximo de sugestões.
+     * @return Uma lista de {@link EventSuggestionDTO}, ordenada pela data de início.
+     * @throws IllegalArgumentException se o prefixo estiver vazio.
+     */
+    List<EventSuggestionDTO> suggestEvents(String prefix, int limit);
+
+    /**
+     * Retorna os contadores dos eventos por status e a soma dos participantes registrados,
+     * lidos da tabela de contadores, sem percorrer os eventos.
+     *
+     * @return Um DTO com os contadores.
+     */
+    EventStatsResponseDTO getEventStats();
 
     /**
      * Busca os detalhes de um evento específico pelo seu ID.
@@ -71,14 +199,111 @@ public interface EventUseCase {
     void registerParticipant(UUID eventId, SubscriptionRequestDTO subscriptionRequest);
 
     /**
-     * Retorna uma página de participantes registrados em um evento específico.
+     * Registra um participante em um evento ou, se o evento estiver lotado, coloca-o na lista
+     * de espera. Os participantes da lista de espera são inscritos automaticamente, por ordem de
+     * chegada, quando vagas são abertas.
      *
      * @param eventId O UUID do evento.
-     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
-     * @return Um DTO de resposta paginada contendo {@link RegisteredParticipantDTO} com os e-mails dos participantes.
+     * @param subscriptionRequest DTO contendo o e-mail do participante.
+     * @return Um Optional vazio se o participante foi inscrito, ou com a sua posição na lista de espera.
+     * @throws EventNotFoundException se o evento com o ID fornecido não for encontrado.
+     * @throws SubscriptionAlreadyExistsException se o participante já estiver inscrito no evento.
+     * @throws IllegalStateException se o evento não estiver ativo ou se o participante já estiver na lista de espera.
+     */
+    Optional<WaitlistResponseDTO> registerParticipantOrWaitlist(UUID eventId, SubscriptionRequestDTO subscriptionRequest);
+
+    /**
+     * Inscreve um grupo de participantes em um evento de uma só vez.
+     * <p>
+     * No modo "tudo ou nada" (padrão), ou todos os participantes são inscritos ou nenhum é; no
+     * modo de melhor esforço, são inscritos os que couberem, na ordem da lista.
+     *
+     * @param eventId O UUID do evento.
+     * @param groupRequest DTO contendo os e-mails dos participantes e o modo da inscrição.
+     * @return Um DTO com o resultado de cada participante.
+     * @throws EventNotFoundException se o evento com o ID fornecido não for encontrado.
+     * @throws IllegalStateException se o evento não estiver ativo.
+     * @throws GroupRegistrationRejectedException no modo "tudo ou nada", se algum participante não puder ser inscrito.
+     */
+    GroupRegistrationResponseDTO registerGroup(UUID eventId, GroupSubscriptionRequestDTO groupRequest);
+
+    /**
+     * Aceita um pedido de inscrição sem processá-lo: o pedido entra na fila de inscrições
+     * assíncronas e é processado em ordem de chegada. O resultado é consultado pelo ticket.
+     *
+     * @param eventId O UUID do evento.
+     * @param subscriptionRequest DTO contendo o e-mail do participante.
+     * @return Um DTO com o ticket do pedido, na situação {@code PENDING}.
+     * @throws RegistrationQueueFullException se a fila atingiu a sua capacidade.
+     */
+    RegistrationTicketResponseDTO registerParticipantAsync(UUID eventId, SubscriptionRequestDTO subscriptionRequest);
+
+    /**
+     * Consulta a situação de um pedido de inscrição assíncrona.
+     *
+     * @param ticket O ticket devolvido quando o pedido foi aceito.
+     * @return Um DTO com a situação e, se já processado, o resultado do pedido.
+     * @throws RegistrationTicketNotFoundException se o ticket não existir.
+     */
+    RegistrationTicketResponseDTO getRegistrationTicket(UUID ticket);
+
+    /**
+     * Cancela a inscrição de um participante em um evento, devolvendo a sua vaga.
+     *
+     * @param eventId O UUID do evento.
+     * @param participantEmail O e-mail do participante.
+     * @throws SubscriptionNotFoundException se o participante não estiver inscrito no evento (ou o evento não existir).
+     */
+    void unregisterParticipant(UUID eventId, String participantEmail);
+
+    /**
+     * Reserva temporariamente uma vaga de um evento para um participante, sem inscrevê-lo.
+     * A vaga deixa de estar disponível para outros participantes até que a reserva seja
+     * confirmada, liberada ou expire.
+     *
+     * @param eventId O UUID do evento.
+     * @param subscriptionRequest DTO contendo o e-mail do participante.
+     * @return Um DTO com o identificador e o prazo da reserva.
+     * @throws EventNotFoundException se o evento com o ID fornecido não for encontrado.
+     * @throws SubscriptionAlreadyExistsException se o participante já estiver inscrito no evento.
+     * @throws EventFullException se todas as vagas livres já estiverem reservadas.
+     * @throws IllegalStateException se o evento não estiver ativo ou se o participante já tiver uma reserva ativa.
+     */
+    SeatHoldResponseDTO holdSeat(UUID eventId, SubscriptionRequestDTO subscriptionRequest);
+
+    /**
+     * Confirma uma reserva de vaga, inscrevendo o participante no evento.
+     *
+     * @param eventId O UUID do evento.
+     * @param holdId O UUID da reserva.
+     * @throws SeatHoldNotFoundException se a reserva não existir, já tiver expirado ou pertencer a outro evento.
+     * @throws EventNotFoundException se o evento com o ID fornecido não for encontrado.
+     * @throws SubscriptionAlreadyExistsException se o participante já estiver inscrito no evento.
+     * @throws EventFullException se o evento tiver sido lotado por inscrições diretas durante a reserva.
+     */
+    void confirmSeatHold(UUID eventId, UUID holdId);
+
+    /**
+     * Libera uma reserva de vaga antes do seu prazo, devolvendo a vaga ao evento.
+     *
+     * @param eventId O UUID do evento.
+     * @param holdId O UUID da reserva.
+     * @throws SeatHoldNotFoundException se a reserva não existir, já tiver expirado ou pertencer a outro evento.
+     */
+    void releaseSeatHold(UUID eventId, UUID holdId);
+
+    /**
+     * Retorna uma página de participantes registrados em um evento específico,
+     * paginada por cursor e ordenada pela data de inscrição.
+     *
+     * @param eventId O UUID do evento.
+     * @param cursor O cursor retornado pela página anterior, ou {@code null} para a primeira página.
+     * @param size O tamanho da página.
+     * @return Um DTO de resposta paginada por cursor contendo {@link RegisteredParticipantDTO} com os e-mails dos participantes.
      * @throws EventNotFoundException se o evento com o ID fornecido não for encontrado.
+     * @throws IllegalArgumentException se o cursor for inválido.
      */
-    PageResponseDTO<RegisteredParticipantDTO> getRegisteredParticipants(UUID eventId, Pageable pageable);
+    CursorPageResponseDTO<RegisteredParticipantDTO> getRegisteredParticipants(UUID eventId, String cursor, int size);
 
     /**
      * Atualiza parcialmente um evento existente.
@@ -6,22 +6,48 @@ import com.Samuel.event_microservice.core.ports.EmailSender;
 import com.Samuel.event_microservice.core.ports.EventNotificationPort;
 import com.Samuel.event_microservice.core.ports.SubscriptionRepositoryPort;
 import com.Samuel.event_microservice.infrastructure.dto.EmailRequestDTO;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Adaptador que implementa a porta de notificação de eventos usando um serviço de e-mail.
+ * <p>
+ * Os e-mails de confirmação de inscrição são enviados por threads próprias: quem inscreve (a
+ * requisição, a fila de inscrições, a promoção da lista de espera) não espera pelo serviço de e-mail.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class EventNotificationAdapter implements EventNotificationPort {
 
     private final SubscriptionRepositoryPort subscriptionRepository;
     private final EmailSender emailSender;
+    private final Executor confirmationExecutor;
+
+    @Autowired
+    public EventNotificationAdapter(SubscriptionRepositoryPort subscriptionRepository, EmailSender emailSender) {
+        this(subscriptionRepository, emailSender, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    EventNotificationAdapter(SubscriptionRepositoryPort subscriptionRepository, EmailSender emailSender,
+                             Executor confirmationExecutor) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.emailSender = emailSender;
+        this.confirmationExecutor = confirmationExecutor;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (confirmationExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
 
     /**
      * {@inheritDoc}
@@ -52,9 +78,15 @@ public class EventNotificationAdapter implements EventNotificationPort {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * O e-mail é enviado por outra thread; o método retorna sem esperar o envio.
      */
     @Override
     public void sendRegistrationConfirmation(Event event, String participantEmail) {
+        confirmationExecutor.execute(() -> sendConfirmationEmail(event, participantEmail));
+    }
+
+    private void sendConfirmationEmail(Event event, String participantEmail) {
         try {
             log.info("Sending confirmation email to {}.", participantEmail);
             EmailRequestDTO emailRequest = new EmailRequestDTO(
@@ -0,0 +1,92 @@
+package com.Samuel.event_microservice.infrastructure.admission;
+
+import com.Samuel.event_microservice.core.exceptions.AdmissionTokenInvalidException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Emite e verifica os tokens de admissão da sala de espera.
+ * <p>
+ * O token é {@code base64url(eventId.generation.sequence.issuedAt)} seguido de {@code .} e da
+ * assinatura HMAC-SHA256 desse conteúdo. A assinatura impede que o cliente altere a sua posição
+ * na fila; a geração identifica a fila do evento que emitiu o token.
+ */
+class AdmissionTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    AdmissionTokenSigner(byte[] secret) {
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    String sign(AdmissionToken token) {
+        String payload = token.eventId() + "." + token.generation() + "." + token.sequence() + "."
+                + token.issuedAt().getEpochSecond();
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(mac(payloadBytes));
+    }
+
+    /**
+     * Verifica a assinatura e lê o conteúdo do token.
+     *
+     * @throws AdmissionTokenInvalidException se o token estiver malformado ou a assinatura não conferir.
+     */
+    AdmissionToken verify(String token) {
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            throw invalid();
+        }
+        try {
+            byte[] payloadBytes = DECODER.decode(token.substring(0, separator));
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(mac(payloadBytes), signature)) {
+                throw invalid();
+            }
+            String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split("\\.");
+            if (parts.length != 4) {
+                throw invalid();
+            }
+            return new AdmissionToken(UUID.fromString(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[3])));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private byte[] mac(byte[] payload) {
+        try {
+            // Mac não é thread-safe; criar uma instância por token custa pouco perto de uma inscrição
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 não está disponível.", e);
+        }
+    }
+
+    private static AdmissionTokenInvalidException invalid() {
+        return new AdmissionTokenInvalidException("Token de admissão inválido.");
+    }
+
+    /**
+     * O conteúdo de um token de admissão.
+     *
+     * @param eventId    O evento da fila.
+     * @param generation A geração da fila do evento que emitiu o token.
+     * @param sequence   A posição do cliente na fila, a partir de 1.
+     * @param issuedAt   O momento da entrada na fila.
+     */
+    record AdmissionToken(UUID eventId, long generation, long sequence, Instant issuedAt) {
+    }
+}
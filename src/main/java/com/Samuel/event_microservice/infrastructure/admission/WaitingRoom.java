@@ -0,0 +1,244 @@
+package com.Samuel.event_microservice.infrastructure.admission;
+
+import com.Samuel.event_microservice.core.exceptions.AdmissionTokenInvalidException;
+import com.Samuel.event_microservice.core.exceptions.NotAdmittedYetException;
+import com.Samuel.event_microservice.infrastructure.admission.AdmissionTokenSigner.AdmissionToken;
+import com.Samuel.event_microservice.infrastructure.config.WaitingRoomProperties;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.WaitingRoomPositionDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sala de espera das inscrições: controla quantos clientes de cada evento chegam ao
+ * {@code EventService} quando um evento concorrido abre.
+ * <p>
+ * Cada cliente entra na fila do evento e recebe um token de admissão assinado com a sua posição.
+ * A cada {@code app.registrations.waiting-room.tick}, a fronteira de admissão de cada evento avança
+ * {@code admission-rate} clientes por segundo, e não avança enquanto {@code max-in-flight} inscrições
+ * admitidas estiverem em execução: a admissão acompanha a vazão real do banco. Só as inscrições com
+ * um token dentro da fronteira passam pelo {@link WaitingRoomInterceptor}; cada token vale uma
+ * inscrição.
+ * <p>
+ * O estado fica em memória, em contadores atômicos, e é local a esta instância: com várias
+ * instâncias, as requisições de um evento devem ser roteadas sempre para a mesma.
+ */
+@Component
+@Slf4j
+public class WaitingRoom {
+
+    private final AdmissionTokenSigner signer;
+    private final double admissionRate;
+    private final int maxInFlight;
+    private final double permitsPerTick;
+    private final Duration tokenTtl;
+    private final Clock clock;
+
+    private final Map<UUID, EventQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Autowired
+    public WaitingRoom(WaitingRoomProperties properties) {
+        this(new AdmissionTokenSigner(secret(properties)), properties.getAdmissionRate(), properties.getMaxInFlight(),
+                properties.getTick(), properties.getTokenTtl(), Clock.systemUTC());
+    }
+
+    WaitingRoom(AdmissionTokenSigner signer, double admissionRate, int maxInFlight, Duration tick, Duration tokenTtl,
+                Clock clock) {
+        this.signer = signer;
+        this.admissionRate = admissionRate;
+        this.maxInFlight = maxInFlight;
+        this.permitsPerTick = admissionRate * tick.toMillis() / 1000.0;
+        this.tokenTtl = tokenTtl;
+        this.clock = clock;
+    }
+
+    private static byte[] secret(WaitingRoomProperties properties) {
+        if (properties.getSecret() != null && !properties.getSecret().isBlank()) {
+            return properties.getSecret().getBytes(StandardCharsets.UTF_8);
+        }
+        if (properties.isEnabled()) {
+            log.warn("No waiting room secret configured; admission tokens are only valid on this instance until it restarts.");
+        }
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+
+    /**
+     * Coloca um cliente no fim da fila do evento.
+     *
+     * @param eventId O UUID do evento.
+     * @return A posição do cliente, com o token de admissão.
+     */
+    public WaitingRoomPositionDTO join(UUID eventId) {
+        while (true) {
+            EventQueue queue = queues.computeIfAbsent(eventId, id -> new EventQueue());
+            long sequence = queue.issued.incrementAndGet();
+            // A fila pode ter sido descartada por inatividade entre a busca e o incremento
+            if (queues.get(eventId) == queue) {
+                queue.lastJoinMillis = clock.millis();
+                String token = signer.sign(new AdmissionToken(eventId, queue.generation, sequence, clock.instant()));
+                return position(eventId, token, sequence, queue);
+            }
+        }
+    }
+
+    /**
+     * Consulta a posição de um cliente na fila do evento.
+     *
+     * @param eventId O UUID do evento.
+     * @param token   O token de admissão recebido na entrada.
+     * @return A posição atual do cliente.
+     * @throws AdmissionTokenInvalidException se o token for inválido, de outro evento ou expirado.
+     */
+    public WaitingRoomPositionDTO position(UUID eventId, String token) {
+        AdmissionToken admissionToken = verify(eventId, token);
+        return position(eventId, token, admissionToken.sequence(), queueOf(admissionToken));
+    }
+
+    /**
+     * Admite uma inscrição. Cada chamada bem-sucedida deve ser seguida de {@link #release}.
+     *
+     * @param eventId O UUID do evento da inscrição.
+     * @param token   O token de admissão enviado pelo cliente.
+     * @return A admissão, a ser liberada quando a inscrição terminar.
+     * @throws AdmissionTokenInvalidException se o token for ausente, inválido, de outro evento, expirado ou já usado.
+     * @throws NotAdmittedYetException        se a vez do cliente ainda não chegou.
+     */
+    public Admission admit(UUID eventId, String token) {
+        if (token == null || token.isBlank()) {
+            throw new AdmissionTokenInvalidException(
+                    "É necessário entrar na sala de espera do evento e enviar o token no cabeçalho Admission-Token.");
+        }
+        AdmissionToken admissionToken = verify(eventId, token);
+        EventQueue queue = queueOf(admissionToken);
+        long ahead = admissionToken.sequence() - queue.admitted.get();
+        if (ahead > 0) {
+            throw new NotAdmittedYetException(ahead, estimatedWait(ahead));
+        }
+        if (!queue.used.add(admissionToken.sequence())) {
+            throw new AdmissionTokenInvalidException("Este token de admissão já foi usado.");
+        }
+        inFlight.incrementAndGet();
+        return new Admission(queue, admissionToken.sequence());
+    }
+
+    /**
+     * Libera uma admissão quando a inscrição termina.
+     *
+     * @param admission A admissão obtida em {@link #admit}.
+     * @param retryable Se a inscrição falhou por um erro temporário; nesse caso o token pode ser usado de novo.
+     */
+    public void release(Admission admission, boolean retryable) {
+        inFlight.decrementAndGet();
+        if (retryable) {
+            admission.queue.used.remove(admission.sequence);
+        }
+    }
+
+    /**
+     * Avança a fronteira de admissão de cada evento e descarta as filas inativas.
+     */
+    @Scheduled(fixedRateString = "${app.registrations.waiting-room.tick:100ms}")
+    public void advance() {
+        long now = clock.millis();
+        queues.forEach((eventId, queue) -> {
+            long waiting = queue.issued.get() - queue.admitted.get();
+            if (waiting == 0) {
+                queue.credit = 0;
+                // Todos os tokens da fila já expiraram: ninguém mais pode usá-la
+                if (now - queue.lastJoinMillis > tokenTtl.toMillis()) {
+                    queues.remove(eventId, queue);
+                }
+                return;
+            }
+            queue.credit = Math.min(queue.credit + permitsPerTick, Math.max(1, permitsPerTick));
+            long capacity = maxInFlight - inFlight.get();
+            long permits = Math.min(Math.min((long) queue.credit, capacity), waiting);
+            if (permits > 0) {
+                queue.admitted.addAndGet(permits);
+                queue.credit -= permits;
+            }
+        });
+    }
+
+    private AdmissionToken verify(UUID eventId, String token) {
+        if (token == null || token.isBlank()) {
+            throw new AdmissionTokenInvalidException("Token de admissão inválido.");
+        }
+        AdmissionToken admissionToken = signer.verify(token.trim());
+        if (!admissionToken.eventId().equals(eventId)) {
+            throw new AdmissionTokenInvalidException("Este token de admissão não é deste evento.");
+        }
+        if (admissionToken.issuedAt().plus(tokenTtl).isBefore(clock.instant())) {
+            throw expired();
+        }
+        return admissionToken;
+    }
+
+    private EventQueue queueOf(AdmissionToken admissionToken) {
+        EventQueue queue = queues.get(admissionToken.eventId());
+        // A fila foi recriada (ex: a instância reiniciou): a posição do token não vale mais
+        if (queue == null || queue.generation != admissionToken.generation()) {
+            throw expired();
+        }
+        return queue;
+    }
+
+    private WaitingRoomPositionDTO position(UUID eventId, String token, long sequence, EventQueue queue) {
+        long ahead = Math.max(0, sequence - queue.admitted.get());
+        return new WaitingRoomPositionDTO(eventId, token, sequence, ahead, ahead == 0, estimatedWait(ahead).toSeconds());
+    }
+
+    private Duration estimatedWait(long ahead) {
+        return Duration.ofSeconds((long) Math.ceil(ahead / admissionRate));
+    }
+
+    private static AdmissionTokenInvalidException expired() {
+        return new AdmissionTokenInvalidException("Token de admissão expirado. Entre na sala de espera novamente.");
+    }
+
+    /**
+     * Uma inscrição admitida, em execução.
+     */
+    public static final class Admission {
+
+        private final EventQueue queue;
+        private final long sequence;
+
+        private Admission(EventQueue queue, long sequence) {
+            this.queue = queue;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * A fila de um evento: posições emitidas, fronteira de admissão e tokens já usados.
+     */
+    private static final class EventQueue {
+
+        private final long generation = ThreadLocalRandom.current().nextLong();
+        private final AtomicLong issued = new AtomicLong();
+        private final AtomicLong admitted = new AtomicLong();
+        private final Set<Long> used = ConcurrentHashMap.newKeySet();
+        private volatile long lastJoinMillis;
+
+        // Fração de admissões acumulada entre os ticks; alterada apenas por advance()
+        private double credit;
+    }
+}
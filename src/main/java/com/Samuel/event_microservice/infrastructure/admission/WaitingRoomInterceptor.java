@@ -0,0 +1,54 @@
+package com.Samuel.event_microservice.infrastructure.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Exige um token de admissão da {@link WaitingRoom} nas inscrições, antes que elas cheguem ao controller.
+ * <p>
+ * As recusas são lançadas como exceções e tratadas pelo {@code GlobalExceptionHandler}. A admissão
+ * é liberada quando a requisição termina; se ela falhar com um erro {@code 5xx}, o token pode ser
+ * usado de novo.
+ */
+@RequiredArgsConstructor
+public class WaitingRoomInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER_NAME = "Admission-Token";
+
+    private static final String ADMISSION_ATTRIBUTE = WaitingRoomInterceptor.class.getName() + ".admission";
+
+    private final WaitingRoom waitingRoom;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"POST".equals(request.getMethod())) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        UUID eventId;
+        try {
+            eventId = UUID.fromString(pathVariables.get("eventId"));
+        } catch (RuntimeException e) {
+            // ID malformado: o controller responde com 400
+            return true;
+        }
+        request.setAttribute(ADMISSION_ATTRIBUTE, waitingRoom.admit(eventId, request.getHeader(HEADER_NAME)));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ADMISSION_ATTRIBUTE) instanceof WaitingRoom.Admission admission) {
+            boolean retryable = ex != null || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+            waitingRoom.release(admission, retryable);
+        }
+    }
+}
@@ -1,30 +1,80 @@
 package com.Samuel.event_microservice.infrastructure.application;
 
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.data.EventParticipantRow;
+import com.Samuel.event_microservice.core.data.EventSearchHit;
+import com.Samuel.event_microservice.core.data.EventSummary;
 import com.Samuel.event_microservice.core.data.EventUpdateData;
+import com.Samuel.event_microservice.core.data.EventVersion;
+import com.Samuel.event_microservice.core.data.ParticipantCursor;
+import com.Samuel.event_microservice.core.data.SearchCursor;
 import com.Samuel.event_microservice.core.models.Event;
-import com.Samuel.event_microservice.core.models.Subscription;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.models.RegistrationRequest;
+import com.Samuel.event_microservice.core.models.SeatHold;
+import com.Samuel.event_microservice.core.models.WaitlistEntry;
+import com.Samuel.event_microservice.core.exceptions.EventFullException;
 import com.Samuel.event_microservice.core.exceptions.EventNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.GroupRegistrationRejectedException;
+import com.Samuel.event_microservice.core.exceptions.RegistrationTicketNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SeatHoldNotFoundException;
 import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionNotFoundException;
+import com.Samuel.event_microservice.core.ports.EventMutationExecutorPort;
 import com.Samuel.event_microservice.core.ports.EventNotificationPort;
 import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.core.ports.EventStatsRepositoryPort;
+import com.Samuel.event_microservice.core.ports.EventSuggestionIndexPort;
+import com.Samuel.event_microservice.core.ports.RegistrationBatcherPort;
+import com.Samuel.event_microservice.core.ports.RegistrationQueuePort;
+import com.Samuel.event_microservice.core.ports.SeatHoldRegistryPort;
+import com.Samuel.event_microservice.core.ports.SeatHoldRepositoryPort;
 import com.Samuel.event_microservice.core.ports.SubscriptionRepositoryPort;
+import com.Samuel.event_microservice.core.ports.WaitlistPromotionPort;
+import com.Samuel.event_microservice.core.ports.WaitlistRepositoryPort;
 import com.Samuel.event_microservice.core.usecases.EventUseCase;
 import com.Samuel.event_microservice.infrastructure.config.EventBusinessConfig;
+import com.Samuel.event_microservice.infrastructure.config.SeatHoldProperties;
+import com.Samuel.event_microservice.infrastructure.dto.CursorPageResponseDTO;
 import com.Samuel.event_microservice.infrastructure.dto.PageResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.SliceResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventFilterDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventRequestDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventStatsResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventSuggestionDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventUpdateDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupRegistrationResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupRegistrationResultDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupSubscriptionRequestDTO;
 import com.Samuel.event_microservice.infrastructure.dto.subscription.RegisteredParticipantDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.RegistrationTicketResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.SeatHoldResponseDTO;
 import com.Samuel.event_microservice.infrastructure.dto.subscription.SubscriptionRequestDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.WaitlistResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementação principal da interface {@link EventUseCase}.
@@ -37,10 +87,48 @@ import java.util.UUID;
 @Slf4j
 public class EventService implements EventUseCase {
 
+    /**
+     * Tamanho máximo de uma página paginada por cursor, alinhado a 'spring.data.web.pageable.max-page-size'.
+     */
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * Comprimento máximo aceito para os termos de uma busca textual.
+     */
+    static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
+    /**
+     * Número máximo de sugestões retornadas pelo autocompletar.
+     */
+    static final int MAX_SUGGESTIONS = 20;
+
+    /**
+     * Número máximo de resultados alcançáveis pela paginação por offset da listagem de eventos.
+     * Páginas mais profundas exigiriam ler e descartar todas as linhas anteriores.
+     */
+    static final int MAX_LISTING_OFFSET = 10_000;
+
+    /**
+     * Comprimento mínimo do prefixo do filtro de localização.
+     */
+    static final int MIN_LOCATION_FILTER_LENGTH = 3;
+
+
     private final EventRepositoryPort eventRepository;
+    private final EventStatsRepositoryPort eventStatsRepository;
     private final SubscriptionRepositoryPort subscriptionRepository;
     private final EventNotificationPort eventNotificationPort;
+    private final EventSuggestionIndexPort eventSuggestionIndex;
     private final EventBusinessConfig eventConfig;
+    private final SeatHoldRegistryPort seatHoldRegistry;
+    private final SeatHoldRepositoryPort seatHoldRepository;
+    private final SeatHoldProperties seatHoldProperties;
+    private final WaitlistRepositoryPort waitlistRepository;
+    private final WaitlistPromotionPort waitlistPromotion;
+    private final EventMutationExecutorPort eventMutationExecutor;
+    private final RegistrationBatcherPort registrationBatcher;
+    private final RegistrationQueuePort registrationQueue;
+    private final ListingCountEstimator listingCountEstimator;
 
     /**
      * {@inheritDoc}
@@ -62,6 +150,8 @@ public class EventService implements EventUseCase {
                 eventConfig.getMinDurationMinutes()
         );
         eventRepository.save(newEvent);
+        eventStatsRepository.adjust(EventStatus.ACTIVE, 1, 0);
+        eventSuggestionIndex.upsert(newEvent);
         log.info("Event created successfully with ID: {}", newEvent.getId());
         return new EventResponseDTO(newEvent);
     }
@@ -71,9 +161,11 @@ public class EventService implements EventUseCase {
      */
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<EventResponseDTO> getAllEvents(Pageable pageable) {
+    public PageResponseDTO<EventResponseDTO> getAllEvents(EventFilterDTO filterDTO, Pageable pageable) {
         log.info("Fetching all events. Page: {}, Size: {}", pageable.getPageNumber(), pageable.getPageSize());
-        Page<Event> eventPage = eventRepository.findAll(pageable);
+        EventFilter filter = filterDTO.toFilter();
+        Pageable indexedPageable = resolveListing(filter, pageable);
+        Page<EventSummary> eventPage = eventRepository.findActiveEventSummaries(filter, indexedPageable);
         log.info("Found {} total events.", eventPage.getTotalElements());
         Page<EventResponseDTO> eventResponseDTOPage = eventPage.map(EventResponseDTO::new);
         return new PageResponseDTO<>(eventResponseDTOPage);
@@ -84,14 +176,193 @@ public class EventService implements EventUseCase {
      */
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<EventResponseDTO> getUpcomingEvents(Pageable pageable) {
+    public PageResponseDTO<EventResponseDTO> getUpcomingEvents(EventFilterDTO filterDTO, Pageable pageable) {
         log.info("Fetching upcoming events. Page: {}, Size: {}", pageable.getPageNumber(), pageable.getPageSize());
-        Page<Event> eventPage = eventRepository.findUpcomingEvents(LocalDateTime.now(), pageable);
+        EventFilter filter = filterDTO.toFilter();
+        Pageable indexedPageable = resolveListing(filter, pageable);
+        Page<EventSummary> eventPage = eventRepository.findActiveEventSummaries(filter.startingNoEarlierThan(LocalDateTime.now()), indexedPageable);
         log.info("Found {} upcoming events.", eventPage.getTotalElements());
         Page<EventResponseDTO> eventResponseDTOPage = eventPage.map(EventResponseDTO::new);
         return new PageResponseDTO<>(eventResponseDTOPage);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EventVersion> getAllEventVersions(EventFilterDTO filterDTO, Pageable pageable) {
+        EventFilter filter = filterDTO.toFilter();
+        Pageable indexedPageable = resolveListing(filter, pageable);
+        return eventRepository.findActiveEventVersions(filter, indexedPageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EventVersion> getUpcomingEventVersions(EventFilterDTO filterDTO, Pageable pageable) {
+        EventFilter filter = filterDTO.toFilter();
+        Pageable indexedPageable = resolveListing(filter, pageable);
+        return eventRepository.findActiveEventVersions(filter.startingNoEarlierThan(LocalDateTime.now()), indexedPageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Um evento que deixou de existir entre as duas consultas fica fora da página.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<EventResponseDTO> getEventPage(Page<EventVersion> versions) {
+        Map<UUID, EventSummary> eventsById = eventRepository.findSummariesByIds(versions.map(EventVersion::id).getContent())
+                .stream()
+                .collect(Collectors.toMap(EventSummary::id, Function.identity()));
+        List<EventResponseDTO> content = versions.getContent().stream()
+                .map(version -> eventsById.get(version.id()))
+                .filter(Objects::nonNull)
+                .map(EventResponseDTO::new)
+                .toList();
+        return new PageResponseDTO<>(new PageImpl<>(content, versions.getPageable(), versions.getTotalElements()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<EventResponseDTO> getAllEventsSlice(EventFilterDTO filterDTO, Pageable pageable, boolean estimateTotal) {
+        log.info("Fetching all events without count. Page: {}, Size: {}", pageable.getPageNumber(), pageable.getPageSize());
+        EventFilter filter = filterDTO.toFilter();
+        Pageable indexedPageable = resolveListing(filter, pageable);
+        Slice<EventSummary> eventSlice = eventRepository.findActiveEventSummariesSlice(filter, indexedPageable);
+        Long estimatedTotal = estimateTotal
+                ? listingCountEstimator.estimate("all", filter, () -> eventRepository.countActiveEvents(filter))
+                : null;
+        return new SliceResponseDTO<>(eventSlice.map(EventResponseDTO::new), estimatedTotal);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O total aproximado é recontado com o instante da recontagem, não com o da requisição que a disparou.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<EventResponseDTO> getUpcomingEventsSlice(EventFilterDTO filterDTO, Pageable pageable, boolean estimateTotal) {
+        log.info("Fetching upcoming events without count. Page: {}, Size: {}", pageable.getPageNumber(), pageable.getPageSize());
+        EventFilter filter = filterDTO.toFilter();
+        Pageable indexedPageable = resolveListing(filter, pageable);
+        Slice<EventSummary> eventSlice = eventRepository.findActiveEventSummariesSlice(filter.startingNoEarlierThan(LocalDateTime.now()), indexedPageable);
+        Long estimatedTotal = estimateTotal
+                ? listingCountEstimator.estimate("upcoming", filter,
+                        () -> eventRepository.countActiveEvents(filter.startingNoEarlierThan(LocalDateTime.now())))
+                : null;
+        return new SliceResponseDTO<>(eventSlice.map(EventResponseDTO::new), estimatedTotal);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EventVersion> getAllEventVersionsSlice(EventFilterDTO filterDTO, Pageable pageable) {
+        EventFilter filter = filterDTO.toFilter();
+        Pageable indexedPageable = resolveListing(filter, pageable);
+        return eventRepository.findActiveEventVersionsSlice(filter, indexedPageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EventVersion> getUpcomingEventVersionsSlice(EventFilterDTO filterDTO, Pageable pageable) {
+        EventFilter filter = filterDTO.toFilter();
+        Pageable indexedPageable = resolveListing(filter, pageable);
+        return eventRepository.findActiveEventVersionsSlice(filter.startingNoEarlierThan(LocalDateTime.now()), indexedPageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A busca é resolvida em duas etapas: a consulta textual devolve apenas IDs e relevâncias
+     * (uma linha extra indica a existência de uma próxima página), e os eventos da página são
+     * então lidos pela chave primária, como resumos, e reordenados conforme a relevância.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<EventResponseDTO> searchEvents(String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("O termo de busca não pode ser vazio.");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("O termo de busca deve ter no máximo " + MAX_SEARCH_QUERY_LENGTH + " caracteres.");
+        }
+        log.info("Searching events for query: '{}'. Size: {}", query, size);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<EventSearchHit> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = eventRepository.searchActiveEvents(query, limit);
+        } else {
+            SearchCursor after = SearchCursor.decode(cursor);
+            hits = eventRepository.searchActiveEventsAfter(query, after.rank(), after.eventId(), limit);
+        }
+
+        boolean hasNext = hits.size() > pageSize;
+        List<EventSearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+
+        Map<UUID, EventSummary> eventsById = eventRepository.findSummariesByIds(pageHits.stream().map(EventSearchHit::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(EventSummary::id, Function.identity()));
+        List<EventResponseDTO> content = pageHits.stream()
+                .map(hit -> eventsById.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .map(EventResponseDTO::new)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            EventSearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new SearchCursor(last.getRank(), last.getId()).encode();
+        }
+
+        log.info("Search for '{}' returned {} events.", query, content.size());
+        return new CursorPageResponseDTO<>(content, pageSize, null, nextCursor, hasNext);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * As sugestões vêm do índice em memória, sem consultar o banco de dados.
+     */
+    @Override
+    public List<EventSuggestionDTO> suggestEvents(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("O prefixo não pode ser vazio.");
+        }
+        int maxResults = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return eventSuggestionIndex.suggest(prefix, maxResults).stream()
+                .map(EventSuggestionDTO::new)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O número de eventos de cada status é exato: é ajustado no mesmo commit de cada transição.
+     * A soma dos participantes acompanha as transições e é atualizada pela reconciliação
+     * periódica, já que as inscrições não alteram a tabela de contadores.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EventStatsResponseDTO getEventStats() {
+        return new EventStatsResponseDTO(eventStatsRepository.findAll());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -99,7 +370,7 @@ public class EventService implements EventUseCase {
     @Transactional(readOnly = true)
     public EventResponseDTO getEventDetails(UUID id) {
         log.info("Fetching details for event with ID: {}", id);
-        return eventRepository.findById(id)
+        return eventRepository.findSummaryById(id)
                 .map(EventResponseDTO::new)
                 .orElseThrow(() -> {
                     log.warn("Event with ID {} not found.", id);
@@ -110,121 +381,469 @@ public class EventService implements EventUseCase {
     /**
      * {@inheritDoc}
      * <p>
-     * Este método implementa a lógica de cancelamento (Soft Delete).
-     * Ele verifica se o evento existe, se já ocorreu ou se já está cancelado antes de alterar o status.
+     * Este método implementa a lógica de cancelamento (Soft Delete), executada pelo
+     * {@link EventMutationExecutorPort}. Ele verifica se o evento existe, se já ocorreu ou se já está
+     * cancelado antes de alterar o status; os participantes são notificados após o commit.
      */
     @Override
-    @Transactional
     public void cancelEvent(UUID eventId) {
-        log.info("Attempting to cancel event with ID: {}", eventId);
+        eventMutationExecutor.executeWithoutResult(eventId, () -> {
+            log.info("Attempting to cancel event with ID: {}", eventId);
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> {
+                        log.warn("Cancellation failed: Event with ID {} not found.", eventId);
+                        return new EventNotFoundException("Evento com ID " + eventId + " não encontrado.");
+                    });
+
+            EventStatus previousStatus = event.getStatus();
+            event.cancel();
+
+            eventRepository.save(event);
+            eventStatsRepository.recordTransition(previousStatus, EventStatus.CANCELLED, event.getRegisteredParticipants());
+            eventSuggestionIndex.remove(eventId);
+            log.info("Event with ID {} cancelled successfully.", eventId);
+
+            afterCommit(() -> {
+                try {
+                    eventNotificationPort.notifyParticipantsOfCancellation(event);
+                } catch (Exception e) {
+                    log.error("Failed to send cancellation notifications for event {}: {}", eventId, e.getMessage());
+                }
+            });
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A atualização é executada pelo {@link EventMutationExecutorPort}, em uma transação.
+     */
+    @Override
+    public EventResponseDTO updateEvent(UUID eventId, EventUpdateDTO eventUpdateDTO) {
+        return eventMutationExecutor.execute(eventId, () -> {
+            log.info("Attempting to update event with ID: {}", eventId);
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> {
+                        log.warn("Update failed: Event with ID {} not found.", eventId);
+                        return new EventNotFoundException("Evento com ID " + eventId + " não encontrado.");
+                    });
+
+            EventUpdateData updateData = new EventUpdateData(
+                    eventUpdateDTO.title(),
+                    eventUpdateDTO.description(),
+                    eventUpdateDTO.startDateTime(),
+                    eventUpdateDTO.endDateTime(),
+                    eventUpdateDTO.maxParticipants(),
+                    eventUpdateDTO.imageUrl(),
+                    eventUpdateDTO.eventUrl(),
+                    eventUpdateDTO.location(),
+                    eventUpdateDTO.is_remote()
+            );
+
+            int previousMaxParticipants = event.getMaxParticipants();
+            event.updateDetails(updateData, eventConfig.getMinDurationMinutes());
+
+            Event updatedEvent = eventRepository.save(event);
+            eventSuggestionIndex.upsert(updatedEvent);
+            if (updatedEvent.getMaxParticipants() > previousMaxParticipants) {
+                waitlistPromotion.promoteAfterCommit(eventId);
+            }
+            log.info("Event with ID {} updated successfully.", eventId);
+            return new EventResponseDTO(updatedEvent);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A inscrição é executada pelo {@link EventMutationExecutorPort}, em uma transação. Ela verifica
+     * a existência do evento, se ele está ativo, se a inscrição já existe e se há vagas disponíveis,
+     * contando as vagas reservadas como ocupadas. Após o commit, tenta enviar um e-mail de confirmação.
+     * Com o agrupamento habilitado, a inscrição é gravada junto com as demais inscrições concorrentes
+     * no evento pelo {@link RegistrationBatcherPort}.
+     */
+    @Override
+    public void registerParticipant(UUID eventId, SubscriptionRequestDTO subscriptionRequest) {
+        String participantEmail = subscriptionRequest.participantEmail();
+        if (registrationBatcher.isEnabled()) {
+            log.info("Queueing registration of participant {} for event {} in a batch", participantEmail, eventId);
+            registrationBatcher.register(eventId, participantEmail);
+            return;
+        }
+        eventMutationExecutor.executeWithoutResult(eventId, () -> {
+            log.info("Attempting to register participant {} for event {}", participantEmail, eventId);
+
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> {
+                        log.warn("Registration failed: Event with ID {} not found.", eventId);
+                        return new EventNotFoundException("Evento com ID " + eventId + " não encontrado.");
+                    });
+
+            subscribe(event, participantEmail);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A posição informada é a do momento da entrada na fila; ela diminui à medida que os
+     * participantes à frente são promovidos.
+     */
+    @Override
+    @Transactional
+    public Optional<WaitlistResponseDTO> registerParticipantOrWaitlist(UUID eventId, SubscriptionRequestDTO subscriptionRequest) {
+        String participantEmail = subscriptionRequest.participantEmail();
+        log.info("Attempting to register participant {} for event {} with waitlist fallback", participantEmail, eventId);
+
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> {
-                    log.warn("Cancellation failed: Event with ID {} not found.", eventId);
+                    log.warn("Registration failed: Event with ID {} not found.", eventId);
                     return new EventNotFoundException("Evento com ID " + eventId + " não encontrado.");
                 });
 
-        event.cancel();
-        
-        eventRepository.save(event);
-        log.info("Event with ID {} cancelled successfully.", eventId);
+        event.ensureOpenForRegistration();
+        // A vaga vista no evento carregado ainda pode ser ocupada antes do comando; nesse caso, vai para a fila
+        if (event.hasAvailableSeat(seatHoldRegistry.activeHolds(eventId)) && trySubscribe(event, participantEmail)) {
+            return Optional.empty();
+        }
 
-        try {
-            eventNotificationPort.notifyParticipantsOfCancellation(event);
-        } catch (Exception e) {
-            log.error("Failed to send cancellation notifications for event {}: {}", eventId, e.getMessage());
+        ensureNotSubscribed(event, participantEmail);
+        if (waitlistRepository.existsByEventIdAndParticipantEmail(eventId, participantEmail)) {
+            log.warn("Participant {} is already on the waitlist of event {}.", participantEmail, eventId);
+            throw new IllegalStateException("Este participante já está na lista de espera deste evento.");
         }
+
+        WaitlistEntry entry = waitlistRepository.save(new WaitlistEntry(eventId, participantEmail));
+        long position = waitlistRepository.countByEventIdAndIdLessThanEqual(eventId, entry.getId());
+        log.info("Participant {} added to the waitlist of event {} at position {}.", participantEmail, eventId, position);
+        return Optional.of(new WaitlistResponseDTO(eventId, participantEmail, position));
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * As vagas são reservadas e as inscrições gravadas por um único comando no banco
+     * ({@link SubscriptionRepositoryPort#registerGroup}); apenas os participantes que ficaram de
+     * fora são consultados novamente, para distinguir os já inscritos dos que não tiveram vaga.
+     * No modo "tudo ou nada", uma inscrição incompleta lança uma exceção e a transação é
+     * desfeita. Os e-mails de confirmação são enviados após o commit, sem manter o evento bloqueado.
      */
     @Override
     @Transactional
-    public EventResponseDTO updateEvent(UUID eventId, EventUpdateDTO eventUpdateDTO) {
-        log.info("Attempting to update event with ID: {}", eventId);
+    public GroupRegistrationResponseDTO registerGroup(UUID eventId, GroupSubscriptionRequestDTO groupRequest) {
+        List<String> requestedEmails = groupRequest.participantEmails();
+        log.info("Attempting to register a group of {} participants for event {}", requestedEmails.size(), eventId);
+
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> {
-                    log.warn("Update failed: Event with ID {} not found.", eventId);
+                    log.warn("Group registration failed: Event with ID {} not found.", eventId);
                     return new EventNotFoundException("Evento com ID " + eventId + " não encontrado.");
                 });
+        event.ensureOpenForRegistration();
 
-        EventUpdateData updateData = new EventUpdateData(
-                eventUpdateDTO.title(),
-                eventUpdateDTO.description(),
-                eventUpdateDTO.startDateTime(),
-                eventUpdateDTO.endDateTime(),
-                eventUpdateDTO.maxParticipants(),
-                eventUpdateDTO.imageUrl(),
-                eventUpdateDTO.eventUrl(),
-                eventUpdateDTO.location(),
-                eventUpdateDTO.is_remote()
-        );
+        List<String> distinctEmails = requestedEmails.stream().distinct().toList();
+        Set<String> registered = new HashSet<>(
+                subscriptionRepository.registerGroup(eventId, distinctEmails, seatHoldRegistry.activeHolds(eventId)));
+        List<String> leftOut = distinctEmails.stream().filter(email -> !registered.contains(email)).toList();
+        Set<String> alreadySubscribed = leftOut.isEmpty()
+                ? Set.of()
+                : new HashSet<>(subscriptionRepository.findSubscribedEmails(eventId, leftOut));
+
+        if (!groupRequest.bestEffort() && !leftOut.isEmpty()) {
+            Map<String, String> failures = new LinkedHashMap<>();
+            leftOut.forEach(email -> failures.put(email, alreadySubscribed.contains(email)
+                    ? "Este participante já está inscrito neste evento."
+                    : "Não há vaga para este participante."));
+            log.warn("Group registration for event {} rejected: {} of {} participants could not be registered.",
+                    eventId, leftOut.size(), distinctEmails.size());
+            throw new GroupRegistrationRejectedException(failures);
+        }
+
+        Set<String> seen = new HashSet<>();
+        List<GroupRegistrationResultDTO> results = requestedEmails.stream()
+                .map(email -> new GroupRegistrationResultDTO(email, !seen.add(email)
+                        ? GroupRegistrationResultDTO.Status.DUPLICATED
+                        : registered.contains(email) ? GroupRegistrationResultDTO.Status.REGISTERED
+                        : alreadySubscribed.contains(email) ? GroupRegistrationResultDTO.Status.ALREADY_SUBSCRIBED
+                        : GroupRegistrationResultDTO.Status.EVENT_FULL))
+                .toList();
+
+        log.info("Registered {} of {} participants of a group for event {}.", registered.size(), distinctEmails.size(), eventId);
+        afterCommit(() -> registered.forEach(email -> sendRegistrationConfirmation(event, email)));
+        return new GroupRegistrationResponseDTO(eventId, registered.size(), results);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O pedido é apenas gravado na fila ({@link RegistrationQueuePort}); a existência do evento,
+     * as vagas e a inscrição duplicada são verificadas no processamento e informadas no resultado.
+     */
+    @Override
+    public RegistrationTicketResponseDTO registerParticipantAsync(UUID eventId, SubscriptionRequestDTO subscriptionRequest) {
+        String participantEmail = subscriptionRequest.participantEmail();
+        RegistrationRequest registrationRequest = registrationQueue.enqueue(eventId, participantEmail);
+        log.info("Queued registration of participant {} for event {} with ticket {}.", participantEmail, eventId, registrationRequest.getTicket());
+        return new RegistrationTicketResponseDTO(registrationRequest);
+    }
 
-        event.updateDetails(updateData, eventConfig.getMinDurationMinutes());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RegistrationTicketResponseDTO getRegistrationTicket(UUID ticket) {
+        log.info("Fetching registration ticket {}", ticket);
+        return registrationQueue.findByTicket(ticket)
+                .map(RegistrationTicketResponseDTO::new)
+                .orElseThrow(() -> {
+                    log.warn("Registration ticket {} not found.", ticket);
+                    return new RegistrationTicketNotFoundException();
+                });
+    }
 
-        Event updatedEvent = eventRepository.save(event);
-        log.info("Event with ID {} updated successfully.", eventId);
-        return new EventResponseDTO(updatedEvent);
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Esta implementação não carrega o evento nem a inscrição: a remoção e o decremento do
+     * contador são um único comando no banco. A vaga devolvida é oferecida à lista de espera
+     * após o commit.
+     */
+    @Override
+    @Transactional
+    public void unregisterParticipant(UUID eventId, String participantEmail) {
+        log.info("Attempting to unregister participant {} from event {}", participantEmail, eventId);
+        if (subscriptionRepository.deleteParticipant(eventId, participantEmail) == 0) {
+            log.warn("Unregistration failed: participant {} is not subscribed to event {}.", participantEmail, eventId);
+            throw new SubscriptionNotFoundException();
+        }
+        waitlistPromotion.promoteAfterCommit(eventId);
+        log.info("Participant {} unregistered from event {}.", participantEmail, eventId);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Esta implementação é transacional. Ela verifica a existência do evento, se ele está ativo,
-     * se a inscrição já existe e se há vagas disponíveis.
-     * Após o sucesso da transação, tenta enviar um e-mail de confirmação.
+     * A verificação de vagas e o registro da reserva são atômicos no {@link SeatHoldRegistryPort};
+     * a linha gravada em {@code seat_hold} serve apenas para restaurar a reserva após um reinício.
+     * As vagas livres são lidas do banco, e não do evento carregado, que pode vir do cache de
+     * segundo nível com um contador desatualizado. Se a transação falhar, a reserva é retirada
+     * do registro.
      */
     @Override
     @Transactional
-    public void registerParticipant(UUID eventId, SubscriptionRequestDTO subscriptionRequest) {
+    public SeatHoldResponseDTO holdSeat(UUID eventId, SubscriptionRequestDTO subscriptionRequest) {
         String participantEmail = subscriptionRequest.participantEmail();
-        log.info("Attempting to register participant {} for event {}", participantEmail, eventId);
+        log.info("Attempting to hold a seat for participant {} in event {}", participantEmail, eventId);
 
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> {
-                    log.warn("Registration failed: Event with ID {} not found.", eventId);
+                    log.warn("Seat hold failed: Event with ID {} not found.", eventId);
                     return new EventNotFoundException("Evento com ID " + eventId + " não encontrado.");
                 });
-        
-        subscriptionRepository.findByEventAndParticipantEmail(event, participantEmail)
-                .ifPresent(subscription -> {
-                    log.warn("Participant {} is already subscribed to event {}.", participantEmail, eventId);
-                    throw new SubscriptionAlreadyExistsException("Este participante já está inscrito neste evento.");
-                });
 
-        event.registerParticipant();
-
-        Subscription newSubscription = new Subscription(event, participantEmail);
-        subscriptionRepository.save(newSubscription);
-        eventRepository.save(event);
-        log.info("Participant {} registered successfully for event {}.", participantEmail, eventId);
+        event.ensureOpenForRegistration();
+        ensureNotSubscribed(event, participantEmail);
 
-        try {
-            eventNotificationPort.sendRegistrationConfirmation(event, participantEmail);
-        } catch (Exception e) {
-            log.error("Failed to send registration confirmation email to {} for event {}: {}", participantEmail, eventId, e.getMessage());
+        SeatHold seatHold = new SeatHold(eventId, participantEmail, seatHoldProperties.getTtl());
+        int availableSeats = eventRepository.findAvailableSeatsById(eventId).orElse(0);
+        if (!seatHoldRegistry.tryHold(seatHold, availableSeats)) {
+            log.warn("Seat hold failed: all available seats of event {} are taken or held.", eventId);
+            throw new EventFullException("O evento já está lotado.");
         }
+        seatHoldRepository.save(seatHold);
+        log.info("Seat held for participant {} in event {} until {}.", participantEmail, eventId, seatHold.getExpiresAt());
+        return new SeatHoldResponseDTO(seatHold);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Esta implementação otimiza a busca verificando primeiro a existência do evento
-     * antes de buscar a página de inscrições.
+     * A reserva é retirada do registro antes da inscrição, então a sua vaga deixa de contar
+     * como reservada e passa a contar como inscrita. Se a transação falhar, a reserva volta
+     * ao registro enquanto não tiver expirado.
+     */
+    @Override
+    @Transactional
+    public void confirmSeatHold(UUID eventId, UUID holdId) {
+        log.info("Attempting to confirm seat hold {} for event {}", holdId, eventId);
+        SeatHold seatHold = claimSeatHold(eventId, holdId);
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> {
+                    log.warn("Seat hold confirmation failed: Event with ID {} not found.", eventId);
+                    return new EventNotFoundException("Evento com ID " + eventId + " não encontrado.");
+                });
+
+        seatHoldRepository.deleteById(holdId);
+        subscribe(event, seatHold.getParticipantEmail());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void releaseSeatHold(UUID eventId, UUID holdId) {
+        log.info("Attempting to release seat hold {} for event {}", holdId, eventId);
+        claimSeatHold(eventId, holdId);
+        seatHoldRepository.deleteById(holdId);
+        waitlistPromotion.promoteAfterCommit(eventId);
+        log.info("Seat hold {} for event {} released.", holdId, eventId);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Esta implementação resolve a página em uma única consulta: a existência do evento,
+     * o total (lido do contador {@code registeredParticipants}) e os participantes vêm do mesmo comando.
+     * Uma linha extra é buscada para determinar se existe uma próxima página.
      */
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<RegisteredParticipantDTO> getRegisteredParticipants(UUID eventId, Pageable pageable) {
+    public CursorPageResponseDTO<RegisteredParticipantDTO> getRegisteredParticipants(UUID eventId, String cursor, int size) {
         log.info("Fetching participants for event with ID: {}", eventId);
-        if (!eventRepository.existsById(eventId)) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<EventParticipantRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = subscriptionRepository.findParticipantsPage(eventId, limit);
+        } else {
+            ParticipantCursor after = ParticipantCursor.decode(cursor);
+            rows = subscriptionRepository.findParticipantsPageAfter(eventId, after.createdAt(), after.subscriptionId(), limit);
+        }
+
+        if (rows.isEmpty()) {
             log.warn("Event with ID {} not found when fetching participants.", eventId);
             throw new EventNotFoundException("Evento com ID " + eventId + " não encontrado.");
         }
 
-        Event event = eventRepository.getReferenceById(eventId);
-        Page<Subscription> subscriptions = subscriptionRepository.findByEvent(event, pageable);
-        log.info("Found {} participants for event {}.", subscriptions.getTotalElements(), eventId);
-        Page<RegisteredParticipantDTO> registeredParticipantDTOPage = subscriptions.map(subscription -> new RegisteredParticipantDTO(subscription.getParticipantEmail()));
-        return new PageResponseDTO<>(registeredParticipantDTOPage);
+        long totalElements = rows.getFirst().registeredParticipants();
+        List<EventParticipantRow> subscriptions = rows.stream()
+                .filter(EventParticipantRow::hasSubscription)
+                .toList();
+        boolean hasNext = subscriptions.size() > pageSize;
+        List<EventParticipantRow> pageRows = hasNext ? subscriptions.subList(0, pageSize) : subscriptions;
+
+        String nextCursor = null;
+        if (hasNext) {
+            EventParticipantRow last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new ParticipantCursor(last.createdAt(), last.subscriptionId()).encode();
+        }
+
+        log.info("Found {} participants for event {}.", totalElements, eventId);
+        List<RegisteredParticipantDTO> content = pageRows.stream()
+                .map(row -> new RegisteredParticipantDTO(row.participantEmail()))
+                .toList();
+        return new CursorPageResponseDTO<>(content, pageSize, totalElements, nextCursor, hasNext);
+    }
+
+    /**
+     * Inscreve o participante no evento, tratando as vagas reservadas por outros participantes
+     * como ocupadas, e tenta enviar o e-mail de confirmação após o commit.
+     *
+     * @param event O evento.
+     * @param participantEmail O e-mail do participante.
+     * @throws EventFullException se o evento não tiver vaga.
+     */
+    private void subscribe(Event event, String participantEmail) {
+        if (!trySubscribe(event, participantEmail)) {
+            log.warn("Registration failed: event {} is full.", event.getId());
+            throw new EventFullException("O evento já está lotado.");
+        }
+    }
+
+    /**
+     * Inscreve o participante pelo mesmo comando condicional das inscrições em grupo
+     * ({@link SubscriptionRepositoryPort#registerGroup}), com um único e-mail: a vaga é verificada e
+     * o contador incrementado sob o bloqueio da linha do evento, com o valor mais recente. Assim,
+     * inscrições concorrentes no mesmo evento são aplicadas em sequência no banco, em vez de falhar
+     * no bloqueio otimista da entidade carregada. O evento carregado serve apenas para as
+     * verificações prévias e para a notificação.
+     *
+     * @return {@code false} se o evento não tinha vaga no momento do comando.
+     * @throws SubscriptionAlreadyExistsException se o participante já estiver inscrito.
+     * @throws IllegalStateException se o evento não estiver ativo.
+     */
+    private boolean trySubscribe(Event event, String participantEmail) {
+        UUID eventId = event.getId();
+        ensureNotSubscribed(event, participantEmail);
+        event.ensureOpenForRegistration();
+
+        List<String> participant = List.of(participantEmail);
+        if (subscriptionRepository.registerGroup(eventId, participant, seatHoldRegistry.activeHolds(eventId)).isEmpty()) {
+            // Inscrito por outra requisição enquanto o comando aguardava o bloqueio do evento
+            if (!subscriptionRepository.findSubscribedEmails(eventId, participant).isEmpty()) {
+                log.warn("Participant {} is already subscribed to event {}.", participantEmail, eventId);
+                throw new SubscriptionAlreadyExistsException("Este participante já está inscrito neste evento.");
+            }
+            return false;
+        }
+        log.info("Participant {} registered successfully for event {}.", participantEmail, eventId);
+
+        afterCommit(() -> sendRegistrationConfirmation(event, participantEmail));
+        return true;
+    }
+
+    private void sendRegistrationConfirmation(Event event, String participantEmail) {
+        try {
+            eventNotificationPort.sendRegistrationConfirmation(event, participantEmail);
+        } catch (Exception e) {
+            log.error("Failed to send registration confirmation email to {} for event {}: {}", participantEmail, event.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Executa a ação após o commit da transação atual, ou imediatamente se não houver transação.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void ensureNotSubscribed(Event event, String participantEmail) {
+        subscriptionRepository.findByEventAndParticipantEmail(event, participantEmail)
+                .ifPresent(subscription -> {
+                    log.warn("Participant {} is already subscribed to event {}.", participantEmail, event.getId());
+                    throw new SubscriptionAlreadyExistsException("Este participante já está inscrito neste evento.");
+                });
+    }
+
+    private SeatHold claimSeatHold(UUID eventId, UUID holdId) {
+        return seatHoldRegistry.claim(eventId, holdId)
+                .orElseThrow(() -> {
+                    log.warn("Seat hold {} not found or expired for event {}.", holdId, eventId);
+                    return new SeatHoldNotFoundException();
+                });
+    }
+
+    /**
+     * Garante que a listagem possa ser atendida pelos índices parciais de eventos ativos,
+     * rejeitando combinações que levariam a varreduras completas da tabela.
+     *
+     * @param filter Os filtros da listagem.
+     * @param pageable A paginação solicitada.
+     * @return A paginação com a ordenação sustentada por índice, definida por {@link EventSortPolicy}.
+     * @throws IllegalArgumentException se a combinação não puder ser atendida por um índice.
+     */
+    private Pageable resolveListing(EventFilter filter, Pageable pageable) {
+        if (pageable.isPaged() && (long) pageable.getPageNumber() * pageable.getPageSize() + pageable.getPageSize() > MAX_LISTING_OFFSET) {
+            throw new IllegalArgumentException("A paginação alcança no máximo os primeiros " + MAX_LISTING_OFFSET + " eventos; refine os filtros.");
+        }
+        if (filter.location() != null && filter.location().length() < MIN_LOCATION_FILTER_LENGTH) {
+            throw new IllegalArgumentException("O filtro de localização deve ter pelo menos " + MIN_LOCATION_FILTER_LENGTH + " caracteres.");
+        }
+        if (filter.startFrom() != null && filter.startTo() != null && filter.startTo().isBefore(filter.startFrom())) {
+            throw new IllegalArgumentException("A data final do filtro deve ser posterior à data inicial.");
+        }
+        return EventSortPolicy.apply(pageable, !filter.isEmpty());
     }
 }
@@ -0,0 +1,92 @@
+package com.Samuel.event_microservice.infrastructure.application;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Política de ordenação da listagem de eventos.
+ * <p>
+ * Só aceita chaves públicas que tenham um índice correspondente (migração {@code V9}) e as
+ * traduz para uma ordenação completa, com o {@code id} como desempate na mesma direção: assim a
+ * ordem das páginas é determinística e o PostgreSQL percorre o índice (inclusive de trás para
+ * frente) em vez de ordenar a tabela.
+ */
+final class EventSortPolicy {
+
+    /**
+     * Chave usada quando o cliente não informa uma ordenação.
+     */
+    static final SortKey DEFAULT_KEY = SortKey.START_DATE_TIME;
+
+    private static final String TIEBREAK_PROPERTY = "id";
+
+    private EventSortPolicy() {
+    }
+
+    /**
+     * Chaves de ordenação aceitas pela API.
+     */
+    enum SortKey {
+        /** Data de início; é a última coluna de todos os índices de filtro, então vale para qualquer combinação. */
+        START_DATE_TIME("startDateTime", true),
+        /** Ordem alfabética; sustentada apenas pelo índice da listagem sem filtros. */
+        TITLE("title", false);
+
+        private final String publicName;
+        private final boolean allowedWithFilters;
+
+        SortKey(String publicName, boolean allowedWithFilters) {
+            this.publicName = publicName;
+            this.allowedWithFilters = allowedWithFilters;
+        }
+
+        String publicName() {
+            return publicName;
+        }
+    }
+
+    /**
+     * Substitui a ordenação solicitada pela ordenação sustentada por índice equivalente.
+     *
+     * @param requested A paginação recebida do cliente.
+     * @param filtered  Se a listagem tem filtros aplicados.
+     * @return A paginação com a ordenação completa (chave + desempate por id).
+     * @throws IllegalArgumentException se a chave não for aceita, se houver mais de uma chave
+     *                                  ou se a chave não puder ser combinada com filtros.
+     */
+    static Pageable apply(Pageable requested, boolean filtered) {
+        List<Sort.Order> orders = requested.getSort().toList();
+        if (orders.size() > 1) {
+            throw new IllegalArgumentException("Informe apenas um campo de ordenação.");
+        }
+
+        SortKey key = DEFAULT_KEY;
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (!orders.isEmpty()) {
+            Sort.Order order = orders.get(0);
+            key = resolve(order.getProperty());
+            direction = order.getDirection();
+        }
+        if (filtered && !key.allowedWithFilters) {
+            throw new IllegalArgumentException("Listagens filtradas só podem ser ordenadas por " + DEFAULT_KEY.publicName + ".");
+        }
+
+        Sort sort = Sort.by(direction, key.publicName).and(Sort.by(direction, TIEBREAK_PROPERTY));
+        return requested.isPaged()
+                ? PageRequest.of(requested.getPageNumber(), requested.getPageSize(), sort)
+                : Pageable.unpaged(sort);
+    }
+
+    private static SortKey resolve(String property) {
+        return Arrays.stream(SortKey.values())
+                .filter(key -> key.publicName.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Ordenação não suportada: '" + property
+                        + "'. Valores aceitos: " + Arrays.stream(SortKey.values()).map(SortKey::publicName).collect(Collectors.joining(", ")) + "."));
+    }
+}
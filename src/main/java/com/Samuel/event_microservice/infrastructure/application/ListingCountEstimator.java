@@ -0,0 +1,115 @@
+package com.Samuel.event_microservice.infrastructure.application;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.infrastructure.config.ListingCountProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Mantém os totais aproximados das listagens de eventos, por listagem e combinação de filtros.
+ * <p>
+ * O primeiro pedido de uma combinação conta os eventos na própria requisição; os seguintes recebem
+ * o total em cache. Quando ele passa de {@code app.listings.estimated-count.ttl}, continua sendo
+ * informado enquanto uma única recontagem é feita em segundo plano, de modo que nenhuma requisição
+ * posterior espera pelo {@code count(*)}.
+ * <p>
+ * Os totais ficam em um cache do Caffeine limitado a {@code app.listings.estimated-count.max-entries}
+ * combinações; uma combinação não pedida por {@code app.listings.estimated-count.idle-timeout} é
+ * descartada, para que filtros usados uma única vez não ocupem o cache indefinidamente.
+ * <p>
+ * O {@code pg_class.reltuples} não serve aqui: estima as linhas da tabela inteira, sem os filtros
+ * nem a restrição a eventos ativos.
+ */
+@Component
+@Slf4j
+public class ListingCountEstimator {
+
+    private final Cache<CountKey, CachedCount> counts;
+    private final long ttlNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public ListingCountEstimator(ListingCountProperties properties) {
+        this(properties.getTtl(), properties.getMaxEntries(), properties.getIdleTimeout(),
+                Executors.newVirtualThreadPerTaskExecutor(), System::nanoTime);
+    }
+
+    ListingCountEstimator(Duration ttl, int maxEntries, Duration idleTimeout, Executor refreshExecutor, LongSupplier nanoClock) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(idleTimeout)
+                .ticker(nanoClock::getAsLong)
+                .build();
+        this.ttlNanos = ttl.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.nanoClock = nanoClock;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Retorna o total aproximado de uma listagem.
+     *
+     * @param listing O nome da listagem (ex: {@code all} ou {@code upcoming}).
+     * @param filter Os filtros informados pelo cliente.
+     * @param counter A contagem exata, executada na primeira vez e nas recontagens.
+     * @return O total em cache, ou o total recém-contado.
+     */
+    public long estimate(String listing, EventFilter filter, LongSupplier counter) {
+        CountKey key = new CountKey(listing, filter);
+        CachedCount cached = counts.getIfPresent(key);
+        if (cached == null) {
+            long total = counter.getAsLong();
+            counts.put(key, new CachedCount(total, nanoClock.getAsLong()));
+            return total;
+        }
+        if (nanoClock.getAsLong() - cached.countedAt >= ttlNanos && cached.refreshing.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> refresh(key, cached, counter));
+        }
+        return cached.total;
+    }
+
+    private void refresh(CountKey key, CachedCount stale, LongSupplier counter) {
+        try {
+            counts.asMap().replace(key, stale, new CachedCount(counter.getAsLong(), nanoClock.getAsLong()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh the estimated count of the '{}' listing: {}", key.listing(), e.getMessage());
+            stale.refreshing.set(false);
+        }
+    }
+
+    private record CountKey(String listing, EventFilter filter) {
+    }
+
+    /**
+     * Um total em cache e se já há uma recontagem em andamento.
+     */
+    private static final class CachedCount {
+
+        private final long total;
+        private final long countedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        CachedCount(long total, long countedAt) {
+            this.total = total;
+            this.countedAt = countedAt;
+        }
+    }
+}
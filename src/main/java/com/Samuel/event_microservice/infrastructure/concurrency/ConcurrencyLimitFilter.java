@@ -0,0 +1,104 @@
+package com.Samuel.event_microservice.infrastructure.concurrency;
+
+import com.Samuel.event_microservice.infrastructure.dto.ErrorResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Filtro que descarta as requisições excedentes com {@code 503} imediato, em vez de deixá-las na
+ * fila do Tomcat até expirarem.
+ * <p>
+ * As leituras ({@code GET} e {@code HEAD}) e as escritas têm limitadores separados
+ * ({@link GradientConcurrencyLimiter}): uma onda de inscrições encolhe apenas o limite das
+ * escritas, e as leituras continuam sendo atendidas. O limite atual, as requisições em execução e
+ * as recusas de cada limitador são publicados nas métricas {@code http.concurrency.limit},
+ * {@code http.concurrency.in-flight} e {@code http.concurrency.rejected} (tag {@code limiter}).
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final LimitedRoute reads;
+    private final LimitedRoute writes;
+    private final Duration retryAfter;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(GradientConcurrencyLimiter readLimiter, GradientConcurrencyLimiter writeLimiter,
+                                  Duration retryAfter, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.reads = new LimitedRoute("reads", readLimiter, meterRegistry);
+        this.writes = new LimitedRoute("writes", writeLimiter, meterRegistry);
+        this.retryAfter = retryAfter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        LimitedRoute route = read ? reads : writes;
+        if (!route.limiter.tryAcquire()) {
+            route.rejected.increment();
+            log.debug("Shedding {} {}: {} limit of {} reached.", request.getMethod(), request.getRequestURI(),
+                    route.name, route.limiter.getLimit());
+            reject(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            route.limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponseDTO error = new ErrorResponseDTO(HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable",
+                "O serviço está sobrecarregado. Tente novamente em instantes.", request.getRequestURI());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * Um limitador e as suas métricas.
+     */
+    private static final class LimitedRoute {
+
+        private final String name;
+        private final GradientConcurrencyLimiter limiter;
+        private final Counter rejected;
+
+        LimitedRoute(String name, GradientConcurrencyLimiter limiter, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.limiter = limiter;
+            Gauge.builder("http.concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+                    .description("Limite atual de requisições simultâneas")
+                    .tag("limiter", name)
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency.in-flight", limiter, GradientConcurrencyLimiter::getInFlight)
+                    .description("Requisições em execução")
+                    .tag("limiter", name)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("http.concurrency.rejected")
+                    .description("Requisições recusadas por excederem o limite")
+                    .tag("limiter", name)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.Samuel.event_microservice.infrastructure.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite adaptativo de requisições simultâneas, ajustado pela latência observada (algoritmo de gradiente).
+ * <p>
+ * A latência de cada requisição concluída alimenta duas médias móveis: uma curta, que reflete a
+ * carga atual, e uma longa, que aproxima a latência sem fila. Enquanto a média curta se mantém
+ * perto da longa, o limite cresce aos poucos (raiz quadrada do limite por amostra, suavizada);
+ * quando ela sobe, o limite encolhe na proporção {@code longa / curta}, até a metade por ajuste.
+ * As amostras de quando o limite nem estava sendo usado pela metade são ignoradas, para que um
+ * período ocioso não infle o limite.
+ * <p>
+ * A admissão ({@link #tryAcquire}) é apenas um CAS no número de requisições em execução.
+ */
+public class GradientConcurrencyLimiter {
+
+    // Amostras de cada média móvel da latência
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+
+    // Estado do ajuste, protegido pelo monitor do limitador
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+
+    /**
+     * @param initialLimit O limite inicial.
+     * @param minLimit     O menor limite possível.
+     * @param maxLimit     O maior limite possível.
+     * @param tolerance    Quanto a latência atual pode exceder a latência sem fila antes de o limite encolher (ex: 1.5).
+     * @param smoothing    O peso de cada ajuste no limite, entre 0 e 1.
+     */
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Tenta ocupar uma vaga. Cada chamada bem-sucedida deve ser seguida de {@link #release}.
+     *
+     * @return {@code true} se a requisição pode ser executada; {@code false} se o limite foi atingido.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga e registra a latência da requisição.
+     *
+     * @param rttNanos A duração da requisição, em nanossegundos.
+     */
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtCompletion);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        double rtt = Math.max(1, rttNanos);
+        if (longRtt == 0) {
+            shortRtt = rtt;
+            longRtt = rtt;
+            return;
+        }
+        shortRtt += (rtt - shortRtt) / SHORT_WINDOW;
+        longRtt += (rtt - longRtt) / LONG_WINDOW;
+
+        // A latência voltou a cair bem abaixo da referência: a referência acompanha mais rápido
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // Pouca carga: a latência não diz nada sobre o limite
+        if (inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(tolerance * longRtt / shortRtt, 1.0));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(estimatedLimit * (1 - smoothing) + newLimit * smoothing, maxLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * @return O limite atual de requisições simultâneas.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return O número de requisições em execução.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
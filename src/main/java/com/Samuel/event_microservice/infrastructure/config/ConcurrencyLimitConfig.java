@@ -0,0 +1,37 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import com.Samuel.event_microservice.infrastructure.concurrency.ConcurrencyLimitFilter;
+import com.Samuel.event_microservice.infrastructure.concurrency.GradientConcurrencyLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registra o filtro de limite adaptativo de concorrência nos endpoints de eventos, quando habilitado.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                                                               ObjectMapper objectMapper,
+                                                                               MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(
+                limiter(properties, properties.getReads()), limiter(properties, properties.getWrites()),
+                properties.getRetryAfter(), objectMapper, meterRegistry));
+        registration.addUrlPatterns("/events/*");
+        // Antes dos demais filtros da aplicação: a recusa não deve custar nada além dela mesma
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private static GradientConcurrencyLimiter limiter(ConcurrencyLimitProperties properties, ConcurrencyLimitProperties.Limit limit) {
+        return new GradientConcurrencyLimiter(limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit(),
+                properties.getTolerance(), properties.getSmoothing());
+    }
+}
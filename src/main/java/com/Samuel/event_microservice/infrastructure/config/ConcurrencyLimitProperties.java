@@ -0,0 +1,97 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Carrega as propriedades de configuração dos limites adaptativos de concorrência.
+ * Mapeia as propriedades sob o prefixo 'app.concurrency-limit'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+@Getter
+@Setter
+@Validated
+public class ConcurrencyLimitProperties {
+
+    /**
+     * Se as requisições excedentes aos endpoints de eventos são recusadas com 503.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Quanto a latência atual pode exceder a latência sem fila antes de o limite encolher.
+     */
+    @DecimalMin("1.0")
+    private double tolerance = 1.5;
+
+    /**
+     * O peso de cada ajuste no limite, entre 0 e 1.
+     */
+    @DecimalMin("0.01")
+    @DecimalMax("1.0")
+    private double smoothing = 0.2;
+
+    /**
+     * O valor do cabeçalho {@code Retry-After} das requisições recusadas.
+     */
+    @NotNull
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Os limites das leituras (GET e HEAD).
+     */
+    @Valid
+    private Limit reads = new Limit(50, 10, 500);
+
+    /**
+     * Os limites das escritas (POST, PUT, PATCH e DELETE).
+     */
+    @Valid
+    private Limit writes = new Limit(20, 2, 200);
+
+    /**
+     * Limites de um tipo de requisição.
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /**
+         * O limite de requisições simultâneas na inicialização.
+         */
+        @Min(1)
+        private int initialLimit;
+
+        /**
+         * O menor limite a que o ajuste pode chegar.
+         */
+        @Min(1)
+        private int minLimit;
+
+        /**
+         * O maior limite a que o ajuste pode chegar.
+         */
+        @Min(1)
+        private int maxLimit;
+
+        public Limit() {
+        }
+
+        Limit(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
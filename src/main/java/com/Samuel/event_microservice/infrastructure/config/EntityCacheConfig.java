@@ -0,0 +1,79 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import com.Samuel.event_microservice.infrastructure.entitycache.EventCacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Configura o cache de segundo nível e o cache de consultas do Hibernate sobre o JCache do Caffeine,
+ * em memória em cada instância.
+ * <p>
+ * As regiões são criadas aqui, com tamanho e validade limitados, e o Hibernate falha na
+ * inicialização se alguma região usada não existir. O {@link CacheManager} pertence ao Hibernate,
+ * que o fecha junto com a fábrica de EntityManagers; cada contexto cria o seu, com um URI próprio.
+ * <p>
+ * As estatísticas do Hibernate ficam habilitadas para que os acertos, as falhas e as inserções de
+ * cada região apareçam em {@code /actuator/metrics} ({@code hibernate.second.level.cache.requests}
+ * e {@code hibernate.second.level.cache.puts}, tag {@code region}).
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    private static final String CAFFEINE_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(EntityCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager(properties));
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static CacheManager cacheManager(EntityCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CAFFEINE_PROVIDER);
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("event-microservice:" + UUID.randomUUID()), EntityCacheConfig.class.getClassLoader());
+        cacheManager.createCache(EventCacheRegions.EVENT,
+                region(properties.getEventMaxEntries(), properties.getEventTtl()));
+        cacheManager.createCache(EventCacheRegions.EVENT_QUERIES,
+                region(properties.getQueryMaxEntries(), properties.getQueryTtl()));
+        // Não usada pelas consultas, que indicam a própria região, mas criada pelo Hibernate na inicialização
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(properties.getQueryMaxEntries(), properties.getQueryTtl()));
+        // Instante da última alteração de cada tabela; não pode expirar antes dos resultados que valida
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                region(null, null));
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(Long maxEntries, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (maxEntries != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+}
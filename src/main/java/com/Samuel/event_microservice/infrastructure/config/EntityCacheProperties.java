@@ -0,0 +1,60 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Carrega as propriedades de configuração do cache de segundo nível do Hibernate.
+ * Mapeia as propriedades sob o prefixo 'app.entity-cache'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.entity-cache")
+@Getter
+@Setter
+@Validated
+public class EntityCacheProperties {
+
+    /**
+     * Por quanto tempo um evento carregado fica no cache, no máximo.
+     */
+    @NotNull
+    private Duration eventTtl = Duration.ofMinutes(10);
+
+    /**
+     * O número máximo de eventos no cache.
+     */
+    @Min(1)
+    private long eventMaxEntries = 10_000;
+
+    /**
+     * Por quanto tempo o resultado de uma listagem fica no cache de consultas, no máximo.
+     */
+    @NotNull
+    private Duration queryTtl = Duration.ofSeconds(30);
+
+    /**
+     * O número máximo de resultados de listagens no cache de consultas.
+     */
+    @Min(1)
+    private long queryMaxEntries = 1_000;
+
+    /**
+     * Intervalo da busca pelos eventos alterados por outras instâncias, que são removidos do cache.
+     */
+    @NotNull
+    private Duration invalidationInterval = Duration.ofSeconds(5);
+
+    /**
+     * Quanto cada busca volta antes da anterior. Cobre as transações ainda não confirmadas na busca
+     * anterior, a diferença entre os relógios das instâncias e o atraso das réplicas de leitura.
+     */
+    @NotNull
+    private Duration invalidationLookback = Duration.ofMinutes(1);
+}
@@ -0,0 +1,38 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Carrega as propriedades de configuração da serialização das alterações por evento (mailbox).
+ * Mapeia as propriedades sob o prefixo 'app.mutations.mailbox'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.mutations.mailbox")
+@Getter
+@Setter
+@Validated
+public class EventMailboxProperties {
+
+    /**
+     * Se as alterações de cada evento são enfileiradas e aplicadas por um único escritor.
+     * Desabilitado, cada alteração roda em uma transação própria na thread da requisição.
+     */
+    private boolean enabled = false;
+
+    /**
+     * O número de filas (cada uma com a sua virtual thread); os eventos são distribuídos entre elas pelo ID.
+     */
+    @Min(1)
+    private int workers = 16;
+
+    /**
+     * O número máximo de alterações confirmadas em uma mesma transação.
+     */
+    @Min(1)
+    private int maxBatchSize = 64;
+}
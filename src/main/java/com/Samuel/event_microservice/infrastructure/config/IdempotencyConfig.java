@@ -0,0 +1,24 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import com.Samuel.event_microservice.infrastructure.idempotency.IdempotencyFilter;
+import com.Samuel.event_microservice.infrastructure.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra o filtro de idempotência nos endpoints de eventos.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper,
+                                                                       IdempotencyProperties properties) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(new IdempotencyFilter(
+                idempotencyStore, objectMapper, Math.toIntExact(properties.getMaxBodySize().toBytes())));
+        registration.addUrlPatterns("/events/*");
+        return registration;
+    }
+}
@@ -0,0 +1,55 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Carrega as propriedades de configuração das chaves de idempotência.
+ * Mapeia as propriedades sob o prefixo 'app.idempotency'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.idempotency")
+@Getter
+@Setter
+@Validated
+public class IdempotencyProperties {
+
+    /**
+     * Por quanto tempo a resposta de uma chave fica gravada; depois disso a chave pode ser reutilizada.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * O número máximo de respostas mantidas no cache em memória (LRU) à frente da tabela.
+     */
+    @Min(0)
+    private int cacheSize = 10_000;
+
+    /**
+     * O intervalo da limpeza das chaves expiradas.
+     */
+    @NotNull
+    private Duration purgeInterval = Duration.ofMinutes(10);
+
+    /**
+     * O número máximo de chaves expiradas removidas por comando na limpeza periódica.
+     */
+    @Min(1)
+    private int purgeBatchSize = 1_000;
+
+    /**
+     * O tamanho máximo do corpo de uma requisição com {@code Idempotency-Key}. O corpo é lido
+     * inteiro em memória para calcular o hash; corpos maiores são recusados com {@code 413}.
+     */
+    @NotNull
+    private DataSize maxBodySize = DataSize.ofKilobytes(64);
+}
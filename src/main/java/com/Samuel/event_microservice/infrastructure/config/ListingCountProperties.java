@@ -0,0 +1,41 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Carrega as propriedades de configuração dos totais aproximados das listagens ({@code count=estimated}).
+ * Mapeia as propriedades sob o prefixo 'app.listings.estimated-count'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.listings.estimated-count")
+@Getter
+@Setter
+@Validated
+public class ListingCountProperties {
+
+    /**
+     * Por quanto tempo um total é informado antes de ser recontado em segundo plano.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * O número máximo de combinações de filtros com o total em cache.
+     */
+    @Min(1)
+    private int maxEntries = 1_000;
+
+    /**
+     * Por quanto tempo uma combinação de filtros sem novos pedidos mantém o total em cache.
+     */
+    @NotNull
+    private Duration idleTimeout = Duration.ofMinutes(10);
+}
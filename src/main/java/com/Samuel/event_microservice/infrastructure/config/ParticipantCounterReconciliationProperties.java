@@ -0,0 +1,35 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Carrega as propriedades de configuração da reconciliação do contador de participantes registrados.
+ * Mapeia as propriedades sob o prefixo 'app.participant-counters.reconciliation'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.participant-counters.reconciliation")
+@Getter
+@Setter
+@Validated
+public class ParticipantCounterReconciliationProperties {
+
+    /**
+     * O intervalo entre duas varreduras completas dos eventos.
+     */
+    @NotNull
+    private Duration interval = Duration.ofMinutes(5);
+
+    /**
+     * O número de eventos comparados por comando.
+     */
+    @Min(1)
+    private int chunkSize = 1000;
+}
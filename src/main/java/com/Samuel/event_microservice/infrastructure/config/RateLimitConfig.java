@@ -0,0 +1,49 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import com.Samuel.event_microservice.core.ports.RateLimitBucketRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.ratelimit.LocalRateLimitStore;
+import com.Samuel.event_microservice.infrastructure.ratelimit.RateLimitFilter;
+import com.Samuel.event_microservice.infrastructure.ratelimit.RateLimitRule;
+import com.Samuel.event_microservice.infrastructure.ratelimit.RateLimitStore;
+import com.Samuel.event_microservice.infrastructure.ratelimit.SharedRateLimitStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Registra o filtro de limite de requisições por cliente, quando habilitado. Os baldes ficam na
+ * memória da instância ou, com {@code app.rate-limit.shared}, no banco.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitStore rateLimitStore(RateLimitProperties properties, RateLimitBucketRepositoryPort bucketRepository) {
+        if (properties.isShared()) {
+            return new SharedRateLimitStore(bucketRepository, properties.getEvictionBatchSize());
+        }
+        return new LocalRateLimitStore();
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties, RateLimitStore rateLimitStore,
+                                                                   ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        List<RateLimitRule> rules = properties.getGroups().entrySet().stream()
+                .map(entry -> RateLimitRule.of(entry.getKey(), entry.getValue().getMethods(), entry.getValue().getPaths(),
+                        entry.getValue().getCapacity(), entry.getValue().getRefillPerSecond()))
+                .toList();
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(rules, rateLimitStore, properties.getApiKeyHeader(), objectMapper, meterRegistry));
+        registration.addUrlPatterns("/*");
+        // Antes do limite de concorrência: o cliente acima do seu limite não ocupa vaga de ninguém
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
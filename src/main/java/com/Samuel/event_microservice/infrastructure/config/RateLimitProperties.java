@@ -0,0 +1,96 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Carrega as propriedades de configuração do limite de requisições por cliente.
+ * Mapeia as propriedades sob o prefixo 'app.rate-limit'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Getter
+@Setter
+@Validated
+public class RateLimitProperties {
+
+    /**
+     * Se as requisições que excedem o limite do cliente são recusadas com 429.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Se os baldes ficam no banco, compartilhados entre as instâncias, em vez de na memória de cada uma.
+     */
+    private boolean shared = false;
+
+    /**
+     * O cabeçalho que identifica o cliente; sem ele, o cliente é identificado pelo IP.
+     */
+    @NotBlank
+    private String apiKeyHeader = "X-API-Key";
+
+    /**
+     * O intervalo entre as remoções dos baldes cheios (clientes inativos).
+     */
+    @NotNull
+    private Duration evictionInterval = Duration.ofMinutes(1);
+
+    /**
+     * O número máximo de baldes removidos do banco por comando, no modo compartilhado.
+     */
+    @Min(1)
+    private int evictionBatchSize = 1_000;
+
+    /**
+     * Os grupos de endpoints limitados, por nome. Cada cliente tem um balde por grupo.
+     */
+    @Valid
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    /**
+     * O limite de um grupo de endpoints.
+     */
+    @Getter
+    @Setter
+    public static class Group {
+
+        /**
+         * Os métodos HTTP do grupo; vazio para todos.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * Os padrões de caminho do grupo (ex: {@code /events/{id}/register}, com {@code *} para um segmento).
+         */
+        @NotEmpty
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * O tamanho do balde: quantas requisições o cliente pode fazer de uma vez.
+         */
+        @Min(1)
+        private int capacity = 1;
+
+        /**
+         * Quantos tokens o balde recebe por segundo.
+         */
+        @DecimalMin("0.001")
+        private double refillPerSecond = 1;
+    }
+}
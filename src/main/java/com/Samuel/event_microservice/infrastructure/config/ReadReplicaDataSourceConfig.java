@@ -0,0 +1,97 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import com.Samuel.event_microservice.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import com.Samuel.event_microservice.infrastructure.datasource.ReadYourWritesFilter;
+import com.Samuel.event_microservice.infrastructure.datasource.ReplicaHealthMonitor;
+import com.Samuel.event_microservice.infrastructure.datasource.ReplicaNode;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configura o roteamento de leituras para réplicas quando 'app.datasource.replicas.enabled' é true.
+ * <p>
+ * O DataSource exposto à aplicação (JPA, Flyway, etc.) é um {@link LazyConnectionDataSourceProxy}
+ * sobre o {@link ReadReplicaRoutingDataSource}: escritas e migrações vão ao primário e as transações
+ * {@code readOnly} às réplicas saudáveis. Com a propriedade desabilitada, o DataSource padrão do
+ * Spring Boot é usado sem alterações.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    /**
+     * O pool do banco primário, construído a partir de 'spring.datasource' e 'spring.datasource.hikari'.
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                     DataSourceProperties dataSourceProperties,
+                                                                     ReplicaDataSourceProperties replicaProperties) {
+        List<ReplicaNode> replicas = new ArrayList<>();
+        List<String> urls = replicaProperties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i));
+            replica.setUsername(replicaProperties.getUsername() != null
+                    ? replicaProperties.getUsername() : dataSourceProperties.determineUsername());
+            replica.setPassword(replicaProperties.getPassword() != null
+                    ? replicaProperties.getPassword() : dataSourceProperties.determinePassword());
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            // Não falha a inicialização da aplicação se a réplica estiver fora do ar
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaNode(replica.getPoolName(), replica));
+        }
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    /**
+     * O DataSource principal da aplicação. O proxy adia a obtenção da conexão física até a primeira
+     * instrução, quando a flag readOnly da transação já está disponível para o roteamento.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(ReadReplicaRoutingDataSource readReplicaRoutingDataSource,
+                                                     ReplicaDataSourceProperties replicaProperties) {
+        return new ReplicaHealthMonitor(readReplicaRoutingDataSource, replicaProperties.getMaxReplicationLag());
+    }
+
+    /**
+     * Registra o filtro de leitura-após-escrita, desabilitado quando a janela configurada é zero.
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaDataSourceProperties replicaProperties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(replicaProperties.getReadYourWritesWindow(), Clock.systemUTC()));
+        registration.setEnabled(!replicaProperties.getReadYourWritesWindow().isZero());
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
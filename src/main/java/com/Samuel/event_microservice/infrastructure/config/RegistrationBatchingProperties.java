@@ -0,0 +1,42 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Carrega as propriedades de configuração do agrupamento de inscrições em lotes.
+ * Mapeia as propriedades sob o prefixo 'app.registrations.batching'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.registrations.batching")
+@Getter
+@Setter
+@Validated
+public class RegistrationBatchingProperties {
+
+    /**
+     * Se as inscrições individuais são agrupadas por evento e gravadas em lote.
+     * Desabilitado, cada inscrição roda em uma transação própria.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Por quanto tempo a primeira inscrição de um lote aguarda outras inscrições no mesmo evento.
+     * Valores maiores resultam em lotes maiores (mais vazão) e em mais latência por inscrição.
+     */
+    @NotNull
+    private Duration maxDelay = Duration.ofMillis(5);
+
+    /**
+     * O número de inscrições que fecha o lote antes do prazo.
+     */
+    @Min(1)
+    private int maxBatchSize = 100;
+}
@@ -0,0 +1,78 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Carrega as propriedades de configuração da fila de inscrições assíncronas.
+ * Mapeia as propriedades sob o prefixo 'app.registrations.queue'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.registrations.queue")
+@Getter
+@Setter
+@Validated
+public class RegistrationQueueProperties {
+
+    /**
+     * O número máximo de pedidos pendentes; acima dele, novos pedidos são recusados com 503.
+     */
+    @Min(1)
+    private int capacity = 10_000;
+
+    /**
+     * O número de pedidos lidos e processados por transação da drenagem.
+     */
+    @Min(1)
+    private int batchSize = 50;
+
+    /**
+     * Por quanto tempo os pedidos de uma rodada ficam reservados para ela. Deve cobrir o processamento
+     * da rodada inteira: depois dele, os pedidos ainda pendentes podem ser processados de novo.
+     */
+    @NotNull
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    /**
+     * O intervalo entre as verificações da fila quando ela está vazia.
+     */
+    @NotNull
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /**
+     * O intervalo da recontagem dos pedidos pendentes, usada no controle da capacidade.
+     */
+    @NotNull
+    private Duration depthRefreshInterval = Duration.ofSeconds(1);
+
+    /**
+     * O valor do cabeçalho {@code Retry-After} quando a fila está cheia.
+     */
+    @NotNull
+    private Duration retryAfter = Duration.ofSeconds(5);
+
+    /**
+     * Por quanto tempo um pedido processado continua disponível para consulta pelo ticket.
+     */
+    @NotNull
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * O intervalo entre os expurgos dos pedidos processados há mais tempo que a retenção.
+     */
+    @NotNull
+    private Duration purgeInterval = Duration.ofMinutes(10);
+
+    /**
+     * O número máximo de pedidos removidos por comando do expurgo.
+     */
+    @Min(1)
+    private int purgeBatchSize = 1_000;
+}
@@ -0,0 +1,71 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Carrega as propriedades de configuração das réplicas de leitura do banco de dados.
+ * Mapeia as propriedades sob o prefixo 'app.datasource.replicas'.
+ * <p>
+ * Quando habilitado, as transações {@code readOnly} são roteadas para as réplicas e
+ * as demais para o banco primário configurado em 'spring.datasource'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+@Getter
+@Setter
+@Validated
+public class ReplicaDataSourceProperties {
+
+    /**
+     * Habilita o roteamento de leituras para as réplicas.
+     */
+    private boolean enabled = false;
+
+    /**
+     * As URLs JDBC das réplicas. Usuário e senha são herdados de 'spring.datasource' quando não informados.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * O usuário das réplicas (opcional).
+     */
+    private String username;
+
+    /**
+     * A senha das réplicas (opcional).
+     */
+    private String password;
+
+    /**
+     * O tamanho máximo do pool de conexões de cada réplica.
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * O intervalo entre as verificações de saúde das réplicas.
+     */
+    @NotNull
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * O atraso de replicação máximo tolerado antes de a réplica ser retirada do roteamento.
+     */
+    @NotNull
+    private Duration maxReplicationLag = Duration.ofSeconds(10);
+
+    /**
+     * Janela de leitura-após-escrita: durante este período após uma escrita, as leituras
+     * do mesmo cliente são enviadas ao primário. {@code 0} desabilita o recurso.
+     */
+    @NotNull
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
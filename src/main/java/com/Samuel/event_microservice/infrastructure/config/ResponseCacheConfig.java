@@ -0,0 +1,39 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import com.Samuel.event_microservice.infrastructure.responsecache.ResponseCacheFilter;
+import com.Samuel.event_microservice.infrastructure.responsecache.SerializedResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.web.SpringDataWebProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registra o cache de respostas serializadas das listagens de eventos, quando habilitado.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.response-cache", name = "enabled", havingValue = "true")
+public class ResponseCacheConfig {
+
+    @Bean
+    public SerializedResponseCache serializedResponseCache(ResponseCacheProperties properties) {
+        return new SerializedResponseCache(properties.getTtl(), properties.getMaxEntries());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(ResponseCacheProperties properties,
+                                                                           SerializedResponseCache serializedResponseCache,
+                                                                           SpringDataWebProperties springDataWebProperties,
+                                                                           MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(new ResponseCacheFilter(
+                serializedResponseCache, properties.getPaths(), springDataWebProperties.getPageable().getDefaultPageSize(),
+                meterRegistry));
+        registration.addUrlPatterns("/events/*");
+        // Depois do limite por cliente e antes do limite de concorrência: um acerto no cache não
+        // ocupa vaga nem distorce a latência medida pelo limitador
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 8);
+        return registration;
+    }
+}
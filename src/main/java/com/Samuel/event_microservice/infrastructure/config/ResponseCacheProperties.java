@@ -0,0 +1,50 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Carrega as propriedades de configuração do cache de respostas serializadas das listagens.
+ * Mapeia as propriedades sob o prefixo 'app.response-cache'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.response-cache")
+@Getter
+@Setter
+@Validated
+public class ResponseCacheProperties {
+
+    /**
+     * Se as respostas das listagens são guardadas já serializadas.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Por quanto tempo uma resposta guardada é servida, no máximo. Limita o atraso com que as
+     * alterações feitas por outras instâncias e pelas tarefas agendadas aparecem.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofSeconds(2);
+
+    /**
+     * O número máximo de respostas guardadas.
+     */
+    @Min(1)
+    private int maxEntries = 1_000;
+
+    /**
+     * Os caminhos das listagens guardadas.
+     */
+    @NotEmpty
+    private List<String> paths = new ArrayList<>(List.of("/events", "/events/upcoming"));
+}
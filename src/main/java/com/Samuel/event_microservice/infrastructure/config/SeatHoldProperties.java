@@ -0,0 +1,48 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Carrega as propriedades de configuração das reservas temporárias de vagas.
+ * Mapeia as propriedades sob o prefixo 'app.holds'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.holds")
+@Getter
+@Setter
+@Validated
+public class SeatHoldProperties {
+
+    /**
+     * Habilita as reservas de vagas. As reservas vivem em memória, então só podem ser
+     * habilitadas quando uma única instância da aplicação atende as requisições.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Por quanto tempo uma vaga fica reservada antes de expirar.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * A resolução da roda de expiração: uma reserva expira no máximo um tick após o seu prazo.
+     */
+    @NotNull
+    private Duration tick = Duration.ofSeconds(1);
+
+    /**
+     * O número de posições da roda de expiração. Prazos maiores que {@code tick * wheelSize}
+     * dão mais de uma volta na roda antes de vencer.
+     */
+    @Min(1)
+    private int wheelSize = 512;
+}
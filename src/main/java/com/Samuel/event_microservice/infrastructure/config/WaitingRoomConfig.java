@@ -0,0 +1,28 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import com.Samuel.event_microservice.infrastructure.admission.WaitingRoom;
+import com.Samuel.event_microservice.infrastructure.admission.WaitingRoomInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registra a sala de espera nos endpoints de inscrição, quando habilitada.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.registrations.waiting-room", name = "enabled", havingValue = "true")
+public class WaitingRoomConfig implements WebMvcConfigurer {
+
+    private final WaitingRoom waitingRoom;
+
+    public WaitingRoomConfig(WaitingRoom waitingRoom) {
+        this.waitingRoom = waitingRoom;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new WaitingRoomInterceptor(waitingRoom))
+                .addPathPatterns("/events/*/register", "/events/*/register/group");
+    }
+}
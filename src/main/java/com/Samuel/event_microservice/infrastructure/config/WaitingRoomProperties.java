@@ -0,0 +1,61 @@
+package com.Samuel.event_microservice.infrastructure.config;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Carrega as propriedades de configuração da sala de espera das inscrições.
+ * Mapeia as propriedades sob o prefixo 'app.registrations.waiting-room'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.registrations.waiting-room")
+@Getter
+@Setter
+@Validated
+public class WaitingRoomProperties {
+
+    /**
+     * Se as inscrições exigem um token de admissão da sala de espera.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Quantos clientes de cada evento são admitidos por segundo. Deve acompanhar a vazão de
+     * inscrições medida (ex: nos testes de carga).
+     */
+    @DecimalMin("0.1")
+    private double admissionRate = 50;
+
+    /**
+     * O número máximo de inscrições admitidas em execução ao mesmo tempo nesta instância; enquanto
+     * ele for atingido, ninguém mais é admitido.
+     */
+    @Min(1)
+    private int maxInFlight = 20;
+
+    /**
+     * O intervalo em que novos clientes são admitidos.
+     */
+    @NotNull
+    private Duration tick = Duration.ofMillis(100);
+
+    /**
+     * Por quanto tempo um token de admissão é válido a partir da entrada na fila.
+     */
+    @NotNull
+    private Duration tokenTtl = Duration.ofMinutes(30);
+
+    /**
+     * O segredo usado para assinar os tokens. Se vazio, um segredo aleatório é gerado na
+     * inicialização e os tokens só valem nesta instância até ela reiniciar.
+     */
+    private String secret = "";
+}
@@ -1,25 +1,45 @@
 package com.Samuel.event_microservice.infrastructure.controller;
 
+import com.Samuel.event_microservice.core.data.EventVersion;
+import com.Samuel.event_microservice.core.data.ListingCountMode;
+import com.Samuel.event_microservice.infrastructure.dto.CursorPageResponseDTO;
 import com.Samuel.event_microservice.infrastructure.dto.PageResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.SliceResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventFilterDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventRequestDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventStatsResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventSuggestionDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventUpdateDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupRegistrationResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupSubscriptionRequestDTO;
 import com.Samuel.event_microservice.infrastructure.dto.subscription.RegisteredParticipantDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.RegistrationTicketResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.SeatHoldResponseDTO;
 import com.Samuel.event_microservice.infrastructure.dto.subscription.SubscriptionRequestDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.WaitlistResponseDTO;
 import com.Samuel.event_microservice.infrastructure.dto.SuccessResponseDTO;
 import com.Samuel.event_microservice.core.usecases.EventUseCase;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Controlador REST que expõe os endpoints para gerenciamento de eventos.
@@ -36,43 +56,178 @@ public class EventController {
     private final EventUseCase eventUseCase;
 
     /**
-     * Retorna uma página de todos os eventos (futuros e passados), ordenados por data.
+     * Retorna uma página de todos os eventos ativos (futuros e passados), ordenados por data.
+     * <p>
+     * A resposta traz o ETag da página, calculado a partir das versões dos eventos carregados. Se o
+     * cliente enviar {@code If-None-Match}, as versões da página são consultadas primeiro: se o valor
+     * ainda for o atual, responde 304 sem carregar os eventos; senão, os eventos são carregados pelo
+     * ID, reaproveitando o total da consulta de versões.
+     * <p>
+     * Com {@code count=none}, a página não traz o total nem o número de páginas e a listagem não
+     * executa o {@code count(*)}; com {@code count=estimated}, traz um total aproximado, mantido em cache.
      *
+     * @param filter Filtros opcionais (isRemote, location, startFrom, startTo, hasAvailableSpots), vindos da query string.
      * @param pageable Objeto injetado pelo Spring para controle de paginação e ordenação.
-     * @return Um {@link ResponseEntity} com status 200 OK e um DTO de resposta paginada.
+     * @param count Como o total é informado: {@code exact} (padrão), {@code none} ou {@code estimated}.
+     * @param request A requisição, usada para avaliar os cabeçalhos condicionais.
+     * @return Um {@link ResponseEntity} com status 200 OK e um {@link PageResponseDTO} (ou {@link SliceResponseDTO},
+     * sem contagem), ou 304 Not Modified.
      */
     @GetMapping
-    public ResponseEntity<PageResponseDTO<EventResponseDTO>> getAllEvents(
-            @PageableDefault(sort = "startDateTime", direction = Sort.Direction.ASC) Pageable pageable) {
-        log.info("Received request to get all events. Page: {}, Size: {}", pageable.getPageNumber(), pageable.getPageSize());
-        PageResponseDTO<EventResponseDTO> events = eventUseCase.getAllEvents(pageable);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<?> getAllEvents(
+            EventFilterDTO filter,
+            @PageableDefault(sort = "startDateTime", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            WebRequest request) {
+        log.info("Received request to get all events. Page: {}, Size: {}, Filter: {}", pageable.getPageNumber(), pageable.getPageSize(), filter);
+        ListingCountMode countMode = ListingCountMode.fromParameter(count);
+        if (countMode != ListingCountMode.EXACT) {
+            return sliceListing(request,
+                    () -> eventUseCase.getAllEventVersionsSlice(filter, pageable),
+                    () -> eventUseCase.getAllEventsSlice(filter, pageable, countMode == ListingCountMode.ESTIMATED));
+        }
+        return pageListing(request,
+                () -> eventUseCase.getAllEventVersions(filter, pageable),
+                () -> eventUseCase.getAllEvents(filter, pageable));
     }
 
     /**
      * Retorna uma página de eventos futuros, ordenados por data.
+     * Suporta requisições condicionais e o parâmetro {@code count} da mesma forma que {@link #getAllEvents}.
      *
+     * @param filter Filtros opcionais, os mesmos de {@link #getAllEvents}.
      * @param pageable Objeto injetado pelo Spring para controle de paginação e ordenação.
-     * @return Um {@link ResponseEntity} com status 200 OK e um DTO de resposta paginada.
+     * @param count Como o total é informado: {@code exact} (padrão), {@code none} ou {@code estimated}.
+     * @param request A requisição, usada para avaliar os cabeçalhos condicionais.
+     * @return Um {@link ResponseEntity} com status 200 OK e um {@link PageResponseDTO} (ou {@link SliceResponseDTO},
+     * sem contagem), ou 304 Not Modified.
      */
     @GetMapping("/upcoming")
-    public ResponseEntity<PageResponseDTO<EventResponseDTO>> getUpcomingEvents(
-            @PageableDefault(sort = "startDateTime", direction = Sort.Direction.ASC) Pageable pageable) {
-        log.info("Received request to get upcoming events. Page: {}, Size: {}", pageable.getPageNumber(), pageable.getPageSize());
-        PageResponseDTO<EventResponseDTO> events = eventUseCase.getUpcomingEvents(pageable);
+    public ResponseEntity<?> getUpcomingEvents(
+            EventFilterDTO filter,
+            @PageableDefault(sort = "startDateTime", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            WebRequest request) {
+        log.info("Received request to get upcoming events. Page: {}, Size: {}, Filter: {}", pageable.getPageNumber(), pageable.getPageSize(), filter);
+        ListingCountMode countMode = ListingCountMode.fromParameter(count);
+        if (countMode != ListingCountMode.EXACT) {
+            return sliceListing(request,
+                    () -> eventUseCase.getUpcomingEventVersionsSlice(filter, pageable),
+                    () -> eventUseCase.getUpcomingEventsSlice(filter, pageable, countMode == ListingCountMode.ESTIMATED));
+        }
+        return pageListing(request,
+                () -> eventUseCase.getUpcomingEventVersions(filter, pageable),
+                () -> eventUseCase.getUpcomingEvents(filter, pageable));
+    }
+
+    /**
+     * Responde uma listagem com contagem. Sem {@code If-None-Match}, carrega a página uma única vez
+     * e calcula o ETag a partir dela; com o cabeçalho, consulta antes apenas as versões da página.
+     * Nos dois casos, a listagem executa uma única contagem.
+     */
+    private ResponseEntity<?> pageListing(WebRequest request, Supplier<Page<EventVersion>> versions,
+                                          Supplier<PageResponseDTO<EventResponseDTO>> page) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            PageResponseDTO<EventResponseDTO> events = page.get();
+            // Sem If-None-Match, checkNotModified apenas grava o ETag na resposta
+            request.checkNotModified(EventETags.of(events));
+            return ResponseEntity.ok(events);
+        }
+        Page<EventVersion> eventVersions = versions.get();
+        String eTag = EventETags.of(eventVersions);
+        if (request.checkNotModified(eTag)) {
+            log.debug("Events page not modified. ETag: {}", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(eventUseCase.getEventPage(eventVersions));
+    }
+
+    /**
+     * Responde uma listagem sem contagem, como {@link #pageListing}. Quando o {@code If-None-Match}
+     * está desatualizado, a página é lida de novo: sem contagem, as duas consultas são limitadas ao
+     * tamanho da página.
+     */
+    private ResponseEntity<?> sliceListing(WebRequest request, Supplier<Slice<EventVersion>> versions,
+                                           Supplier<SliceResponseDTO<EventResponseDTO>> slice) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String eTag = EventETags.of(versions.get());
+            if (request.checkNotModified(eTag)) {
+                log.debug("Events page not modified. ETag: {}", eTag);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+        }
+        SliceResponseDTO<EventResponseDTO> events = slice.get();
+        request.checkNotModified(EventETags.of(events));
         return ResponseEntity.ok(events);
     }
 
+    /**
+     * Busca eventos ativos pelo título e pela descrição, ordenados por relevância e paginados por cursor.
+     *
+     * @param q Os termos da busca (aspas, "or" e "-" são suportados).
+     * @param cursor O cursor {@code next_cursor} da página anterior; ausente para a primeira página.
+     * @param size O tamanho da página (limitado a 100).
+     * @return Um {@link ResponseEntity} com status 200 OK e um DTO de resposta paginada por cursor.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponseDTO<EventResponseDTO>> searchEvents(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Received request to search events. Query: '{}', Size: {}", q, size);
+        CursorPageResponseDTO<EventResponseDTO> events = eventUseCase.searchEvents(q, cursor, size);
+        return ResponseEntity.ok(events);
+    }
+
+    /**
+     * Sugere eventos ativos e futuros cujo título começa com o prefixo informado (autocompletar).
+     *
+     * @param prefix O prefixo digitado, comparado sem distinção de maiúsculas e acentos.
+     * @param limit O número máximo de sugestões (limitado a 20).
+     * @return Um {@link ResponseEntity} com status 200 OK e as sugestões, ordenadas pela data de início.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EventSuggestionDTO>> suggestEvents(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Received request to suggest events. Prefix: '{}', Limit: {}", prefix, limit);
+        List<EventSuggestionDTO> suggestions = eventUseCase.suggestEvents(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * Retorna os contadores dos eventos por status e a soma dos participantes registrados.
+     * A resposta é lida de uma linha de contadores por status, sem percorrer os eventos.
+     *
+     * @return Um {@link ResponseEntity} com status 200 OK e o {@link EventStatsResponseDTO}.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<EventStatsResponseDTO> getEventStats() {
+        log.debug("Received request to get event stats.");
+        return ResponseEntity.ok(eventUseCase.getEventStats());
+    }
+
     /**
      * Retorna os detalhes de um evento específico pelo seu ID.
+     * <p>
+     * A resposta traz o ETag (versão do evento) e o Last-Modified, calculados a partir do próprio
+     * evento carregado. Se o cliente enviar {@code If-None-Match} (ou {@code If-Modified-Since})
+     * ainda válido, responde 304 sem corpo. O evento vem do cache de consultas na maioria das
+     * requisições, então validadores e corpo saem sempre da mesma leitura.
      *
      * @param eventId O UUID do evento, fornecido como uma variável de caminho.
-     * @return Um {@link ResponseEntity} com status 200 OK e o {@link EventResponseDTO} do evento.
+     * @param request A requisição, usada para avaliar os cabeçalhos condicionais.
+     * @return Um {@link ResponseEntity} com status 200 OK e o {@link EventResponseDTO} do evento, ou 304 Not Modified.
      */
     @GetMapping("/{eventId}")
-    public ResponseEntity<EventResponseDTO> getEventDetails(@PathVariable UUID eventId) {
+    public ResponseEntity<EventResponseDTO> getEventDetails(@PathVariable UUID eventId, WebRequest request) {
         log.info("Received request to get details for event with ID: {}", eventId);
         EventResponseDTO event = eventUseCase.getEventDetails(eventId);
+        // checkNotModified também grava ETag e Last-Modified na resposta, inclusive quando ela é completa
+        if (request.checkNotModified(EventETags.of(event), EventETags.lastModified(event))) {
+            log.debug("Event {} not modified. Version: {}", eventId, event.version());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(event);
     }
 
@@ -129,34 +284,155 @@ public class EventController {
 
     /**
      * Registra um participante em um evento específico.
+     * <p>
+     * Com {@code waitlist=true}, um evento lotado não recusa a inscrição: o participante entra
+     * na lista de espera e é inscrito automaticamente, por ordem de chegada, quando uma vaga abrir.
+     * <p>
+     * Com {@code async=true}, a inscrição é apenas aceita e processada fora da requisição; o
+     * resultado é consultado em {@code GET /registrations/{ticket}}.
      *
      * @param eventId O UUID do evento, fornecido como uma variável de caminho.
+     * @param waitlist Se o participante deve entrar na lista de espera caso o evento esteja lotado.
+     * @param async Se a inscrição deve ser enfileirada em vez de processada na requisição.
      * @param subscriptionRequest O DTO com o e-mail do participante a ser inscrito.
-     * @return Um {@link ResponseEntity} com status 200 OK e uma mensagem de sucesso.
+     * @return Um {@link ResponseEntity} com status 200 OK e uma mensagem de sucesso, com status
+     *         202 Accepted e o {@link WaitlistResponseDTO} se o participante entrou na lista de espera,
+     *         ou com status 202 Accepted, o header 'Location' e o {@link RegistrationTicketResponseDTO}
+     *         se a inscrição foi enfileirada.
      */
     @PostMapping("/{eventId}/register")
-    public ResponseEntity<SuccessResponseDTO> registerParticipant(
+    public ResponseEntity<?> registerParticipant(
             @PathVariable UUID eventId,
+            @RequestParam(defaultValue = "false") boolean waitlist,
+            @RequestParam(defaultValue = "false") boolean async,
             @RequestBody @Valid SubscriptionRequestDTO subscriptionRequest) {
         log.info("Received request to register participant {} for event {}", subscriptionRequest.participantEmail(), eventId);
-        eventUseCase.registerParticipant(eventId, subscriptionRequest);
+        if (async) {
+            if (waitlist) {
+                throw new IllegalArgumentException("A inscrição assíncrona não pode ser combinada com a lista de espera.");
+            }
+            RegistrationTicketResponseDTO ticket = eventUseCase.registerParticipantAsync(eventId, subscriptionRequest);
+            URI uri = ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path("/registrations/{ticket}")
+                    .buildAndExpand(ticket.ticket())
+                    .toUri();
+            return ResponseEntity.accepted().location(uri).body(ticket);
+        }
+        if (waitlist) {
+            Optional<WaitlistResponseDTO> waitlistEntry = eventUseCase.registerParticipantOrWaitlist(eventId, subscriptionRequest);
+            if (waitlistEntry.isPresent()) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(waitlistEntry.get());
+            }
+        } else {
+            eventUseCase.registerParticipant(eventId, subscriptionRequest);
+        }
         SuccessResponseDTO response = new SuccessResponseDTO("Inscrição realizada com sucesso!");
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Retorna a lista paginada de participantes registrados para um evento específico.
+     * Inscreve um grupo de participantes em um evento de uma só vez.
      *
      * @param eventId O UUID do evento, fornecido como uma variável de caminho.
-     * @param pageable Objeto injetado pelo Spring para controle de paginação e ordenação.
-     * @return Um {@link ResponseEntity} com status 200 OK e um DTO de resposta paginada.
+     * @param groupRequest O DTO com os e-mails dos participantes e o modo da inscrição.
+     * @return Um {@link ResponseEntity} com status 200 OK e o resultado de cada participante.
+     */
+    @PostMapping("/{eventId}/register/group")
+    public ResponseEntity<GroupRegistrationResponseDTO> registerGroup(
+            @PathVariable UUID eventId,
+            @RequestBody @Valid GroupSubscriptionRequestDTO groupRequest) {
+        log.info("Received request to register a group of {} participants for event {}", groupRequest.participantEmails().size(), eventId);
+        GroupRegistrationResponseDTO response = eventUseCase.registerGroup(eventId, groupRequest);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Cancela a inscrição de um participante em um evento, devolvendo a sua vaga.
+     *
+     * @param eventId O UUID do evento, fornecido como uma variável de caminho.
+     * @param participantEmail O e-mail do participante inscrito.
+     * @return Um {@link ResponseEntity} com status 200 OK e uma mensagem de sucesso.
+     */
+    @DeleteMapping("/{eventId}/participants/{participantEmail}")
+    public ResponseEntity<SuccessResponseDTO> unregisterParticipant(
+            @PathVariable UUID eventId,
+            @PathVariable String participantEmail) {
+        log.info("Received request to unregister participant {} from event {}", participantEmail, eventId);
+        eventUseCase.unregisterParticipant(eventId, participantEmail);
+        SuccessResponseDTO response = new SuccessResponseDTO("Inscrição cancelada com sucesso!");
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Reserva temporariamente uma vaga de um evento para um participante.
+     * A reserva deve ser confirmada antes do prazo retornado em {@code expiresAt}.
+     *
+     * @param eventId O UUID do evento, fornecido como uma variável de caminho.
+     * @param subscriptionRequest O DTO com o e-mail do participante.
+     * @return Um {@link ResponseEntity} com status 201 Created, o header 'Location' para a reserva,
+     *         e o {@link SeatHoldResponseDTO} no corpo.
+     */
+    @PostMapping("/{eventId}/holds")
+    public ResponseEntity<SeatHoldResponseDTO> holdSeat(
+            @PathVariable UUID eventId,
+            @RequestBody @Valid SubscriptionRequestDTO subscriptionRequest) {
+        log.info("Received request to hold a seat for participant {} in event {}", subscriptionRequest.participantEmail(), eventId);
+        SeatHoldResponseDTO seatHold = eventUseCase.holdSeat(eventId, subscriptionRequest);
+
+        URI uri = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{holdId}")
+                .buildAndExpand(seatHold.holdId())
+                .toUri();
+
+        return ResponseEntity.created(uri).body(seatHold);
+    }
+
+    /**
+     * Confirma uma reserva de vaga, inscrevendo o participante no evento.
+     *
+     * @param eventId O UUID do evento.
+     * @param holdId O UUID da reserva.
+     * @return Um {@link ResponseEntity} com status 200 OK e uma mensagem de sucesso.
+     */
+    @PostMapping("/{eventId}/holds/{holdId}/confirm")
+    public ResponseEntity<SuccessResponseDTO> confirmSeatHold(@PathVariable UUID eventId, @PathVariable UUID holdId) {
+        log.info("Received request to confirm seat hold {} for event {}", holdId, eventId);
+        eventUseCase.confirmSeatHold(eventId, holdId);
+        SuccessResponseDTO response = new SuccessResponseDTO("Inscrição realizada com sucesso!");
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Libera uma reserva de vaga antes do seu prazo.
+     *
+     * @param eventId O UUID do evento.
+     * @param holdId O UUID da reserva.
+     * @return Um {@link ResponseEntity} com status 200 OK e uma mensagem de sucesso.
+     */
+    @DeleteMapping("/{eventId}/holds/{holdId}")
+    public ResponseEntity<SuccessResponseDTO> releaseSeatHold(@PathVariable UUID eventId, @PathVariable UUID holdId) {
+        log.info("Received request to release seat hold {} for event {}", holdId, eventId);
+        eventUseCase.releaseSeatHold(eventId, holdId);
+        SuccessResponseDTO response = new SuccessResponseDTO("Reserva liberada com sucesso!");
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Retorna a lista de participantes registrados para um evento específico, paginada por cursor
+     * e ordenada pela data de inscrição.
+     *
+     * @param eventId O UUID do evento, fornecido como uma variável de caminho.
+     * @param cursor O cursor {@code next_cursor} da página anterior; ausente para a primeira página.
+     * @param size O tamanho da página (limitado a 100).
+     * @return Um {@link ResponseEntity} com status 200 OK e um DTO de resposta paginada por cursor.
      */
     @GetMapping("/{eventId}/participants")
-    public ResponseEntity<PageResponseDTO<RegisteredParticipantDTO>> getRegisteredParticipants(
+    public ResponseEntity<CursorPageResponseDTO<RegisteredParticipantDTO>> getRegisteredParticipants(
             @PathVariable UUID eventId,
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable) {
-        log.info("Received request to get participants for event {}. Page: {}, Size: {}", eventId, pageable.getPageNumber(), pageable.getPageSize());
-        PageResponseDTO<RegisteredParticipantDTO> participants = eventUseCase.getRegisteredParticipants(eventId, pageable);
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Received request to get participants for event {}. Size: {}", eventId, size);
+        CursorPageResponseDTO<RegisteredParticipantDTO> participants = eventUseCase.getRegisteredParticipants(eventId, cursor, size);
         return ResponseEntity.ok(participants);
     }
 }
@@ -0,0 +1,114 @@
+package com.Samuel.event_microservice.infrastructure.controller;
+
+import com.Samuel.event_microservice.core.data.EventVersion;
+import com.Samuel.event_microservice.infrastructure.dto.PageResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.SliceResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventResponseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Calcula os validadores HTTP (ETag e Last-Modified) das representações de eventos
+ * a partir das versões, consultadas à parte ou já carregadas com o corpo, sem serializá-lo.
+ * <p>
+ * Os ETags são fortes: a versão muda a cada alteração persistida do evento, inclusive
+ * nas inscrições, então dois ETags iguais garantem representações idênticas.
+ */
+final class EventETags {
+
+    private static final int PAGE_DIGEST_BYTES = 16;
+
+    private EventETags() {
+    }
+
+    /**
+     * @return O ETag de um evento: a sua versão.
+     */
+    static String of(EventResponseDTO event) {
+        return "\"" + event.version() + "\"";
+    }
+
+    /**
+     * O ETag de uma página depende do total de elementos e do id e da versão de cada evento,
+     * na ordem da página: muda quando um evento entra, sai, troca de posição ou é alterado.
+     *
+     * @return O ETag da página.
+     */
+    static String of(Page<EventVersion> page) {
+        return pageTag(page.getTotalElements(), page.getContent(), EventVersion::id, EventVersion::version);
+    }
+
+    /**
+     * O mesmo ETag de {@link #of(Page)}, calculado a partir da página já carregada.
+     *
+     * @return O ETag da página.
+     */
+    static String of(PageResponseDTO<EventResponseDTO> page) {
+        return pageTag(page.totalElements(), page.content(), EventResponseDTO::id, EventResponseDTO::version);
+    }
+
+    /**
+     * O ETag de uma página sem contagem depende de haver uma próxima página e do id e da versão
+     * de cada evento, na ordem da página. O total aproximado, quando informado, não entra no ETag.
+     *
+     * @return O ETag da página.
+     */
+    static String of(Slice<EventVersion> slice) {
+        return pageTag(sliceHead(slice.hasNext()), slice.getContent(), EventVersion::id, EventVersion::version);
+    }
+
+    /**
+     * O mesmo ETag de {@link #of(Slice)}, calculado a partir da página já carregada.
+     *
+     * @return O ETag da página.
+     */
+    static String of(SliceResponseDTO<EventResponseDTO> slice) {
+        return pageTag(sliceHead(slice.hasNext()), slice.content(), EventResponseDTO::id, EventResponseDTO::version);
+    }
+
+    /**
+     * @return A data da última alteração do evento, em milissegundos desde a época.
+     */
+    static long lastModified(EventResponseDTO event) {
+        return event.updatedAt().toEpochMilli();
+    }
+
+    // Valores negativos: nunca coincidem com o total de uma página completa
+    private static long sliceHead(boolean hasNext) {
+        return hasNext ? -2 : -1;
+    }
+
+    private static <T> String pageTag(long head, List<T> items, Function<T, UUID> id, ToLongFunction<T> version) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 3);
+        digest.update(buffer.putLong(head).flip());
+        for (T item : items) {
+            UUID itemId = id.apply(item);
+            buffer.clear()
+                    .putLong(itemId.getMostSignificantBits())
+                    .putLong(itemId.getLeastSignificantBits())
+                    .putLong(version.applyAsLong(item));
+            digest.update(buffer.flip());
+        }
+        byte[] hash = Arrays.copyOf(digest.digest(), PAGE_DIGEST_BYTES);
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível na JVM.", e);
+        }
+    }
+}
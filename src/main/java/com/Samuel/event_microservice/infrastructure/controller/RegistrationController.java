@@ -0,0 +1,38 @@
+package com.Samuel.event_microservice.infrastructure.controller;
+
+import com.Samuel.event_microservice.core.usecases.EventUseCase;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.RegistrationTicketResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Controlador REST que expõe a consulta das inscrições assíncronas
+ * ({@code POST /events/{eventId}/register?async=true}).
+ */
+@RestController
+@RequestMapping("/registrations")
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrationController {
+
+    private final EventUseCase eventUseCase;
+
+    /**
+     * Consulta a situação de um pedido de inscrição assíncrona.
+     *
+     * @param ticket O ticket devolvido quando o pedido foi aceito.
+     * @return Um {@link ResponseEntity} com status 200 OK e o {@link RegistrationTicketResponseDTO} do pedido.
+     */
+    @GetMapping("/{ticket}")
+    public ResponseEntity<RegistrationTicketResponseDTO> getRegistrationTicket(@PathVariable UUID ticket) {
+        log.info("Received request to get registration ticket {}", ticket);
+        return ResponseEntity.ok(eventUseCase.getRegistrationTicket(ticket));
+    }
+}
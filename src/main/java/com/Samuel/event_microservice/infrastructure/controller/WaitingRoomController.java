@@ -0,0 +1,57 @@
+package com.Samuel.event_microservice.infrastructure.controller;
+
+import com.Samuel.event_microservice.infrastructure.admission.WaitingRoom;
+import com.Samuel.event_microservice.infrastructure.admission.WaitingRoomInterceptor;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.WaitingRoomPositionDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Controlador REST da sala de espera das inscrições de um evento.
+ * <p>
+ * As operações não acessam o banco: a fila é mantida em memória pela {@link WaitingRoom}.
+ */
+@RestController
+@RequestMapping("/events/{eventId}/waiting-room")
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingRoomController {
+
+    private final WaitingRoom waitingRoom;
+
+    /**
+     * Coloca o cliente no fim da sala de espera do evento.
+     *
+     * @param eventId O UUID do evento, fornecido como uma variável de caminho.
+     * @return Um {@link ResponseEntity} com status 201 Created e o {@link WaitingRoomPositionDTO} com o token de admissão.
+     */
+    @PostMapping
+    public ResponseEntity<WaitingRoomPositionDTO> join(@PathVariable UUID eventId) {
+        log.debug("Received request to join the waiting room of event {}", eventId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(waitingRoom.join(eventId));
+    }
+
+    /**
+     * Consulta a posição do cliente na sala de espera do evento.
+     *
+     * @param eventId O UUID do evento, fornecido como uma variável de caminho.
+     * @param admissionToken O token recebido na entrada, no cabeçalho {@code Admission-Token}.
+     * @return Um {@link ResponseEntity} com status 200 OK e o {@link WaitingRoomPositionDTO} atual.
+     */
+    @GetMapping
+    public ResponseEntity<WaitingRoomPositionDTO> getPosition(
+            @PathVariable UUID eventId,
+            @RequestHeader(value = WaitingRoomInterceptor.HEADER_NAME, required = false) String admissionToken) {
+        return ResponseEntity.ok(waitingRoom.position(eventId, admissionToken));
+    }
+}
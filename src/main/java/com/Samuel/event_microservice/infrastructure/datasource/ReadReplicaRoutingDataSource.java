@@ -0,0 +1,119 @@
+package com.Samuel.event_microservice.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link DataSource} que roteia transações somente leitura para as réplicas e as demais para o primário.
+ * <p>
+ * A decisão é tomada no momento em que a conexão física é obtida, por isso este DataSource deve ser
+ * envolvido por um {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: só assim
+ * a flag {@code readOnly} da transação já está definida quando a primeira instrução é executada.
+ * <p>
+ * As réplicas saudáveis são escolhidas em round-robin. Se nenhuma estiver saudável, ou se a conexão
+ * com a réplica escolhida falhar, a leitura é enviada ao primário (failover).
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY_KEY = "primary";
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<ReplicaNode> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY_KEY, primary);
+        this.replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * @return As réplicas configuradas, na ordem de configuração.
+     */
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Determina o destino da conexão: o primário para escritas, para leituras fora de transação
+     * e quando o contexto de leitura-após-escrita está ativo; caso contrário, uma réplica saudável.
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        ReplicaNode replica = selectReplica();
+        return replica != null ? replica.getName() : PRIMARY_KEY;
+    }
+
+    /**
+     * Obtém a conexão do destino escolhido, retornando ao primário se a réplica estiver indisponível.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        ReplicaNode replica = selectReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getDataSource().getConnection();
+        } catch (SQLException e) {
+            if (replica.setHealthy(false)) {
+                log.warn("Replica {} is unavailable, falling back to primary: {}", replica.getName(), e.getMessage());
+            }
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Conexões com credenciais explícitas são sempre obtidas do primário.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private ReplicaNode selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWritesContext.isPrimaryRequired()) {
+            return null;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaNode candidate = replicas.get((start + i) % size);
+            if (candidate.isHealthy()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fecha os pools das réplicas, que são criados e gerenciados por este DataSource.
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (ReplicaNode replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
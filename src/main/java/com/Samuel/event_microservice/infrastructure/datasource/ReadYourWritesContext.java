@@ -0,0 +1,38 @@
+package com.Samuel.event_microservice.infrastructure.datasource;
+
+/**
+ * Contexto, por thread, que obriga as leituras a usar o banco primário.
+ * <p>
+ * É ativado pelo {@link ReadYourWritesFilter} quando o cliente realizou uma escrita recentemente,
+ * garantindo que ele leia os próprios dados mesmo que as réplicas ainda não os tenham recebido.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    /**
+     * Construtor privado para impedir a instanciação da classe utilitária.
+     */
+    private ReadYourWritesContext() {}
+
+    /**
+     * Obriga as leituras da thread atual a usar o banco primário.
+     */
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    /**
+     * @return true se as leituras da thread atual devem usar o banco primário.
+     */
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    /**
+     * Limpa o contexto da thread atual.
+     */
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
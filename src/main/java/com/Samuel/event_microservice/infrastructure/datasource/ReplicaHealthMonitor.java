@@ -0,0 +1,80 @@
+package com.Samuel.event_microservice.infrastructure.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Verifica periodicamente a saúde das réplicas de leitura.
+ * <p>
+ * Uma réplica é considerada saudável se aceita conexões, está em modo de recuperação (standby)
+ * e o seu atraso de replicação não excede o limite configurado. Réplicas que voltam a ficar
+ * saudáveis são reincluídas automaticamente no roteamento.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    /**
+     * Retorna 0 quando tudo o que foi recebido já foi aplicado; caso contrário, o tempo desde a última
+     * transação aplicada. Isso evita que um primário ocioso faça a réplica parecer atrasada.
+     */
+    static final String REPLICATION_LAG_QUERY = """
+            SELECT pg_is_in_recovery(),
+                   CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final ReadReplicaRoutingDataSource routingDataSource;
+    private final Duration maxReplicationLag;
+
+    /**
+     * Verifica todas as réplicas e atualiza o estado de roteamento de cada uma.
+     * A primeira verificação ocorre após um intervalo, pois as réplicas iniciam como saudáveis
+     * e uma falha de conexão já as retira do roteamento imediatamente.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval:5s}",
+            initialDelayString = "${app.datasource.replicas.health-check-interval:5s}")
+    public void checkReplicas() {
+        for (ReplicaNode replica : routingDataSource.getReplicas()) {
+            boolean healthy = isHealthy(replica);
+            if (replica.setHealthy(healthy)) {
+                if (healthy) {
+                    log.info("Replica {} is healthy again and was added back to read routing.", replica.getName());
+                } else {
+                    log.warn("Replica {} was removed from read routing.", replica.getName());
+                }
+            }
+        }
+    }
+
+    private boolean isHealthy(ReplicaNode replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_QUERY)) {
+            if (!resultSet.next()) {
+                return false;
+            }
+            boolean inRecovery = resultSet.getBoolean(1);
+            double lagSeconds = resultSet.getDouble(2);
+            if (!inRecovery) {
+                log.warn("Replica {} is not in recovery mode (promoted?).", replica.getName());
+                return false;
+            }
+            if (lagSeconds * 1000 > maxReplicationLag.toMillis()) {
+                log.warn("Replica {} is lagging {}s behind the primary.", replica.getName(), lagSeconds);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.debug("Health check failed for replica {}: {}", replica.getName(), e.getMessage());
+            return false;
+        }
+    }
+}
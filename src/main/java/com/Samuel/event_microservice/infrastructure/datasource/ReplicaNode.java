@@ -0,0 +1,38 @@
+package com.Samuel.event_microservice.infrastructure.datasource;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Representa uma réplica de leitura e o seu estado de saúde atual.
+ * <p>
+ * O estado é atualizado pelo {@link ReplicaHealthMonitor} e também de forma imediata
+ * pelo {@link ReadReplicaRoutingDataSource} quando uma conexão falha.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class ReplicaNode {
+
+    private final String name; // Nome lógico da réplica, usado em logs.
+    private final DataSource dataSource; // O pool de conexões da réplica.
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final AtomicBoolean healthy = new AtomicBoolean(true);
+
+    public boolean isHealthy() {
+        return healthy.get();
+    }
+
+    /**
+     * Atualiza o estado de saúde da réplica.
+     *
+     * @param healthy O novo estado.
+     * @return true se o estado mudou.
+     */
+    public boolean setHealthy(boolean healthy) {
+        return this.healthy.getAndSet(healthy) != healthy;
+    }
+}
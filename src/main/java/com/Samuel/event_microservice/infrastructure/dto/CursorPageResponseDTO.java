@@ -0,0 +1,28 @@
+package com.Samuel.event_microservice.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Um DTO genérico para representar uma resposta paginada por cursor (keyset).
+ * <p>
+ * Diferente do {@link PageResponseDTO}, não expõe número de página: o cliente avança
+ * enviando o {@code next_cursor} recebido na resposta anterior.
+ *
+ * @param <T> O tipo do conteúdo da página.
+ * @param content A lista de itens na página atual.
+ * @param size O tamanho da página solicitado.
+ * @param totalElements O número total de elementos, ou {@code null} quando não é calculado (omitido do JSON).
+ * @param nextCursor O cursor para buscar a próxima página, ou {@code null} se esta for a última.
+ * @param hasNext Indica se existe uma próxima página.
+ */
+public record CursorPageResponseDTO<T>(
+        List<T> content,
+        int size,
+        @JsonProperty("total_elements") @JsonInclude(JsonInclude.Include.NON_NULL) Long totalElements,
+        @JsonProperty("next_cursor") String nextCursor,
+        @JsonProperty("has_next") boolean hasNext
+) {
+}
@@ -0,0 +1,44 @@
+package com.Samuel.event_microservice.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Um DTO genérico para representar uma página sem contagem de elementos.
+ * <p>
+ * Diferente do {@link PageResponseDTO}, não informa o total exato nem o número de páginas, de modo
+ * que a listagem não executa um {@code count(*)}: a próxima página é detectada buscando uma linha a mais.
+ *
+ * @param <T> O tipo do conteúdo da página.
+ * @param content A lista de itens na página atual.
+ * @param page O número da página atual (baseado em zero).
+ * @param size O tamanho da página.
+ * @param hasNext Indica se existe uma próxima página.
+ * @param estimatedTotalElements O total aproximado de elementos, ou {@code null} quando não é solicitado (omitido do JSON).
+ */
+public record SliceResponseDTO<T>(
+        List<T> content,
+        int page,
+        int size,
+        @JsonProperty("has_next") boolean hasNext,
+        @JsonProperty("estimated_total_elements") @JsonInclude(JsonInclude.Include.NON_NULL) Long estimatedTotalElements
+) {
+    /**
+     * Construtor de conveniência para criar um SliceResponseDTO a partir de um objeto Slice do Spring Data.
+     *
+     * @param slice O objeto Slice retornado pelo repositório.
+     * @param estimatedTotalElements O total aproximado, ou {@code null}.
+     */
+    public SliceResponseDTO(Slice<T> slice, Long estimatedTotalElements) {
+        this(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext(),
+                estimatedTotalElements
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.Samuel.event_microservice.infrastructure.dto.event;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO com os filtros da listagem de eventos, recebidos como parâmetros de consulta.
+ *
+ * @param isRemote          Filtra eventos remotos ({@code true}) ou presenciais ({@code false}).
+ * @param location          Prefixo do local do evento (mínimo de 3 caracteres).
+ * @param startFrom         Data e hora mínima de início, no formato ISO (ex: 2025-01-01T00:00:00).
+ * @param startTo           Data e hora máxima de início, no formato ISO.
+ * @param hasAvailableSpots Se {@code true}, retorna apenas eventos que ainda têm vagas.
+ */
+public record EventFilterDTO(
+        Boolean isRemote,
+        String location,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTo,
+        Boolean hasAvailableSpots
+) {
+
+    /**
+     * Converte o DTO no objeto de filtro do domínio.
+     *
+     * @return O {@link EventFilter} correspondente.
+     */
+    public EventFilter toFilter() {
+        String normalizedLocation = location == null || location.isBlank() ? null : location.strip();
+        return new EventFilter(isRemote, normalizedLocation, startFrom, startTo, Boolean.TRUE.equals(hasAvailableSpots));
+    }
+}
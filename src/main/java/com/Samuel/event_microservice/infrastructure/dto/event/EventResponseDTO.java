@@ -1,8 +1,11 @@
 package com.Samuel.event_microservice.infrastructure.dto.event;
 
+import com.Samuel.event_microservice.core.data.EventSummary;
 import com.Samuel.event_microservice.core.models.Event;
 import com.Samuel.event_microservice.core.models.EventStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -22,6 +25,8 @@ import java.util.UUID;
  * @param location             O endereço físico do evento, caso seja presencial.
  * @param is_remote               Indica se o evento é remoto (online) ou não.
  * @param status               O status atual do evento (ex: ACTIVE, CANCELLED).
+ * @param version              A versão do evento, usada apenas no cálculo do ETag (não é serializada).
+ * @param updatedAt            O instante da última alteração, usado apenas como Last-Modified (não é serializado).
  */
 public record EventResponseDTO(
         UUID id,
@@ -35,7 +40,9 @@ public record EventResponseDTO(
         String eventUrl,
         String location,
         boolean is_remote,
-        EventStatus status
+        EventStatus status,
+        @JsonIgnore long version,
+        @JsonIgnore Instant updatedAt
 ) {
     /**
      * Construtor que cria um EventResponseDTO a partir de uma entidade Event.
@@ -55,7 +62,33 @@ public record EventResponseDTO(
                 event.getEventUrl(),
                 event.getLocation(),
                 event.isRemote(),
-                event.getStatus()
+                event.getStatus(),
+                event.getVersion(),
+                event.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Construtor que cria um EventResponseDTO a partir de um {@link EventSummary} das listagens.
+     *
+     * @param summary O resumo do evento do qual os dados serão copiados.
+     */
+    public EventResponseDTO(EventSummary summary) {
+        this(
+                summary.id(),
+                summary.title(),
+                summary.description(),
+                summary.startDateTime(),
+                summary.endDateTime(),
+                summary.maxParticipants(),
+                summary.registeredParticipants(),
+                summary.imageUrl(),
+                summary.eventUrl(),
+                summary.location(),
+                summary.remote(),
+                summary.status(),
+                summary.version(),
+                summary.updatedAt()
         );
     }
 }
@@ -0,0 +1,50 @@
+package com.Samuel.event_microservice.infrastructure.dto.event;
+
+import com.Samuel.event_microservice.core.models.EventStats;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DTO para representar os contadores dos eventos por status.
+ *
+ * @param activeEvents           O número de eventos ativos.
+ * @param cancelledEvents        O número de eventos cancelados.
+ * @param finishedEvents         O número de eventos finalizados.
+ * @param totalEvents            O número total de eventos.
+ * @param registeredParticipants A soma dos participantes registrados em todos os eventos.
+ * @param updatedAt              A data e hora da alteração mais recente dos contadores.
+ */
+public record EventStatsResponseDTO(
+        @JsonProperty("active_events") long activeEvents,
+        @JsonProperty("cancelled_events") long cancelledEvents,
+        @JsonProperty("finished_events") long finishedEvents,
+        @JsonProperty("total_events") long totalEvents,
+        @JsonProperty("registered_participants") long registeredParticipants,
+        @JsonProperty("updated_at") LocalDateTime updatedAt
+) {
+    /**
+     * Construtor que cria um EventStatsResponseDTO a partir das linhas de contadores de cada status.
+     *
+     * @param stats Os contadores de cada status; um status sem linha conta como zero.
+     */
+    public EventStatsResponseDTO(List<EventStats> stats) {
+        this(
+                eventCount(stats, EventStatus.ACTIVE),
+                eventCount(stats, EventStatus.CANCELLED),
+                eventCount(stats, EventStatus.FINISHED),
+                stats.stream().mapToLong(EventStats::getEventCount).sum(),
+                stats.stream().mapToLong(EventStats::getRegisteredParticipants).sum(),
+                stats.stream().map(EventStats::getUpdatedAt).filter(Objects::nonNull)
+                        .max(Comparator.naturalOrder()).orElse(null)
+        );
+    }
+
+    private static long eventCount(List<EventStats> stats, EventStatus status) {
+        return stats.stream().filter(row -> row.getStatus() == status).mapToLong(EventStats::getEventCount).sum();
+    }
+}
@@ -0,0 +1,28 @@
+package com.Samuel.event_microservice.infrastructure.dto.event;
+
+import com.Samuel.event_microservice.core.data.EventSuggestion;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO para representar uma sugestão do autocompletar de títulos de eventos.
+ *
+ * @param id            O identificador único do evento.
+ * @param title         O título do evento.
+ * @param startDateTime A data e hora de início do evento.
+ */
+public record EventSuggestionDTO(
+        UUID id,
+        String title,
+        LocalDateTime startDateTime
+) {
+    /**
+     * Construtor que cria um EventSuggestionDTO a partir de uma {@link EventSuggestion}.
+     *
+     * @param suggestion A sugestão da qual os dados serão copiados.
+     */
+    public EventSuggestionDTO(EventSuggestion suggestion) {
+        this(suggestion.id(), suggestion.title(), suggestion.startDateTime());
+    }
+}
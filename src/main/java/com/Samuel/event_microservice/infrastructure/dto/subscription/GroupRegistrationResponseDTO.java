@@ -0,0 +1,18 @@
+package com.Samuel.event_microservice.infrastructure.dto.subscription;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para encapsular os dados de resposta de uma inscrição em grupo.
+ *
+ * @param eventId    O identificador do evento.
+ * @param registered O número de participantes inscritos por esta requisição.
+ * @param results    O resultado de cada e-mail enviado, na ordem da requisição.
+ */
+public record GroupRegistrationResponseDTO(
+        UUID eventId,
+        int registered,
+        List<GroupRegistrationResultDTO> results
+) {
+}
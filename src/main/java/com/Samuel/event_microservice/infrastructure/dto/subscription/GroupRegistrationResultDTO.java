@@ -0,0 +1,26 @@
+package com.Samuel.event_microservice.infrastructure.dto.subscription;
+
+/**
+ * DTO com o resultado da inscrição de um participante de um grupo.
+ *
+ * @param participantEmail O e-mail do participante, como enviado na requisição.
+ * @param status           O resultado da inscrição do participante.
+ */
+public record GroupRegistrationResultDTO(
+        String participantEmail,
+        Status status
+) {
+    /**
+     * Resultados possíveis da inscrição de um participante do grupo.
+     */
+    public enum Status {
+        /** O participante foi inscrito. */
+        REGISTERED,
+        /** O participante já estava inscrito no evento. */
+        ALREADY_SUBSCRIBED,
+        /** O e-mail já apareceu antes na mesma requisição. */
+        DUPLICATED,
+        /** Não havia vaga livre para o participante. */
+        EVENT_FULL
+    }
+}
@@ -0,0 +1,25 @@
+package com.Samuel.event_microservice.infrastructure.dto.subscription;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para encapsular os dados de requisição para a inscrição de um grupo de participantes em um evento.
+ *
+ * @param participantEmails Os e-mails dos participantes, de 1 a 50. E-mails repetidos são inscritos uma única vez.
+ * @param bestEffort        Se {@code true}, inscreve quantos participantes couberem e informa o resultado de cada um;
+ *                          se {@code false} (padrão), inscreve todos ou nenhum.
+ */
+public record GroupSubscriptionRequestDTO(
+        @NotEmpty(message = "Informe ao menos um participante.")
+        @Size(max = 50, message = "Um grupo pode ter no máximo 50 participantes.")
+        List<@NotBlank(message = "O e-mail do participante não pode estar em branco.")
+             @Email(message = "Formato de e-mail inválido.") String> participantEmails,
+
+        boolean bestEffort
+) {
+}
@@ -0,0 +1,45 @@
+package com.Samuel.event_microservice.infrastructure.dto.subscription;
+
+import com.Samuel.event_microservice.core.models.RegistrationRequest;
+import com.Samuel.event_microservice.core.models.RegistrationRequestStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO para encapsular os dados de resposta de uma inscrição assíncrona.
+ *
+ * @param ticket           O identificador do pedido, usado para consultar o resultado.
+ * @param eventId          O identificador do evento.
+ * @param participantEmail O e-mail do participante.
+ * @param status           A situação do pedido ({@code PENDING} enquanto estiver na fila).
+ * @param message          O motivo da recusa, se houver.
+ * @param createdAt        A data e hora em que o pedido foi aceito.
+ * @param processedAt      A data e hora em que o pedido foi processado, se já foi.
+ */
+public record RegistrationTicketResponseDTO(
+        UUID ticket,
+        UUID eventId,
+        String participantEmail,
+        RegistrationRequestStatus status,
+        String message,
+        LocalDateTime createdAt,
+        LocalDateTime processedAt
+) {
+    /**
+     * Construtor que cria um RegistrationTicketResponseDTO a partir de uma entidade RegistrationRequest.
+     *
+     * @param registrationRequest A entidade RegistrationRequest da qual os dados serão copiados.
+     */
+    public RegistrationTicketResponseDTO(RegistrationRequest registrationRequest) {
+        this(
+                registrationRequest.getTicket(),
+                registrationRequest.getEventId(),
+                registrationRequest.getParticipantEmail(),
+                registrationRequest.getStatus(),
+                registrationRequest.getMessage(),
+                registrationRequest.getCreatedAt(),
+                registrationRequest.getProcessedAt()
+        );
+    }
+}
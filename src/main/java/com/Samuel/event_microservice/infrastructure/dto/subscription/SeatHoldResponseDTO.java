@@ -0,0 +1,35 @@
+package com.Samuel.event_microservice.infrastructure.dto.subscription;
+
+import com.Samuel.event_microservice.core.models.SeatHold;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO para encapsular os dados de resposta de uma reserva de vaga.
+ *
+ * @param holdId           O identificador da reserva, usado para confirmá-la ou liberá-la.
+ * @param eventId          O identificador do evento cuja vaga está reservada.
+ * @param participantEmail O e-mail do participante que detém a reserva.
+ * @param expiresAt        A data e hora em que a reserva expira se não for confirmada.
+ */
+public record SeatHoldResponseDTO(
+        UUID holdId,
+        UUID eventId,
+        String participantEmail,
+        LocalDateTime expiresAt
+) {
+    /**
+     * Construtor que cria um SeatHoldResponseDTO a partir de uma entidade SeatHold.
+     *
+     * @param seatHold A entidade SeatHold da qual os dados serão copiados.
+     */
+    public SeatHoldResponseDTO(SeatHold seatHold) {
+        this(
+                seatHold.getId(),
+                seatHold.getEventId(),
+                seatHold.getParticipantEmail(),
+                seatHold.getExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.Samuel.event_microservice.infrastructure.dto.subscription;
+
+import java.util.UUID;
+
+/**
+ * DTO para encapsular a posição de um cliente na sala de espera de um evento.
+ *
+ * @param eventId              O identificador do evento.
+ * @param admissionToken       O token de admissão, a ser enviado no cabeçalho {@code Admission-Token}.
+ * @param position             A posição do cliente na fila, a partir de 1.
+ * @param ahead                Quantos clientes ainda estão à frente; {@code 0} quando já admitido.
+ * @param admitted             Se o cliente já pode se inscrever.
+ * @param estimatedWaitSeconds A estimativa, em segundos, até a admissão.
+ */
+public record WaitingRoomPositionDTO(
+        UUID eventId,
+        String admissionToken,
+        long position,
+        long ahead,
+        boolean admitted,
+        long estimatedWaitSeconds
+) {
+}
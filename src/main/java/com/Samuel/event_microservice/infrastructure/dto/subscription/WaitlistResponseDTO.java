@@ -0,0 +1,17 @@
+package com.Samuel.event_microservice.infrastructure.dto.subscription;
+
+import java.util.UUID;
+
+/**
+ * DTO para encapsular os dados de resposta de uma entrada na lista de espera.
+ *
+ * @param eventId          O identificador do evento lotado.
+ * @param participantEmail O e-mail do participante na lista de espera.
+ * @param position         A posição do participante na fila no momento da entrada (começando em 1).
+ */
+public record WaitlistResponseDTO(
+        UUID eventId,
+        String participantEmail,
+        long position
+) {
+}
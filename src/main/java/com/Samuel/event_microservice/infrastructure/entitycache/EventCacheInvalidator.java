@@ -0,0 +1,100 @@
+package com.Samuel.event_microservice.infrastructure.entitycache;
+
+import com.Samuel.event_microservice.core.models.Event;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Remove eventos do cache de segundo nível quando a linha é alterada fora do Hibernate.
+ * <p>
+ * As alterações feitas pelas entidades e pelos comandos {@code @Modifying} já são invalidadas
+ * pelo próprio Hibernate. Os comandos nativos que alteram o evento dentro de um {@code SELECT}
+ * (inscrições em grupo e promoções da lista de espera), as alterações feitas por outras instâncias
+ * e as leituras das réplicas ainda atrasadas passam por aqui: apenas a entrada do evento alterado
+ * é removida, e as consultas guardadas sobre a tabela de eventos (listagens e resumos, que podem
+ * conter o contador antigo) deixam de valer pelo mesmo registro de alterações por tabela que o
+ * Hibernate usa nas suas próprias escritas, sem esvaziar a região {@code events.queries}.
+ */
+@Component
+@Slf4j
+public class EventCacheInvalidator {
+
+    // O espaço de consulta das entidades Event, o mesmo declarado nos comandos nativos
+    private static final String[] EVENT_TABLE = {"event"};
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EventCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Remove o evento do cache ao fim da transação atual, ou imediatamente se não houver
+     * transação. Removido antes do commit, o evento poderia voltar ao cache com o estado antigo,
+     * lido por outra transação. As consultas sobre a tabela de eventos já deixam de ser guardadas
+     * até o fim da transação, como nas escritas do próprio Hibernate.
+     *
+     * @param eventId O ID do evento alterado.
+     */
+    public void evictAfterCommit(UUID eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(eventId);
+            return;
+        }
+        invalidateQueries((timestamps, session) -> timestamps.preInvalidate(EVENT_TABLE, session));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // Também no rollback: a pré-invalidação mantém as consultas fora do cache até aqui
+                evict(eventId);
+            }
+        });
+    }
+
+    /**
+     * Remove imediatamente um evento do cache e invalida as consultas guardadas sobre a tabela de eventos.
+     *
+     * @param eventId O ID do evento alterado.
+     */
+    public void evict(UUID eventId) {
+        entityManagerFactory.getCache().evict(Event.class, eventId);
+        invalidateQueries((timestamps, session) -> timestamps.invalidate(EVENT_TABLE, session));
+        log.debug("Evicted event {} from the second-level cache.", eventId);
+    }
+
+    /**
+     * Remove imediatamente vários eventos do cache e invalida as consultas guardadas sobre a tabela de eventos.
+     *
+     * @param eventIds Os IDs dos eventos alterados.
+     */
+    public void evict(Collection<UUID> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        eventIds.forEach(eventId -> entityManagerFactory.getCache().evict(Event.class, eventId));
+        invalidateQueries((timestamps, session) -> timestamps.invalidate(EVENT_TABLE, session));
+        log.debug("Evicted {} events from the second-level cache.", eventIds.size());
+    }
+
+    /**
+     * Registra a alteração da tabela de eventos no cache de timestamps, que o Hibernate consulta antes
+     * de devolver um resultado guardado. A sessão temporária não abre conexão: serve apenas de contexto.
+     */
+    private void invalidateQueries(BiConsumer<TimestampsCache, SharedSessionContractImplementor> invalidation) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        try (SessionImplementor session = (SessionImplementor) sessionFactory.openSession()) {
+            invalidation.accept(sessionFactory.getCache().getTimestampsCache(), session);
+        }
+    }
+}
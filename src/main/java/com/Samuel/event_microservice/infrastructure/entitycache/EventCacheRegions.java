@@ -0,0 +1,22 @@
+package com.Samuel.event_microservice.infrastructure.entitycache;
+
+/**
+ * Nomes das regiões do cache de segundo nível do Hibernate usadas pelos eventos.
+ */
+public final class EventCacheRegions {
+
+    /**
+     * Entidades {@code Event} carregadas pelo ID; deve ser a mesma região declarada no {@code @Cache} da entidade.
+     */
+    public static final String EVENT = "event";
+
+    /**
+     * Resultados das listagens de eventos ativos e dos resumos buscados pelo ID.
+     */
+    public static final String EVENT_QUERIES = "events.queries";
+
+    /**
+     * Construtor privado para impedir a instanciação da classe utilitária.
+     */
+    private EventCacheRegions() {}
+}
@@ -1,11 +1,22 @@
 package com.Samuel.event_microservice.infrastructure.exceptions;
 
+import com.Samuel.event_microservice.core.exceptions.AdmissionTokenInvalidException;
 import com.Samuel.event_microservice.core.exceptions.EventFullException;
 import com.Samuel.event_microservice.core.exceptions.EventNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.GroupRegistrationRejectedException;
+import com.Samuel.event_microservice.core.exceptions.NotAdmittedYetException;
+import com.Samuel.event_microservice.core.exceptions.RegistrationQueueFullException;
+import com.Samuel.event_microservice.core.exceptions.RegistrationTicketNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SeatHoldNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SeatHoldsDisabledException;
 import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionNotFoundException;
 import com.Samuel.event_microservice.infrastructure.dto.ErrorResponseDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -82,6 +93,124 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponseDTO);
     }
 
+    /**
+     * Trata a exceção para quando uma reserva de vaga não é encontrada ou já expirou.
+     */
+    @ExceptionHandler(SeatHoldNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponseDTO> handleSeatHoldNotFoundException(SeatHoldNotFoundException ex, HttpServletRequest request) {
+        log.warn("Seat hold not found for request [{}]: {}", request.getRequestURI(), ex.getMessage());
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponseDTO);
+    }
+
+    /**
+     * Trata a exceção para quando as reservas de vagas estão desabilitadas na implantação.
+     */
+    @ExceptionHandler(SeatHoldsDisabledException.class)
+    @ResponseStatus(HttpStatus.NOT_IMPLEMENTED)
+    public ResponseEntity<ErrorResponseDTO> handleSeatHoldsDisabledException(SeatHoldsDisabledException ex, HttpServletRequest request) {
+        log.warn("Seat holds disabled for request [{}]: {}", request.getRequestURI(), ex.getMessage());
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.NOT_IMPLEMENTED.value(),
+                "Not Implemented",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(errorResponseDTO);
+    }
+
+    /**
+     * Trata a exceção para quando uma inscrição não é encontrada.
+     */
+    @ExceptionHandler(SubscriptionNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponseDTO> handleSubscriptionNotFoundException(SubscriptionNotFoundException ex, HttpServletRequest request) {
+        log.warn("Subscription not found for request [{}]: {}", request.getRequestURI(), ex.getMessage());
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponseDTO);
+    }
+
+    /**
+     * Trata a exceção para quando um pedido de inscrição assíncrona não é encontrado.
+     */
+    @ExceptionHandler(RegistrationTicketNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponseDTO> handleRegistrationTicketNotFoundException(RegistrationTicketNotFoundException ex, HttpServletRequest request) {
+        log.warn("Registration ticket not found for request [{}]: {}", request.getRequestURI(), ex.getMessage());
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponseDTO);
+    }
+
+    /**
+     * Trata a exceção para quando a fila de inscrições assíncronas está cheia.
+     * O cabeçalho {@code Retry-After} indica, em segundos, quando o cliente deve tentar de novo.
+     */
+    @ExceptionHandler(RegistrationQueueFullException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorResponseDTO> handleRegistrationQueueFullException(RegistrationQueueFullException ex, HttpServletRequest request) {
+        log.warn("Registration queue full for request [{}]: {}", request.getRequestURI(), ex.getMessage());
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(errorResponseDTO);
+    }
+
+    /**
+     * Trata a exceção para quando uma inscrição chega sem um token de admissão válido da sala de espera.
+     */
+    @ExceptionHandler(AdmissionTokenInvalidException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    public ResponseEntity<ErrorResponseDTO> handleAdmissionTokenInvalidException(AdmissionTokenInvalidException ex, HttpServletRequest request) {
+        log.warn("Invalid admission token for request [{}]: {}", request.getRequestURI(), ex.getMessage());
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.FORBIDDEN.value(),
+                "Forbidden",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponseDTO);
+    }
+
+    /**
+     * Trata a exceção para quando a vez do cliente na sala de espera ainda não chegou.
+     * O cabeçalho {@code Retry-After} indica, em segundos, a estimativa até a admissão.
+     */
+    @ExceptionHandler(NotAdmittedYetException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<ErrorResponseDTO> handleNotAdmittedYetException(NotAdmittedYetException ex, HttpServletRequest request) {
+        log.debug("Registration not admitted yet for request [{}]: {} ahead", request.getRequestURI(), ex.getAhead());
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(errorResponseDTO);
+    }
+
     /**
      * Trata a exceção para quando um evento está lotado.
      */
@@ -114,6 +243,58 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponseDTO);
     }
 
+    /**
+     * Trata a exceção para quando o evento foi alterado por outra requisição entre a leitura e a gravação
+     * (a versão do evento mudou). O cliente pode repetir a operação sobre o estado atual.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponseDTO> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("Concurrent modification detected [{}]: {}", request.getRequestURI(), ex.getMessage());
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "O evento foi alterado por outra requisição. Tente novamente.",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponseDTO);
+    }
+
+    /**
+     * Trata a exceção para quando uma inscrição em grupo no modo "tudo ou nada" é recusada,
+     * informando o motivo de cada participante que não pôde ser inscrito.
+     */
+    @ExceptionHandler(GroupRegistrationRejectedException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponseDTO> handleGroupRegistrationRejectedException(GroupRegistrationRejectedException ex, HttpServletRequest request) {
+        log.warn("Group registration rejected for request [{}]: {}", request.getRequestURI(), ex.getFailures());
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                ex.getMessage(),
+                request.getRequestURI(),
+                ex.getFailures()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponseDTO);
+    }
+
+    /**
+     * Trata a violação de uma restrição do banco causada por uma requisição concorrente,
+     * como duas inscrições simultâneas do mesmo participante no mesmo evento.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponseDTO> handleDataIntegrityViolationException(DataIntegrityViolationException ex, HttpServletRequest request) {
+        log.warn("Data integrity violation for request [{}]: {}", request.getRequestURI(), ex.getMostSpecificCause().getMessage());
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "A operação conflita com uma alteração feita por outra requisição. Tente novamente.",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponseDTO);
+    }
+
     /**
      * Trata exceções de argumentos ilegais, como datas no passado ou número de participantes inválido.
      */
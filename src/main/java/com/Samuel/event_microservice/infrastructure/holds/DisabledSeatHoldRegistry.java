@@ -0,0 +1,55 @@
+package com.Samuel.event_microservice.infrastructure.holds;
+
+import com.Samuel.event_microservice.core.exceptions.SeatHoldsDisabledException;
+import com.Samuel.event_microservice.core.models.SeatHold;
+import com.Samuel.event_microservice.core.ports.SeatHoldRegistryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Registro usado quando as reservas de vagas estão desabilitadas ({@code app.holds.enabled=false}),
+ * o padrão. Nenhuma vaga fica reservada, e os pedidos de reserva são recusados.
+ * <p>
+ * O {@link InMemorySeatHoldRegistry} só é consistente com uma única instância da aplicação;
+ * com várias instâncias, as reservas devem permanecer desabilitadas.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.holds", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class DisabledSeatHoldRegistry implements SeatHoldRegistryPort {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SeatHoldsDisabledException sempre, pois as reservas estão desabilitadas.
+     */
+    @Override
+    public boolean tryHold(SeatHold seatHold, int availableSeats) {
+        throw new SeatHoldsDisabledException();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SeatHoldsDisabledException sempre, pois as reservas estão desabilitadas.
+     */
+    @Override
+    public Optional<SeatHold> claim(UUID eventId, UUID holdId) {
+        throw new SeatHoldsDisabledException();
+    }
+
+    @Override
+    public int activeHolds(UUID eventId) {
+        return 0;
+    }
+
+    /**
+     * Nenhuma reserva expira, então o ouvinte nunca é chamado.
+     */
+    @Override
+    public void addExpiryListener(Consumer<UUID> listener) {
+    }
+}
@@ -0,0 +1,277 @@
+package com.Samuel.event_microservice.infrastructure.holds;
+
+import com.Samuel.event_microservice.core.models.SeatHold;
+import com.Samuel.event_microservice.core.ports.SeatHoldRegistryPort;
+import com.Samuel.event_microservice.core.ports.SeatHoldRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.SeatHoldProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Registro em memória das reservas de vagas ativas.
+ * <p>
+ * As reservas ficam agrupadas por evento e por e-mail do participante; a verificação de
+ * vagas e o registro de uma reserva são atômicos por evento ({@link ConcurrentHashMap#compute}).
+ * A expiração é feita por uma {@link TimingWheel} avançada por uma única thread a cada tick:
+ * as reservas vencidas saem do registro e as suas linhas são removidas da tabela
+ * {@code seat_hold} em um único comando, sem varrer a tabela.
+ * <p>
+ * A tabela serve apenas para recuperação: quando a aplicação sobe, as reservas ainda
+ * válidas são restauradas e as expiradas, descartadas. O registro é local à instância, então
+ * as reservas só são consistentes com uma única instância da aplicação atendendo as
+ * requisições de reserva e de inscrição. Por isso ele só é criado quando as reservas são
+ * habilitadas explicitamente ({@code app.holds.enabled=true}); caso contrário, o
+ * {@link DisabledSeatHoldRegistry} recusa as reservas.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.holds", name = "enabled", havingValue = "true")
+@Slf4j
+public class InMemorySeatHoldRegistry implements SeatHoldRegistryPort {
+
+    private final SeatHoldRepositoryPort seatHoldRepository;
+    private final SeatHoldProperties properties;
+    private final Clock clock;
+    private final TimingWheel<SeatHold> wheel;
+
+    // Reservas por evento e, dentro de cada evento, por e-mail; alteradas apenas dentro de compute
+    private final Map<UUID, Map<String, SeatHold>> holdsByEvent = new ConcurrentHashMap<>();
+    private final Map<UUID, SeatHold> holdsById = new ConcurrentHashMap<>();
+    private final List<Consumer<UUID>> expiryListeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService sweeper;
+
+    @Autowired
+    public InMemorySeatHoldRegistry(SeatHoldRepositoryPort seatHoldRepository, SeatHoldProperties properties) {
+        this(seatHoldRepository, properties, Clock.systemDefaultZone());
+    }
+
+    InMemorySeatHoldRegistry(SeatHoldRepositoryPort seatHoldRepository, SeatHoldProperties properties, Clock clock) {
+        this.seatHoldRepository = seatHoldRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(properties.getTick(), properties.getWheelSize(), clock.millis());
+    }
+
+    /**
+     * Inicia a thread que avança a roda de expiração.
+     */
+    @PostConstruct
+    public void start() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-hold-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickMillis = properties.getTick().toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * Restaura as reservas ainda válidas quando a aplicação termina de subir e descarta as expiradas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        try {
+            LocalDateTime now = now();
+            List<UUID> expired = new ArrayList<>();
+            int restored = 0;
+            for (SeatHold hold : seatHoldRepository.findAll()) {
+                if (hold.isExpired(now)) {
+                    expired.add(hold.getId());
+                } else if (restore(hold, true)) {
+                    restored++;
+                }
+            }
+            if (!expired.isEmpty()) {
+                seatHoldRepository.deleteAllByIdInBatch(expired);
+            }
+            log.info("Seat hold registry recovered {} active holds and discarded {} expired ones.", restored, expired.size());
+        } catch (Exception e) {
+            log.error("Failed to recover seat holds: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uma reserva do mesmo participante que já venceu, mas ainda não foi varrida, é substituída.
+     * Se a transação corrente sofrer rollback, a reserva é retirada do registro.
+     */
+    @Override
+    public boolean tryHold(SeatHold seatHold, int availableSeats) {
+        LocalDateTime now = now();
+        boolean[] accepted = {false};
+        holdsByEvent.compute(seatHold.getEventId(), (eventId, holds) -> {
+            Map<String, SeatHold> current = holds != null ? holds : new ConcurrentHashMap<>();
+            SeatHold existing = current.get(seatHold.getParticipantEmail());
+            if (existing != null && !existing.isExpired(now)) {
+                throw new IllegalStateException("Este participante já possui uma reserva ativa para este evento.");
+            }
+            int otherHolds = current.size() - (existing != null ? 1 : 0);
+            if (otherHolds >= availableSeats) {
+                return holds;
+            }
+            if (existing != null) {
+                holdsById.remove(existing.getId());
+            }
+            current.put(seatHold.getParticipantEmail(), seatHold);
+            holdsById.put(seatHold.getId(), seatHold);
+            accepted[0] = true;
+            return current;
+        });
+        if (accepted[0]) {
+            wheel.schedule(seatHold, toMillis(seatHold.getExpiresAt()));
+            onRollback(() -> remove(seatHold));
+        }
+        return accepted[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Se a transação corrente sofrer rollback, a reserva volta ao registro, caso ainda não tenha expirado.
+     */
+    @Override
+    public Optional<SeatHold> claim(UUID eventId, UUID holdId) {
+        SeatHold hold = holdsById.get(holdId);
+        if (hold == null || !hold.getEventId().equals(eventId) || hold.isExpired(now()) || !remove(hold)) {
+            return Optional.empty();
+        }
+        onRollback(() -> restore(hold, false)); // O agendamento original na roda continua valendo
+        return Optional.of(hold);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Inclui reservas vencidas há menos de um tick, que ainda não foram varridas.
+     */
+    @Override
+    public int activeHolds(UUID eventId) {
+        Map<String, SeatHold> holds = holdsByEvent.get(eventId);
+        return holds != null ? holds.size() : 0;
+    }
+
+    /**
+     * Avança a roda até o instante atual, retira do registro as reservas vencidas e remove as
+     * suas linhas da tabela. As linhas de reservas já confirmadas ou liberadas não existem mais,
+     * e o comando simplesmente não as encontra.
+     */
+    void sweep() {
+        try {
+            List<SeatHold> due = wheel.advanceTo(clock.millis());
+            if (due.isEmpty()) {
+                return;
+            }
+            // Reservas confirmadas ou liberadas antes do vencimento não estão mais no registro
+            Set<UUID> eventsWithFreedSeats = due.stream()
+                    .filter(this::remove)
+                    .map(SeatHold::getEventId)
+                    .collect(Collectors.toSet());
+            seatHoldRepository.deleteAllByIdInBatch(due.stream().map(SeatHold::getId).toList());
+            log.debug("Expired {} seat holds.", due.size());
+            eventsWithFreedSeats.forEach(this::notifyExpiry);
+        } catch (Exception e) {
+            // As linhas que ficarem para trás são descartadas na próxima recuperação
+            log.error("Failed to expire seat holds: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void addExpiryListener(Consumer<UUID> listener) {
+        expiryListeners.add(listener);
+    }
+
+    private void notifyExpiry(UUID eventId) {
+        for (Consumer<UUID> listener : expiryListeners) {
+            try {
+                listener.accept(eventId);
+            } catch (Exception e) {
+                log.error("Seat hold expiry listener failed for event {}: {}", eventId, e.getMessage());
+            }
+        }
+    }
+
+    private boolean remove(SeatHold hold) {
+        boolean[] removed = {false};
+        holdsByEvent.computeIfPresent(hold.getEventId(), (eventId, holds) -> {
+            if (holds.remove(hold.getParticipantEmail(), hold)) {
+                holdsById.remove(hold.getId());
+                removed[0] = true;
+            }
+            return holds.isEmpty() ? null : holds;
+        });
+        return removed[0];
+    }
+
+    private boolean restore(SeatHold hold, boolean schedule) {
+        if (hold.isExpired(now()) || holdsById.containsKey(hold.getId())) {
+            return false;
+        }
+        boolean[] restored = {false};
+        holdsByEvent.compute(hold.getEventId(), (eventId, holds) -> {
+            Map<String, SeatHold> current = holds != null ? holds : new ConcurrentHashMap<>();
+            if (current.putIfAbsent(hold.getParticipantEmail(), hold) == null) {
+                holdsById.put(hold.getId(), hold);
+                restored[0] = true;
+            }
+            return current.isEmpty() ? null : current;
+        });
+        if (restored[0] && schedule) {
+            wheel.schedule(hold, toMillis(hold.getExpiresAt()));
+        }
+        return restored[0];
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
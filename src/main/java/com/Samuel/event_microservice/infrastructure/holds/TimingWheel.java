@@ -0,0 +1,110 @@
+package com.Samuel.event_microservice.infrastructure.holds;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Roda de temporização (hashed timing wheel) para prazos de expiração.
+ * <p>
+ * O tempo é dividido em ticks de duração fixa, e cada prazo cai na posição
+ * {@code tick do prazo % número de posições}. A cada tick só a posição corrente é
+ * percorrida, e os itens cujo tick de prazo já chegou são devolvidos; os demais, de voltas
+ * futuras, permanecem. Agendar custa O(1) e avançar custa o tamanho da posição, sem
+ * depender do total de itens agendados.
+ * <p>
+ * {@link #schedule} pode ser chamado por qualquer thread: os itens entram em uma fila e só
+ * são distribuídos nas posições por {@link #advanceTo}, que deve ser chamado sempre pela
+ * mesma thread. Não há cancelamento: quem consome os itens vencidos ignora os que já não
+ * são mais válidos.
+ *
+ * @param <T> O tipo dos itens agendados.
+ */
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final List<List<Entry<T>>> slots;
+    private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+    // Último tick processado; só é alterado pela thread que avança a roda
+    private long currentTick;
+
+    /**
+     * @param tick A duração de cada tick.
+     * @param wheelSize O número de posições da roda.
+     * @param originMillis O instante inicial da roda, em milissegundos desde a época.
+     */
+    TimingWheel(Duration tick, int wheelSize, long originMillis) {
+        if (tick.toMillis() < 1 || wheelSize < 1) {
+            throw new IllegalArgumentException("O tick deve ter ao menos 1ms e a roda ao menos uma posição.");
+        }
+        this.tickMillis = tick.toMillis();
+        this.originMillis = originMillis;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Agenda um item para vencer no prazo informado. Prazos já passados vencem no próximo tick.
+     *
+     * @param item O item agendado.
+     * @param deadlineMillis O prazo, em milissegundos desde a época.
+     */
+    void schedule(T item, long deadlineMillis) {
+        pending.add(new Entry<>(item, deadlineMillis));
+    }
+
+    /**
+     * Avança a roda até o instante informado, processando um tick de cada vez.
+     *
+     * @param nowMillis O instante atual, em milissegundos desde a época.
+     * @return Os itens cujo prazo venceu até o instante informado, em ordem de tick.
+     */
+    List<T> advanceTo(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            distributePending();
+            currentTick++;
+            Iterator<Entry<T>> slot = slotOf(currentTick).iterator();
+            while (slot.hasNext()) {
+                Entry<T> entry = slot.next();
+                if (entry.deadlineTick <= currentTick) {
+                    expired.add(entry.item);
+                    slot.remove();
+                }
+            }
+        }
+        return expired;
+    }
+
+    private void distributePending() {
+        Entry<T> entry;
+        while ((entry = pending.poll()) != null) {
+            // Arredonda para cima: um item nunca vence antes do seu prazo
+            long deadlineTick = Math.floorDiv(entry.deadlineMillis - originMillis + tickMillis - 1, tickMillis);
+            entry.deadlineTick = Math.max(deadlineTick, currentTick + 1);
+            slotOf(entry.deadlineTick).add(entry);
+        }
+    }
+
+    private List<Entry<T>> slotOf(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long deadlineMillis;
+        private long deadlineTick;
+
+        private Entry(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
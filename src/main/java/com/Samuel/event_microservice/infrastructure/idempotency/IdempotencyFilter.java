@@ -0,0 +1,226 @@
+package com.Samuel.event_microservice.infrastructure.idempotency;
+
+import com.Samuel.event_microservice.core.models.IdempotencyRecord;
+import com.Samuel.event_microservice.infrastructure.dto.ErrorResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Filtro que torna idempotentes as requisições POST enviadas com o cabeçalho {@code Idempotency-Key}.
+ * <p>
+ * A primeira requisição com uma chave é executada normalmente e a sua resposta (exceto erros
+ * {@code 5xx}, que podem ser tentados de novo) é gravada no {@link IdempotencyStore}. Novas
+ * tentativas com a mesma chave recebem a resposta gravada, com o cabeçalho
+ * {@code Idempotent-Replayed: true}, sem chegar ao controller. A chave é vinculada ao método,
+ * ao caminho e ao corpo da requisição original: reutilizá-la em outra requisição resulta em
+ * {@code 422}, e uma nova tentativa enquanto a original ainda é executada nesta instância, em {@code 409}.
+ * <p>
+ * A proteção contra execuções simultâneas ({@code 409}) é local a cada instância: duas tentativas
+ * com a mesma chave que chegam a instâncias diferentes ao mesmo tempo são ambas executadas, e apenas
+ * a resposta da primeira a terminar é gravada. O corpo é lido inteiro em memória para o hash, então
+ * corpos maiores que {@code app.idempotency.max-body-size} são recusados com {@code 413}.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String HEADER_NAME = "Idempotency-Key";
+    static final String REPLAYED_HEADER_NAME = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final int maxBodySize;
+
+    // Chaves com uma requisição em execução nesta instância
+    private final Set<String> inFlightKeys = ConcurrentHashMap.newKeySet();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(HEADER_NAME) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER_NAME).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    "A Idempotency-Key deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres.");
+            return;
+        }
+
+        // Com Content-Length acima do limite, o corpo nem chega a ser lido
+        byte[] body = request.getContentLengthLong() > maxBodySize
+                ? null
+                : request.getInputStream().readNBytes(maxBodySize + 1);
+        if (body == null || body.length > maxBodySize) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "O corpo de uma requisição com Idempotency-Key deve ter no máximo " + maxBodySize + " bytes.");
+            return;
+        }
+        String fingerprint = fingerprint(request, body);
+
+        // Marcada antes da busca: a requisição original só libera a chave depois de gravar a resposta
+        if (!inFlightKeys.add(key)) {
+            writeError(request, response, HttpStatus.CONFLICT,
+                    "Uma requisição com esta Idempotency-Key ainda está em processamento. Tente novamente.");
+            return;
+        }
+        try {
+            Optional<IdempotencyRecord> stored = idempotencyStore.find(key);
+            if (stored.isPresent()) {
+                replay(request, response, stored.get(), fingerprint);
+                return;
+            }
+
+            ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(new CachedBodyRequest(request, body), cachingResponse);
+            if (cachingResponse.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                idempotencyStore.save(key, fingerprint, cachingResponse.getStatus(), cachingResponse.getContentType(),
+                        cachingResponse.getHeader(HttpHeaders.LOCATION), cachingResponse.getContentAsByteArray());
+            }
+            cachingResponse.copyBodyToResponse();
+        } finally {
+            inFlightKeys.remove(key);
+        }
+    }
+
+    private void replay(HttpServletRequest request, HttpServletResponse response, IdempotencyRecord stored,
+                        String fingerprint) throws IOException {
+        if (!stored.matches(fingerprint)) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Esta Idempotency-Key já foi usada em uma requisição diferente.");
+            return;
+        }
+        log.info("Replaying stored response for idempotency key {}", stored.getIdempotencyKey());
+        response.setStatus(stored.getStatusCode());
+        response.setHeader(REPLAYED_HEADER_NAME, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        if (stored.getLocation() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.getLocation());
+        }
+        response.setContentLength(stored.getResponseBody().length);
+        response.getOutputStream().write(stored.getResponseBody());
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        ErrorResponseDTO error = new ErrorResponseDTO(status.value(), status.getReasonPhrase(), message,
+                request.getRequestURI());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * Calcula o hash SHA-256 do método, do caminho (com a query string) e do corpo da requisição.
+     */
+    static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não está disponível.", e);
+        }
+    }
+
+    /**
+     * Requisição cujo corpo já foi lido pelo filtro e é servido novamente ao controller.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new IllegalStateException("O corpo já foi lido pelo filtro de idempotência; a leitura assíncrona não é suportada.");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
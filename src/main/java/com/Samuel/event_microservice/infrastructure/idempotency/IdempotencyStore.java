@@ -0,0 +1,133 @@
+package com.Samuel.event_microservice.infrastructure.idempotency;
+
+import com.Samuel.event_microservice.core.models.IdempotencyRecord;
+import com.Samuel.event_microservice.core.ports.IdempotencyRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.IdempotencyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Armazena as respostas das requisições enviadas com {@code Idempotency-Key}.
+ * <p>
+ * A tabela {@code idempotency_key} é a fonte de verdade, compartilhada entre as instâncias; à
+ * frente dela, um cache LRU em memória guarda as respostas gravadas ou lidas recentemente. Uma
+ * busca custa no máximo uma leitura pela chave primária, e nenhuma quando a resposta está no cache.
+ * As chaves expiradas são ignoradas na busca e removidas da tabela em lotes, periodicamente.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private final IdempotencyRepositoryPort idempotencyRepository;
+    private final Duration ttl;
+    private final int purgeBatchSize;
+    private final Map<String, IdempotencyRecord> cache;
+
+    public IdempotencyStore(IdempotencyRepositoryPort idempotencyRepository, IdempotencyProperties properties) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.ttl = properties.getTtl();
+        this.purgeBatchSize = properties.getPurgeBatchSize();
+        int cacheSize = properties.getCacheSize();
+        // Ordem de acesso: a entrada removida ao exceder o limite é a menos usada recentemente
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Busca a resposta ainda válida gravada para uma chave.
+     *
+     * @param idempotencyKey A chave enviada pelo cliente.
+     * @return Um {@link Optional} contendo a resposta gravada, ou vazio se a chave é nova ou expirou.
+     */
+    public Optional<IdempotencyRecord> find(String idempotencyKey) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord cached;
+        synchronized (cache) {
+            cached = cache.get(idempotencyKey);
+        }
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            evict(idempotencyKey);
+        }
+
+        Optional<IdempotencyRecord> stored = idempotencyRepository.findById(idempotencyKey)
+                .filter(record -> !record.isExpired(now));
+        stored.ifPresent(this::cache);
+        return stored;
+    }
+
+    /**
+     * Grava a resposta de uma requisição executada, a menos que a chave já tenha uma resposta válida
+     * (gravada por outra instância). Uma falha ao gravar é apenas registrada: a operação já foi
+     * executada e a sua resposta ainda deve chegar ao cliente.
+     *
+     * @param idempotencyKey A chave enviada pelo cliente.
+     * @param requestFingerprint O hash da requisição.
+     * @param statusCode O status HTTP da resposta.
+     * @param contentType O Content-Type da resposta (opcional).
+     * @param location O cabeçalho Location da resposta (opcional).
+     * @param responseBody O corpo da resposta.
+     */
+    public void save(String idempotencyKey, String requestFingerprint, int statusCode, String contentType,
+                     String location, byte[] responseBody) {
+        IdempotencyRecord record = new IdempotencyRecord(idempotencyKey, requestFingerprint, statusCode,
+                contentType, location, responseBody, ttl);
+        try {
+            if (idempotencyRepository.saveIfAbsent(record) > 0) {
+                cache(record);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to store the response for idempotency key {}: {}", idempotencyKey, e.getMessage());
+        }
+    }
+
+    /**
+     * Remove as chaves expiradas da tabela, em lotes de {@code app.idempotency.purge-batch-size}.
+     *
+     * @return O número de chaves removidas.
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:10m}",
+            initialDelayString = "${app.idempotency.purge-interval:10m}")
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = idempotencyRepository.deleteExpired(now, purgeBatchSize);
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+
+        synchronized (cache) {
+            cache.values().removeIf(record -> record.isExpired(now));
+        }
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys.", purged);
+        }
+        return purged;
+    }
+
+    private void cache(IdempotencyRecord record) {
+        synchronized (cache) {
+            cache.put(record.getIdempotencyKey(), record);
+        }
+    }
+
+    private void evict(String idempotencyKey) {
+        synchronized (cache) {
+            cache.remove(idempotencyKey);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.Samuel.event_microservice.infrastructure.mutations;
+
+import com.Samuel.event_microservice.core.ports.EventMutationExecutorPort;
+import com.Samuel.event_microservice.infrastructure.config.EventMailboxProperties;
+import com.Samuel.event_microservice.infrastructure.entitycache.EventCacheInvalidator;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Serializa as alterações de cada evento em uma fila (mailbox) com um único escritor.
+ * <p>
+ * Os eventos são distribuídos pelo ID entre um número fixo de filas, cada uma consumida por uma
+ * virtual thread; assim, as alterações de um mesmo evento nunca concorrem entre si nesta instância
+ * e não disputam a linha do evento nem falham no bloqueio otimista. O consumidor retira da fila
+ * todas as alterações pendentes (até {@code app.mutations.mailbox.max-batch-size}) e as aplica em
+ * sequência em uma única transação (group commit): várias inscrições em um evento concorrido
+ * resultam em um commit, em vez de um por requisição.
+ * <p>
+ * Cada alteração do lote roda sob um savepoint e encontra o contexto de persistência vazio: as
+ * inscrições alteram o contador e a versão do evento por comandos nativos, então uma entidade
+ * carregada por uma alteração anterior estaria desatualizada. Pelo mesmo motivo, o lote lê o evento
+ * do banco, e não do cache de segundo nível, que só é invalidado após o commit. Se uma alteração for
+ * rejeitada por uma regra de negócio (ex: evento lotado), o lote volta ao savepoint, os callbacks de
+ * transação que ela registrou são descartados ({@link MutationSynchronizations}), e apenas o
+ * chamador dela recebe a exceção; as demais são confirmadas no mesmo commit. Se a falha for de infraestrutura (erro de acesso a dados) ou o
+ * commit falhar (ex: conflito com outra instância), o lote é desfeito e cada alteração é executada
+ * de novo em uma transação própria. Assim, uma alteração rejeitada nunca tem escritas parciais
+ * confirmadas, nem impede o commit das demais.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.mutations.mailbox", name = "enabled", havingValue = "true")
+@Slf4j
+public class EventMailboxExecutor implements EventMutationExecutorPort {
+
+    // Marca as threads consumidoras: uma alteração executada por elas roda na transação do lote
+    private static final ThreadLocal<Boolean> IN_WORKER = ThreadLocal.withInitial(() -> false);
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final EventCacheInvalidator eventCacheInvalidator;
+    private final int maxBatchSize;
+    private final List<BlockingQueue<PendingMutation<?>>> mailboxes = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running = true;
+
+    @Autowired
+    public EventMailboxExecutor(PlatformTransactionManager transactionManager, EventMailboxProperties properties,
+                                EntityManager entityManager, EventCacheInvalidator eventCacheInvalidator) {
+        this(new TransactionTemplate(transactionManager), entityManager, eventCacheInvalidator,
+                properties.getWorkers(), properties.getMaxBatchSize());
+    }
+
+    EventMailboxExecutor(TransactionTemplate transactionTemplate, EntityManager entityManager,
+                         EventCacheInvalidator eventCacheInvalidator, int workerCount, int maxBatchSize) {
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.eventCacheInvalidator = eventCacheInvalidator;
+        this.maxBatchSize = maxBatchSize;
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<PendingMutation<?>> mailbox = new LinkedBlockingQueue<>();
+            Thread worker = Thread.ofVirtual().name("event-mailbox-" + i).unstarted(() -> drain(mailbox));
+            mailboxes.add(mailbox);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A alteração é enfileirada na fila do evento e a thread do chamador aguarda o commit do lote
+     * em que ela foi aplicada.
+     */
+    @Override
+    public <T> T execute(UUID eventId, Supplier<T> mutation) {
+        if (IN_WORKER.get()) {
+            // Chamada aninhada: já está na vez deste evento e dentro da transação do lote
+            return mutation.get();
+        }
+        if (!running) {
+            throw new IllegalStateException("A aplicação está sendo encerrada; tente novamente.");
+        }
+
+        PendingMutation<T> pending = new PendingMutation<>(eventId, mutation);
+        mailboxFor(eventId).add(pending);
+        try {
+            return pending.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("A espera pela alteração do evento foi interrompida.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        IllegalStateException shuttingDown = new IllegalStateException("A aplicação está sendo encerrada; tente novamente.");
+        for (BlockingQueue<PendingMutation<?>> mailbox : mailboxes) {
+            List<PendingMutation<?>> abandoned = new ArrayList<>();
+            mailbox.drainTo(abandoned);
+            abandoned.forEach(pending -> pending.result.completeExceptionally(shuttingDown));
+        }
+    }
+
+    private BlockingQueue<PendingMutation<?>> mailboxFor(UUID eventId) {
+        return mailboxes.get(Math.floorMod(eventId.hashCode(), mailboxes.size()));
+    }
+
+    private void drain(BlockingQueue<PendingMutation<?>> mailbox) {
+        IN_WORKER.set(true);
+        while (running) {
+            List<PendingMutation<?>> batch = new ArrayList<>();
+            try {
+                batch.add(mailbox.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            mailbox.drainTo(batch, maxBatchSize - 1);
+            applyBatch(batch);
+        }
+    }
+
+    /**
+     * Aplica o lote em uma única transação, cada alteração sob um savepoint; se uma falha de
+     * infraestrutura ocorrer ou o commit não for possível, aplica cada alteração em uma transação própria.
+     */
+    private void applyBatch(List<PendingMutation<?>> batch) {
+        if (batch.size() > 1) {
+            try {
+                List<Outcome> outcomes = transactionTemplate.execute(status -> {
+                    Session session = entityManager.unwrap(Session.class);
+                    // O find() do JPA segue estas propriedades, e não o CacheMode da sessão
+                    session.setProperty(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+                    session.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+                    MutationSynchronizations synchronizations = MutationSynchronizations.register();
+                    List<Outcome> results = new ArrayList<>(batch.size());
+                    for (PendingMutation<?> pending : batch) {
+                        results.add(applyUnderSavepoint(pending, session, synchronizations));
+                    }
+                    return results;
+                });
+                for (int i = 0; i < batch.size(); i++) {
+                    outcomes.get(i).complete(batch.get(i));
+                }
+                return;
+            } catch (RuntimeException | Error e) {
+                log.debug("Group commit of {} event mutations failed ({}); applying them one by one.", batch.size(), e.toString());
+            }
+        }
+        batch.forEach(this::applyAlone);
+    }
+
+    /**
+     * Aplica uma alteração do lote sob um savepoint, gravando as suas escritas antes de liberá-lo, e
+     * esvazia o contexto de persistência para a próxima. Uma rejeição de negócio volta ao savepoint
+     * e é devolvida como resultado; uma falha de infraestrutura é relançada e desfaz o lote inteiro.
+     * <p>
+     * O savepoint é criado na conexão JDBC da sessão: o {@code JpaTransactionManager} não oferece
+     * savepoints com o Hibernate ({@code TransactionStatus#createSavepoint} falha).
+     */
+    private Outcome applyUnderSavepoint(PendingMutation<?> pending, Session session,
+                                        MutationSynchronizations synchronizations) {
+        Savepoint savepoint = session.doReturningWork(Connection::setSavepoint);
+        try {
+            Object value = pending.mutation.get();
+            session.flush();
+            session.doWork(connection -> connection.releaseSavepoint(savepoint));
+            session.clear();
+            synchronizations.accept();
+            return new Outcome(value, null);
+        } catch (RuntimeException e) {
+            if (isInfrastructureFailure(e)) {
+                throw e;
+            }
+            session.doWork(connection -> connection.rollback(savepoint));
+            discardChanges(session, synchronizations, pending.eventId);
+            log.debug("Event mutation rejected inside a group commit ({}); rolled back to its savepoint.", e.toString());
+            return new Outcome(null, e);
+        }
+    }
+
+    private static boolean isInfrastructureFailure(RuntimeException e) {
+        return e instanceof DataAccessException || e instanceof PersistenceException || e instanceof TransactionException;
+    }
+
+    /**
+     * Descarta o que a alteração desfeita deixou fora do banco: as entidades que ela alterou no
+     * contexto de persistência (as alterações anteriores do lote já foram gravadas), os callbacks
+     * de transação que ela registrou e o evento no cache de segundo nível, que o Hibernate poderia
+     * atualizar no commit com o estado desfeito.
+     */
+    private void discardChanges(Session session, MutationSynchronizations synchronizations, UUID eventId) {
+        session.clear();
+        synchronizations.reject();
+        synchronizations.afterCommit(() -> eventCacheInvalidator.evict(eventId));
+    }
+
+    private void applyAlone(PendingMutation<?> pending) {
+        try {
+            pending.succeed(transactionTemplate.execute(status -> pending.mutation.get()));
+        } catch (RuntimeException | Error e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * O resultado de uma alteração do lote: o valor retornado ou a exceção que a rejeitou.
+     */
+    private record Outcome(Object value, RuntimeException rejection) {
+
+        private void complete(PendingMutation<?> pending) {
+            if (rejection != null) {
+                pending.result.completeExceptionally(rejection);
+            } else {
+                pending.succeed(value);
+            }
+        }
+    }
+
+    /**
+     * Uma alteração na fila e o resultado aguardado pelo chamador.
+     */
+    private static final class PendingMutation<T> {
+
+        private final UUID eventId;
+        private final Supplier<T> mutation;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        PendingMutation(UUID eventId, Supplier<T> mutation) {
+            this.eventId = eventId;
+            this.mutation = mutation;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void succeed(Object value) {
+            result.complete((T) value);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.Samuel.event_microservice.infrastructure.mutations;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Guarda os callbacks de transação registrados por cada alteração de um lote (group commit).
+ * <p>
+ * É o único callback registrado na transação do lote: ao fim de cada alteração, os callbacks que
+ * ela registrou são retirados da transação e guardados aqui se ela foi confirmada, ou avisados de
+ * que o trabalho dela foi desfeito se ela voltou ao savepoint. No fim da transação, os callbacks
+ * guardados recebem os avisos do lote, na ordem das alterações. Assim, a rejeição de uma
+ * alteração descarta apenas os callbacks dela.
+ */
+@Slf4j
+final class MutationSynchronizations implements TransactionSynchronization {
+
+    private final List<TransactionSynchronization> accepted = new ArrayList<>();
+
+    private MutationSynchronizations() {
+    }
+
+    /**
+     * Registra o guardião na transação do lote, mantendo os callbacks já registrados nela.
+     * Sem sincronização ativa, não há callbacks a separar e nada é registrado.
+     *
+     * @return O guardião dos callbacks do lote.
+     */
+    static MutationSynchronizations register() {
+        MutationSynchronizations synchronizations = new MutationSynchronizations();
+        synchronizations.accepted.addAll(synchronizations.takeRegistered());
+        return synchronizations;
+    }
+
+    /**
+     * Guarda os callbacks registrados pela alteração confirmada no lote.
+     */
+    void accept() {
+        accepted.addAll(takeRegistered());
+    }
+
+    /**
+     * Descarta os callbacks registrados pela alteração que voltou ao savepoint. Eles recebem
+     * {@link #afterCompletion} com {@link #STATUS_ROLLED_BACK}, como em uma transação própria desfeita.
+     */
+    void reject() {
+        for (TransactionSynchronization synchronization : takeRegistered()) {
+            try {
+                synchronization.afterCompletion(STATUS_ROLLED_BACK);
+            } catch (RuntimeException e) {
+                log.error("Transaction callback of a rejected event mutation failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Executa a ação após o commit do lote, fora dos callbacks de qualquer alteração, ou
+     * imediatamente se não houver sincronização ativa.
+     */
+    void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        accepted.add(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Retira da transação os callbacks registrados desde a última chamada, deixando apenas este guardião.
+     */
+    private List<TransactionSynchronization> takeRegistered() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return List.of();
+        }
+        List<TransactionSynchronization> registered = new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        registered.remove(this);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.registerSynchronization(this);
+        return registered;
+    }
+
+    @Override
+    public void suspend() {
+        accepted.forEach(TransactionSynchronization::suspend);
+    }
+
+    @Override
+    public void resume() {
+        accepted.forEach(TransactionSynchronization::resume);
+    }
+
+    @Override
+    public void flush() {
+        accepted.forEach(TransactionSynchronization::flush);
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        accepted.forEach(synchronization -> synchronization.beforeCommit(readOnly));
+    }
+
+    @Override
+    public void beforeCompletion() {
+        accepted.forEach(TransactionSynchronization::beforeCompletion);
+    }
+
+    /**
+     * Cada callback roda isolado: a falha de um não impede os das demais alterações, e não chega
+     * ao executor, que repetiria o lote já confirmado.
+     */
+    @Override
+    public void afterCommit() {
+        for (TransactionSynchronization synchronization : accepted) {
+            try {
+                synchronization.afterCommit();
+            } catch (RuntimeException e) {
+                log.error("After-commit callback of an event mutation failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        for (TransactionSynchronization synchronization : accepted) {
+            try {
+                synchronization.afterCompletion(status);
+            } catch (RuntimeException e) {
+                log.error("After-completion callback of an event mutation failed: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.Samuel.event_microservice.infrastructure.mutations;
+
+import com.Samuel.event_microservice.core.ports.EventMutationExecutorPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Executa cada alteração em uma transação na thread do chamador (modo padrão).
+ * Alterações concorrentes do mesmo evento disputam a linha do evento e são resolvidas pelo
+ * bloqueio otimista.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.mutations.mailbox", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class TransactionalEventMutationExecutor implements EventMutationExecutorPort {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionalEventMutationExecutor(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Participa da transação do chamador, se houver uma.
+     */
+    @Override
+    public <T> T execute(UUID eventId, Supplier<T> mutation) {
+        return transactionTemplate.execute(status -> mutation.get());
+    }
+}
@@ -0,0 +1,76 @@
+package com.Samuel.event_microservice.infrastructure.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Baldes de tokens na memória da instância, sem locks.
+ * <p>
+ * Cada balde é um {@link AtomicLong} com o TAT (ver {@link RateLimitRule}) em um
+ * {@link ConcurrentHashMap}: as buscas não bloqueiam e as inserções travam apenas a faixa
+ * (bin) da chave, então clientes diferentes não disputam o mesmo lock nem a mesma variável.
+ * Consumir um token é uma leitura e um compare-and-set. Os baldes cheios são removidos
+ * periodicamente ({@code app.rate-limit.eviction-interval}).
+ */
+@Slf4j
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public LocalRateLimitStore() {
+        this(System::nanoTime);
+    }
+
+    LocalRateLimitStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public long tryAcquire(String bucketKey, RateLimitRule rule) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            // Um balde novo está cheio: o TAT é o próprio instante atual
+            bucket = buckets.computeIfAbsent(bucketKey, key -> new AtomicLong(now));
+        }
+        while (true) {
+            long tat = bucket.get();
+            long start = Math.max(tat, now);
+            long wait = start - now - rule.getBurstToleranceNanos();
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, start + rule.getEmissionIntervalNanos())) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Um token consumido ao mesmo tempo em que o seu balde é removido pode se perder, o que concede
+     * no máximo um token a mais a um cliente que estava inativo.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:1m}")
+    public void evictFull() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        log.debug("Evicted {} idle rate limit buckets.", before - buckets.size());
+    }
+
+    /**
+     * O número de baldes na memória.
+     */
+    int size() {
+        return buckets.size();
+    }
+}
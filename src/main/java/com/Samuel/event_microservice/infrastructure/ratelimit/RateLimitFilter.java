@@ -0,0 +1,118 @@
+package com.Samuel.event_microservice.infrastructure.ratelimit;
+
+import com.Samuel.event_microservice.infrastructure.dto.ErrorResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro que limita as requisições de cada cliente por grupo de endpoints, antes que cheguem ao
+ * Spring MVC.
+ * <p>
+ * O cliente é identificado pelo cabeçalho de chave de API ({@code app.rate-limit.api-key-header})
+ * ou, na falta dele, pelo IP. A requisição consome um token do balde do cliente em cada grupo em
+ * que se encaixa (método e caminho); sem token, é recusada com {@code 429} e o cabeçalho
+ * {@code Retry-After}. As recusas são publicadas na métrica {@code http.rate-limit.rejected} (tag {@code group}).
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<LimitedGroup> groups;
+    private final RateLimitStore store;
+    private final String apiKeyHeader;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(List<RateLimitRule> rules, RateLimitStore store, String apiKeyHeader,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.groups = rules.stream().map(rule -> new LimitedGroup(rule, meterRegistry)).toList();
+        this.store = store;
+        this.apiKeyHeader = apiKeyHeader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String method = request.getMethod();
+        PathContainer path = null;
+        String client = null;
+        for (LimitedGroup group : groups) {
+            if (!group.rule.matchesMethod(method)) {
+                continue;
+            }
+            if (path == null) {
+                path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+            }
+            if (!group.rule.matchesPath(path)) {
+                continue;
+            }
+            if (client == null) {
+                client = clientOf(request);
+            }
+            long waitNanos = store.tryAcquire(group.rule.getName() + client, group.rule);
+            if (waitNanos > 0) {
+                group.rejected.increment();
+                log.debug("Rate limiting {} {}: client exceeded the '{}' limit.", method, request.getRequestURI(),
+                        group.rule.getName());
+                reject(request, response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * A identificação do cliente, com um prefixo que separa as chaves de API dos IPs.
+     */
+    private String clientOf(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        if (apiKey != null && !apiKey.isBlank()) {
+            return "|key|" + apiKey;
+        }
+        return "|ip|" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        ErrorResponseDTO error = new ErrorResponseDTO(HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests",
+                "Limite de requisições excedido. Tente novamente em instantes.", request.getRequestURI());
+        // Arredonda para cima: o cliente que esperar o Retry-After encontra o token disponível
+        long retryAfterSeconds = (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfterSeconds)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * Um grupo de endpoints e a sua métrica.
+     */
+    private static final class LimitedGroup {
+
+        private final RateLimitRule rule;
+        private final Counter rejected;
+
+        LimitedGroup(RateLimitRule rule, MeterRegistry meterRegistry) {
+            this.rule = rule;
+            this.rejected = Counter.builder("http.rate-limit.rejected")
+                    .description("Requisições recusadas por excederem o limite do cliente")
+                    .tag("group", rule.getName())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.Samuel.event_microservice.infrastructure.ratelimit;
+
+import lombok.Getter;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * O limite de um grupo de endpoints, no formato do algoritmo GCRA (Generic Cell Rate Algorithm),
+ * equivalente a um balde de tokens: em vez de contar tokens e reabastecer o balde, guarda-se um
+ * único instante por cliente, o instante teórico de chegada (TAT) da próxima requisição.
+ * <p>
+ * Cada requisição aceita avança o TAT em um intervalo de emissão ({@code 1 / refill-per-second});
+ * a requisição é recusada se o TAT já está mais à frente do relógio do que a tolerância da rajada
+ * ({@code (capacity - 1)} intervalos). Assim o estado de um balde cabe em um {@code long} e é
+ * atualizado por um único compare-and-set.
+ */
+@Getter
+public final class RateLimitRule {
+
+    private final String name;
+    private final Set<String> methods;
+    private final List<PathPattern> paths;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    private RateLimitRule(String name, Set<String> methods, List<PathPattern> paths, long emissionIntervalNanos,
+                          long burstToleranceNanos) {
+        this.name = name;
+        this.methods = methods;
+        this.paths = paths;
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.burstToleranceNanos = burstToleranceNanos;
+    }
+
+    /**
+     * Cria o limite de um grupo de endpoints.
+     *
+     * @param name O nome do grupo.
+     * @param methods Os métodos HTTP do grupo; vazio para todos.
+     * @param paths Os padrões de caminho do grupo.
+     * @param capacity Quantas requisições o cliente pode fazer de uma vez.
+     * @param refillPerSecond Quantos tokens o balde recebe por segundo.
+     * @return O limite do grupo.
+     * @throws IllegalArgumentException se não houver caminhos ou se a capacidade ou a taxa não forem positivas.
+     */
+    public static RateLimitRule of(String name, Collection<String> methods, Collection<String> paths, int capacity,
+                                   double refillPerSecond) {
+        if (paths == null || paths.isEmpty()) {
+            throw new IllegalArgumentException("O grupo " + name + " deve ter ao menos um caminho.");
+        }
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("A capacidade e a taxa do grupo " + name + " devem ser positivas.");
+        }
+        long emissionInterval = Math.max(1, Math.round(1_000_000_000d / refillPerSecond));
+        return new RateLimitRule(name,
+                methods.stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet()),
+                paths.stream().map(PathPatternParser.defaultInstance::parse).toList(),
+                emissionInterval, (capacity - 1) * emissionInterval);
+    }
+
+    /**
+     * Verifica se o método pertence ao grupo. É a verificação barata, feita antes da dos caminhos.
+     */
+    boolean matchesMethod(String method) {
+        return methods.isEmpty() || methods.contains(method);
+    }
+
+    /**
+     * Verifica se o caminho pertence ao grupo.
+     */
+    boolean matchesPath(PathContainer path) {
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package com.Samuel.event_microservice.infrastructure.ratelimit;
+
+/**
+ * Guarda os baldes de tokens dos clientes.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Consome um token do balde.
+     *
+     * @param bucketKey A chave do balde (grupo e cliente).
+     * @param rule O limite do grupo.
+     * @return 0 se o token foi consumido; caso contrário, quanto falta para o próximo token, em nanossegundos.
+     */
+    long tryAcquire(String bucketKey, RateLimitRule rule);
+
+    /**
+     * Remove os baldes cheios. Um balde cheio é igual a um balde novo, então a remoção não altera
+     * o limite de nenhum cliente; apenas libera a memória dos clientes inativos.
+     */
+    void evictFull();
+}
@@ -0,0 +1,73 @@
+package com.Samuel.event_microservice.infrastructure.ratelimit;
+
+import com.Samuel.event_microservice.core.ports.RateLimitBucketRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Baldes de tokens na tabela {@code rate_limit_bucket}, compartilhados entre as instâncias: um
+ * cliente tem o mesmo limite, qualquer que seja a instância que o atende.
+ * <p>
+ * Consumir um token é um único comando no banco ({@link RateLimitBucketRepositoryPort#tryConsume}),
+ * com o relógio do banco. As chaves são gravadas como hash SHA-256, para que a tabela não guarde
+ * as chaves de API dos clientes. Se o banco falhar, a requisição é aceita: o limite de requisições
+ * não deve derrubar o serviço.
+ */
+@Slf4j
+public class SharedRateLimitStore implements RateLimitStore {
+
+    private final RateLimitBucketRepositoryPort bucketRepository;
+    private final int evictionBatchSize;
+
+    public SharedRateLimitStore(RateLimitBucketRepositoryPort bucketRepository, int evictionBatchSize) {
+        this.bucketRepository = bucketRepository;
+        this.evictionBatchSize = evictionBatchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O banco informa apenas se o token foi consumido; na recusa, a espera informada é de um intervalo de emissão.
+     */
+    @Override
+    public long tryAcquire(String bucketKey, RateLimitRule rule) {
+        long interval = Math.max(1, TimeUnit.NANOSECONDS.toMicros(rule.getEmissionIntervalNanos()));
+        long tolerance = TimeUnit.NANOSECONDS.toMicros(rule.getBurstToleranceNanos());
+        try {
+            return bucketRepository.tryConsume(hash(bucketKey), interval, tolerance) == 1 ? 0 : rule.getEmissionIntervalNanos();
+        } catch (DataAccessException e) {
+            log.warn("Rate limit bucket unavailable, allowing request: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:1m}")
+    public void evictFull() {
+        try {
+            int removed;
+            do {
+                removed = bucketRepository.deleteFull(evictionBatchSize);
+                log.debug("Evicted {} idle rate limit buckets.", removed);
+            } while (removed == evictionBatchSize);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict idle rate limit buckets: {}", e.getMessage());
+        }
+    }
+
+    static String hash(String bucketKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(bucketKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não está disponível.", e);
+        }
+    }
+}
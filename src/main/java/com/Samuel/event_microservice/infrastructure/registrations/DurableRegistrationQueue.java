@@ -0,0 +1,110 @@
+package com.Samuel.event_microservice.infrastructure.registrations;
+
+import com.Samuel.event_microservice.core.exceptions.RegistrationQueueFullException;
+import com.Samuel.event_microservice.core.models.RegistrationRequest;
+import com.Samuel.event_microservice.core.models.RegistrationRequestStatus;
+import com.Samuel.event_microservice.core.ports.RegistrationQueuePort;
+import com.Samuel.event_microservice.core.ports.RegistrationRequestRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.RegistrationQueueProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fila limitada de inscrições assíncronas, gravada na tabela {@code registration_request}.
+ * <p>
+ * A profundidade da fila é recontada a cada {@code app.registrations.queue.depth-refresh-interval}
+ * e somada aos pedidos aceitos por esta instância desde a recontagem, então o controle da
+ * capacidade não lê o banco a cada pedido. A profundidade é publicada na métrica
+ * {@code registrations.queue.depth}.
+ * <p>
+ * Os pedidos processados continuam consultáveis pelo ticket durante
+ * {@code app.registrations.queue.retention} e depois são expurgados periodicamente.
+ */
+@Component
+@Slf4j
+public class DurableRegistrationQueue implements RegistrationQueuePort {
+
+    private final RegistrationRequestRepositoryPort registrationRequestRepository;
+    private final RegistrationQueueProperties properties;
+    private final AtomicLong depth = new AtomicLong();
+
+    public DurableRegistrationQueue(RegistrationRequestRepositoryPort registrationRequestRepository,
+                                    RegistrationQueueProperties properties, MeterRegistry meterRegistry) {
+        this.registrationRequestRepository = registrationRequestRepository;
+        this.properties = properties;
+        Gauge.builder("registrations.queue.depth", depth, AtomicLong::get)
+                .description("Pedidos de inscrição assíncrona pendentes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RegistrationRequest enqueue(UUID eventId, String participantEmail) {
+        if (depth.get() >= properties.getCapacity()) {
+            log.warn("Registration queue is full ({} pending); rejecting registration of {} for event {}.",
+                    depth.get(), participantEmail, eventId);
+            throw new RegistrationQueueFullException(properties.getRetryAfter());
+        }
+        RegistrationRequest registrationRequest = registrationRequestRepository.save(new RegistrationRequest(eventId, participantEmail));
+        depth.incrementAndGet();
+        return registrationRequest;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<RegistrationRequest> findByTicket(UUID ticket) {
+        return registrationRequestRepository.findByTicket(ticket);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long depth() {
+        return depth.get();
+    }
+
+    /**
+     * Reconta os pedidos pendentes, incluindo os aceitos por outras instâncias e descontando os já processados.
+     */
+    @Scheduled(fixedDelayString = "${app.registrations.queue.depth-refresh-interval:1s}")
+    public void refreshDepth() {
+        depth.set(registrationRequestRepository.countByStatus(RegistrationRequestStatus.PENDING));
+    }
+
+    /**
+     * Remove os pedidos processados há mais tempo que a retenção, em lotes de
+     * {@code app.registrations.queue.purge-batch-size}.
+     *
+     * @return O número de pedidos removidos.
+     */
+    @Scheduled(fixedDelayString = "${app.registrations.queue.purge-interval:10m}",
+            initialDelayString = "${app.registrations.queue.purge-interval:10m}")
+    public int purgeProcessed() {
+        LocalDateTime processedBefore = LocalDateTime.now().minus(properties.getRetention());
+        int batchSize = properties.getPurgeBatchSize();
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = registrationRequestRepository.deleteProcessedBefore(processedBefore, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+
+        if (purged > 0) {
+            log.info("Purged {} processed registration requests.", purged);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,265 @@
+package com.Samuel.event_microservice.infrastructure.registrations;
+
+import com.Samuel.event_microservice.core.exceptions.EventFullException;
+import com.Samuel.event_microservice.core.exceptions.EventNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.ports.EventNotificationPort;
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.core.ports.RegistrationBatcherPort;
+import com.Samuel.event_microservice.core.ports.SeatHoldRegistryPort;
+import com.Samuel.event_microservice.core.ports.SubscriptionRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.RegistrationBatchingProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupa as inscrições individuais concorrentes de um mesmo evento em lotes.
+ * <p>
+ * A primeira inscrição de um evento abre um lote, que é fechado após {@code app.registrations.batching.max-delay}
+ * ou ao atingir {@code max-batch-size} inscrições. O lote é gravado em uma transação com um único
+ * comando ({@link SubscriptionRepositoryPort#registerGroup}): uma atualização do contador do evento
+ * e uma inserção de várias linhas, em vez de uma transação (e um fsync) por inscrição. Cada
+ * chamador aguarda o commit e recebe o resultado da sua inscrição: inscrito, já inscrito ou sem vaga.
+ * <p>
+ * As vagas são ocupadas na ordem de chegada ao lote. Os e-mails de confirmação são enviados depois
+ * que os chamadores são liberados.
+ */
+@Component
+@Slf4j
+public class RegistrationMicroBatcher implements RegistrationBatcherPort {
+
+    private final EventRepositoryPort eventRepository;
+    private final SubscriptionRepositoryPort subscriptionRepository;
+    private final SeatHoldRegistryPort seatHoldRegistry;
+    private final EventNotificationPort eventNotificationPort;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration maxDelay;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService timer;
+    private final Executor flushExecutor;
+
+    // Lotes ainda abertos, por evento
+    private final Map<UUID, Batch> openBatches = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RegistrationMicroBatcher(EventRepositoryPort eventRepository, SubscriptionRepositoryPort subscriptionRepository,
+                                    SeatHoldRegistryPort seatHoldRegistry, EventNotificationPort eventNotificationPort,
+                                    PlatformTransactionManager transactionManager, RegistrationBatchingProperties properties) {
+        this(eventRepository, subscriptionRepository, seatHoldRegistry, eventNotificationPort,
+                new TransactionTemplate(transactionManager), properties.isEnabled(), properties.getMaxDelay(),
+                properties.getMaxBatchSize(), Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    RegistrationMicroBatcher(EventRepositoryPort eventRepository, SubscriptionRepositoryPort subscriptionRepository,
+                             SeatHoldRegistryPort seatHoldRegistry, EventNotificationPort eventNotificationPort,
+                             TransactionTemplate transactionTemplate, boolean enabled, Duration maxDelay, int maxBatchSize,
+                             Executor flushExecutor) {
+        this.eventRepository = eventRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.seatHoldRegistry = seatHoldRegistry;
+        this.eventNotificationPort = eventNotificationPort;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.maxDelay = maxDelay;
+        this.maxBatchSize = maxBatchSize;
+        this.flushExecutor = flushExecutor;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "registration-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.shutdownNow();
+        openBatches.keySet().forEach(eventId -> {
+            Batch batch = openBatches.remove(eventId);
+            if (batch != null) {
+                batch.registrations.forEach(pending -> pending.result.completeExceptionally(
+                        new IllegalStateException("A aplicação está sendo encerrada; tente novamente.")));
+            }
+        });
+        if (flushExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Quem completa o lote grava-o na própria thread; os lotes fechados pelo prazo são gravados
+     * por uma virtual thread.
+     */
+    @Override
+    public void register(UUID eventId, String participantEmail) {
+        PendingRegistration pending = new PendingRegistration(participantEmail);
+        Batch[] full = new Batch[1];
+        openBatches.compute(eventId, (id, batch) -> {
+            if (batch == null) {
+                Batch opened = new Batch(id);
+                timer.schedule(() -> closeOnDeadline(opened), maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+                batch = opened;
+            }
+            batch.registrations.add(pending);
+            if (batch.registrations.size() >= maxBatchSize) {
+                full[0] = batch;
+                return null;
+            }
+            return batch;
+        });
+        if (full[0] != null) {
+            flush(full[0]);
+        }
+        await(pending);
+    }
+
+    private void closeOnDeadline(Batch batch) {
+        // O lote só é gravado aqui se ainda não foi fechado por estar cheio
+        if (openBatches.remove(batch.eventId, batch)) {
+            flushExecutor.execute(() -> flush(batch));
+        }
+    }
+
+    /**
+     * Grava o lote e completa o resultado de cada inscrição.
+     */
+    private void flush(Batch batch) {
+        UUID eventId = batch.eventId;
+        List<String> distinctEmails = batch.registrations.stream().map(pending -> pending.participantEmail).distinct().toList();
+        Event event;
+        Set<String> registered;
+        Set<String> alreadySubscribed;
+        try {
+            BatchOutcome outcome = transactionTemplate.execute(status -> apply(eventId, distinctEmails));
+            event = outcome.event();
+            registered = outcome.registered();
+            alreadySubscribed = outcome.alreadySubscribed();
+        } catch (RuntimeException e) {
+            batch.registrations.forEach(pending -> pending.result.completeExceptionally(e));
+            return;
+        }
+
+        Set<String> completed = new HashSet<>();
+        for (PendingRegistration pending : batch.registrations) {
+            String email = pending.participantEmail;
+            boolean first = completed.add(email);
+            if (registered.contains(email)) {
+                if (first) {
+                    pending.result.complete(null);
+                } else {
+                    pending.result.completeExceptionally(alreadySubscribedException());
+                }
+            } else if (alreadySubscribed.contains(email)) {
+                pending.result.completeExceptionally(alreadySubscribedException());
+            } else {
+                pending.result.completeExceptionally(new EventFullException("O evento já está lotado."));
+            }
+        }
+        log.info("Registered {} of {} participants in a batch for event {}.", registered.size(), batch.registrations.size(), eventId);
+
+        registered.forEach(email -> sendRegistrationConfirmation(event, email));
+    }
+
+    private BatchOutcome apply(UUID eventId, List<String> participantEmails) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> {
+                    log.warn("Registration failed: Event with ID {} not found.", eventId);
+                    return new EventNotFoundException("Evento com ID " + eventId + " não encontrado.");
+                });
+        event.ensureOpenForRegistration();
+
+        Set<String> registered = new HashSet<>(
+                subscriptionRepository.registerGroup(eventId, participantEmails, seatHoldRegistry.activeHolds(eventId)));
+        List<String> leftOut = participantEmails.stream().filter(email -> !registered.contains(email)).toList();
+        Set<String> alreadySubscribed = leftOut.isEmpty()
+                ? Set.of()
+                : new HashSet<>(subscriptionRepository.findSubscribedEmails(eventId, leftOut));
+        return new BatchOutcome(event, registered, alreadySubscribed);
+    }
+
+    private void sendRegistrationConfirmation(Event event, String participantEmail) {
+        try {
+            eventNotificationPort.sendRegistrationConfirmation(event, participantEmail);
+        } catch (Exception e) {
+            log.error("Failed to send registration confirmation email to {} for event {}: {}", participantEmail, event.getId(), e.getMessage());
+        }
+    }
+
+    private static SubscriptionAlreadyExistsException alreadySubscribedException() {
+        return new SubscriptionAlreadyExistsException("Este participante já está inscrito neste evento.");
+    }
+
+    private static void await(PendingRegistration pending) {
+        try {
+            pending.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("A espera pela inscrição foi interrompida.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * As inscrições de um evento aguardando a gravação.
+     */
+    private static final class Batch {
+
+        private final UUID eventId;
+        private final List<PendingRegistration> registrations = new ArrayList<>();
+
+        Batch(UUID eventId) {
+            this.eventId = eventId;
+        }
+    }
+
+    /**
+     * Uma inscrição no lote e o resultado aguardado pelo chamador.
+     */
+    private static final class PendingRegistration {
+
+        private final String participantEmail;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        PendingRegistration(String participantEmail) {
+            this.participantEmail = participantEmail;
+        }
+    }
+
+    private record BatchOutcome(Event event, Set<String> registered, Set<String> alreadySubscribed) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.Samuel.event_microservice.infrastructure.registrations;
+
+import com.Samuel.event_microservice.core.exceptions.EventFullException;
+import com.Samuel.event_microservice.core.exceptions.EventNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+import com.Samuel.event_microservice.core.models.RegistrationRequest;
+import com.Samuel.event_microservice.core.models.RegistrationRequestStatus;
+import com.Samuel.event_microservice.core.ports.RegistrationRequestRepositoryPort;
+import com.Samuel.event_microservice.core.usecases.EventUseCase;
+import com.Samuel.event_microservice.infrastructure.config.RegistrationQueueProperties;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.SubscriptionRequestDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drena a fila de inscrições assíncronas, em ordem de chegada.
+ * <p>
+ * Cada rodada reserva os primeiros pedidos pendentes em uma transação curta
+ * ({@link RegistrationRequestRepositoryPort#lockNextPending} e {@link RegistrationRequest#claim}) e os
+ * processa depois do commit, um a um, pelo {@link EventUseCase#registerParticipant}: cada inscrição roda
+ * na sua própria transação, e o resultado do pedido é gravado logo em seguida. Nenhuma transação fica
+ * aberta durante a rodada, e uma inscrição recusada não desfaz as demais. Se a instância cair no meio
+ * de uma rodada, os pedidos ainda pendentes voltam à fila quando a reserva expira e são processados de
+ * novo; uma inscrição já gravada é então reportada como {@code ALREADY_SUBSCRIBED}.
+ */
+@Component
+@Slf4j
+public class RegistrationQueueWorker {
+
+    private final RegistrationRequestRepositoryPort registrationRequestRepository;
+    private final EventUseCase eventUseCase;
+    private final TransactionTemplate claimTransaction;
+    private final int batchSize;
+    private final Duration claimTimeout;
+
+    @Autowired
+    public RegistrationQueueWorker(RegistrationRequestRepositoryPort registrationRequestRepository, EventUseCase eventUseCase,
+                                   PlatformTransactionManager transactionManager, RegistrationQueueProperties properties) {
+        this(registrationRequestRepository, eventUseCase, new TransactionTemplate(transactionManager),
+                properties.getBatchSize(), properties.getClaimTimeout());
+    }
+
+    RegistrationQueueWorker(RegistrationRequestRepositoryPort registrationRequestRepository, EventUseCase eventUseCase,
+                            TransactionTemplate claimTransaction, int batchSize, Duration claimTimeout) {
+        this.registrationRequestRepository = registrationRequestRepository;
+        this.eventUseCase = eventUseCase;
+        this.claimTransaction = claimTransaction;
+        this.batchSize = batchSize;
+        this.claimTimeout = claimTimeout;
+    }
+
+    /**
+     * Processa rodadas até esvaziar a fila.
+     */
+    @Scheduled(fixedDelayString = "${app.registrations.queue.poll-interval:200ms}")
+    public void drain() {
+        int processed;
+        do {
+            processed = drainBatch();
+        } while (processed == batchSize);
+    }
+
+    /**
+     * Processa uma rodada de pedidos.
+     *
+     * @return O número de pedidos processados.
+     */
+    int drainBatch() {
+        List<RegistrationRequest> batch = claimTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<RegistrationRequest> pending = registrationRequestRepository.lockNextPending(batchSize, now);
+            pending.forEach(registrationRequest -> registrationRequest.claim(now.plus(claimTimeout)));
+            return pending;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        batch.forEach(this::process);
+        log.info("Processed {} queued registrations.", batch.size());
+        return batch.size();
+    }
+
+    private void process(RegistrationRequest registrationRequest) {
+        try {
+            eventUseCase.registerParticipant(registrationRequest.getEventId(),
+                    new SubscriptionRequestDTO(registrationRequest.getParticipantEmail()));
+            registrationRequest.complete(RegistrationRequestStatus.REGISTERED, null);
+        } catch (SubscriptionAlreadyExistsException e) {
+            registrationRequest.complete(RegistrationRequestStatus.ALREADY_SUBSCRIBED, e.getMessage());
+        } catch (EventFullException e) {
+            registrationRequest.complete(RegistrationRequestStatus.EVENT_FULL, e.getMessage());
+        } catch (EventNotFoundException | IllegalStateException e) {
+            registrationRequest.complete(RegistrationRequestStatus.REJECTED, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Failed to process queued registration {}: {}", registrationRequest.getTicket(), e.getMessage());
+            registrationRequest.complete(RegistrationRequestStatus.REJECTED, "Não foi possível processar a inscrição.");
+        }
+        registrationRequestRepository.save(registrationRequest);
+    }
+}
@@ -0,0 +1,19 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import java.util.UUID;
+
+/**
+ * Fragmento dos repositórios cujos comandos nativos alteram a linha do evento sem passar pelo
+ * Hibernate, que por isso não invalida o cache de segundo nível.
+ * <p>
+ * Implementado em {@link EventCacheEvictionImpl}.
+ */
+public interface EventCacheEviction {
+
+    /**
+     * Remove o evento do cache de segundo nível depois do commit da transação atual.
+     *
+     * @param eventId O ID do evento alterado.
+     */
+    void evictEventAfterCommit(UUID eventId);
+}
@@ -0,0 +1,26 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.infrastructure.entitycache.EventCacheInvalidator;
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.UUID;
+
+/**
+ * Implementação do fragmento {@link EventCacheEviction}, delegada a um {@link EventCacheInvalidator}.
+ * <p>
+ * O invalidador é criado aqui a partir da fábrica de EntityManagers, e não injetado, porque os
+ * repositórios também são montados nos testes {@code @DataJpaTest}, que não carregam os componentes.
+ */
+class EventCacheEvictionImpl implements EventCacheEviction {
+
+    private final EventCacheInvalidator eventCacheInvalidator;
+
+    EventCacheEvictionImpl(EntityManagerFactory entityManagerFactory) {
+        this.eventCacheInvalidator = new EventCacheInvalidator(entityManagerFactory);
+    }
+
+    @Override
+    public void evictEventAfterCommit(UUID eventId) {
+        eventCacheInvalidator.evictAfterCommit(eventId);
+    }
+}
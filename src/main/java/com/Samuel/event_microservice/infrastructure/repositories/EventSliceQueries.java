@@ -0,0 +1,34 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.data.EventSummary;
+import com.Samuel.event_microservice.core.data.EventVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Fragmento do {@link JpaEventRepository} com as listagens por especificação sem contagem.
+ * <p>
+ * O {@code findAll(Specification, Pageable)} do Spring Data sempre conta os elementos; aqui a
+ * consulta busca uma linha além do tamanho da página, apenas para saber se há uma próxima.
+ */
+public interface EventSliceQueries {
+
+    /**
+     * Busca os resumos dos eventos ativos que atendem aos filtros, sem contar o total.
+     *
+     * @param filter Os filtros da listagem.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma fatia com os resumos dos eventos da página.
+     */
+    Slice<EventSummary> findActiveEventSummariesSlice(EventFilter filter, Pageable pageable);
+
+    /**
+     * Busca as versões dos eventos da mesma fatia que {@link #findActiveEventSummariesSlice} retornaria.
+     *
+     * @param filter Os filtros da listagem.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma fatia com as versões dos eventos.
+     */
+    Slice<EventVersion> findActiveEventVersionsSlice(EventFilter filter, Pageable pageable);
+}
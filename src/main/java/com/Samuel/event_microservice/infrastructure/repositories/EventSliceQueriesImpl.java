@@ -0,0 +1,68 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.data.EventSummary;
+import com.Samuel.event_microservice.core.data.EventVersion;
+import com.Samuel.event_microservice.core.models.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Implementação do fragmento {@link EventSliceQueries}.
+ * <p>
+ * Aplica as mesmas {@link EventSpecifications} e ordenação que a listagem paginada, com
+ * {@code LIMIT size + 1} e sem a consulta de contagem.
+ */
+class EventSliceQueriesImpl implements EventSliceQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<EventSummary> findActiveEventSummariesSlice(EventFilter filter, Pageable pageable) {
+        Specification<Event> specification = EventSpecifications.matching(filter);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(EventSummaryQueriesImpl.summaryOf(root, cb))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        return slice(EventSummaryQueriesImpl.cacheable(entityManager.createQuery(query), filter), pageable);
+    }
+
+    @Override
+    public Slice<EventVersion> findActiveEventVersionsSlice(EventFilter filter, Pageable pageable) {
+        Specification<Event> specification = EventSpecifications.matching(filter);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<EventVersion> query = cb.createQuery(EventVersion.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(cb.construct(EventVersion.class, root.get("id"), root.get("version"), root.get("updatedAt")))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        return slice(entityManager.createQuery(query), pageable);
+    }
+
+    private static <T> Slice<T> slice(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<T> rows = query.getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+}
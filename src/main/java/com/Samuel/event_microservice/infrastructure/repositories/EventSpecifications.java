@@ -0,0 +1,99 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Fábrica das {@link Specification}s usadas na listagem filtrada de eventos.
+ * <p>
+ * Cada predicado tem a mesma forma da condição dos índices parciais criados na migração V9
+ * (ex: {@code registered_participants < max_participants}), para que o PostgreSQL
+ * consiga provar que o índice se aplica à consulta.
+ */
+public final class EventSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    /**
+     * Construtor privado para impedir a instanciação da classe utilitária.
+     */
+    private EventSpecifications() {}
+
+    /**
+     * Combina o filtro de eventos ativos com os filtros informados.
+     *
+     * @param filter Os filtros da listagem.
+     * @return A especificação resultante.
+     */
+    public static Specification<Event> matching(EventFilter filter) {
+        List<Specification<Event>> specifications = new ArrayList<>();
+        specifications.add(isActive());
+        if (filter.remote() != null) {
+            specifications.add(isRemote(filter.remote()));
+        }
+        if (filter.location() != null) {
+            specifications.add(locationStartsWith(filter.location()));
+        }
+        if (filter.startFrom() != null) {
+            specifications.add(startsFrom(filter.startFrom()));
+        }
+        if (filter.startTo() != null) {
+            specifications.add(startsUntil(filter.startTo()));
+        }
+        if (filter.onlyWithAvailableSpots()) {
+            specifications.add(hasAvailableSpots());
+        }
+        return Specification.allOf(specifications);
+    }
+
+    /**
+     * O status é comparado a um literal, e não a um parâmetro, para que o planejador veja
+     * {@code status = 'ACTIVE'} mesmo em planos genéricos e possa usar os índices parciais.
+     */
+    static Specification<Event> isActive() {
+        return (root, query, cb) -> cb.equal(root.get("status"), cb.literal(EventStatus.ACTIVE));
+    }
+
+    static Specification<Event> isRemote(boolean remote) {
+        return (root, query, cb) -> cb.equal(root.get("isRemote"), remote);
+    }
+
+    /**
+     * Prefixo sem distinção de maiúsculas; os curingas digitados pelo cliente são escapados,
+     * então o padrão nunca começa com '%' e o índice sobre {@code lower(location)} pode ser usado.
+     */
+    static Specification<Event> locationStartsWith(String prefix) {
+        String pattern = escapeLike(prefix.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("location")), pattern, LIKE_ESCAPE);
+    }
+
+    static Specification<Event> startsFrom(LocalDateTime startFrom) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startDateTime"), startFrom);
+    }
+
+    static Specification<Event> startsUntil(LocalDateTime startTo) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("startDateTime"), startTo);
+    }
+
+    static Specification<Event> hasAvailableSpots() {
+        return (root, query, cb) -> cb.lessThan(root.<Integer>get("registeredParticipants"), root.<Integer>get("maxParticipants"));
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.data.EventSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Fragmento do {@link JpaEventRepository} com a listagem paginada de resumos de eventos.
+ * <p>
+ * Como em {@link EventVersionQueries}, a projeção por {@code Specification} é feita diretamente
+ * com a Criteria API em {@link EventSummaryQueriesImpl}.
+ */
+public interface EventSummaryQueries {
+
+    /**
+     * Busca os resumos dos eventos ativos que atendem aos filtros, na mesma ordem e com a mesma
+     * paginação da listagem de entidades.
+     *
+     * @param filter Os filtros da listagem.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma página com os resumos dos eventos.
+     */
+    Page<EventSummary> findActiveEventSummaries(EventFilter filter, Pageable pageable);
+}
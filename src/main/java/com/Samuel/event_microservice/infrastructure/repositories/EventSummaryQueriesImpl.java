@@ -0,0 +1,87 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.data.EventSummary;
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.infrastructure.entitycache.EventCacheRegions;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Implementação do fragmento {@link EventSummaryQueries}.
+ * <p>
+ * Aplica as mesmas {@link EventSpecifications}, ordenação e paginação que o
+ * {@code findAll(Specification, Pageable)} do Spring Data, mas constrói cada {@link EventSummary}
+ * diretamente a partir das colunas, sem instanciar nem gerenciar entidades. A página e a contagem
+ * passam pelo cache de consultas do Hibernate.
+ */
+class EventSummaryQueriesImpl implements EventSummaryQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<EventSummary> findActiveEventSummaries(EventFilter filter, Pageable pageable) {
+        Specification<Event> specification = EventSpecifications.matching(filter);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(summaryOf(root, cb))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<EventSummary> typedQuery = cacheable(entityManager.createQuery(query), filter);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(specification, filter));
+    }
+
+    /**
+     * Seleção das colunas de {@link EventSummary}, na ordem do seu construtor.
+     * Também usada pela listagem sem contagem de {@link EventSliceQueriesImpl}.
+     */
+    static CompoundSelection<EventSummary> summaryOf(Root<Event> root, CriteriaBuilder cb) {
+        return cb.construct(EventSummary.class,
+                root.get("id"), root.get("title"), root.get("description"),
+                root.get("startDateTime"), root.get("endDateTime"),
+                root.get("maxParticipants"), root.get("registeredParticipants"),
+                root.get("imageUrl"), root.get("eventUrl"), root.get("location"),
+                root.get("isRemote"), root.get("status"), root.get("version"), root.get("updatedAt"));
+    }
+
+    /**
+     * Guarda o resultado na região {@code events.queries} do cache de consultas, que o Hibernate
+     * descarta quando a tabela de eventos é alterada. As listagens a partir de uma data ficam de
+     * fora: as de próximos eventos partem do instante atual, e cada uma teria uma chave diferente.
+     * Também usado pela listagem sem contagem de {@link EventSliceQueriesImpl}.
+     */
+    static <T> TypedQuery<T> cacheable(TypedQuery<T> query, EventFilter filter) {
+        if (filter.startFrom() == null) {
+            query.setHint(HibernateHints.HINT_CACHEABLE, true);
+            query.setHint(HibernateHints.HINT_CACHE_REGION, EventCacheRegions.EVENT_QUERIES);
+        }
+        return query;
+    }
+
+    private long count(Specification<Event> specification, EventFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(cb.count(root)).where(specification.toPredicate(root, query, cb));
+        return cacheable(entityManager.createQuery(query), filter).getSingleResult();
+    }
+}
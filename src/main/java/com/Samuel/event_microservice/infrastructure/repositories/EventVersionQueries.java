@@ -0,0 +1,25 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.data.EventVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Fragmento do {@link JpaEventRepository} com as consultas de versões montadas por especificação.
+ * <p>
+ * O Spring Data não projeta consultas por {@code Specification} sem carregar as entidades,
+ * então a projeção é feita diretamente com a Criteria API em {@link EventVersionQueriesImpl}.
+ */
+public interface EventVersionQueries {
+
+    /**
+     * Busca as versões dos eventos ativos que atendem aos filtros, na mesma ordem e com a mesma
+     * paginação da listagem completa.
+     *
+     * @param filter Os filtros da listagem.
+     * @param pageable Objeto de paginação para controlar o tamanho e a ordenação da página.
+     * @return Uma página com as versões dos eventos.
+     */
+    Page<EventVersion> findActiveEventVersions(EventFilter filter, Pageable pageable);
+}
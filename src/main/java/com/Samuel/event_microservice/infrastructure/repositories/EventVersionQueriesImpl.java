@@ -0,0 +1,56 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.data.EventVersion;
+import com.Samuel.event_microservice.core.models.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Implementação do fragmento {@link EventVersionQueries}.
+ * <p>
+ * Aplica as mesmas {@link EventSpecifications}, ordenação e paginação que o
+ * {@code findAll(Specification, Pageable)} do Spring Data, mas seleciona apenas
+ * {@code id}, {@code version} e {@code updatedAt}.
+ */
+class EventVersionQueriesImpl implements EventVersionQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<EventVersion> findActiveEventVersions(EventFilter filter, Pageable pageable) {
+        Specification<Event> specification = EventSpecifications.matching(filter);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<EventVersion> query = cb.createQuery(EventVersion.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(cb.construct(EventVersion.class, root.get("id"), root.get("version"), root.get("updatedAt")))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<EventVersion> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(specification));
+    }
+
+    private long count(Specification<Event> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(cb.count(root)).where(specification.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
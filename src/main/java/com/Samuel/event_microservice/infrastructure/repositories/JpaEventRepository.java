@@ -1,39 +1,118 @@
 package com.Samuel.event_microservice.infrastructure.repositories;
 
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.data.EventSearchHit;
+import com.Samuel.event_microservice.core.data.EventStatusTotals;
+import com.Samuel.event_microservice.core.data.EventSuggestion;
+import com.Samuel.event_microservice.core.data.EventSummary;
+import com.Samuel.event_microservice.core.data.EventVersion;
+import com.Samuel.event_microservice.core.data.ParticipantCounterCheck;
 import com.Samuel.event_microservice.core.models.Event;
 import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.entitycache.EventCacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repositório JPA para a entidade {@link Event}.
  * Esta interface atua como um Adaptador de Persistência, implementando a
  * {@link EventRepositoryPort} e usando o Spring Data JPA para interagir com o banco de dados.
+ * As consultas de versões por especificação ficam no fragmento {@link EventVersionQueries}, a
+ * listagem paginada de resumos, no fragmento {@link EventSummaryQueries}, e as listagens sem
+ * contagem, no fragmento {@link EventSliceQueries}.
  */
 @Repository
-public interface JpaEventRepository extends JpaRepository<Event, UUID>, EventRepositoryPort {
+public interface JpaEventRepository extends JpaRepository<Event, UUID>, JpaSpecificationExecutor<Event>, EventVersionQueries,
+        EventSummaryQueries, EventSliceQueries, EventCacheEviction, EventRepositoryPort {
+
+    // Mesmas colunas, na mesma ordem, que a projeção de EventSummaryQueriesImpl
+    String SELECT_SUMMARY = "SELECT new com.Samuel.event_microservice.core.data.EventSummary(e.id, e.title, e.description, "
+            + "e.startDateTime, e.endDateTime, e.maxParticipants, e.registeredParticipants, e.imageUrl, e.eventUrl, "
+            + "e.location, e.isRemote, e.status, e.version, e.updatedAt) FROM event e";
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A consulta é montada dinamicamente por {@link EventSpecifications}, incluindo apenas
+     * os predicados dos filtros informados.
+     */
+    @Override
+    default Page<Event> findActiveEvents(EventFilter filter, Pageable pageable) {
+        return findAll(EventSpecifications.matching(filter), pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default long countActiveEvents(EventFilter filter) {
+        return count(EventSpecifications.matching(filter));
+    }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * O resultado fica na região {@code events.queries} do cache de consultas do Hibernate e é
+     * descartado quando a tabela de eventos é alterada.
      */
-    @Query("SELECT e FROM event e WHERE e.status = com.Samuel.event_microservice.core.models.EventStatus.ACTIVE")
     @Override
-    Page<Event> findAll(Pageable pageable);
+    @Query(SELECT_SUMMARY + " WHERE e.id = :id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EventCacheRegions.EVENT_QUERIES)
+    })
+    Optional<EventSummary> findSummaryById(@Param("id") UUID id);
 
     /**
      * {@inheritDoc}
+     * <p>
+     * A consulta não é marcada como cacheável e não carrega a entidade, então o contador vem
+     * sempre da linha atual, mesmo com o evento no cache de segundo nível.
      */
     @Override
-    @Query("SELECT e FROM event e WHERE e.startDateTime > :currentDate AND e.status = com.Samuel.event_microservice.core.models.EventStatus.ACTIVE")
-    Page<Event> findUpcomingEvents(@Param("currentDate") LocalDateTime currentDate, Pageable pageable);
+    @Query("SELECT e.maxParticipants - e.registeredParticipants FROM event e WHERE e.id = :id")
+    Optional<Integer> findAvailableSeatsById(@Param("id") UUID id);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Query(SELECT_SUMMARY + " WHERE e.id IN :ids")
+    List<EventSummary> findSummariesByIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A busca percorre o índice {@code idx_event_updated_at}, criado na migração V19.
+     */
+    @Override
+    @Query("SELECT e.id FROM event e WHERE e.updatedAt >= :since")
+    List<UUID> findIdsUpdatedSince(@Param("since") Instant since);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Query("SELECT new com.Samuel.event_microservice.core.data.EventSuggestion(e.id, e.title, e.startDateTime) FROM event e WHERE e.startDateTime > :currentDate AND e.status = com.Samuel.event_microservice.core.models.EventStatus.ACTIVE")
+    List<EventSuggestion> findUpcomingEventSuggestions(@Param("currentDate") LocalDateTime currentDate);
 
     /**
      * {@inheritDoc}
@@ -41,4 +120,100 @@ public interface JpaEventRepository extends JpaRepository<Event, UUID>, EventRep
     @Override
     @Query("SELECT e FROM event e WHERE e.status = com.Samuel.event_microservice.core.models.EventStatus.ACTIVE AND e.endDateTime < :now")
     List<Event> findActiveEventsFinishedBefore(@Param("now") LocalDateTime now);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Query("SELECT new com.Samuel.event_microservice.core.data.EventStatusTotals(e.status, count(e), sum(e.registeredParticipants)) FROM event e GROUP BY e.status")
+    List<EventStatusTotals> countEventsByStatus();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O bloco é lido pela chave primária e cada contagem percorre apenas as entradas do evento no
+     * índice {@code uk_subscription_event_participant}, sem visitar a tabela quando o mapa de
+     * visibilidade está atualizado (index-only scan). O contador e as inscrições vêm do mesmo
+     * snapshot, então uma inscrição em andamento não aparece como divergência.
+     */
+    @Override
+    @Query(value = """
+            SELECT e.id AS id,
+                   e.registered_participants AS recorded,
+                   (SELECT count(*) FROM subscription s WHERE s.event_id = e.id) AS actual
+            FROM event e
+            WHERE e.id > :afterId
+            ORDER BY e.id
+            LIMIT :chunkSize
+            """, nativeQuery = true)
+    List<ParticipantCounterCheck> findParticipantCounters(@Param("afterId") UUID afterId, @Param("chunkSize") int chunkSize);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Quando o contador for corrigido, o evento também é removido do cache de segundo nível depois do commit.
+     */
+    @Override
+    @Transactional
+    default int repairRegisteredParticipants(UUID eventId, int recorded) {
+        int repaired = recountRegisteredParticipants(eventId, recorded);
+        if (repaired > 0) {
+            evictEventAfterCommit(eventId);
+        }
+        return repaired;
+    }
+
+    /**
+     * Recalcula o contador de um evento a partir das inscrições; usado por
+     * {@link #repairRegisteredParticipants(UUID, int)}.
+     * <p>
+     * A condição sobre o valor lido é reavaliada após o bloqueio da linha: se uma inscrição
+     * alterou o contador entre a comparação e a correção, nada é gravado e o evento é verificado
+     * de novo na próxima varredura. A versão é incrementada, como nas demais alterações do contador.
+     *
+     * @return 1 se o contador foi corrigido, 0 se ele mudou desde a leitura.
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event"))
+    @Query(value = """
+            UPDATE event
+            SET registered_participants = (SELECT count(*) FROM subscription s WHERE s.event_id = :eventId),
+                version = version + 1,
+                updated_at = now()
+            WHERE id = :eventId AND registered_participants = :recorded
+            """, nativeQuery = true)
+    int recountRegisteredParticipants(@Param("eventId") UUID eventId, @Param("recorded") int recorded);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consulta nativa: o operador {@code @@} é resolvido pelo índice GIN sobre {@code search_vector},
+     * e apenas os eventos correspondentes têm a relevância calculada.
+     */
+    @Override
+    @Query(value = """
+            SELECT e.id AS id, ts_rank(e.search_vector, q) AS rank
+            FROM event e, websearch_to_tsquery('portuguese', :query) q
+            WHERE e.status = 'ACTIVE' AND e.search_vector @@ q
+            ORDER BY rank DESC, e.id ASC
+            """, nativeQuery = true)
+    List<EventSearchHit> searchActiveEvents(@Param("query") String query, Limit limit);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Query(value = """
+            SELECT e.id AS id, ts_rank(e.search_vector, q) AS rank
+            FROM event e, websearch_to_tsquery('portuguese', :query) q
+            WHERE e.status = 'ACTIVE' AND e.search_vector @@ q
+              AND (ts_rank(e.search_vector, q) < :afterRank
+                   OR (ts_rank(e.search_vector, q) = :afterRank AND e.id > :afterId))
+            ORDER BY rank DESC, e.id ASC
+            """, nativeQuery = true)
+    List<EventSearchHit> searchActiveEventsAfter(@Param("query") String query,
+                                                 @Param("afterRank") float afterRank,
+                                                 @Param("afterId") UUID afterId,
+                                                 Limit limit);
 }
@@ -0,0 +1,55 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.EventStats;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.ports.EventStatsRepositoryPort;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositório JPA para a entidade {@link EventStats}.
+ * Esta interface atua como um Adaptador de Persistência, implementando a
+ * {@link EventStatsRepositoryPort} e usando o Spring Data JPA para interagir com o banco de dados.
+ */
+@Repository
+public interface JpaEventStatsRepository extends JpaRepository<EventStats, EventStatus>, EventStatsRepositoryPort {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM event_stats s ORDER BY s.status")
+    List<EventStats> findAllForUpdate();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Um único comando, sem leitura prévia: a linha fica bloqueada apenas até o commit da transação
+     * que alterou o status do evento.
+     */
+    @Override
+    @Modifying
+    @Query("UPDATE event_stats s SET s.eventCount = s.eventCount + :eventDelta, " +
+            "s.registeredParticipants = s.registeredParticipants + :participantsDelta, " +
+            "s.updatedAt = LOCAL DATETIME WHERE s.status = :status")
+    int adjust(@Param("status") EventStatus status, @Param("eventDelta") long eventDelta,
+               @Param("participantsDelta") long participantsDelta);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Modifying
+    @Query("UPDATE event_stats s SET s.eventCount = :eventCount, s.registeredParticipants = :registeredParticipants, " +
+            "s.updatedAt = LOCAL DATETIME WHERE s.status = :status")
+    int overwrite(@Param("status") EventStatus status, @Param("eventCount") long eventCount,
+                  @Param("registeredParticipants") long registeredParticipants);
+}
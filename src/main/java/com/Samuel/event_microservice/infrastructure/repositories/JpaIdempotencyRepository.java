@@ -0,0 +1,75 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.IdempotencyRecord;
+import com.Samuel.event_microservice.core.ports.IdempotencyRepositoryPort;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositório JPA para a entidade {@link IdempotencyRecord}.
+ * Esta interface atua como um Adaptador de Persistência, implementando a
+ * {@link IdempotencyRepositoryPort} e usando o Spring Data JPA para interagir com o banco de dados.
+ * <p>
+ * Os comandos nativos declaram a tabela que alteram ({@code HINT_NATIVE_SPACES}); sem isso, o
+ * Hibernate consideraria todas as tabelas alteradas e limparia o cache de segundo nível inteiro.
+ */
+@Repository
+public interface JpaIdempotencyRepository extends JpaRepository<IdempotencyRecord, String>, IdempotencyRepositoryPort {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Um único comando: em um conflito de chave, a linha só é substituída se já tiver expirado.
+     * Duas instâncias que gravem a mesma chave ao mesmo tempo não falham; a segunda é ignorada.
+     */
+    @Override
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_key"))
+    @Query(value = """
+            INSERT INTO idempotency_key (idempotency_key, request_fingerprint, status_code, content_type,
+                                         location, response_body, created_at, expires_at)
+            VALUES (:#{#record.idempotencyKey}, :#{#record.requestFingerprint}, :#{#record.statusCode},
+                    :#{#record.contentType}, :#{#record.location}, :#{#record.responseBody},
+                    :#{#record.createdAt}, :#{#record.expiresAt})
+            ON CONFLICT (idempotency_key) DO UPDATE
+            SET request_fingerprint = EXCLUDED.request_fingerprint,
+                status_code = EXCLUDED.status_code,
+                content_type = EXCLUDED.content_type,
+                location = EXCLUDED.location,
+                response_body = EXCLUDED.response_body,
+                created_at = EXCLUDED.created_at,
+                expires_at = EXCLUDED.expires_at
+            WHERE idempotency_key.expires_at <= EXCLUDED.created_at
+            """, nativeQuery = true)
+    int saveIfAbsent(@Param("record") IdempotencyRecord record);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O lote é selecionado pelo índice de expiração, de modo que cada comando remove no máximo
+     * {@code batchSize} linhas e mantém as transações curtas.
+     */
+    @Override
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_key"))
+    @Query(value = """
+            DELETE FROM idempotency_key
+            WHERE idempotency_key IN (
+                SELECT k.idempotency_key FROM idempotency_key k
+                WHERE k.expires_at <= :now
+                LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+}
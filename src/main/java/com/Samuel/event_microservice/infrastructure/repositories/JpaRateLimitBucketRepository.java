@@ -0,0 +1,66 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.RateLimitBucket;
+import com.Samuel.event_microservice.core.ports.RateLimitBucketRepositoryPort;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repositório JPA para a entidade {@link RateLimitBucket}.
+ * Esta interface atua como um Adaptador de Persistência, implementando a
+ * {@link RateLimitBucketRepositoryPort} e usando o Spring Data JPA para interagir com o banco de dados.
+ * <p>
+ * Os comandos nativos declaram a tabela que alteram ({@code HINT_NATIVE_SPACES}); sem isso, o
+ * Hibernate consideraria todas as tabelas alteradas e limparia o cache de segundo nível inteiro.
+ */
+@Repository
+public interface JpaRateLimitBucketRepository extends JpaRepository<RateLimitBucket, String>, RateLimitBucketRepositoryPort {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Um único comando por requisição: o {@code EXCLUDED.tat} é o instante atual somado a um
+     * intervalo. Em um conflito de chave, o TAT só avança se não se adiantar ao relógio mais do que
+     * a rajada permite; caso contrário a linha fica como está e nenhuma linha é afetada.
+     */
+    @Override
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "rate_limit_bucket"))
+    @Query(value = """
+            INSERT INTO rate_limit_bucket (bucket_key, tat)
+            VALUES (:bucketKey, CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000000 AS BIGINT) + :interval)
+            ON CONFLICT (bucket_key) DO UPDATE
+            SET tat = GREATEST(rate_limit_bucket.tat, EXCLUDED.tat - :interval) + :interval
+            WHERE rate_limit_bucket.tat - (EXCLUDED.tat - :interval) <= :tolerance
+            """, nativeQuery = true)
+    int tryConsume(@Param("bucketKey") String bucketKey, @Param("interval") long emissionIntervalMicros,
+                   @Param("tolerance") long burstToleranceMicros);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O lote é selecionado pelo índice do TAT, de modo que cada comando remove no máximo
+     * {@code batchSize} linhas e mantém as transações curtas.
+     */
+    @Override
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "rate_limit_bucket"))
+    @Query(value = """
+            DELETE FROM rate_limit_bucket
+            WHERE bucket_key IN (
+                SELECT b.bucket_key FROM rate_limit_bucket b
+                WHERE b.tat <= CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000000 AS BIGINT)
+                LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteFull(@Param("batchSize") int batchSize);
+}
@@ -0,0 +1,82 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.RegistrationRequest;
+import com.Samuel.event_microservice.core.models.RegistrationRequestStatus;
+import com.Samuel.event_microservice.core.ports.RegistrationRequestRepositoryPort;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório JPA para a entidade {@link RegistrationRequest}.
+ * Esta interface atua como um Adaptador de Persistência, implementando a
+ * {@link RegistrationRequestRepositoryPort} e usando o Spring Data JPA para interagir com o banco de dados.
+ */
+@Repository
+public interface JpaRegistrationRequestRepository extends JpaRepository<RegistrationRequest, Long>, RegistrationRequestRepositoryPort {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A busca percorre o índice único do ticket.
+     */
+    @Override
+    Optional<RegistrationRequest> findByTicket(UUID ticket);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Para {@code PENDING}, a contagem percorre apenas o índice parcial das pendentes.
+     */
+    @Override
+    long countByStatus(RegistrationRequestStatus status);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Lê a frente da fila pelo índice parcial {@code idx_registration_request_pending}; o
+     * {@code SKIP LOCKED} permite que várias instâncias reservem pedidos ao mesmo tempo sem
+     * esperar umas pelas outras, e a reserva ({@code claimed_until}) impede que processem o mesmo
+     * pedido depois que o bloqueio é liberado.
+     */
+    @Override
+    @Query(value = """
+            SELECT * FROM registration_request
+            WHERE status = 'PENDING' AND (claimed_until IS NULL OR claimed_until <= :now)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<RegistrationRequest> lockNextPending(@Param("limit") int limit, @Param("now") LocalDateTime now);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O lote é selecionado pelo índice parcial {@code idx_registration_request_processed_at}, de
+     * modo que cada comando remove no máximo {@code batchSize} linhas sem percorrer os pendentes.
+     */
+    @Override
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "registration_request"))
+    @Query(value = """
+            DELETE FROM registration_request
+            WHERE id IN (
+                SELECT r.id FROM registration_request r
+                WHERE r.status <> 'PENDING' AND r.processed_at <= :processedBefore
+                LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteProcessedBefore(@Param("processedBefore") LocalDateTime processedBefore, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,17 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.SeatHold;
+import com.Samuel.event_microservice.core.ports.SeatHoldRepositoryPort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repositório JPA para a entidade {@link SeatHold}.
+ * Esta interface atua como um Adaptador de Persistência, implementando a
+ * {@link SeatHoldRepositoryPort} e usando o Spring Data JPA para interagir com o banco de dados.
+ */
+@Repository
+public interface JpaSeatHoldRepository extends JpaRepository<SeatHold, UUID>, SeatHoldRepositoryPort {
+}
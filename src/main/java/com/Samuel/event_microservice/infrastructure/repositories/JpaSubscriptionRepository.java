@@ -1,14 +1,26 @@
 package com.Samuel.event_microservice.infrastructure.repositories;
 
+import com.Samuel.event_microservice.core.data.EventParticipantRow;
 import com.Samuel.event_microservice.core.models.Event;
 import com.Samuel.event_microservice.core.models.Subscription;
 import com.Samuel.event_microservice.core.ports.SubscriptionRepositoryPort;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Repositório JPA para a entidade {@link Subscription}.
@@ -16,15 +28,108 @@ import java.util.Optional;
  * {@link SubscriptionRepositoryPort} e usando o Spring Data JPA para interagir com o banco de dados.
  */
 @Repository
-public interface JpaSubscriptionRepository extends JpaRepository<Subscription, Long>, SubscriptionRepositoryPort {
+public interface JpaSubscriptionRepository extends JpaRepository<Subscription, Long>, EventCacheEviction,
+        SubscriptionRepositoryPort {
+
+    /**
+     * Primeira página de participantes: a subconsulta {@code LATERAL} percorre o índice
+     * {@code (event_id, created_at, id)} da inscrição a partir do início e para no limite; o evento,
+     * lido pela chave primária, informa a existência e o contador no mesmo comando. Como a única
+     * linha do evento fica do lado externo do nested loop, as inscrições saem na ordem do índice,
+     * sem ordenação; por isso não há {@code ORDER BY} externo.
+     */
+    String PARTICIPANTS_PAGE = """
+            SELECT e.registered_participants AS registeredParticipants, p.participant_email AS participantEmail,
+                   p.created_at AS createdAt, p.id AS subscriptionId
+            FROM event e
+            LEFT JOIN LATERAL (
+                SELECT s.id, s.participant_email, s.created_at
+                FROM subscription s
+                WHERE s.event_id = e.id
+                ORDER BY s.created_at, s.id
+                LIMIT :limit
+            ) p ON true
+            WHERE e.id = :eventId
+            """;
+
+    /**
+     * Página seguinte ao cursor: a mesma forma de {@link #PARTICIPANTS_PAGE}, e a comparação de row
+     * value {@code (created_at, id) > (:afterCreatedAt, :afterId)} vira o início do range scan no índice.
+     */
+    String PARTICIPANTS_PAGE_AFTER = """
+            SELECT e.registered_participants AS registeredParticipants, p.participant_email AS participantEmail,
+                   p.created_at AS createdAt, p.id AS subscriptionId
+            FROM event e
+            LEFT JOIN LATERAL (
+                SELECT s.id, s.participant_email, s.created_at
+                FROM subscription s
+                WHERE s.event_id = e.id AND (s.created_at, s.id) > (:afterCreatedAt, :afterId)
+                ORDER BY s.created_at, s.id
+                LIMIT :limit
+            ) p ON true
+            WHERE e.id = :eventId
+            """;
+
+    /**
+     * Linha das consultas nativas de participantes, convertida em {@link EventParticipantRow}.
+     * Os campos da inscrição são nulos quando o evento não tem inscrições na página.
+     */
+    interface ParticipantPageRow {
+
+        int getRegisteredParticipants();
+
+        @Nullable
+        String getParticipantEmail();
+
+        @Nullable
+        LocalDateTime getCreatedAt();
+
+        @Nullable
+        Long getSubscriptionId();
+
+        default EventParticipantRow toRow() {
+            return new EventParticipantRow(getRegisteredParticipants(), getParticipantEmail(), getCreatedAt(), getSubscriptionId());
+        }
+    }
 
     /**
      * {@inheritDoc}
      * <p>
-     * A implementação deste método é gerada pelo Spring Data JPA com base no nome do método.
+     * Executa {@link #PARTICIPANTS_PAGE}.
+     */
+    @Override
+    default List<EventParticipantRow> findParticipantsPage(UUID eventId, Limit limit) {
+        return findFirstParticipantRows(eventId, limit.max()).stream().map(ParticipantPageRow::toRow).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Executa {@link #PARTICIPANTS_PAGE_AFTER}.
      */
     @Override
-    Page<Subscription> findByEvent(Event event, Pageable pageable);
+    default List<EventParticipantRow> findParticipantsPageAfter(UUID eventId, LocalDateTime afterCreatedAt, Long afterId,
+                                                                Limit limit) {
+        return findParticipantRowsAfter(eventId, afterCreatedAt, afterId, limit.max()).stream()
+                .map(ParticipantPageRow::toRow)
+                .toList();
+    }
+
+    /**
+     * Busca a primeira página de participantes; usado por {@link #findParticipantsPage(UUID, Limit)}.
+     */
+    @Query(value = PARTICIPANTS_PAGE, nativeQuery = true)
+    List<ParticipantPageRow> findFirstParticipantRows(@Param("eventId") UUID eventId, @Param("limit") int limit);
+
+    /**
+     * Busca a página de participantes seguinte ao cursor; usado por
+     * {@link #findParticipantsPageAfter(UUID, LocalDateTime, Long, Limit)}.
+     */
+    @Query(value = PARTICIPANTS_PAGE_AFTER, nativeQuery = true)
+    List<ParticipantPageRow> findParticipantRowsAfter(@Param("eventId") UUID eventId,
+                                                      @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                      @Param("afterId") Long afterId,
+                                                      @Param("limit") int limit);
 
     /**
      * {@inheritDoc}
@@ -33,4 +138,139 @@ public interface JpaSubscriptionRepository extends JpaRepository<Subscription, L
      */
     @Override
     Optional<Subscription> findByEventAndParticipantEmail(Event event, String participantEmail);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O contador é alterado por um comando nativo; quando a inscrição for removida, o evento também
+     * é removido do cache de segundo nível depois do commit, e não só durante a transação.
+     */
+    @Override
+    @Transactional
+    default int deleteParticipant(UUID eventId, String participantEmail) {
+        int updated = deleteSubscription(eventId, participantEmail);
+        if (updated > 0) {
+            evictEventAfterCommit(eventId);
+        }
+        return updated;
+    }
+
+    /**
+     * Remove a inscrição e devolve a vaga em um único comando; usado por
+     * {@link #deleteParticipant(UUID, String)}.
+     * <p>
+     * A CTE {@code locked} bloqueia a linha do evento antes de tocar na inscrição, na mesma ordem de
+     * {@link #insertGroup}: sem isso, um cancelamento que já apagou a inscrição e aguarda o evento e
+     * uma inscrição do mesmo e-mail que já bloqueou o evento e aguarda o índice único esperariam um
+     * pelo outro (deadlock). A CTE {@code removed} apaga a inscrição e retorna as linhas removidas;
+     * o {@code UPDATE} só altera o evento se algo foi removido, e subtrai exatamente o número de
+     * linhas apagadas. Como a linha do evento fica bloqueada até o commit, inscrições e
+     * cancelamentos concorrentes nunca perdem incrementos ou decrementos.
+     * As tabelas alteradas são declaradas ao Hibernate, que invalida apenas os caches que dependem delas.
+     *
+     * @return 1 se a inscrição foi removida, 0 se ela não existia.
+     */
+    @Modifying
+    @Transactional
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "subscription"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event")
+    })
+    @Query(value = """
+            WITH locked AS (
+                SELECT id FROM event WHERE id = :eventId FOR NO KEY UPDATE
+            ), removed AS (
+                DELETE FROM subscription
+                WHERE event_id = (SELECT id FROM locked) AND participant_email = :participantEmail
+                RETURNING id
+            )
+            UPDATE event
+            SET registered_participants = GREATEST(registered_participants - (SELECT count(*) FROM removed), 0),
+                version = version + 1,
+                updated_at = now()
+            WHERE id = :eventId AND EXISTS (SELECT 1 FROM removed)
+            """, nativeQuery = true)
+    int deleteSubscription(@Param("eventId") UUID eventId, @Param("participantEmail") String participantEmail);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O contador é alterado por um comando nativo, então o evento é removido do cache de segundo
+     * nível depois do commit quando alguém for inscrito.
+     */
+    @Override
+    @Transactional
+    default List<String> registerGroup(UUID eventId, List<String> participantEmails, int heldSeats) {
+        List<String> registered = insertGroup(eventId, participantEmails.toArray(String[]::new), heldSeats);
+        if (!registered.isEmpty()) {
+            evictEventAfterCommit(eventId);
+        }
+        return registered;
+    }
+
+    /**
+     * Inscreve em um único comando os participantes que couberem no evento; usado por
+     * {@link #registerGroup(UUID, List, int)}.
+     * <p>
+     * {@code free} bloqueia a linha do evento e calcula as vagas livres com o contador mais
+     * recente; {@code candidates} mantém a ordem da lista e descarta os já inscritos;
+     * {@code inserted} grava as inscrições em lote, e o {@code ON CONFLICT} (restrição
+     * {@code uk_subscription_event_participant}) ignora quem tiver sido inscrito por outra
+     * requisição enquanto este comando aguardava o bloqueio; {@code counted} soma as inscrições
+     * gravadas ao contador em uma única atualização. Os e-mails são enviados como um único
+     * parâmetro {@code text[]}: uma lista seria expandida pelo Hibernate entre parênteses, e o
+     * {@code unnest} receberia um registro em vez de um array.
+     * <p>
+     * Por retornar linhas, o comando roda como consulta, e não como {@code @Modifying}: as tabelas
+     * alteradas são declaradas para que o Hibernate grave antes as alterações pendentes nelas, e
+     * {@link #registerGroup} invalida o evento no cache de segundo nível.
+     *
+     * @return Os e-mails dos participantes inscritos.
+     */
+    @Transactional
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "subscription"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event")
+    })
+    @Query(value = """
+            WITH free AS (
+                SELECT e.max_participants - e.registered_participants - :heldSeats AS seats
+                FROM event e
+                WHERE e.id = :eventId AND e.status = 'ACTIVE'
+                FOR NO KEY UPDATE
+            ), candidates AS (
+                SELECT r.email, r.ord
+                FROM unnest(CAST(:participantEmails AS text[])) WITH ORDINALITY AS r(email, ord)
+                WHERE NOT EXISTS (SELECT 1 FROM subscription s
+                                  WHERE s.event_id = :eventId AND s.participant_email = r.email)
+                ORDER BY r.ord
+                LIMIT COALESCE((SELECT GREATEST(f.seats, 0) FROM free f), 0)
+            ), inserted AS (
+                INSERT INTO subscription (event_id, participant_email, created_at)
+                SELECT :eventId, c.email, now() FROM candidates c ORDER BY c.ord
+                ON CONFLICT (event_id, participant_email) DO NOTHING
+                RETURNING participant_email
+            ), counted AS (
+                UPDATE event
+                SET registered_participants = registered_participants + (SELECT count(*) FROM inserted),
+                    version = version + 1,
+                    updated_at = now()
+                WHERE id = :eventId AND EXISTS (SELECT 1 FROM inserted)
+            )
+            SELECT participant_email FROM inserted
+            """, nativeQuery = true)
+    List<String> insertGroup(@Param("eventId") UUID eventId,
+                             @Param("participantEmails") String[] participantEmails,
+                             @Param("heldSeats") int heldSeats);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A busca percorre o índice único {@code (event_id, participant_email)}.
+     */
+    @Override
+    @Query("SELECT s.participantEmail FROM subscription s " +
+            "WHERE s.event.id = :eventId AND s.participantEmail IN :participantEmails")
+    List<String> findSubscribedEmails(@Param("eventId") UUID eventId,
+                                      @Param("participantEmails") Collection<String> participantEmails);
 }
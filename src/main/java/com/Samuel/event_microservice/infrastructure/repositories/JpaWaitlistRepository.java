@@ -0,0 +1,112 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.WaitlistEntry;
+import com.Samuel.event_microservice.core.ports.WaitlistRepositoryPort;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório JPA para a entidade {@link WaitlistEntry}.
+ * Esta interface atua como um Adaptador de Persistência, implementando a
+ * {@link WaitlistRepositoryPort} e usando o Spring Data JPA para interagir com o banco de dados.
+ */
+@Repository
+public interface JpaWaitlistRepository extends JpaRepository<WaitlistEntry, Long>, EventCacheEviction,
+        WaitlistRepositoryPort {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A implementação deste método é gerada pelo Spring Data JPA com base no nome do método.
+     */
+    @Override
+    boolean existsByEventIdAndParticipantEmail(UUID eventId, String participantEmail);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A contagem percorre o índice {@code (event_id, id)}.
+     */
+    @Override
+    long countByEventIdAndIdLessThanEqual(UUID eventId, Long id);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * O contador é alterado por um comando nativo, então o evento é removido do cache de segundo
+     * nível depois do commit quando alguém for promovido.
+     */
+    @Override
+    @Transactional
+    default List<String> promoteWaitlist(UUID eventId, int heldSeats) {
+        List<String> promoted = promoteFirstInLine(eventId, heldSeats);
+        if (!promoted.isEmpty()) {
+            evictEventAfterCommit(eventId);
+        }
+        return promoted;
+    }
+
+    /**
+     * Promove os primeiros da fila que couberem no evento; usado por {@link #promoteWaitlist(UUID, int)}.
+     * <p>
+     * Um único comando com CTEs encadeadas: {@code free} bloqueia a linha do evento
+     * ({@code FOR NO KEY UPDATE}, que não conflita com as chaves estrangeiras das inscrições) e
+     * calcula as vagas livres com o contador mais recente; {@code promoted} remove da fila os
+     * primeiros participantes ainda não inscritos, pelo índice {@code (event_id, id)};
+     * {@code subscribed} cria as inscrições; e {@code counted} soma os promovidos ao contador e
+     * incrementa a versão do evento, invalidando o ETag e as escritas concorrentes feitas com a
+     * versão antiga. Como a linha é bloqueada antes da contagem, promoções concorrentes do mesmo
+     * evento são serializadas e nunca ultrapassam a capacidade.
+     * <p>
+     * Como em {@link JpaSubscriptionRepository#insertGroup}, o comando roda como consulta: as tabelas
+     * alteradas são declaradas ao Hibernate, e {@link #promoteWaitlist} invalida o evento no cache.
+     *
+     * @return Os e-mails dos participantes promovidos, na ordem da fila.
+     */
+    @Transactional
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "waitlist"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "subscription"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event")
+    })
+    @Query(value = """
+            WITH free AS (
+                SELECT e.max_participants - e.registered_participants - :heldSeats AS seats
+                FROM event e
+                WHERE e.id = :eventId AND e.status = 'ACTIVE'
+                FOR NO KEY UPDATE
+            ), promoted AS (
+                DELETE FROM waitlist w
+                WHERE w.id IN (
+                    SELECT c.id FROM waitlist c
+                    WHERE c.event_id = :eventId
+                      AND NOT EXISTS (SELECT 1 FROM subscription s
+                                      WHERE s.event_id = c.event_id AND s.participant_email = c.participant_email)
+                    ORDER BY c.id
+                    LIMIT COALESCE((SELECT GREATEST(f.seats, 0) FROM free f), 0)
+                )
+                RETURNING w.id, w.participant_email
+            ), subscribed AS (
+                INSERT INTO subscription (event_id, participant_email, created_at)
+                SELECT :eventId, p.participant_email, now() FROM promoted p ORDER BY p.id
+                RETURNING id, participant_email
+            ), counted AS (
+                UPDATE event
+                SET registered_participants = registered_participants + (SELECT count(*) FROM subscribed),
+                    version = version + 1,
+                    updated_at = now()
+                WHERE id = :eventId AND EXISTS (SELECT 1 FROM subscribed)
+            )
+            SELECT participant_email FROM subscribed ORDER BY id
+            """, nativeQuery = true)
+    List<String> promoteFirstInLine(@Param("eventId") UUID eventId, @Param("heldSeats") int heldSeats);
+}
@@ -0,0 +1,216 @@
+package com.Samuel.event_microservice.infrastructure.responsecache;
+
+import com.Samuel.event_microservice.infrastructure.responsecache.SerializedResponseCache.CachedResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Filtro que serve as listagens de eventos mais requisitadas a partir de respostas já serializadas
+ * ({@link SerializedResponseCache}), sem passar pelo Spring MVC, pelo banco nem pelo Jackson.
+ * <p>
+ * A chave é o caminho e os parâmetros normalizados: em ordem alfabética, sem {@code page=0}, sem
+ * o tamanho de página padrão e com a direção explícita na ordenação. Uma resposta guardada é
+ * escrita direto na saída, na versão gzip se o cliente a aceitar ({@code Accept-Encoding} com
+ * {@code gzip} ou {@code *} e peso maior que zero), e responde {@code 304} ao {@code If-None-Match}
+ * com o mesmo ETag. A versão gzip tem um ETag próprio (o guardado com o sufixo {@code -gzip}),
+ * para que um cache intermediário não troque uma representação pela outra. Uma escrita em {@code /events} nesta instância invalida
+ * o cache apenas quando é confirmada, ou seja, quando responde {@code 2xx}: uma escrita rejeitada
+ * não alterou nada, e uma aceita para processamento posterior ({@code 202}) ainda não alterou; as
+ * demais alterações aparecem em até um TTL. Os acertos e as faltas são
+ * publicados na métrica {@code http.response-cache.requests} (tag {@code result}).
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    // Chaves maiores vêm de combinações de filtros que dificilmente se repetem
+    private static final int MAX_KEY_LENGTH = 512;
+
+    private final SerializedResponseCache cache;
+    private final Set<String> paths;
+    private final String defaultPageSize;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseCacheFilter(SerializedResponseCache cache, Collection<String> paths, int defaultPageSize,
+                               MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.paths = Set.copyOf(paths);
+        this.defaultPageSize = String.valueOf(defaultPageSize);
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            // A entrada na sala de espera não altera nenhum evento
+            if (isCommittedChange(response.getStatus()) && !path.endsWith("/waiting-room")) {
+                cache.invalidateAll();
+            }
+            return;
+        }
+        if (!"GET".equals(request.getMethod()) || !paths.contains(path)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = keyOf(path, request.getParameterMap());
+        if (key.length() > MAX_KEY_LENGTH) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            write(cached, request, response);
+            return;
+        }
+        misses.increment();
+        long generation = cache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpStatus.OK.value()) {
+                cache.put(key, generation, wrapper.getContentType(), wrapper.getHeader(HttpHeaders.ETAG),
+                        wrapper.getContentAsByteArray());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Se a resposta indica uma alteração já confirmada: sucesso, exceto {@code 202 Accepted}.
+     */
+    private static boolean isCommittedChange(int status) {
+        return HttpStatus.valueOf(status).is2xxSuccessful() && status != HttpStatus.ACCEPTED.value();
+    }
+
+    private void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? gzipETag(cached.eTag()) : cached.eTag();
+        if (eTag != null && new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            return;
+        }
+        byte[] body = cached.body();
+        if (gzip) {
+            body = cached.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Se o {@code Accept-Encoding} aceita gzip: {@code gzip} (ou {@code x-gzip}) com peso maior que
+     * zero, ou, sem menção a gzip, {@code *} com peso maior que zero. Um peso inválido conta como zero.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQuality = -1;
+        double anyQuality = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzipQuality = Math.max(gzipQuality, quality(parts));
+            } else if ("*".equals(coding)) {
+                anyQuality = Math.max(anyQuality, quality(parts));
+            }
+        }
+        return gzipQuality >= 0 ? gzipQuality > 0 : anyQuality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * O ETag da versão gzip: o ETag guardado com o sufixo {@code -gzip} dentro das aspas.
+     */
+    static String gzipETag(String eTag) {
+        if (eTag == null) {
+            return null;
+        }
+        return eTag.endsWith("\"")
+                ? eTag.substring(0, eTag.length() - 1) + "-gzip\""
+                : eTag + "-gzip";
+    }
+
+    /**
+     * A chave normalizada da requisição, para que a mesma página pedida de formas diferentes
+     * (ex: com ou sem {@code page=0}) seja guardada uma única vez.
+     */
+    String keyOf(String path, Map<String, String[]> parameters) {
+        Map<String, String> normalized = new TreeMap<>();
+        parameters.forEach((name, values) -> {
+            if ("page".equals(name) && values.length == 1 && "0".equals(values[0])) {
+                return;
+            }
+            if ("size".equals(name) && values.length == 1 && defaultPageSize.equals(values[0])) {
+                return;
+            }
+            String[] normalizedValues = "sort".equals(name)
+                    ? Arrays.stream(values).map(ResponseCacheFilter::normalizeSort).toArray(String[]::new)
+                    : values;
+            normalized.put(name, String.join("&" + name + "=", normalizedValues));
+        });
+        StringBuilder key = new StringBuilder(path);
+        char separator = '?';
+        for (Map.Entry<String, String> parameter : normalized.entrySet()) {
+            key.append(separator).append(parameter.getKey()).append('=').append(parameter.getValue());
+            separator = '&';
+        }
+        return key.toString();
+    }
+
+    private static String normalizeSort(String sort) {
+        int comma = sort.lastIndexOf(',');
+        if (comma < 0) {
+            return sort + ",asc";
+        }
+        return sort.substring(0, comma + 1) + sort.substring(comma + 1).toLowerCase();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("http.response-cache.requests")
+                .description("Requisições às listagens guardadas, por resultado no cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,127 @@
+package com.Samuel.event_microservice.infrastructure.responsecache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Guarda respostas já serializadas (os bytes do JSON e a sua versão gzip), para que sejam
+ * servidas sem consultar o banco nem serializar de novo.
+ * <p>
+ * Cada resposta vale até o fim do seu TTL ou até a próxima invalidação. A invalidação avança uma
+ * geração: uma resposta calculada antes dela e gravada depois é descartada, então a alteração
+ * que causou a invalidação nunca é encoberta por uma página antiga.
+ */
+public class SerializedResponseCache {
+
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    public SerializedResponseCache(Duration ttl, int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    SerializedResponseCache(Duration ttl, int maxEntries, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * A geração atual, a ser lida antes de calcular a resposta e informada em {@link #put}.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Busca uma resposta ainda válida.
+     *
+     * @param key A chave normalizada da requisição.
+     * @return A resposta guardada, ou {@code null} se não houver uma válida.
+     */
+    public CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.generation() != generation.get() || nanoClock.getAsLong() - cached.expiresAtNanos() >= 0) {
+            entries.remove(key, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Guarda uma resposta, a menos que o cache tenha sido invalidado desde que ela começou a ser
+     * calculada. Com o cache cheio, as respostas expiradas são removidas; se nenhuma o for, a
+     * nova resposta não é guardada.
+     *
+     * @param key A chave normalizada da requisição.
+     * @param generation A geração lida antes de calcular a resposta.
+     * @param contentType O Content-Type da resposta.
+     * @param eTag O ETag da resposta, se houver.
+     * @param body O corpo da resposta.
+     */
+    public void put(String key, long generation, String contentType, String eTag, byte[] body) {
+        if (generation != this.generation.get()) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            entries.values().removeIf(cached -> cached.generation() != this.generation.get() || now - cached.expiresAtNanos() >= 0);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(key, new CachedResponse(contentType, eTag, body, gzip(body), generation, now + ttlNanos));
+    }
+
+    /**
+     * Invalida todas as respostas guardadas.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * O número de respostas guardadas.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(32, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Uma resposta guardada.
+     *
+     * @param contentType O Content-Type da resposta.
+     * @param eTag O ETag da resposta, se houver.
+     * @param body O corpo da resposta.
+     * @param gzipBody O corpo comprimido com gzip.
+     * @param generation A geração em que a resposta foi calculada.
+     * @param expiresAtNanos Até quando a resposta é válida, no relógio do cache.
+     */
+    public record CachedResponse(String contentType, String eTag, byte[] body, byte[] gzipBody, long generation,
+                                 long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.Samuel.event_microservice.infrastructure.scheduler;
+
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.EntityCacheProperties;
+import com.Samuel.event_microservice.infrastructure.entitycache.EventCacheInvalidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Remove do cache de segundo nível desta instância os eventos alterados por outras instâncias.
+ * <p>
+ * Cada instância tem o seu próprio cache em memória, e o Hibernate só invalida as alterações feitas
+ * por ela mesma. Periodicamente, os eventos cuja coluna {@code updated_at} é posterior à busca
+ * anterior, menos {@code app.entity-cache.invalidation-lookback}, são removidos do cache, junto com
+ * os resultados guardados das listagens. A mesma busca também descarta o estado antigo guardado
+ * a partir de uma réplica atrasada.
+ * <p>
+ * A métrica {@code events.entity-cache.invalidated} indica quantos eventos foram removidos.
+ */
+@Service
+public class EventCacheInvalidationService {
+
+    private final EventRepositoryPort eventRepository;
+    private final EventCacheInvalidator eventCacheInvalidator;
+    private final Duration lookback;
+    private final Clock clock;
+    private final Counter invalidated;
+    private Instant lastRun;
+
+    @Autowired
+    public EventCacheInvalidationService(EventRepositoryPort eventRepository,
+                                         EventCacheInvalidator eventCacheInvalidator,
+                                         EntityCacheProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this(eventRepository, eventCacheInvalidator, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    EventCacheInvalidationService(EventRepositoryPort eventRepository,
+                                  EventCacheInvalidator eventCacheInvalidator,
+                                  EntityCacheProperties properties,
+                                  MeterRegistry meterRegistry,
+                                  Clock clock) {
+        this.eventRepository = eventRepository;
+        this.eventCacheInvalidator = eventCacheInvalidator;
+        this.lookback = properties.getInvalidationLookback();
+        this.clock = clock;
+        this.invalidated = Counter.builder("events.entity-cache.invalidated")
+                .description("Eventos alterados por outras instâncias removidos do cache de segundo nível")
+                .register(meterRegistry);
+        // Na primeira busca, cobre as alterações feitas enquanto esta instância iniciava
+        this.lastRun = clock.instant();
+    }
+
+    /**
+     * Remove do cache os eventos alterados desde a busca anterior.
+     *
+     * @return O número de eventos removidos.
+     */
+    @Scheduled(fixedDelayString = "${app.entity-cache.invalidation-interval:5s}",
+            initialDelayString = "${app.entity-cache.invalidation-interval:5s}")
+    public int invalidate() {
+        Instant now = clock.instant();
+        List<UUID> changed = eventRepository.findIdsUpdatedSince(lastRun.minus(lookback));
+        lastRun = now;
+
+        eventCacheInvalidator.evict(changed);
+        invalidated.increment(changed.size());
+        return changed.size();
+    }
+}
@@ -0,0 +1,70 @@
+package com.Samuel.event_microservice.infrastructure.scheduler;
+
+import com.Samuel.event_microservice.core.data.EventStatusTotals;
+import com.Samuel.event_microservice.core.models.EventStats;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.core.ports.EventStatsRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recalcula periodicamente os contadores de {@code event_stats} com um único GROUP BY sobre a
+ * tabela de eventos e informa a diferença (drift) em relação aos valores mantidos pelas transições.
+ * <p>
+ * As linhas de contadores são bloqueadas antes do agrupamento: uma transição que ainda não ajustou
+ * os contadores espera o fim da reconciliação e aplica o seu ajuste sobre os valores recalculados;
+ * uma que já os ajustou é aguardada, e a sua alteração no evento já aparece no agrupamento.
+ * <p>
+ * O número de eventos de cada status não deveria divergir; uma diferença indica uma transição que
+ * não passou pelos contadores e é registrada como aviso. Já a soma dos participantes diverge
+ * normalmente entre duas execuções, porque as inscrições não alteram a tabela de contadores
+ * (uma linha por status seria disputada por todas as inscrições).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventStatsReconciliationService {
+
+    private final EventRepositoryPort eventRepository;
+    private final EventStatsRepositoryPort eventStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${app.event-stats.reconciliation-interval:1m}",
+            initialDelayString = "${app.event-stats.reconciliation-interval:1m}")
+    public void reconcile() {
+        transactionTemplate.executeWithoutResult(status -> reconcileLocked());
+    }
+
+    private void reconcileLocked() {
+        List<EventStats> current = eventStatsRepository.findAllForUpdate();
+        Map<EventStatus, EventStatusTotals> recomputed = new EnumMap<>(EventStatus.class);
+        eventRepository.countEventsByStatus().forEach(totals -> recomputed.put(totals.status(), totals));
+
+        for (EventStats stats : current) {
+            EventStatusTotals totals = recomputed.remove(stats.getStatus());
+            long eventCount = totals == null ? 0 : totals.eventCount();
+            long registeredParticipants = totals == null ? 0 : totals.registeredParticipants();
+
+            if (eventCount != stats.getEventCount()) {
+                log.warn("Event stats drifted for status {}: {} events counted, {} recorded.",
+                        stats.getStatus(), eventCount, stats.getEventCount());
+            }
+            if (registeredParticipants != stats.getRegisteredParticipants()) {
+                log.debug("Registered participants of status {} updated from {} to {}.",
+                        stats.getStatus(), stats.getRegisteredParticipants(), registeredParticipants);
+            }
+            if (eventCount != stats.getEventCount() || registeredParticipants != stats.getRegisteredParticipants()) {
+                eventStatsRepository.overwrite(stats.getStatus(), eventCount, registeredParticipants);
+            }
+        }
+        recomputed.keySet().forEach(missing -> log.warn("No event stats row for status {}; its events are not counted.", missing));
+    }
+}
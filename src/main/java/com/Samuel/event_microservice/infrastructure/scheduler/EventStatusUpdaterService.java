@@ -1,7 +1,10 @@
 package com.Samuel.event_microservice.infrastructure.scheduler;
 
 import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.models.EventStatus;
 import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.core.ports.EventStatsRepositoryPort;
+import com.Samuel.event_microservice.core.ports.EventSuggestionIndexPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -17,6 +20,8 @@ import java.util.List;
 public class EventStatusUpdaterService {
 
     private final EventRepositoryPort eventRepository;
+    private final EventStatsRepositoryPort eventStatsRepository;
+    private final EventSuggestionIndexPort eventSuggestionIndex;
     private final TransactionTemplate transactionTemplate;
 
     @Scheduled(fixedRate = 3600000)
@@ -41,8 +46,11 @@ public class EventStatusUpdaterService {
                     Event managedEvent = eventRepository.findById(event.getId()).orElse(null);
                     if (managedEvent == null) return null;
 
+                    EventStatus previousStatus = managedEvent.getStatus();
                     managedEvent.finish();
                     eventRepository.save(managedEvent);
+                    eventStatsRepository.recordTransition(previousStatus, EventStatus.FINISHED, managedEvent.getRegisteredParticipants());
+                    eventSuggestionIndex.remove(managedEvent.getId());
                     log.info("Event with ID {} marked as FINISHED.", managedEvent.getId());
                 } catch (Exception e) {
                     log.error("Failed to update status for event {}: {}", event.getId(), e.getMessage());
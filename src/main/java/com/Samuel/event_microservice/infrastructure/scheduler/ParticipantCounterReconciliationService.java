@@ -0,0 +1,98 @@
+package com.Samuel.event_microservice.infrastructure.scheduler;
+
+import com.Samuel.event_microservice.core.data.ParticipantCounterCheck;
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.ParticipantCounterReconciliationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compara periodicamente o contador {@code registered_participants} de cada evento com o número de
+ * inscrições gravadas e corrige os contadores divergentes.
+ * <p>
+ * Os eventos são percorridos em blocos de {@code app.participant-counters.reconciliation.chunk-size},
+ * pela chave primária; cada bloco é lido por um único comando, em uma transação curta, e apenas os
+ * eventos divergentes recebem uma atualização. A correção só é gravada se o contador ainda tiver o
+ * valor comparado, então nunca desfaz uma inscrição concorrente.
+ * <p>
+ * As métricas {@code events.participant-counters.reconciled} (tag {@code result}: {@code checked},
+ * {@code drifted} ou {@code repaired}) indicam quantos eventos foram comparados, quantos divergiam
+ * e quantos foram corrigidos.
+ */
+@Service
+@Slf4j
+public class ParticipantCounterReconciliationService {
+
+    // Menor UUID possível: o primeiro bloco começa no primeiro evento
+    private static final UUID FIRST_EVENT = new UUID(0, 0);
+
+    private final EventRepositoryPort eventRepository;
+    private final int chunkSize;
+    private final Counter checked;
+    private final Counter drifted;
+    private final Counter repaired;
+
+    public ParticipantCounterReconciliationService(EventRepositoryPort eventRepository,
+                                                   ParticipantCounterReconciliationProperties properties,
+                                                   MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.chunkSize = properties.getChunkSize();
+        this.checked = counter(meterRegistry, "checked");
+        this.drifted = counter(meterRegistry, "drifted");
+        this.repaired = counter(meterRegistry, "repaired");
+    }
+
+    /**
+     * Percorre todos os eventos e corrige os contadores divergentes.
+     *
+     * @return O número de contadores corrigidos.
+     */
+    @Scheduled(fixedDelayString = "${app.participant-counters.reconciliation.interval:5m}",
+            initialDelayString = "${app.participant-counters.reconciliation.interval:5m}")
+    public int reconcile() {
+        UUID afterId = FIRST_EVENT;
+        int driftedEvents = 0;
+        int repairedEvents = 0;
+        List<ParticipantCounterCheck> chunk;
+        do {
+            chunk = eventRepository.findParticipantCounters(afterId, chunkSize);
+            for (ParticipantCounterCheck check : chunk) {
+                if (!check.isDrifted()) {
+                    continue;
+                }
+                driftedEvents++;
+                drifted.increment();
+                log.warn("Registered participants counter of event {} drifted: {} recorded, {} subscriptions.",
+                        check.getId(), check.getRecorded(), check.getActual());
+                if (eventRepository.repairRegisteredParticipants(check.getId(), check.getRecorded()) == 1) {
+                    repairedEvents++;
+                    repaired.increment();
+                } else {
+                    log.debug("Counter of event {} changed during reconciliation; it will be checked again.", check.getId());
+                }
+            }
+            checked.increment(chunk.size());
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == chunkSize);
+
+        if (driftedEvents > 0) {
+            log.info("Repaired {} of {} drifted registered participants counters.", repairedEvents, driftedEvents);
+        }
+        return repairedEvents;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("events.participant-counters.reconciled")
+                .description("Eventos verificados pela reconciliação do contador de participantes, por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
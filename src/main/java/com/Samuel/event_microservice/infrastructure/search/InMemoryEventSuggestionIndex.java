@@ -0,0 +1,389 @@
+package com.Samuel.event_microservice.infrastructure.search;
+
+import com.Samuel.event_microservice.core.data.EventSuggestion;
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.core.ports.EventSuggestionIndexPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de prefixos em memória para o autocompletar de títulos de eventos.
+ * <p>
+ * Os títulos normalizados ficam em um array ordenado, e os demais dados em arrays
+ * paralelos de tipos primitivos. Um prefixo corresponde a um intervalo contíguo do array,
+ * encontrado por busca binária; os k eventos mais próximos desse intervalo são extraídos
+ * por uma árvore de segmentos de mínimos sobre as datas de início, em O(k log n),
+ * independentemente de quantos títulos compartilham o prefixo.
+ * <p>
+ * As leituras não usam lock: cada escrita produz um novo {@link Snapshot} imutável
+ * (cópia O(n)), publicado por uma referência volátil. Escritas feitas dentro de uma
+ * transação só são aplicadas após o commit. O índice é construído quando a aplicação
+ * sobe e reconstruído periodicamente, o que também incorpora alterações feitas por
+ * outras instâncias.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryEventSuggestionIndex implements EventSuggestionIndexPort {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final EventRepositoryPort eventRepository;
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // Escritas ocorridas durante uma reconstrução, reaplicadas sobre o novo snapshot (guardado por writeLock)
+    private List<UnaryOperator<Snapshot>> mutationsDuringRebuild;
+
+    /**
+     * Constrói o índice quando a aplicação termina de subir.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reconstrói o índice periodicamente a partir do banco de dados.
+     */
+    @Scheduled(fixedDelayString = "${app.suggestions.rebuild-interval:10m}",
+            initialDelayString = "${app.suggestions.rebuild-interval:10m}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Reconstrói o índice com os eventos ativos e futuros do banco de dados.
+     */
+    public void rebuild() {
+        synchronized (writeLock) {
+            mutationsDuringRebuild = new ArrayList<>();
+        }
+        try {
+            List<EventSuggestion> suggestions = eventRepository.findUpcomingEventSuggestions(LocalDateTime.now());
+            synchronized (writeLock) {
+                Snapshot rebuilt = Snapshot.of(suggestions);
+                for (UnaryOperator<Snapshot> mutation : mutationsDuringRebuild) {
+                    rebuilt = mutation.apply(rebuilt);
+                }
+                snapshot = rebuilt;
+            }
+            log.info("Event suggestion index built with {} events.", snapshot.size());
+        } catch (Exception e) {
+            log.error("Failed to rebuild event suggestion index: {}", e.getMessage());
+        } finally {
+            synchronized (writeLock) {
+                mutationsDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void upsert(Event event) {
+        UUID eventId = event.getId();
+        if (event.getStatus() != EventStatus.ACTIVE || !event.getStartDateTime().isAfter(LocalDateTime.now())) {
+            remove(eventId);
+            return;
+        }
+        EventSuggestion suggestion = new EventSuggestion(eventId, event.getTitle(), event.getStartDateTime());
+        String key = normalize(suggestion.title());
+        afterCommit(() -> apply(current -> current.with(key, suggestion)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(UUID eventId) {
+        afterCommit(() -> apply(current -> current.without(eventId)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EventSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        long now = Snapshot.toStartKey(LocalDateTime.now());
+        int from = current.lowerBound(key);
+        int to = current.lowerBound(key + Character.MAX_VALUE);
+
+        // Cada elemento é um intervalo {início, fim, posição do menor início}; o heap devolve
+        // os intervalos pela menor data de início, e cada posição extraída divide o seu intervalo em dois.
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(Comparator.comparingLong(range -> current.starts[range[2]]));
+        current.pushRange(ranges, from, to);
+        List<EventSuggestion> result = new ArrayList<>(limit);
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int position = range[2];
+            if (current.starts[position] > now) {
+                result.add(current.suggestionAt(position));
+            } // Senão já começou; sai do índice na próxima reconstrução ou finalização
+            current.pushRange(ranges, range[0], position);
+            current.pushRange(ranges, position + 1, range[1]);
+        }
+        return result;
+    }
+
+    /**
+     * @return O número de eventos no índice.
+     */
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * Normaliza um título para comparação: sem acentos, em minúsculas e com espaços colapsados.
+     *
+     * @param text O texto original.
+     * @return O texto normalizado.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutDiacritics = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(withoutDiacritics.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    private void apply(UnaryOperator<Snapshot> mutation) {
+        synchronized (writeLock) {
+            snapshot = mutation.apply(snapshot);
+            if (mutationsDuringRebuild != null) {
+                mutationsDuringRebuild.add(mutation);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Estado imutável do índice: chaves normalizadas ordenadas e, nas mesmas posições, os dados
+     * de cada evento em arrays primitivos (o UUID em dois {@code long} e a data de início em
+     * nanossegundos desde a época), além da árvore de segmentos de mínimos sobre as datas.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0], new String[0], new long[0], new long[0], new long[0]);
+
+        final String[] keys;
+        final String[] titles;
+        final long[] idMostSignificantBits;
+        final long[] idLeastSignificantBits;
+        final long[] starts;
+        // minTree[size + i] = i; minTree[p] = posição do menor início entre os filhos de p
+        private final int[] minTree;
+
+        private Snapshot(String[] keys, String[] titles, long[] idMostSignificantBits,
+                         long[] idLeastSignificantBits, long[] starts) {
+            this.keys = keys;
+            this.titles = titles;
+            this.idMostSignificantBits = idMostSignificantBits;
+            this.idLeastSignificantBits = idLeastSignificantBits;
+            this.starts = starts;
+            this.minTree = buildMinTree(starts);
+        }
+
+        static Snapshot of(List<EventSuggestion> suggestions) {
+            int size = suggestions.size();
+            String[] normalizedKeys = new String[size];
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                normalizedKeys[i] = normalize(suggestions.get(i).title());
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(i -> normalizedKeys[i]));
+
+            String[] keys = new String[size];
+            String[] titles = new String[size];
+            long[] mostSignificantBits = new long[size];
+            long[] leastSignificantBits = new long[size];
+            long[] starts = new long[size];
+            for (int i = 0; i < size; i++) {
+                EventSuggestion suggestion = suggestions.get(order[i]);
+                keys[i] = normalizedKeys[order[i]];
+                titles[i] = suggestion.title();
+                mostSignificantBits[i] = suggestion.id().getMostSignificantBits();
+                leastSignificantBits[i] = suggestion.id().getLeastSignificantBits();
+                starts[i] = toStartKey(suggestion.startDateTime());
+            }
+            return new Snapshot(keys, titles, mostSignificantBits, leastSignificantBits, starts);
+        }
+
+        static long toStartKey(LocalDateTime dateTime) {
+            return dateTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + dateTime.getNano();
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        EventSuggestion suggestionAt(int position) {
+            LocalDateTime start = LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(starts[position], NANOS_PER_SECOND),
+                    (int) Math.floorMod(starts[position], NANOS_PER_SECOND),
+                    ZoneOffset.UTC);
+            UUID id = new UUID(idMostSignificantBits[position], idLeastSignificantBits[position]);
+            return new EventSuggestion(id, titles[position], start);
+        }
+
+        /**
+         * @return A primeira posição cuja chave é maior ou igual à chave informada.
+         */
+        int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Adiciona ao heap o intervalo [from, to), junto com a posição do seu menor início.
+         */
+        void pushRange(PriorityQueue<int[]> ranges, int from, int to) {
+            if (from < to) {
+                ranges.add(new int[]{from, to, minPosition(from, to)});
+            }
+        }
+
+        private int minPosition(int from, int to) {
+            int best = -1;
+            for (int low = from + size(), high = to + size(); low < high; low >>>= 1, high >>>= 1) {
+                if ((low & 1) == 1) {
+                    best = earlier(best, minTree[low++]);
+                }
+                if ((high & 1) == 1) {
+                    best = earlier(best, minTree[--high]);
+                }
+            }
+            return best;
+        }
+
+        private int earlier(int left, int right) {
+            if (left < 0) {
+                return right;
+            }
+            // Em caso de empate, a menor posição (ordem alfabética) vence
+            return starts[right] < starts[left] || (starts[right] == starts[left] && right < left) ? right : left;
+        }
+
+        private int[] buildMinTree(long[] starts) {
+            int size = starts.length;
+            int[] tree = new int[2 * size];
+            for (int i = 0; i < size; i++) {
+                tree[size + i] = i;
+            }
+            for (int node = size - 1; node > 0; node--) {
+                int left = tree[2 * node];
+                int right = tree[2 * node + 1];
+                tree[node] = starts[right] < starts[left] || (starts[right] == starts[left] && right < left) ? right : left;
+            }
+            return tree;
+        }
+
+        Snapshot with(String key, EventSuggestion suggestion) {
+            Snapshot base = without(suggestion.id());
+            int position = base.lowerBound(key);
+            return new Snapshot(
+                    insert(base.keys, position, key),
+                    insert(base.titles, position, suggestion.title()),
+                    insert(base.idMostSignificantBits, position, suggestion.id().getMostSignificantBits()),
+                    insert(base.idLeastSignificantBits, position, suggestion.id().getLeastSignificantBits()),
+                    insert(base.starts, position, toStartKey(suggestion.startDateTime())));
+        }
+
+        Snapshot without(UUID eventId) {
+            long mostSignificantBits = eventId.getMostSignificantBits();
+            long leastSignificantBits = eventId.getLeastSignificantBits();
+            for (int i = 0; i < size(); i++) {
+                if (idMostSignificantBits[i] == mostSignificantBits && idLeastSignificantBits[i] == leastSignificantBits) {
+                    return new Snapshot(
+                            delete(keys, i),
+                            delete(titles, i),
+                            delete(idMostSignificantBits, i),
+                            delete(idLeastSignificantBits, i),
+                            delete(starts, i));
+                }
+            }
+            return this;
+        }
+
+        private static String[] insert(String[] source, int position, String value) {
+            String[] target = new String[source.length + 1];
+            System.arraycopy(source, 0, target, 0, position);
+            target[position] = value;
+            System.arraycopy(source, position, target, position + 1, source.length - position);
+            return target;
+        }
+
+        private static long[] insert(long[] source, int position, long value) {
+            long[] target = new long[source.length + 1];
+            System.arraycopy(source, 0, target, 0, position);
+            target[position] = value;
+            System.arraycopy(source, position, target, position + 1, source.length - position);
+            return target;
+        }
+
+        private static String[] delete(String[] source, int position) {
+            String[] target = new String[source.length - 1];
+            System.arraycopy(source, 0, target, 0, position);
+            System.arraycopy(source, position + 1, target, position, source.length - position - 1);
+            return target;
+        }
+
+        private static long[] delete(long[] source, int position) {
+            long[] target = new long[source.length - 1];
+            System.arraycopy(source, 0, target, 0, position);
+            System.arraycopy(source, position + 1, target, position, source.length - position - 1);
+            return target;
+        }
+    }
+}
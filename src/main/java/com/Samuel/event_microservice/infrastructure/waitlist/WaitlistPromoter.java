@@ -0,0 +1,155 @@
+package com.Samuel.event_microservice.infrastructure.waitlist;
+
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.ports.EventNotificationPort;
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.core.ports.SeatHoldRegistryPort;
+import com.Samuel.event_microservice.core.ports.WaitlistPromotionPort;
+import com.Samuel.event_microservice.core.ports.WaitlistRepositoryPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Promove a lista de espera dos eventos que tiveram vagas abertas.
+ * <p>
+ * A promoção roda depois do commit da transação que abriu as vagas, em uma thread própria
+ * e em uma transação curta com um único comando ({@link WaitlistRepositoryPort#promoteWaitlist}),
+ * de modo que a linha do evento fica bloqueada apenas durante esse comando. Pedidos para um
+ * evento que já tem uma promoção na fila são agrupados: uma rajada de vagas abertas resulta em
+ * poucas promoções, cada uma preenchendo todas as vagas livres no momento.
+ * <p>
+ * Os e-mails de confirmação dos promovidos são enviados pelo {@link EventNotificationPort} sem
+ * esperar o envio, para que um serviço de e-mail lento não atrase as promoções seguintes.
+ */
+@Component
+@Slf4j
+public class WaitlistPromoter implements WaitlistPromotionPort {
+
+    private final WaitlistRepositoryPort waitlistRepository;
+    private final EventRepositoryPort eventRepository;
+    private final SeatHoldRegistryPort seatHoldRegistry;
+    private final EventNotificationPort eventNotificationPort;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor promotionExecutor;
+
+    // Eventos com promoção na fila e ainda não iniciada
+    private final Set<UUID> pendingEvents = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public WaitlistPromoter(WaitlistRepositoryPort waitlistRepository, EventRepositoryPort eventRepository,
+                            SeatHoldRegistryPort seatHoldRegistry, EventNotificationPort eventNotificationPort,
+                            PlatformTransactionManager transactionManager) {
+        this(waitlistRepository, eventRepository, seatHoldRegistry, eventNotificationPort, new TransactionTemplate(transactionManager),
+                Executors.newSingleThreadExecutor(daemonThreads("waitlist-promoter")));
+    }
+
+    WaitlistPromoter(WaitlistRepositoryPort waitlistRepository, EventRepositoryPort eventRepository,
+                     SeatHoldRegistryPort seatHoldRegistry, EventNotificationPort eventNotificationPort,
+                     TransactionTemplate transactionTemplate, Executor promotionExecutor) {
+        this.waitlistRepository = waitlistRepository;
+        this.eventRepository = eventRepository;
+        this.seatHoldRegistry = seatHoldRegistry;
+        this.eventNotificationPort = eventNotificationPort;
+        this.transactionTemplate = transactionTemplate;
+        this.promotionExecutor = promotionExecutor;
+    }
+
+    /**
+     * Promove a lista de espera sempre que reservas de vagas expiram.
+     */
+    @PostConstruct
+    public void listenToExpiredHolds() {
+        seatHoldRegistry.addExpiryListener(this::promoteAfterCommit);
+    }
+
+    @PreDestroy
+    public void stop() {
+        shutdown(promotionExecutor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void promoteAfterCommit(UUID eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule(eventId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(eventId);
+            }
+        });
+    }
+
+    private void schedule(UUID eventId) {
+        if (!pendingEvents.add(eventId)) {
+            return; // A promoção já na fila vai considerar também estas vagas
+        }
+        promotionExecutor.execute(() -> {
+            // Sai da fila antes de promover: vagas abertas durante a promoção agendam outra rodada
+            pendingEvents.remove(eventId);
+            promote(eventId);
+        });
+    }
+
+    /**
+     * Promove os primeiros da fila do evento e envia as notificações dos promovidos.
+     *
+     * @param eventId O UUID do evento.
+     */
+    void promote(UUID eventId) {
+        try {
+            int heldSeats = seatHoldRegistry.activeHolds(eventId);
+            List<String> promoted = transactionTemplate.execute(status -> waitlistRepository.promoteWaitlist(eventId, heldSeats));
+            if (promoted == null || promoted.isEmpty()) {
+                return;
+            }
+            log.info("Promoted {} participants from the waitlist of event {}.", promoted.size(), eventId);
+
+            Optional<Event> event = eventRepository.findById(eventId);
+            if (event.isEmpty()) {
+                log.warn("Event {} not found when notifying promoted participants.", eventId);
+                return;
+            }
+            for (String participantEmail : promoted) {
+                eventNotificationPort.sendRegistrationConfirmation(event.get(), participantEmail);
+            }
+        } catch (Exception e) {
+            log.error("Failed to promote the waitlist of event {}: {}", eventId, e.getMessage());
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void shutdown(Executor executor) {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+}
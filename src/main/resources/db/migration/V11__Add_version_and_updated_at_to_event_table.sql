@@ -0,0 +1,8 @@
+-- Coluna de versão para o bloqueio otimista (@Version) e para os ETags das respostas.
+ALTER TABLE event
+ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Data da última alteração, usada no cabeçalho Last-Modified.
+-- Eventos existentes (e inserções feitas fora da aplicação) recebem a data da migração.
+ALTER TABLE event
+ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT NOW();
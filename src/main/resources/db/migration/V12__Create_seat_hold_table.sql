@@ -0,0 +1,11 @@
+-- Reservas temporárias de vagas. A fonte de verdade durante a execução é o registro em memória;
+-- esta tabela é apenas o espelho usado para restaurar as reservas ainda válidas após um reinício.
+-- A unicidade por (evento, participante) é garantida pelo registro em memória.
+CREATE TABLE seat_hold (
+    id UUID PRIMARY KEY,
+    event_id UUID NOT NULL,
+    participant_email VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_seat_hold_event FOREIGN KEY (event_id) REFERENCES event(id) ON DELETE CASCADE
+);
@@ -0,0 +1,13 @@
+-- Lista de espera de eventos lotados. A ordem de chegada é a ordem do id, e o índice
+-- (event_id, id) permite ler os próximos da fila de um evento sem ordenação.
+CREATE TABLE waitlist (
+    id BIGSERIAL PRIMARY KEY,
+    event_id UUID NOT NULL,
+    participant_email VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_waitlist_event FOREIGN KEY (event_id) REFERENCES event(id) ON DELETE CASCADE,
+    CONSTRAINT uk_waitlist_event_participant UNIQUE (event_id, participant_email)
+);
+
+CREATE INDEX IF NOT EXISTS idx_waitlist_event_id
+    ON waitlist (event_id, id);
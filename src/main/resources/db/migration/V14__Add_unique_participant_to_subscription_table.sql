@@ -0,0 +1,20 @@
+-- Um participante só pode ter uma inscrição por evento. A restrição permite inserir inscrições
+-- em lote com detecção de conflito (ON CONFLICT DO NOTHING) e também sustenta a busca da
+-- inscrição de um participante em um evento.
+
+-- Remove eventuais inscrições duplicadas, mantendo a mais antiga, e devolve as vagas contadas em dobro.
+WITH duplicates AS (
+    DELETE FROM subscription s
+    USING subscription o
+    WHERE s.event_id = o.event_id
+      AND s.participant_email = o.participant_email
+      AND s.id > o.id
+    RETURNING s.id, s.event_id
+)
+UPDATE event e
+SET registered_participants = GREATEST(e.registered_participants - d.removed, 0)
+FROM (SELECT event_id, count(*) AS removed FROM duplicates GROUP BY event_id) d
+WHERE e.id = d.event_id;
+
+ALTER TABLE subscription
+ADD CONSTRAINT uk_subscription_event_participant UNIQUE (event_id, participant_email);
@@ -0,0 +1,15 @@
+-- Respostas das requisições enviadas com o cabeçalho Idempotency-Key. Uma nova tentativa com a
+-- mesma chave recebe a resposta gravada, sem executar a operação novamente.
+-- A busca é feita pela chave primária; as linhas vencidas são removidas em lotes pelo índice de expiração.
+CREATE TABLE idempotency_key (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_fingerprint VARCHAR(64) NOT NULL,
+    status_code INTEGER NOT NULL,
+    content_type VARCHAR(255),
+    location VARCHAR(2048),
+    response_body BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_key_expires_at ON idempotency_key (expires_at);
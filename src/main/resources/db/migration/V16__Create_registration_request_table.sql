@@ -0,0 +1,18 @@
+-- Fila durável das inscrições assíncronas. A ordem de processamento é a ordem do id; o ticket é o
+-- identificador devolvido ao cliente para consultar o resultado. O índice parcial contém apenas as
+-- inscrições pendentes, então a leitura da frente da fila e a contagem da profundidade não
+-- percorrem as já processadas.
+CREATE TABLE registration_request (
+    id BIGSERIAL PRIMARY KEY,
+    ticket UUID NOT NULL,
+    event_id UUID NOT NULL,
+    participant_email VARCHAR(255) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    message VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    processed_at TIMESTAMP,
+    CONSTRAINT uk_registration_request_ticket UNIQUE (ticket)
+);
+
+CREATE INDEX IF NOT EXISTS idx_registration_request_pending
+    ON registration_request (id) WHERE status = 'PENDING';
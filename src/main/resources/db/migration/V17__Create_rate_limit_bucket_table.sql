@@ -0,0 +1,9 @@
+-- Baldes de tokens do limite de requisições por cliente, no modo compartilhado entre as instâncias.
+-- Cada linha guarda o instante teórico de chegada (TAT, em microssegundos desde a época) do balde:
+-- o balde está cheio quando o TAT já passou, e a linha pode ser removida sem perda.
+CREATE TABLE rate_limit_bucket (
+    bucket_key VARCHAR(64) PRIMARY KEY,
+    tat BIGINT NOT NULL
+);
+
+CREATE INDEX idx_rate_limit_bucket_tat ON rate_limit_bucket (tat);
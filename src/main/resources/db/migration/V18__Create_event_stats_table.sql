@@ -0,0 +1,15 @@
+-- Contadores dos eventos por status, lidos por GET /events/stats sem percorrer a tabela de eventos.
+-- As transições de status ajustam as linhas no mesmo commit; a reconciliação periódica recalcula
+-- os valores com um GROUP BY sobre a tabela de eventos.
+CREATE TABLE event_stats (
+    status VARCHAR(20) PRIMARY KEY,
+    event_count BIGINT NOT NULL DEFAULT 0,
+    registered_participants BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+INSERT INTO event_stats (status, event_count, registered_participants)
+SELECT s.status, count(e.id), COALESCE(sum(e.registered_participants), 0)
+FROM (VALUES ('ACTIVE'), ('CANCELLED'), ('FINISHED')) AS s(status)
+LEFT JOIN event e ON e.status = s.status
+GROUP BY s.status;
@@ -0,0 +1,4 @@
+-- Busca periódica dos eventos alterados recentemente, que cada instância remove do seu cache de
+-- segundo nível. As atualizações do evento já não são HOT (o índice parcial da V9 depende de
+-- registered_participants), então o índice acrescenta apenas uma entrada a cada alteração.
+CREATE INDEX IF NOT EXISTS idx_event_updated_at ON event (updated_at);
@@ -0,0 +1,4 @@
+-- Expurgo periódico dos pedidos de inscrição já processados: o índice parcial cobre apenas os
+-- pedidos finalizados, para que cada lote do expurgo seja lido sem percorrer a fila pendente.
+CREATE INDEX IF NOT EXISTS idx_registration_request_processed_at
+    ON registration_request (processed_at) WHERE status <> 'PENDING';
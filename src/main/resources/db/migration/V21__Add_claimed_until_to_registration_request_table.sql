@@ -0,0 +1,4 @@
+-- Reserva dos pedidos de inscrição em processamento. O consumidor marca os pedidos de uma rodada em
+-- uma transação curta e os processa fora dela, um a um; enquanto a reserva vale, outras instâncias
+-- pulam o pedido. Se a instância cair, o pedido volta a ser lido quando a reserva expira.
+ALTER TABLE registration_request ADD COLUMN claimed_until TIMESTAMP;
@@ -0,0 +1,7 @@
+-- updated_at passa a guardar um instante (UTC), e não uma data e hora local: a aplicação grava
+-- Instant.now() e os comandos nativos gravam now(), que agora são comparáveis independentemente
+-- do fuso da JVM e do banco. Os valores existentes foram gravados no fuso da sessão, que o driver
+-- JDBC define com o fuso da JVM, e são convertidos a partir dele.
+-- O índice idx_event_updated_at (V19) é reconstruído junto com a coluna.
+ALTER TABLE event
+ALTER COLUMN updated_at TYPE TIMESTAMPTZ;
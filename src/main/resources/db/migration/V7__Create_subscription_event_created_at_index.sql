@@ -0,0 +1,5 @@
+-- Índice composto que sustenta a listagem de participantes por evento.
+-- A ordem (event_id, created_at, id) coincide com a ordenação da paginação por cursor,
+-- permitindo que cada página seja lida diretamente do índice, sem ordenação em memória.
+CREATE INDEX IF NOT EXISTS idx_subscription_event_created_at_id
+    ON subscription (event_id, created_at, id);
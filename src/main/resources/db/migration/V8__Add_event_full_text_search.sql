@@ -0,0 +1,11 @@
+-- Vetor de busca textual gerado a partir do título (peso A) e da descrição (peso B).
+-- Por ser uma coluna gerada (STORED), o PostgreSQL a mantém sincronizada a cada INSERT/UPDATE,
+-- sem exigir triggers nem mapeamento na entidade.
+ALTER TABLE event ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('portuguese', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- Índice invertido que permite resolver o operador @@ sem varrer a tabela.
+CREATE INDEX IF NOT EXISTS idx_event_search_vector ON event USING GIN (search_vector);
@@ -0,0 +1,33 @@
+-- Índices parciais que sustentam a listagem filtrada de eventos.
+-- Toda listagem filtra status = 'ACTIVE' e é ordenada por start_date_time com o id como desempate,
+-- na mesma direção da chave (EventSortPolicy); por isso (start_date_time, id) são as últimas
+-- colunas de cada índice: assim cada combinação de filtros é resolvida por uma varredura de
+-- índice já na ordem da página (ou de trás para frente, nas ordenações descendentes), sem
+-- ordenar a tabela inteira.
+
+-- Listagem sem filtros e filtros de intervalo de datas.
+CREATE INDEX IF NOT EXISTS idx_event_active_start_id
+    ON event (start_date_time, id)
+    WHERE status = 'ACTIVE';
+
+-- Filtro por eventos remotos ou presenciais.
+CREATE INDEX IF NOT EXISTS idx_event_active_remote_start_id
+    ON event (is_remote, start_date_time, id)
+    WHERE status = 'ACTIVE';
+
+-- Filtro por prefixo do local (LIKE 'prefixo%' sobre lower(location)).
+-- O prefixo é um intervalo, não uma igualdade: as linhas encontradas por este índice ainda são
+-- ordenadas por data, mas apenas as que casam com o prefixo (mínimo de 3 caracteres).
+CREATE INDEX IF NOT EXISTS idx_event_active_location_start_id
+    ON event (lower(location) text_pattern_ops, start_date_time, id)
+    WHERE status = 'ACTIVE';
+
+-- Filtro por eventos com vagas. A condição deve ser idêntica à do predicado da consulta.
+CREATE INDEX IF NOT EXISTS idx_event_active_available_start_id
+    ON event (start_date_time, id)
+    WHERE status = 'ACTIVE' AND registered_participants < max_participants;
+
+-- Ordenação alfabética da listagem sem filtros.
+CREATE INDEX IF NOT EXISTS idx_event_active_title_id
+    ON event (title, id)
+    WHERE status = 'ACTIVE';
@@ -1,7 +1,6 @@
 package com.Samuel.event_microservice.core.models;
 
 import com.Samuel.event_microservice.core.data.EventUpdateData;
-import com.Samuel.event_microservice.core.exceptions.EventFullException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -146,26 +145,23 @@ class EventTest {
     }
 
     @Nested
-    @DisplayName("Tests for registerParticipant method")
-    class RegisterParticipantTest {
+    @DisplayName("Tests for registration checks")
+    class RegistrationChecksTest {
 
         @Test
-        @DisplayName("Should register a participant successfully and increment counter")
-        void shouldIncrementCounter_whenEventIsNotFull() {
+        @DisplayName("Should report a free seat while registrations and holds leave room")
+        void shouldReportFreeSeat_whenEventIsNotFull() {
             // Arrange
             Event event = createEventWithStatus(EventStatus.ACTIVE);
-            assertThat(event.getRegisteredParticipants()).isZero();
 
-            // Act
-            event.registerParticipant();
-
-            // Assert
-            assertThat(event.getRegisteredParticipants()).isOne();
+            // Act & Assert
+            assertThat(event.hasAvailableSeat(0)).isTrue();
+            assertThat(event.availableSeats()).isEqualTo(100);
         }
 
         @Test
-        @DisplayName("Should throw EventFullException when trying to register in a full event")
-        void shouldThrowException_whenEventIsFull() {
+        @DisplayName("Should report no free seat when the event is full")
+        void shouldReportNoFreeSeat_whenEventIsFull() {
             // Arrange
             LocalDateTime start = LocalDateTime.now().plusDays(1);
             Event fullEvent = Event.builder()
@@ -179,9 +175,19 @@ class EventTest {
                     .build();
 
             // Act & Assert
-            assertThatThrownBy(fullEvent::registerParticipant)
-                    .isInstanceOf(EventFullException.class)
-                    .hasMessage("O evento já está lotado.");
+            assertThat(fullEvent.hasAvailableSeat(0)).isFalse();
+            assertThat(fullEvent.availableSeats()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should count held seats as taken")
+        void shouldReportNoFreeSeat_whenRemainingSeatsAreHeld() {
+            // Arrange
+            Event event = createEventWithStatus(EventStatus.ACTIVE);
+
+            // Act & Assert
+            assertThat(event.hasAvailableSeat(99)).isTrue();
+            assertThat(event.hasAvailableSeat(100)).isFalse();
         }
 
         @Test
@@ -191,7 +197,7 @@ class EventTest {
             Event cancelledEvent = createEventWithStatus(EventStatus.CANCELLED);
 
             // Act & Assert
-            assertThatThrownBy(cancelledEvent::registerParticipant)
+            assertThatThrownBy(cancelledEvent::ensureOpenForRegistration)
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessage("Não é possível se inscrever em um evento que não está ativo.");
         }
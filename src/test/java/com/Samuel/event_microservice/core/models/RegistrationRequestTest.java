@@ -0,0 +1,126 @@
+package com.Samuel.event_microservice.core.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class RegistrationRequestTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    @Nested
+    @DisplayName("Tests for constructor")
+    class ConstructorTests {
+
+        @Test
+        @DisplayName("Should create a pending request with a new ticket")
+        void shouldCreatePendingRequest_whenDataIsValid() {
+            // Act
+            RegistrationRequest request = new RegistrationRequest(EVENT_ID, "test@example.com");
+
+            // Assert
+            assertThat(request.getId()).isNull();
+            assertThat(request.getTicket()).isNotNull();
+            assertThat(request.getEventId()).isEqualTo(EVENT_ID);
+            assertThat(request.getParticipantEmail()).isEqualTo("test@example.com");
+            assertThat(request.getStatus()).isEqualTo(RegistrationRequestStatus.PENDING);
+            assertThat(request.getCreatedAt()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.SECONDS));
+            assertThat(request.getProcessedAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when email is blank")
+        void shouldThrowException_whenEmailIsBlank() {
+            // Act & Assert
+            assertThatThrownBy(() -> new RegistrationRequest(EVENT_ID, " "))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("O email do participante não pode ser nulo ou vazio.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for claim method")
+    class ClaimTests {
+
+        @Test
+        @DisplayName("Should record until when the request is claimed, keeping it pending")
+        void shouldRecordClaim_whenPending() {
+            // Arrange
+            RegistrationRequest request = new RegistrationRequest(EVENT_ID, "test@example.com");
+            LocalDateTime until = LocalDateTime.now().plusMinutes(5);
+
+            // Act
+            request.claim(until);
+
+            // Assert
+            assertThat(request.getClaimedUntil()).isEqualTo(until);
+            assertThat(request.getStatus()).isEqualTo(RegistrationRequestStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalStateException when the request was already processed")
+        void shouldThrowException_whenAlreadyProcessed() {
+            // Arrange
+            RegistrationRequest request = new RegistrationRequest(EVENT_ID, "test@example.com");
+            request.complete(RegistrationRequestStatus.REGISTERED, null);
+
+            // Act & Assert
+            assertThatThrownBy(() -> request.claim(LocalDateTime.now().plusMinutes(5)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Este pedido de inscrição já foi processado.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for complete method")
+    class CompleteTests {
+
+        @Test
+        @DisplayName("Should record the outcome and the processing time")
+        void shouldRecordOutcome_whenPending() {
+            // Arrange
+            RegistrationRequest request = new RegistrationRequest(EVENT_ID, "test@example.com");
+
+            // Act
+            request.complete(RegistrationRequestStatus.EVENT_FULL, "O evento já está lotado.");
+
+            // Assert
+            assertThat(request.getStatus()).isEqualTo(RegistrationRequestStatus.EVENT_FULL);
+            assertThat(request.getMessage()).isEqualTo("O evento já está lotado.");
+            assertThat(request.getProcessedAt()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalStateException when the request was already processed")
+        void shouldThrowException_whenAlreadyProcessed() {
+            // Arrange
+            RegistrationRequest request = new RegistrationRequest(EVENT_ID, "test@example.com");
+            request.complete(RegistrationRequestStatus.REGISTERED, null);
+
+            // Act & Assert
+            assertThatThrownBy(() -> request.complete(RegistrationRequestStatus.REJECTED, "Falhou."))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Este pedido de inscrição já foi processado.");
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the outcome is not final")
+        void shouldThrowException_whenOutcomeIsPending() {
+            // Arrange
+            RegistrationRequest request = new RegistrationRequest(EVENT_ID, "test@example.com");
+
+            // Act & Assert
+            assertThatThrownBy(() -> request.complete(RegistrationRequestStatus.PENDING, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("O resultado do pedido de inscrição deve ser final.");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.Samuel.event_microservice.core.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SeatHoldTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Nested
+    @DisplayName("Tests for constructor")
+    class ConstructorTests {
+
+        @Test
+        @DisplayName("Should create a new hold expiring after the TTL")
+        void shouldCreateHold_whenDataIsValid() {
+            // Act
+            SeatHold hold = new SeatHold(EVENT_ID, "test@example.com", TTL);
+
+            // Assert
+            assertThat(hold.getId()).isNotNull();
+            assertThat(hold.isNew()).isTrue();
+            assertThat(hold.getEventId()).isEqualTo(EVENT_ID);
+            assertThat(hold.getParticipantEmail()).isEqualTo("test@example.com");
+            assertThat(hold.getCreatedAt()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.SECONDS));
+            assertThat(hold.getExpiresAt()).isEqualTo(hold.getCreatedAt().plus(TTL));
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when email is blank")
+        void shouldThrowException_whenEmailIsBlank() {
+            // Act & Assert
+            assertThatThrownBy(() -> new SeatHold(EVENT_ID, " ", TTL))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("O email do participante não pode ser nulo ou vazio.");
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when TTL is not positive")
+        void shouldThrowException_whenTtlIsNotPositive() {
+            // Act & Assert
+            assertThatThrownBy(() -> new SeatHold(EVENT_ID, "test@example.com", Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("A duração da reserva deve ser positiva.");
+        }
+    }
+
+    @Test
+    @DisplayName("Should be expired from its deadline onwards")
+    void isExpired_shouldCompareWithDeadline() {
+        // Arrange
+        SeatHold hold = new SeatHold(EVENT_ID, "test@example.com", TTL);
+
+        // Act & Assert
+        assertThat(hold.isExpired(hold.getExpiresAt().minusNanos(1))).isFalse();
+        assertThat(hold.isExpired(hold.getExpiresAt())).isTrue();
+    }
+}
@@ -11,12 +11,13 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Queue;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -24,19 +25,22 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class EventNotificationAdapterTest {
 
-    @InjectMocks
-    private EventNotificationAdapter eventNotificationAdapter;
-
     @Mock
     private SubscriptionRepositoryPort subscriptionRepository;
 
     @Mock
     private EmailSender emailSender;
 
+    // Executor manual: os e-mails de confirmação só são enviados quando o teste o drena
+    private final Queue<Runnable> confirmations = new ArrayDeque<>();
+
+    private EventNotificationAdapter eventNotificationAdapter;
+
     private Event testEvent;
 
     @BeforeEach
     void setUp() {
+        this.eventNotificationAdapter = new EventNotificationAdapter(subscriptionRepository, emailSender, confirmations::add);
         this.testEvent = Event.builder()
                 .title("Test Event")
                 .startDateTime(LocalDateTime.now().plusDays(1))
@@ -57,6 +61,7 @@ class EventNotificationAdapterTest {
 
             // Act
             eventNotificationAdapter.sendRegistrationConfirmation(testEvent, participantEmail);
+            confirmations.forEach(Runnable::run);
 
             // Assert
             verify(emailSender, times(1)).sendEmail(any(EmailRequestDTO.class));
@@ -78,8 +83,20 @@ class EventNotificationAdapterTest {
             // Act & Assert
             // O teste verifica que o adapter captura a exceção e não a propaga
             eventNotificationAdapter.sendRegistrationConfirmation(testEvent, participantEmail);
+            confirmations.forEach(Runnable::run);
             verify(emailSender, times(1)).sendEmail(any(EmailRequestDTO.class));
         }
+
+        @Test
+        @DisplayName("Should return without waiting for the email to be sent")
+        void shouldNotSendEmailOnCallerThread() {
+            // Act
+            eventNotificationAdapter.sendRegistrationConfirmation(testEvent, "test@example.com");
+
+            // Assert
+            assertThat(confirmations).hasSize(1);
+            verifyNoInteractions(emailSender);
+        }
     }
 
     @Nested
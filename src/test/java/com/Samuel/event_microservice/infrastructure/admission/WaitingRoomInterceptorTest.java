@@ -0,0 +1,107 @@
+package com.Samuel.event_microservice.infrastructure.admission;
+
+import com.Samuel.event_microservice.core.exceptions.NotAdmittedYetException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingRoomInterceptorTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    @Mock
+    private WaitingRoom waitingRoom;
+
+    private WaitingRoomInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new WaitingRoomInterceptor(waitingRoom);
+        request = new MockHttpServletRequest("POST", "/events/" + EVENT_ID + "/register");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("eventId", EVENT_ID.toString()));
+        request.addHeader(WaitingRoomInterceptor.HEADER_NAME, "token");
+    }
+
+    @Test
+    @DisplayName("Should let an admitted registration through and release its admission when it completes")
+    void shouldAdmitAndRelease_whenTokenIsAdmitted() throws Exception {
+        // Arrange
+        WaitingRoom.Admission admission = Mockito.mock(WaitingRoom.Admission.class);
+        when(waitingRoom.admit(EVENT_ID, "token")).thenReturn(admission);
+
+        // Act
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+        response.setStatus(409);
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Assert
+        assertThat(proceed).isTrue();
+        verify(waitingRoom).release(admission, false);
+    }
+
+    @Test
+    @DisplayName("Should allow the token to be reused when the registration fails with a server error")
+    void shouldReleaseAsRetryable_whenRegistrationFailsWithServerError() throws Exception {
+        // Arrange
+        WaitingRoom.Admission admission = Mockito.mock(WaitingRoom.Admission.class);
+        when(waitingRoom.admit(EVENT_ID, "token")).thenReturn(admission);
+
+        // Act
+        interceptor.preHandle(request, response, new Object());
+        response.setStatus(503);
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Assert
+        verify(waitingRoom).release(admission, true);
+    }
+
+    @Test
+    @DisplayName("Should propagate the refusal without releasing anything when the client was not admitted")
+    void shouldPropagateRefusal_whenNotAdmitted() throws Exception {
+        // Arrange
+        when(waitingRoom.admit(EVENT_ID, "token")).thenThrow(new NotAdmittedYetException(3, Duration.ofSeconds(1)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preHandle(request, response, new Object()))
+                .isInstanceOf(NotAdmittedYetException.class);
+        interceptor.afterCompletion(request, response, new Object(), null);
+        verify(waitingRoom, never()).release(any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should ignore requests that are not registrations")
+    void shouldIgnore_whenMethodIsNotPost() throws Exception {
+        // Arrange
+        request.setMethod("GET");
+
+        // Act
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Assert
+        assertThat(proceed).isTrue();
+        verifyNoInteractions(waitingRoom);
+    }
+}
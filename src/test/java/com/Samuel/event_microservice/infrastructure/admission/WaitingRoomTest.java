@@ -0,0 +1,191 @@
+package com.Samuel.event_microservice.infrastructure.admission;
+
+import com.Samuel.event_microservice.core.exceptions.AdmissionTokenInvalidException;
+import com.Samuel.event_microservice.core.exceptions.NotAdmittedYetException;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.WaitingRoomPositionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WaitingRoomTest {
+
+    private static final Duration TOKEN_TTL = Duration.ofMinutes(30);
+
+    private final MutableClock clock = new MutableClock();
+    private final AdmissionTokenSigner signer = new AdmissionTokenSigner("segredo-de-teste".getBytes(StandardCharsets.UTF_8));
+    private WaitingRoom waitingRoom;
+
+    @BeforeEach
+    void setUp() {
+        // 10 admissões por segundo, em ticks de 100ms: uma por tick
+        waitingRoom = new WaitingRoom(signer, 10, 2, Duration.ofMillis(100), TOKEN_TTL, clock);
+    }
+
+    @Test
+    @DisplayName("join should hand out ordered positions and admit one client per tick at the configured rate")
+    void join_shouldIssueOrderedPositions_andAdmitAtConfiguredRate() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        WaitingRoomPositionDTO first = waitingRoom.join(eventId);
+        WaitingRoomPositionDTO second = waitingRoom.join(eventId);
+
+        // Assert
+        assertThat(first.position()).isEqualTo(1);
+        assertThat(second.position()).isEqualTo(2);
+        assertThat(second.ahead()).isEqualTo(2);
+        assertThat(first.admitted()).isFalse();
+
+        // Act
+        waitingRoom.advance();
+
+        // Assert
+        assertThat(waitingRoom.position(eventId, first.admissionToken()).admitted()).isTrue();
+        WaitingRoomPositionDTO secondAfterTick = waitingRoom.position(eventId, second.admissionToken());
+        assertThat(secondAfterTick.admitted()).isFalse();
+        assertThat(secondAfterTick.ahead()).isEqualTo(1);
+        assertThat(secondAfterTick.estimatedWaitSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("admit should reject clients whose turn has not come yet")
+    void admit_shouldReject_whenTurnHasNotCome() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        waitingRoom.join(eventId);
+        WaitingRoomPositionDTO second = waitingRoom.join(eventId);
+        waitingRoom.advance();
+
+        // Act & Assert
+        assertThatThrownBy(() -> waitingRoom.admit(eventId, second.admissionToken()))
+                .isInstanceOf(NotAdmittedYetException.class)
+                .hasMessage("Ainda não é a sua vez na sala de espera. Há 1 pessoa(s) à sua frente.")
+                .extracting("retryAfter").isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("advance should stop admitting while the in-flight limit is reached")
+    void advance_shouldPause_whenInFlightLimitIsReached() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        WaitingRoomPositionDTO first = waitingRoom.join(eventId);
+        WaitingRoomPositionDTO second = waitingRoom.join(eventId);
+        WaitingRoomPositionDTO third = waitingRoom.join(eventId);
+        waitingRoom.advance();
+        waitingRoom.advance();
+        WaitingRoom.Admission firstAdmission = waitingRoom.admit(eventId, first.admissionToken());
+        waitingRoom.admit(eventId, second.admissionToken());
+
+        // Act
+        waitingRoom.advance();
+
+        // Assert
+        assertThat(waitingRoom.position(eventId, third.admissionToken()).admitted()).isFalse();
+
+        // Act
+        waitingRoom.release(firstAdmission, false);
+        waitingRoom.advance();
+
+        // Assert
+        assertThat(waitingRoom.position(eventId, third.admissionToken()).admitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("admit should accept each token once, unless the registration failed with a retryable error")
+    void admit_shouldAcceptTokenOnce_unlessRegistrationFailed() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        WaitingRoomPositionDTO position = waitingRoom.join(eventId);
+        waitingRoom.advance();
+
+        // Act
+        waitingRoom.release(waitingRoom.admit(eventId, position.admissionToken()), true);
+        WaitingRoom.Admission retried = waitingRoom.admit(eventId, position.admissionToken());
+        waitingRoom.release(retried, false);
+
+        // Assert
+        assertThatThrownBy(() -> waitingRoom.admit(eventId, position.admissionToken()))
+                .isInstanceOf(AdmissionTokenInvalidException.class)
+                .hasMessage("Este token de admissão já foi usado.");
+    }
+
+    @Test
+    @DisplayName("admit should reject missing, tampered and foreign tokens")
+    void admit_shouldRejectInvalidTokens() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        WaitingRoomPositionDTO position = waitingRoom.join(eventId);
+        waitingRoom.advance();
+        String token = position.admissionToken();
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        AdmissionTokenSigner otherSigner = new AdmissionTokenSigner("outro-segredo".getBytes(StandardCharsets.UTF_8));
+        String forged = otherSigner.sign(new AdmissionTokenSigner.AdmissionToken(eventId, 0, 1, clock.instant()));
+
+        // Act & Assert
+        assertThatThrownBy(() -> waitingRoom.admit(eventId, null))
+                .isInstanceOf(AdmissionTokenInvalidException.class)
+                .hasMessageContaining("Admission-Token");
+        assertThatThrownBy(() -> waitingRoom.admit(eventId, tampered))
+                .isInstanceOf(AdmissionTokenInvalidException.class)
+                .hasMessage("Token de admissão inválido.");
+        assertThatThrownBy(() -> waitingRoom.admit(eventId, forged))
+                .isInstanceOf(AdmissionTokenInvalidException.class)
+                .hasMessage("Token de admissão inválido.");
+        assertThatThrownBy(() -> waitingRoom.admit(UUID.randomUUID(), token))
+                .isInstanceOf(AdmissionTokenInvalidException.class)
+                .hasMessage("Este token de admissão não é deste evento.");
+    }
+
+    @Test
+    @DisplayName("admit should reject expired tokens and idle queues should be discarded")
+    void admit_shouldRejectExpiredTokens_andDiscardIdleQueues() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        WaitingRoomPositionDTO position = waitingRoom.join(eventId);
+        waitingRoom.advance();
+        clock.advance(TOKEN_TTL.plusSeconds(1));
+
+        // Act
+        waitingRoom.advance();
+        WaitingRoomPositionDTO rejoined = waitingRoom.join(eventId);
+
+        // Assert
+        assertThatThrownBy(() -> waitingRoom.admit(eventId, position.admissionToken()))
+                .isInstanceOf(AdmissionTokenInvalidException.class)
+                .hasMessage("Token de admissão expirado. Entre na sala de espera novamente.");
+        assertThat(rejoined.position()).isEqualTo(1);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,22 +1,60 @@
 package com.Samuel.event_microservice.infrastructure.application;
 
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.data.EventParticipantRow;
+import com.Samuel.event_microservice.core.data.EventSummary;
+import com.Samuel.event_microservice.core.data.EventVersion;
+import com.Samuel.event_microservice.core.data.EventSearchHit;
+import com.Samuel.event_microservice.core.data.EventSuggestion;
 import com.Samuel.event_microservice.core.data.EventUpdateData;
+import com.Samuel.event_microservice.core.data.ParticipantCursor;
+import com.Samuel.event_microservice.core.data.SearchCursor;
 import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.models.EventStats;
 import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.models.RegistrationRequest;
+import com.Samuel.event_microservice.core.models.RegistrationRequestStatus;
+import com.Samuel.event_microservice.core.models.SeatHold;
 import com.Samuel.event_microservice.core.models.Subscription;
+import com.Samuel.event_microservice.core.models.WaitlistEntry;
 import com.Samuel.event_microservice.core.exceptions.EventFullException;
 import com.Samuel.event_microservice.core.exceptions.EventNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.GroupRegistrationRejectedException;
+import com.Samuel.event_microservice.core.exceptions.RegistrationTicketNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SeatHoldNotFoundException;
 import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionNotFoundException;
+import com.Samuel.event_microservice.core.ports.EventMutationExecutorPort;
 import com.Samuel.event_microservice.core.ports.EventNotificationPort;
 import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.core.ports.EventStatsRepositoryPort;
+import com.Samuel.event_microservice.core.ports.EventSuggestionIndexPort;
+import com.Samuel.event_microservice.core.ports.RegistrationBatcherPort;
+import com.Samuel.event_microservice.core.ports.RegistrationQueuePort;
+import com.Samuel.event_microservice.core.ports.SeatHoldRegistryPort;
+import com.Samuel.event_microservice.core.ports.SeatHoldRepositoryPort;
 import com.Samuel.event_microservice.core.ports.SubscriptionRepositoryPort;
+import com.Samuel.event_microservice.core.ports.WaitlistPromotionPort;
+import com.Samuel.event_microservice.core.ports.WaitlistRepositoryPort;
 import com.Samuel.event_microservice.infrastructure.config.EventBusinessConfig;
+import com.Samuel.event_microservice.infrastructure.config.SeatHoldProperties;
+import com.Samuel.event_microservice.infrastructure.dto.CursorPageResponseDTO;
 import com.Samuel.event_microservice.infrastructure.dto.PageResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.SliceResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventFilterDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventRequestDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventStatsResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventSuggestionDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventUpdateDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupRegistrationResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupRegistrationResultDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupSubscriptionRequestDTO;
 import com.Samuel.event_microservice.infrastructure.dto.subscription.RegisteredParticipantDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.RegistrationTicketResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.SeatHoldResponseDTO;
 import com.Samuel.event_microservice.infrastructure.dto.subscription.SubscriptionRequestDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.WaitlistResponseDTO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -24,21 +62,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,15 +97,67 @@ class EventServiceTest {
     @Mock
     private EventRepositoryPort eventRepository;
 
+    @Mock
+    private EventStatsRepositoryPort eventStatsRepository;
+
     @Mock
     private SubscriptionRepositoryPort subscriptionRepository;
 
     @Mock
     private EventNotificationPort eventNotificationPort;
 
+    @Mock
+    private EventSuggestionIndexPort eventSuggestionIndex;
+
     @Mock
     private EventBusinessConfig eventBusinessConfig;
 
+    @Mock
+    private SeatHoldRegistryPort seatHoldRegistry;
+
+    @Mock
+    private SeatHoldRepositoryPort seatHoldRepository;
+
+    @Mock
+    private SeatHoldProperties seatHoldProperties;
+
+    @Mock
+    private WaitlistRepositoryPort waitlistRepository;
+
+    @Mock
+    private WaitlistPromotionPort waitlistPromotion;
+
+    @Mock
+    private RegistrationBatcherPort registrationBatcher;
+
+    @Mock
+    private RegistrationQueuePort registrationQueue;
+
+    @Mock
+    private ListingCountEstimator listingCountEstimator;
+
+    // Executa as alterações diretamente na thread do teste
+    @Spy
+    private EventMutationExecutorPort eventMutationExecutor = new DirectEventMutationExecutor();
+
+    private static class DirectEventMutationExecutor implements EventMutationExecutorPort {
+        @Override
+        public <T> T execute(UUID eventId, Supplier<T> mutation) {
+            return mutation.get();
+        }
+    }
+
+    private static final EventFilterDTO NO_FILTER = new EventFilterDTO(null, null, null, null, null);
+
+    /**
+     * Paginação que o serviço repassa ao repositório quando o cliente não escolhe a ordenação:
+     * data de início com desempate por id, conforme {@link EventSortPolicy}.
+     */
+    private static Pageable indexed(Pageable requested) {
+        return PageRequest.of(requested.getPageNumber(), requested.getPageSize(),
+                Sort.by("startDateTime").and(Sort.by("id")));
+    }
+
     private Event createEventEntity(String title, LocalDateTime start, int maxParticipants) {
         return Event.builder()
                 .id(UUID.randomUUID())
@@ -73,6 +172,13 @@ class EventServiceTest {
                 .build();
     }
 
+    private static EventSummary summaryOf(Event event) {
+        return new EventSummary(event.getId(), event.getTitle(), event.getDescription(), event.getStartDateTime(),
+                event.getEndDateTime(), event.getMaxParticipants(), event.getRegisteredParticipants(), event.getImageUrl(),
+                event.getEventUrl(), event.getLocation(), event.isRemote(), event.getStatus(), event.getVersion(),
+                event.getUpdatedAt());
+    }
+
     @Nested
     @DisplayName("Tests for createEvent method")
     class CreateEventTests {
@@ -120,6 +226,7 @@ class EventServiceTest {
                         assertThat(event.getLocation()).isEqualTo(eventDTO.location());
                         assertThat(event.getStatus()).isEqualTo(EventStatus.ACTIVE);
                     });
+            verify(eventStatsRepository).adjust(EventStatus.ACTIVE, 1, 0);
 
             // 2. Verifica o DTO de resposta retornado para o cliente
             assertThat(result)
@@ -136,6 +243,9 @@ class EventServiceTest {
                 assertThat(dto.location()).isEqualTo(eventDTO.location());
                 assertThat(dto.status()).isEqualTo(EventStatus.ACTIVE);
             });
+
+            // 3. Verifica que o índice de sugestões foi atualizado
+            verify(eventSuggestionIndex, times(1)).upsert(savedEvent);
         }
 
         @Test
@@ -166,16 +276,16 @@ class EventServiceTest {
             // Arrange
             Pageable pageable = PageRequest.of(0, 10);
             Event event = createEventEntity("Evento Qualquer", LocalDateTime.now().plusDays(1), 100);
-            Page<Event> eventPage = new PageImpl<>(List.of(event), pageable, 1);
+            Page<EventSummary> eventPage = new PageImpl<>(List.of(summaryOf(event)), pageable, 1);
 
-            when(eventRepository.findAll(pageable))
+            when(eventRepository.findActiveEventSummaries(EventFilter.NONE, indexed(pageable)))
                     .thenReturn(eventPage);
 
             // Act
-            PageResponseDTO<EventResponseDTO> resultPage = eventService.getAllEvents(pageable);
+            PageResponseDTO<EventResponseDTO> resultPage = eventService.getAllEvents(NO_FILTER, pageable);
 
             // Assert
-            verify(eventRepository, times(1)).findAll(pageable);
+            verify(eventRepository, times(1)).findActiveEventSummaries(EventFilter.NONE, indexed(pageable));
             assertThat(resultPage).isNotNull();
             assertThat(resultPage.totalElements()).isEqualTo(1);
             assertThat(resultPage.content())
@@ -201,19 +311,122 @@ class EventServiceTest {
         void shouldReturnEmptyPage_whenNoEventsFound() {
             // Arrange
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Event> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+            Page<EventSummary> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-            when(eventRepository.findAll(pageable))
+            when(eventRepository.findActiveEventSummaries(EventFilter.NONE, indexed(pageable)))
                     .thenReturn(emptyPage);
 
             // Act
-            PageResponseDTO<EventResponseDTO> resultPage = eventService.getAllEvents(pageable);
+            PageResponseDTO<EventResponseDTO> resultPage = eventService.getAllEvents(NO_FILTER, pageable);
 
             // Assert
             assertThat(resultPage).isNotNull();
             assertThat(resultPage.totalElements()).isZero();
             assertThat(resultPage.content()).isEmpty();
         }
+
+        @Test
+        @DisplayName("Should pass the normalized filters to the repository")
+        void shouldPassFiltersToRepository() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("startDateTime"));
+            LocalDateTime from = LocalDateTime.now().plusDays(1);
+            LocalDateTime to = from.plusDays(30);
+            EventFilterDTO filter = new EventFilterDTO(false, "  São Paulo ", from, to, true);
+            EventFilter expected = new EventFilter(false, "São Paulo", from, to, true);
+
+            when(eventRepository.findActiveEventSummaries(expected, indexed(pageable)))
+                    .thenReturn(new PageImpl<>(Collections.emptyList(), pageable, 0));
+
+            // Act
+            eventService.getAllEvents(filter, pageable);
+
+            // Assert
+            verify(eventRepository, times(1)).findActiveEventSummaries(expected, indexed(pageable));
+        }
+
+        @Test
+        @DisplayName("Should reject pages beyond the maximum listing offset")
+        void shouldThrowIllegalArgumentException_whenPageIsTooDeep() {
+            // Arrange
+            Pageable pageable = PageRequest.of(EventService.MAX_LISTING_OFFSET / 10, 10);
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.getAllEvents(NO_FILTER, pageable))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(String.valueOf(EventService.MAX_LISTING_OFFSET));
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject location filters shorter than the minimum prefix")
+        void shouldThrowIllegalArgumentException_whenLocationIsTooShort() {
+            // Arrange
+            EventFilterDTO filter = new EventFilterDTO(null, "S", null, null, null);
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.getAllEvents(filter, PageRequest.of(0, 10)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("O filtro de localização deve ter pelo menos 3 caracteres.");
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject an inverted date range")
+        void shouldThrowIllegalArgumentException_whenDateRangeIsInverted() {
+            // Arrange
+            LocalDateTime from = LocalDateTime.now().plusDays(10);
+            EventFilterDTO filter = new EventFilterDTO(null, null, from, from.minusDays(1), null);
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.getAllEvents(filter, PageRequest.of(0, 10)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("A data final do filtro deve ser posterior à data inicial.");
+        }
+
+        @Test
+        @DisplayName("Should reject filtered listings sorted by a field that is not indexed")
+        void shouldThrowIllegalArgumentException_whenFilteredListingIsSortedByOtherField() {
+            // Arrange
+            EventFilterDTO filter = new EventFilterDTO(true, null, null, null, null);
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.getAllEvents(filter, pageable))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Listagens filtradas só podem ser ordenadas por startDateTime.");
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject sort keys that are not backed by an index")
+        void shouldThrowIllegalArgumentException_whenSortKeyIsNotAllowed() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("description"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.getAllEvents(NO_FILTER, pageable))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Ordenação não suportada: 'description'. Valores aceitos: startDateTime, title.");
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should translate an allowed sort key into the indexed ordering with an id tiebreak")
+        void shouldAppendIdTiebreakToAllowedSortKey() {
+            // Arrange
+            Pageable pageable = PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "title"));
+            Pageable expected = PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "title", "id"));
+
+            when(eventRepository.findActiveEventSummaries(EventFilter.NONE, expected))
+                    .thenReturn(new PageImpl<>(Collections.emptyList(), expected, 0));
+
+            // Act
+            eventService.getAllEvents(NO_FILTER, pageable);
+
+            // Assert
+            verify(eventRepository, times(1)).findActiveEventSummaries(EventFilter.NONE, expected);
+        }
     }
 
     @Nested
@@ -226,16 +439,16 @@ class EventServiceTest {
             // Arrange
             Pageable pageable = PageRequest.of(0, 10);
             Event upcomingEvent = createEventEntity("Evento Futuro", LocalDateTime.now().plusDays(5), 100);
-            Page<Event> upcomingEventsPage = new PageImpl<>(List.of(upcomingEvent), pageable, 1);
+            Page<EventSummary> upcomingEventsPage = new PageImpl<>(List.of(summaryOf(upcomingEvent)), pageable, 1);
 
-            when(eventRepository.findUpcomingEvents(any(LocalDateTime.class), eq(pageable)))
+            when(eventRepository.findActiveEventSummaries(any(EventFilter.class), eq(indexed(pageable))))
                     .thenReturn(upcomingEventsPage);
 
             // Act
-            PageResponseDTO<EventResponseDTO> resultPage = eventService.getUpcomingEvents(pageable);
+            PageResponseDTO<EventResponseDTO> resultPage = eventService.getUpcomingEvents(NO_FILTER, pageable);
 
             // Assert
-            verify(eventRepository, times(1)).findUpcomingEvents(any(LocalDateTime.class), eq(pageable));
+            verify(eventRepository, times(1)).findActiveEventSummaries(any(EventFilter.class), eq(indexed(pageable)));
             assertThat(resultPage).isNotNull();
             assertThat(resultPage.totalElements()).isEqualTo(1);
             assertThat(resultPage.content())
@@ -262,19 +475,349 @@ class EventServiceTest {
         void shouldReturnEmptyPage_whenNoUpcomingEventsFound() {
             // Arrange
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Event> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+            Page<EventSummary> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-            when(eventRepository.findUpcomingEvents(any(LocalDateTime.class), eq(pageable)))
+            when(eventRepository.findActiveEventSummaries(any(EventFilter.class), eq(indexed(pageable))))
                     .thenReturn(emptyPage);
 
             // Act
-            PageResponseDTO<EventResponseDTO> resultPage = eventService.getUpcomingEvents(pageable);
+            PageResponseDTO<EventResponseDTO> resultPage = eventService.getUpcomingEvents(NO_FILTER, pageable);
 
             // Assert
             assertThat(resultPage).isNotNull();
             assertThat(resultPage.totalElements()).isZero();
             assertThat(resultPage.content()).isEmpty();
         }
+
+        @Test
+        @DisplayName("Should never start the listing before now, even if the filter asks for it")
+        void shouldClampStartFromToNow() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10);
+            LocalDateTime before = LocalDateTime.now();
+            EventFilterDTO filter = new EventFilterDTO(true, null, before.minusYears(1), null, null);
+            ArgumentCaptor<EventFilter> filterCaptor = ArgumentCaptor.forClass(EventFilter.class);
+
+            when(eventRepository.findActiveEventSummaries(filterCaptor.capture(), eq(indexed(pageable))))
+                    .thenReturn(new PageImpl<>(Collections.emptyList(), pageable, 0));
+
+            // Act
+            eventService.getUpcomingEvents(filter, pageable);
+
+            // Assert
+            assertThat(filterCaptor.getValue().startFrom()).isAfterOrEqualTo(before);
+            assertThat(filterCaptor.getValue().remote()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for getAllEventVersions and getUpcomingEventVersions methods")
+    class GetEventVersionsTests {
+
+        @Test
+        @DisplayName("Should query the versions with the same filter and indexed pagination as the listing")
+        void shouldQueryVersionsWithListingPagination() {
+            // Arrange
+            Pageable pageable = PageRequest.of(1, 20);
+            Page<EventVersion> versions = new PageImpl<>(Collections.emptyList(), indexed(pageable), 0);
+            when(eventRepository.findActiveEventVersions(EventFilter.NONE, indexed(pageable)))
+                    .thenReturn(versions);
+
+            // Act
+            Page<EventVersion> result = eventService.getAllEventVersions(NO_FILTER, pageable);
+
+            // Assert
+            assertThat(result).isSameAs(versions);
+            verify(eventRepository, never()).findActiveEventSummaries(any(EventFilter.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should apply the same validation as the listing")
+        void shouldRejectInvalidListing() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("description"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.getUpcomingEventVersions(NO_FILTER, pageable))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should restrict upcoming versions to events that did not start yet")
+        void shouldRestrictUpcomingVersionsToFutureEvents() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10);
+            LocalDateTime before = LocalDateTime.now();
+            ArgumentCaptor<EventFilter> filterCaptor = ArgumentCaptor.forClass(EventFilter.class);
+            when(eventRepository.findActiveEventVersions(filterCaptor.capture(), eq(indexed(pageable))))
+                    .thenReturn(Page.empty());
+
+            // Act
+            eventService.getUpcomingEventVersions(NO_FILTER, pageable);
+
+            // Assert
+            assertThat(filterCaptor.getValue().startFrom()).isAfterOrEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("Should load a version page by ID, in order, reusing its total without counting again")
+        void shouldLoadEventPageFromVersions() {
+            // Arrange
+            Event first = createEventEntity("Evento 1", LocalDateTime.now().plusDays(1), 100);
+            Event second = createEventEntity("Evento 2", LocalDateTime.now().plusDays(2), 100);
+            Page<EventVersion> versions = new PageImpl<>(List.of(
+                    new EventVersion(first.getId(), first.getVersion(), first.getUpdatedAt()),
+                    new EventVersion(second.getId(), second.getVersion(), second.getUpdatedAt())),
+                    PageRequest.of(1, 2), 7);
+            when(eventRepository.findSummariesByIds(List.of(first.getId(), second.getId())))
+                    .thenReturn(List.of(summaryOf(second), summaryOf(first)));
+
+            // Act
+            PageResponseDTO<EventResponseDTO> result = eventService.getEventPage(versions);
+
+            // Assert
+            assertThat(result.content()).extracting(EventResponseDTO::id).containsExactly(first.getId(), second.getId());
+            assertThat(result.page()).isEqualTo(1);
+            assertThat(result.totalElements()).isEqualTo(7);
+            verify(eventRepository, never()).findActiveEventSummaries(any(EventFilter.class), any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for getAllEventsSlice and getUpcomingEventsSlice methods")
+    class GetEventsSliceTests {
+
+        @Test
+        @DisplayName("Should return the slice without counting the events")
+        void shouldReturnSliceWithoutCounting() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 1);
+            Event event = createEventEntity("Evento", LocalDateTime.now().plusDays(1), 10);
+            Slice<EventSummary> slice = new SliceImpl<>(List.of(summaryOf(event)), indexed(pageable), true);
+            when(eventRepository.findActiveEventSummariesSlice(EventFilter.NONE, indexed(pageable))).thenReturn(slice);
+
+            // Act
+            SliceResponseDTO<EventResponseDTO> result = eventService.getAllEventsSlice(NO_FILTER, pageable, false);
+
+            // Assert
+            assertThat(result.content()).extracting(EventResponseDTO::id).containsExactly(event.getId());
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.estimatedTotalElements()).isNull();
+            verify(eventRepository, never()).countActiveEvents(any(EventFilter.class));
+            verifyNoInteractions(listingCountEstimator);
+        }
+
+        @Test
+        @DisplayName("Should add the estimated total when it is requested")
+        void shouldAddEstimatedTotal_whenRequested() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10);
+            when(eventRepository.findActiveEventSummariesSlice(any(EventFilter.class), eq(indexed(pageable))))
+                    .thenReturn(new SliceImpl<>(List.of(), indexed(pageable), false));
+            when(listingCountEstimator.estimate(eq("upcoming"), eq(EventFilter.NONE), any())).thenReturn(42L);
+
+            // Act
+            SliceResponseDTO<EventResponseDTO> result = eventService.getUpcomingEventsSlice(NO_FILTER, pageable, true);
+
+            // Assert
+            assertThat(result.estimatedTotalElements()).isEqualTo(42L);
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should apply the same validation as the listing")
+        void shouldRejectInvalidListing() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("description"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.getAllEventsSlice(NO_FILTER, pageable, true))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(eventRepository, listingCountEstimator);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for searchEvents method")
+    class SearchEventsTests {
+
+        private EventSearchHit hit(Event event, float rank) {
+            return new EventSearchHit() {
+                @Override
+                public UUID getId() {
+                    return event.getId();
+                }
+
+                @Override
+                public float getRank() {
+                    return rank;
+                }
+            };
+        }
+
+        @Test
+        @DisplayName("Should return events ordered by rank even when loaded out of order")
+        void shouldReturnEventsOrderedByRank() {
+            // Arrange
+            Event best = createEventEntity("Java Avançado", LocalDateTime.now().plusDays(1), 100);
+            Event other = createEventEntity("Introdução ao Java", LocalDateTime.now().plusDays(2), 100);
+            when(eventRepository.searchActiveEvents("java", Limit.of(11)))
+                    .thenReturn(List.of(hit(best, 0.9f), hit(other, 0.4f)));
+            when(eventRepository.findSummariesByIds(List.of(best.getId(), other.getId())))
+                    .thenReturn(List.of(summaryOf(other), summaryOf(best)));
+
+            // Act
+            CursorPageResponseDTO<EventResponseDTO> result = eventService.searchEvents("java", null, 10);
+
+            // Assert
+            assertThat(result.content()).extracting(EventResponseDTO::id).containsExactly(best.getId(), other.getId());
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+            assertThat(result.totalElements()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return a cursor pointing to the last hit when there is a next page")
+        void shouldReturnNextCursor_whenThereAreMoreHits() {
+            // Arrange
+            Event first = createEventEntity("Java 1", LocalDateTime.now().plusDays(1), 100);
+            Event second = createEventEntity("Java 2", LocalDateTime.now().plusDays(1), 100);
+            when(eventRepository.searchActiveEvents("java", Limit.of(2)))
+                    .thenReturn(List.of(hit(first, 0.5f), hit(second, 0.3f)));
+            when(eventRepository.findSummariesByIds(List.of(first.getId())))
+                    .thenReturn(List.of(summaryOf(first)));
+
+            // Act
+            CursorPageResponseDTO<EventResponseDTO> result = eventService.searchEvents("java", null, 1);
+
+            // Assert
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(SearchCursor.decode(result.nextCursor())).isEqualTo(new SearchCursor(0.5f, first.getId()));
+        }
+
+        @Test
+        @DisplayName("Should continue after the cursor position")
+        void shouldSearchAfterCursor_whenCursorIsProvided() {
+            // Arrange
+            UUID lastId = UUID.randomUUID();
+            String cursor = new SearchCursor(0.25f, lastId).encode();
+            when(eventRepository.searchActiveEventsAfter("java", 0.25f, lastId, Limit.of(11)))
+                    .thenReturn(List.of());
+            when(eventRepository.findSummariesByIds(List.of())).thenReturn(List.of());
+
+            // Act
+            CursorPageResponseDTO<EventResponseDTO> result = eventService.searchEvents("java", cursor, 10);
+
+            // Assert
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            verify(eventRepository, never()).searchActiveEvents(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException for a blank query")
+        void shouldThrowIllegalArgumentException_whenQueryIsBlank() {
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.searchEvents("  ", null, 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("O termo de busca não pode ser vazio.");
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException for a query that is too long")
+        void shouldThrowIllegalArgumentException_whenQueryIsTooLong() {
+            // Arrange
+            String query = "a".repeat(EventService.MAX_SEARCH_QUERY_LENGTH + 1);
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.searchEvents(query, null, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException for a malformed cursor")
+        void shouldThrowIllegalArgumentException_whenCursorIsInvalid() {
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.searchEvents("java", "not-a-cursor", 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Cursor de paginação inválido.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for getEventStats method")
+    class GetEventStatsTests {
+
+        @Test
+        @DisplayName("Should build the stats from the counter rows without reading the events")
+        void shouldBuildStatsFromCounterRows() {
+            // Arrange
+            LocalDateTime updatedAt = LocalDateTime.now();
+            when(eventStatsRepository.findAll()).thenReturn(List.of(
+                    EventStats.builder().status(EventStatus.ACTIVE).eventCount(7).registeredParticipants(120).updatedAt(updatedAt).build(),
+                    EventStats.builder().status(EventStatus.CANCELLED).eventCount(2).registeredParticipants(15).updatedAt(updatedAt.minusDays(1)).build(),
+                    EventStats.builder().status(EventStatus.FINISHED).eventCount(30).registeredParticipants(900).build()));
+
+            // Act
+            EventStatsResponseDTO result = eventService.getEventStats();
+
+            // Assert
+            assertThat(result.activeEvents()).isEqualTo(7);
+            assertThat(result.cancelledEvents()).isEqualTo(2);
+            assertThat(result.finishedEvents()).isEqualTo(30);
+            assertThat(result.totalEvents()).isEqualTo(39);
+            assertThat(result.registeredParticipants()).isEqualTo(1035);
+            assertThat(result.updatedAt()).isEqualTo(updatedAt);
+            verifyNoInteractions(eventRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for suggestEvents method")
+    class SuggestEventsTests {
+
+        @Test
+        @DisplayName("Should map the suggestions returned by the index")
+        void shouldReturnSuggestionsFromIndex() {
+            // Arrange
+            EventSuggestion suggestion = new EventSuggestion(UUID.randomUUID(), "Java Day", LocalDateTime.now().plusDays(3));
+            when(eventSuggestionIndex.suggest("jav", 5)).thenReturn(List.of(suggestion));
+
+            // Act
+            List<EventSuggestionDTO> result = eventService.suggestEvents("jav", 5);
+
+            // Assert
+            assertThat(result).containsExactly(new EventSuggestionDTO(suggestion));
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should cap the number of suggestions")
+        void shouldCapLimit_whenLimitIsTooLarge() {
+            // Arrange
+            when(eventSuggestionIndex.suggest("jav", EventService.MAX_SUGGESTIONS)).thenReturn(List.of());
+
+            // Act
+            List<EventSuggestionDTO> result = eventService.suggestEvents("jav", 1000);
+
+            // Assert
+            assertThat(result).isEmpty();
+            verify(eventSuggestionIndex).suggest("jav", EventService.MAX_SUGGESTIONS);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException for a blank prefix")
+        void shouldThrowIllegalArgumentException_whenPrefixIsBlank() {
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.suggestEvents(" ", 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("O prefixo não pode ser vazio.");
+            verifyNoInteractions(eventSuggestionIndex);
+        }
     }
 
     @Nested
@@ -288,8 +831,8 @@ class EventServiceTest {
             UUID eventId = UUID.randomUUID();
             Event event = createEventEntity("Evento Detalhado", LocalDateTime.now().plusDays(1), 100);
 
-            when(eventRepository.findById(eventId))
-                    .thenReturn(Optional.of(event));
+            when(eventRepository.findSummaryById(eventId))
+                    .thenReturn(Optional.of(summaryOf(event)));
 
             // Act
             EventResponseDTO resultDTO = eventService.getEventDetails(eventId);
@@ -318,7 +861,7 @@ class EventServiceTest {
         void shouldThrowEventNotFoundException_whenInvalidId() {
             // Arrange
             UUID invalidEventId = UUID.randomUUID();
-            when(eventRepository.findById(invalidEventId))
+            when(eventRepository.findSummaryById(invalidEventId))
                     .thenReturn(Optional.empty());
 
             // Act & Assert
@@ -349,6 +892,8 @@ class EventServiceTest {
             // Assert
             assertThat(event.getStatus()).isEqualTo(EventStatus.CANCELLED);
             verify(eventRepository, times(1)).save(event);
+            verify(eventSuggestionIndex, times(1)).remove(eventId);
+            verify(eventStatsRepository, times(1)).recordTransition(EventStatus.ACTIVE, EventStatus.CANCELLED, 0);
             verify(eventNotificationPort, times(1)).notifyParticipantsOfCancellation(event);
         }
 
@@ -368,6 +913,7 @@ class EventServiceTest {
 
             // Verifica que nenhuma ação de persistência ou notificação ocorreu
             verify(eventRepository, never()).save(any());
+            verifyNoInteractions(eventStatsRepository);
             verify(eventNotificationPort, never()).notifyParticipantsOfCancellation(any());
         }
 
@@ -453,9 +999,30 @@ class EventServiceTest {
             assertThat(dataCaptor.getValue().title()).isEqualTo(updateDTO.title());
 
             verify(eventRepository, times(1)).save(existingEventSpy);
+            verify(eventSuggestionIndex, times(1)).upsert(any(Event.class));
+            verify(waitlistPromotion, times(1)).promoteAfterCommit(eventId);
             assertThat(result.title()).isEqualTo(updateDTO.title());
         }
 
+        @Test
+        @DisplayName("Should not promote the waitlist when the capacity does not grow")
+        void shouldNotPromoteWaitlist_whenCapacityDoesNotGrow() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            Event existingEvent = createEventEntity("Old Title", LocalDateTime.now().plusDays(10), 100);
+            EventUpdateDTO updateDTO = new EventUpdateDTO("New Title", "New Description", null, null, null, null, null, null, null);
+
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(existingEvent));
+            when(eventRepository.save(any(Event.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(eventBusinessConfig.getMinDurationMinutes()).thenReturn(15);
+
+            // Act
+            eventService.updateEvent(eventId, updateDTO);
+
+            // Assert
+            verify(waitlistPromotion, never()).promoteAfterCommit(any());
+        }
+
         @Test
         @DisplayName("Should throw EventNotFoundException when event does not exist")
         void shouldThrowNotFoundException_whenEventDoesNotExist() {
@@ -522,29 +1089,53 @@ class EventServiceTest {
                     .thenReturn(Optional.of(event));
             when(subscriptionRepository.findByEventAndParticipantEmail(event, "test@example.com"))
                     .thenReturn(Optional.empty());
+            when(subscriptionRepository.registerGroup(event.getId(), List.of("test@example.com"), 0))
+                    .thenReturn(List.of("test@example.com"));
 
             // Act
             eventService.registerParticipant(eventId, subscriptionDTO);
 
             // Assert
-            verify(subscriptionRepository, times(1)).save(any(Subscription.class));
-            verify(eventRepository, times(1)).save(event);
+            // A vaga e o contador são resolvidos pelo comando condicional, sem gravar a entidade versionada
+            verify(subscriptionRepository, times(1)).registerGroup(event.getId(), List.of("test@example.com"), 0);
+            verify(subscriptionRepository, never()).save(any(Subscription.class));
+            verify(eventRepository, never()).save(any(Event.class));
             verify(eventNotificationPort, times(1)).sendRegistrationConfirmation(event, "test@example.com");
-            assertThat(event.getRegisteredParticipants()).isEqualTo(1);
         }
 
         @Test
-        @DisplayName("Should throw SubscriptionAlreadyExistsException when participant is already registered")
-        void shouldThrowSubscriptionAlreadyExistsException_whenAlreadyRegistered() {
+        @DisplayName("Should throw SubscriptionAlreadyExistsException when a concurrent request registered the participant first")
+        void shouldThrowSubscriptionAlreadyExistsException_whenRegisteredConcurrently() {
             // Arrange
             UUID eventId = UUID.randomUUID();
-            Event event = createEventEntity("Evento com Duplicado", LocalDateTime.now().plusDays(1), 1);
-
-            // Sanity check: Garante que o evento começa com 0 participantes
-            assertThat(event.getRegisteredParticipants()).isEqualTo(0);
-
+            Event event = createEventEntity("Evento Concorrido", LocalDateTime.now().plusDays(1), 10);
             SubscriptionRequestDTO subscriptionDTO = new SubscriptionRequestDTO("test@example.com");
-            Subscription existingSubscription = new Subscription(event, "test@example.com");
+
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.findByEventAndParticipantEmail(event, "test@example.com")).thenReturn(Optional.empty());
+            when(subscriptionRepository.registerGroup(event.getId(), List.of("test@example.com"), 0)).thenReturn(List.of());
+            when(subscriptionRepository.findSubscribedEmails(event.getId(), List.of("test@example.com")))
+                    .thenReturn(List.of("test@example.com"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.registerParticipant(eventId, subscriptionDTO))
+                    .isInstanceOf(SubscriptionAlreadyExistsException.class)
+                    .hasMessage("Este participante já está inscrito neste evento.");
+            verify(eventNotificationPort, never()).sendRegistrationConfirmation(any(Event.class), anyString());
+        }
+
+        @Test
+        @DisplayName("Should throw SubscriptionAlreadyExistsException when participant is already registered")
+        void shouldThrowSubscriptionAlreadyExistsException_whenAlreadyRegistered() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            Event event = createEventEntity("Evento com Duplicado", LocalDateTime.now().plusDays(1), 1);
+
+            // Sanity check: Garante que o evento começa com 0 participantes
+            assertThat(event.getRegisteredParticipants()).isEqualTo(0);
+
+            SubscriptionRequestDTO subscriptionDTO = new SubscriptionRequestDTO("test@example.com");
+            Subscription existingSubscription = new Subscription(event, "test@example.com");
 
             when(eventRepository.findById(eventId))
                     .thenReturn(Optional.of(event));
@@ -557,8 +1148,7 @@ class EventServiceTest {
                     .hasMessage("Este participante já está inscrito neste evento.");
 
             // Garante que nenhuma ação de persistência ou notificação ocorreu
-            verify(subscriptionRepository, never()).save(any(Subscription.class));
-            verify(eventRepository, never()).save(any(Event.class));
+            verify(subscriptionRepository, never()).registerGroup(any(), any(), anyInt());
             verify(eventNotificationPort, never()).sendRegistrationConfirmation(any(Event.class), anyString());
 
             // Garante que o evento continua com 0 participantes
@@ -566,7 +1156,7 @@ class EventServiceTest {
         }
 
         @Test
-        @DisplayName("Should throw Exception when entity throws it")
+        @DisplayName("Should throw EventFullException when the conditional registration finds no seat")
         void shouldPropagateException() {
             // Arrange
             UUID eventId = UUID.randomUUID();
@@ -586,15 +1176,15 @@ class EventServiceTest {
                     .thenReturn(Optional.of(fullEvent));
             when(subscriptionRepository.findByEventAndParticipantEmail(fullEvent, "test@example.com"))
                     .thenReturn(Optional.empty());
+            // O comando condicional não encontra vaga e não inscreve ninguém
+            when(subscriptionRepository.registerGroup(eventId, List.of("test@example.com"), 0)).thenReturn(List.of());
 
             // Act & Assert
             assertThatThrownBy(() -> eventService.registerParticipant(eventId, subscriptionDTO))
                     .isInstanceOf(EventFullException.class)
                     .hasMessage("O evento já está lotado.");
 
-            // Garante que nenhuma ação de persistência ou notificação ocorreu
-            verify(subscriptionRepository, never()).save(any(Subscription.class));
-            verify(eventRepository, never()).save(any(Event.class));
+            // Garante que nenhuma notificação ocorreu
             verify(eventNotificationPort, never()).sendRegistrationConfirmation(any(Event.class), anyString());
 
             assertThat(fullEvent.getRegisteredParticipants()).isEqualTo(50);
@@ -618,8 +1208,7 @@ class EventServiceTest {
 
             // Garante que nenhuma outra interação com o banco de dados ou notificação ocorreu
             verify(subscriptionRepository, never()).findByEventAndParticipantEmail(any(), any());
-            verify(subscriptionRepository, never()).save(any());
-            verify(eventRepository, never()).save(any());
+            verify(subscriptionRepository, never()).registerGroup(any(), any(), anyInt());
             verify(eventNotificationPort, never()).sendRegistrationConfirmation(any(), any());
         }
 
@@ -635,6 +1224,8 @@ class EventServiceTest {
                     .thenReturn(Optional.of(event));
             when(subscriptionRepository.findByEventAndParticipantEmail(event, "test@example.com"))
                     .thenReturn(Optional.empty());
+            when(subscriptionRepository.registerGroup(event.getId(), List.of("test@example.com"), 0))
+                    .thenReturn(List.of("test@example.com"));
 
             // Simula uma falha no serviço de notificação
             doThrow(new RuntimeException("Email service is down"))
@@ -645,66 +1236,627 @@ class EventServiceTest {
             eventService.registerParticipant(eventId, subscriptionDTO);
 
             // Assert
-            // Verifica se as operações de salvamento ainda ocorreram
-            verify(subscriptionRepository, times(1)).save(any(Subscription.class));
-            verify(eventRepository, times(1)).save(event);
+            // Verifica se a inscrição ainda ocorreu
+            verify(subscriptionRepository, times(1)).registerGroup(event.getId(), List.of("test@example.com"), 0);
 
             // Verifica que a tentativa de notificação foi feita (mesmo que tenha falhado)
             verify(eventNotificationPort, times(1)).sendRegistrationConfirmation(event, "test@example.com");
         }
+
+        @Test
+        @DisplayName("Should count held seats as taken")
+        void shouldThrowEventFullException_whenRemainingSeatsAreHeld() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            Event event = createEventEntity("Evento Reservado", LocalDateTime.now().plusDays(1), 10);
+            SubscriptionRequestDTO subscriptionDTO = new SubscriptionRequestDTO("test@example.com");
+
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.findByEventAndParticipantEmail(event, "test@example.com")).thenReturn(Optional.empty());
+            when(seatHoldRegistry.activeHolds(event.getId())).thenReturn(10);
+            when(subscriptionRepository.registerGroup(event.getId(), List.of("test@example.com"), 10)).thenReturn(List.of());
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.registerParticipant(eventId, subscriptionDTO))
+                    .isInstanceOf(EventFullException.class)
+                    .hasMessage("O evento já está lotado.");
+            // As vagas reservadas são enviadas ao comando, que as conta como ocupadas
+            verify(subscriptionRepository).registerGroup(event.getId(), List.of("test@example.com"), 10);
+        }
+
+        @Test
+        @DisplayName("Should delegate to the registration batcher when batching is enabled")
+        void shouldDelegateToBatcher_whenBatchingIsEnabled() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            SubscriptionRequestDTO subscriptionDTO = new SubscriptionRequestDTO("test@example.com");
+            when(registrationBatcher.isEnabled()).thenReturn(true);
+
+            // Act
+            eventService.registerParticipant(eventId, subscriptionDTO);
+
+            // Assert
+            verify(registrationBatcher).register(eventId, "test@example.com");
+            verifyNoInteractions(eventRepository, subscriptionRepository, eventMutationExecutor);
+        }
+
+        @Test
+        @DisplayName("Should propagate the batch outcome of the participant when batching is enabled")
+        void shouldPropagateBatchOutcome_whenBatchingIsEnabled() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            SubscriptionRequestDTO subscriptionDTO = new SubscriptionRequestDTO("test@example.com");
+            when(registrationBatcher.isEnabled()).thenReturn(true);
+            doThrow(new EventFullException("O evento já está lotado."))
+                    .when(registrationBatcher).register(eventId, "test@example.com");
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.registerParticipant(eventId, subscriptionDTO))
+                    .isInstanceOf(EventFullException.class)
+                    .hasMessage("O evento já está lotado.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for registerGroup method")
+    class RegisterGroupTests {
+
+        private static final List<String> GROUP = List.of("a@example.com", "b@example.com", "a@example.com", "c@example.com");
+
+        @Test
+        @DisplayName("Best-effort should register whoever fits and report every email")
+        void bestEffort_shouldReportPerEmailResults() {
+            // Arrange
+            Event event = createEventEntity("Evento em Grupo", LocalDateTime.now().plusDays(1), 10);
+            UUID eventId = event.getId();
+            List<String> distinct = List.of("a@example.com", "b@example.com", "c@example.com");
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(seatHoldRegistry.activeHolds(eventId)).thenReturn(1);
+            when(subscriptionRepository.registerGroup(eventId, distinct, 1)).thenReturn(List.of("a@example.com"));
+            when(subscriptionRepository.findSubscribedEmails(eventId, List.of("b@example.com", "c@example.com")))
+                    .thenReturn(List.of("b@example.com"));
+
+            // Act
+            GroupRegistrationResponseDTO result = eventService.registerGroup(eventId, new GroupSubscriptionRequestDTO(GROUP, true));
+
+            // Assert
+            assertThat(result.registered()).isEqualTo(1);
+            assertThat(result.results()).containsExactly(
+                    new GroupRegistrationResultDTO("a@example.com", GroupRegistrationResultDTO.Status.REGISTERED),
+                    new GroupRegistrationResultDTO("b@example.com", GroupRegistrationResultDTO.Status.ALREADY_SUBSCRIBED),
+                    new GroupRegistrationResultDTO("a@example.com", GroupRegistrationResultDTO.Status.DUPLICATED),
+                    new GroupRegistrationResultDTO("c@example.com", GroupRegistrationResultDTO.Status.EVENT_FULL));
+            verify(eventNotificationPort, times(1)).sendRegistrationConfirmation(event, "a@example.com");
+            verify(eventRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("All-or-nothing should register the whole group without a second lookup")
+        void allOrNothing_shouldRegisterWholeGroup() {
+            // Arrange
+            Event event = createEventEntity("Evento em Grupo", LocalDateTime.now().plusDays(1), 10);
+            UUID eventId = event.getId();
+            List<String> distinct = List.of("a@example.com", "b@example.com", "c@example.com");
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.registerGroup(eventId, distinct, 0)).thenReturn(distinct);
+
+            // Act
+            GroupRegistrationResponseDTO result = eventService.registerGroup(eventId, new GroupSubscriptionRequestDTO(GROUP, false));
+
+            // Assert
+            assertThat(result.registered()).isEqualTo(3);
+            verify(subscriptionRepository, never()).findSubscribedEmails(any(), any());
+            verify(eventNotificationPort, times(3)).sendRegistrationConfirmation(eq(event), anyString());
+        }
+
+        @Test
+        @DisplayName("All-or-nothing should reject the group with the reason of each participant left out")
+        void allOrNothing_shouldRejectIncompleteGroup() {
+            // Arrange
+            Event event = createEventEntity("Evento em Grupo", LocalDateTime.now().plusDays(1), 10);
+            UUID eventId = event.getId();
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.registerGroup(eq(eventId), any(), eq(0))).thenReturn(List.of("a@example.com"));
+            when(subscriptionRepository.findSubscribedEmails(eventId, List.of("b@example.com", "c@example.com")))
+                    .thenReturn(List.of("b@example.com"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.registerGroup(eventId, new GroupSubscriptionRequestDTO(GROUP, false)))
+                    .isInstanceOf(GroupRegistrationRejectedException.class)
+                    .satisfies(ex -> assertThat(((GroupRegistrationRejectedException) ex).getFailures()).containsExactly(
+                            Map.entry("b@example.com", "Este participante já está inscrito neste evento."),
+                            Map.entry("c@example.com", "Não há vaga para este participante.")));
+            verify(eventNotificationPort, never()).sendRegistrationConfirmation(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalStateException when the event is not active")
+        void shouldThrowIllegalStateException_whenEventIsNotActive() {
+            // Arrange
+            Event event = Event.builder()
+                    .id(UUID.randomUUID())
+                    .title("Evento Cancelado")
+                    .startDateTime(LocalDateTime.now().plusDays(1))
+                    .maxParticipants(10)
+                    .status(EventStatus.CANCELLED)
+                    .build();
+            when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.registerGroup(event.getId(), new GroupSubscriptionRequestDTO(GROUP, true)))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(subscriptionRepository, never()).registerGroup(any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for asynchronous registration methods")
+    class AsyncRegistrationTests {
+
+        @Test
+        @DisplayName("Should queue the registration and return its pending ticket without touching the event")
+        void registerParticipantAsync_shouldQueueRegistration() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            RegistrationRequest queued = new RegistrationRequest(eventId, "test@example.com");
+            when(registrationQueue.enqueue(eventId, "test@example.com")).thenReturn(queued);
+
+            // Act
+            RegistrationTicketResponseDTO response = eventService.registerParticipantAsync(eventId, new SubscriptionRequestDTO("test@example.com"));
+
+            // Assert
+            assertThat(response.ticket()).isEqualTo(queued.getTicket());
+            assertThat(response.status()).isEqualTo(RegistrationRequestStatus.PENDING);
+            verifyNoInteractions(eventRepository, subscriptionRepository);
+        }
+
+        @Test
+        @DisplayName("Should return the outcome of a processed registration ticket")
+        void getRegistrationTicket_shouldReturnOutcome() {
+            // Arrange
+            RegistrationRequest processed = new RegistrationRequest(UUID.randomUUID(), "test@example.com");
+            processed.complete(RegistrationRequestStatus.EVENT_FULL, "O evento já está lotado.");
+            when(registrationQueue.findByTicket(processed.getTicket())).thenReturn(Optional.of(processed));
+
+            // Act
+            RegistrationTicketResponseDTO response = eventService.getRegistrationTicket(processed.getTicket());
+
+            // Assert
+            assertThat(response.status()).isEqualTo(RegistrationRequestStatus.EVENT_FULL);
+            assertThat(response.message()).isEqualTo("O evento já está lotado.");
+            assertThat(response.processedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should throw RegistrationTicketNotFoundException when the ticket does not exist")
+        void getRegistrationTicket_shouldThrow_whenTicketDoesNotExist() {
+            // Arrange
+            UUID ticket = UUID.randomUUID();
+            when(registrationQueue.findByTicket(ticket)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.getRegistrationTicket(ticket))
+                    .isInstanceOf(RegistrationTicketNotFoundException.class)
+                    .hasMessage("Pedido de inscrição não encontrado.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for unregisterParticipant method")
+    class UnregisterParticipantTests {
+
+        @Test
+        @DisplayName("Should delete the subscription without loading the event and promote the waitlist")
+        void shouldUnregister_whenParticipantIsSubscribed() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            when(subscriptionRepository.deleteParticipant(eventId, "test@example.com")).thenReturn(1);
+
+            // Act
+            eventService.unregisterParticipant(eventId, "test@example.com");
+
+            // Assert
+            verify(waitlistPromotion).promoteAfterCommit(eventId);
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw SubscriptionNotFoundException when the participant is not subscribed")
+        void shouldThrowSubscriptionNotFound_whenNotSubscribed() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            when(subscriptionRepository.deleteParticipant(eventId, "test@example.com")).thenReturn(0);
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.unregisterParticipant(eventId, "test@example.com"))
+                    .isInstanceOf(SubscriptionNotFoundException.class)
+                    .hasMessage("Inscrição não encontrada para este evento.");
+            verify(waitlistPromotion, never()).promoteAfterCommit(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for registerParticipantOrWaitlist method")
+    class WaitlistTests {
+
+        private static final String EMAIL = "test@example.com";
+
+        private Event event(int maxParticipants, int registeredParticipants, EventStatus status) {
+            return Event.builder()
+                    .id(UUID.randomUUID())
+                    .title("Evento com Lista de Espera")
+                    .startDateTime(LocalDateTime.now().plusDays(1))
+                    .maxParticipants(maxParticipants)
+                    .registeredParticipants(registeredParticipants)
+                    .status(status)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should register directly when the event has a free seat")
+        void shouldRegister_whenSeatIsAvailable() {
+            // Arrange
+            Event event = event(10, 0, EventStatus.ACTIVE);
+            UUID eventId = event.getId();
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.findByEventAndParticipantEmail(event, EMAIL)).thenReturn(Optional.empty());
+            when(subscriptionRepository.registerGroup(eventId, List.of(EMAIL), 0)).thenReturn(List.of(EMAIL));
+
+            // Act
+            Optional<WaitlistResponseDTO> result = eventService.registerParticipantOrWaitlist(eventId, new SubscriptionRequestDTO(EMAIL));
+
+            // Assert
+            assertThat(result).isEmpty();
+            verify(subscriptionRepository).registerGroup(eventId, List.of(EMAIL), 0);
+            verify(waitlistRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should add the participant to the waitlist when the last seat is taken before the registration")
+        void shouldJoinWaitlist_whenSeatIsTakenConcurrently() {
+            // Arrange
+            Event event = event(10, 9, EventStatus.ACTIVE);
+            UUID eventId = event.getId();
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.findByEventAndParticipantEmail(event, EMAIL)).thenReturn(Optional.empty());
+            when(subscriptionRepository.registerGroup(eventId, List.of(EMAIL), 0)).thenReturn(List.of());
+            when(waitlistRepository.existsByEventIdAndParticipantEmail(eventId, EMAIL)).thenReturn(false);
+            when(waitlistRepository.save(any(WaitlistEntry.class))).thenAnswer(inv -> {
+                WaitlistEntry entry = inv.getArgument(0);
+                return new WaitlistEntry(7L, entry.getEventId(), entry.getParticipantEmail(), entry.getCreatedAt());
+            });
+            when(waitlistRepository.countByEventIdAndIdLessThanEqual(eventId, 7L)).thenReturn(1L);
+
+            // Act
+            Optional<WaitlistResponseDTO> result = eventService.registerParticipantOrWaitlist(eventId, new SubscriptionRequestDTO(EMAIL));
+
+            // Assert
+            assertThat(result).contains(new WaitlistResponseDTO(eventId, EMAIL, 1));
+            verify(eventNotificationPort, never()).sendRegistrationConfirmation(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should add the participant to the waitlist when the event is full")
+        void shouldJoinWaitlist_whenEventIsFull() {
+            // Arrange
+            Event event = event(10, 8, EventStatus.ACTIVE);
+            UUID eventId = event.getId();
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(seatHoldRegistry.activeHolds(eventId)).thenReturn(2);
+            when(subscriptionRepository.findByEventAndParticipantEmail(event, EMAIL)).thenReturn(Optional.empty());
+            when(waitlistRepository.existsByEventIdAndParticipantEmail(eventId, EMAIL)).thenReturn(false);
+            when(waitlistRepository.save(any(WaitlistEntry.class))).thenAnswer(inv -> {
+                WaitlistEntry entry = inv.getArgument(0);
+                return new WaitlistEntry(42L, entry.getEventId(), entry.getParticipantEmail(), entry.getCreatedAt());
+            });
+            when(waitlistRepository.countByEventIdAndIdLessThanEqual(eventId, 42L)).thenReturn(3L);
+
+            // Act
+            Optional<WaitlistResponseDTO> result = eventService.registerParticipantOrWaitlist(eventId, new SubscriptionRequestDTO(EMAIL));
+
+            // Assert
+            assertThat(result).contains(new WaitlistResponseDTO(eventId, EMAIL, 3));
+            verify(subscriptionRepository, never()).registerGroup(any(), any(), anyInt());
+            verify(eventNotificationPort, never()).sendRegistrationConfirmation(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalStateException when the participant is already on the waitlist")
+        void shouldThrowIllegalStateException_whenAlreadyOnWaitlist() {
+            // Arrange
+            Event event = event(1, 1, EventStatus.ACTIVE);
+            UUID eventId = event.getId();
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.findByEventAndParticipantEmail(event, EMAIL)).thenReturn(Optional.empty());
+            when(waitlistRepository.existsByEventIdAndParticipantEmail(eventId, EMAIL)).thenReturn(true);
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.registerParticipantOrWaitlist(eventId, new SubscriptionRequestDTO(EMAIL)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Este participante já está na lista de espera deste evento.");
+            verify(waitlistRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should throw SubscriptionAlreadyExistsException instead of queueing a subscribed participant")
+        void shouldThrowSubscriptionAlreadyExists_whenAlreadySubscribed() {
+            // Arrange
+            Event event = event(1, 1, EventStatus.ACTIVE);
+            UUID eventId = event.getId();
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.findByEventAndParticipantEmail(event, EMAIL))
+                    .thenReturn(Optional.of(new Subscription(event, EMAIL)));
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.registerParticipantOrWaitlist(eventId, new SubscriptionRequestDTO(EMAIL)))
+                    .isInstanceOf(SubscriptionAlreadyExistsException.class);
+            verify(waitlistRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should not queue participants for an inactive event")
+        void shouldThrowIllegalStateException_whenEventIsNotActive() {
+            // Arrange
+            Event event = event(1, 0, EventStatus.CANCELLED);
+            UUID eventId = event.getId();
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.registerParticipantOrWaitlist(eventId, new SubscriptionRequestDTO(EMAIL)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Não é possível se inscrever em um evento que não está ativo.");
+            verifyNoInteractions(waitlistRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for seat hold methods")
+    class SeatHoldTests {
+
+        private static final String EMAIL = "test@example.com";
+
+        @Test
+        @DisplayName("Should hold a seat and mirror it to the table")
+        void holdSeat_shouldRegisterAndPersistHold() {
+            // Arrange
+            Event event = createEventEntity("Evento com Reserva", LocalDateTime.now().plusDays(1), 10);
+            UUID eventId = event.getId();
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.findByEventAndParticipantEmail(event, EMAIL)).thenReturn(Optional.empty());
+            when(seatHoldProperties.getTtl()).thenReturn(Duration.ofMinutes(5));
+            // O contador lido do banco prevalece sobre o do evento carregado, que pode vir do cache
+            when(eventRepository.findAvailableSeatsById(eventId)).thenReturn(Optional.of(7));
+            when(seatHoldRegistry.tryHold(any(SeatHold.class), eq(7))).thenReturn(true);
+
+            // Act
+            SeatHoldResponseDTO result = eventService.holdSeat(eventId, new SubscriptionRequestDTO(EMAIL));
+
+            // Assert
+            ArgumentCaptor<SeatHold> holdCaptor = ArgumentCaptor.forClass(SeatHold.class);
+            verify(seatHoldRepository).save(holdCaptor.capture());
+            SeatHold saved = holdCaptor.getValue();
+            assertThat(result.holdId()).isEqualTo(saved.getId());
+            assertThat(result.eventId()).isEqualTo(eventId);
+            assertThat(result.participantEmail()).isEqualTo(EMAIL);
+            assertThat(result.expiresAt()).isEqualTo(saved.getCreatedAt().plusMinutes(5));
+            assertThat(event.getRegisteredParticipants()).isZero();
+            verify(eventRepository, never()).save(any(Event.class));
+        }
+
+        @Test
+        @DisplayName("Should throw EventFullException when every free seat is already held")
+        void holdSeat_shouldThrowEventFull_whenNoSeatIsLeft() {
+            // Arrange
+            Event event = createEventEntity("Evento Reservado", LocalDateTime.now().plusDays(1), 10);
+            UUID eventId = event.getId();
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.findByEventAndParticipantEmail(event, EMAIL)).thenReturn(Optional.empty());
+            when(seatHoldProperties.getTtl()).thenReturn(Duration.ofMinutes(5));
+            when(seatHoldRegistry.tryHold(any(SeatHold.class), anyInt())).thenReturn(false);
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.holdSeat(eventId, new SubscriptionRequestDTO(EMAIL)))
+                    .isInstanceOf(EventFullException.class)
+                    .hasMessage("O evento já está lotado.");
+            verify(seatHoldRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should not hold a seat for a participant who is already subscribed")
+        void holdSeat_shouldThrowSubscriptionAlreadyExists_whenSubscribed() {
+            // Arrange
+            Event event = createEventEntity("Evento com Inscrito", LocalDateTime.now().plusDays(1), 10);
+            UUID eventId = event.getId();
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.findByEventAndParticipantEmail(event, EMAIL))
+                    .thenReturn(Optional.of(new Subscription(event, EMAIL)));
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.holdSeat(eventId, new SubscriptionRequestDTO(EMAIL)))
+                    .isInstanceOf(SubscriptionAlreadyExistsException.class);
+            verifyNoInteractions(seatHoldRegistry, seatHoldRepository);
+        }
+
+        @Test
+        @DisplayName("Should not hold a seat in an inactive event")
+        void holdSeat_shouldThrowIllegalState_whenEventIsNotActive() {
+            // Arrange
+            Event event = createEventEntity("Evento Cancelado", LocalDateTime.now().plusDays(1), 10);
+            event.cancel();
+            UUID eventId = event.getId();
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.holdSeat(eventId, new SubscriptionRequestDTO(EMAIL)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Não é possível se inscrever em um evento que não está ativo.");
+            verifyNoInteractions(seatHoldRegistry, seatHoldRepository);
+        }
+
+        @Test
+        @DisplayName("Should subscribe the participant and delete the hold row on confirmation")
+        void confirmSeatHold_shouldSubscribeParticipant() {
+            // Arrange
+            Event event = createEventEntity("Evento com Reserva", LocalDateTime.now().plusDays(1), 10);
+            UUID eventId = event.getId();
+            SeatHold hold = new SeatHold(eventId, EMAIL, Duration.ofMinutes(5));
+            when(seatHoldRegistry.claim(eventId, hold.getId())).thenReturn(Optional.of(hold));
+            when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+            when(subscriptionRepository.findByEventAndParticipantEmail(event, EMAIL)).thenReturn(Optional.empty());
+            when(seatHoldRegistry.activeHolds(eventId)).thenReturn(9);
+            when(subscriptionRepository.registerGroup(eventId, List.of(EMAIL), 9)).thenReturn(List.of(EMAIL));
+
+            // Act
+            eventService.confirmSeatHold(eventId, hold.getId());
+
+            // Assert
+            verify(seatHoldRepository).deleteById(hold.getId());
+            verify(subscriptionRepository).registerGroup(eventId, List.of(EMAIL), 9);
+            verify(eventNotificationPort).sendRegistrationConfirmation(event, EMAIL);
+        }
+
+        @Test
+        @DisplayName("Should throw SeatHoldNotFoundException when the hold is missing or expired")
+        void confirmSeatHold_shouldThrowNotFound_whenHoldIsNotActive() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            UUID holdId = UUID.randomUUID();
+            when(seatHoldRegistry.claim(eventId, holdId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.confirmSeatHold(eventId, holdId))
+                    .isInstanceOf(SeatHoldNotFoundException.class)
+                    .hasMessage("Reserva não encontrada ou expirada.");
+            verifyNoInteractions(eventRepository, subscriptionRepository, seatHoldRepository);
+        }
+
+        @Test
+        @DisplayName("Should release a hold and delete its row")
+        void releaseSeatHold_shouldDeleteHold() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            SeatHold hold = new SeatHold(eventId, EMAIL, Duration.ofMinutes(5));
+            when(seatHoldRegistry.claim(eventId, hold.getId())).thenReturn(Optional.of(hold));
+
+            // Act
+            eventService.releaseSeatHold(eventId, hold.getId());
+
+            // Assert
+            verify(seatHoldRepository).deleteById(hold.getId());
+            verify(waitlistPromotion).promoteAfterCommit(eventId);
+        }
+
+        @Test
+        @DisplayName("Should throw SeatHoldNotFoundException when releasing an unknown hold")
+        void releaseSeatHold_shouldThrowNotFound_whenHoldIsNotActive() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            UUID holdId = UUID.randomUUID();
+            when(seatHoldRegistry.claim(eventId, holdId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.releaseSeatHold(eventId, holdId))
+                    .isInstanceOf(SeatHoldNotFoundException.class);
+            verify(seatHoldRepository, never()).deleteById(any());
+        }
     }
 
     @Nested
     @DisplayName("Tests for getRegisteredParticipants method")
     class GetRegisteredParticipantsTests {
 
+        private EventParticipantRow row(int registered, String email, LocalDateTime createdAt, long id) {
+            return new EventParticipantRow(registered, email, createdAt, id);
+        }
+
         @Test
-        @DisplayName("Should return a page of participants for a valid event")
+        @DisplayName("Should return the first page of participants in a single query")
         void shouldReturnParticipantsPage_whenValidEventId() {
             // Arrange
             UUID eventId = UUID.randomUUID();
-            Event event = createEventEntity("Evento com Participantes", LocalDateTime.now().plusDays(1), 100);
-            Subscription subscription = new Subscription(event, "test@example.com");
-            Pageable pageable = PageRequest.of(0, 10);
-            Page<Subscription> subscriptionPage = new PageImpl<>(List.of(subscription), pageable, 1);
+            LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
 
-            when(eventRepository.existsById(eventId))
-                    .thenReturn(true);
-            when(eventRepository.getReferenceById(eventId))
-                    .thenReturn(event);
-            when(subscriptionRepository.findByEvent(event, pageable))
-                    .thenReturn(subscriptionPage);
+            when(subscriptionRepository.findParticipantsPage(eventId, Limit.of(11)))
+                    .thenReturn(List.of(row(1, "test@example.com", createdAt, 1L)));
 
             // Act
-            PageResponseDTO<RegisteredParticipantDTO> resultPage = eventService.getRegisteredParticipants(eventId, pageable);
+            CursorPageResponseDTO<RegisteredParticipantDTO> resultPage = eventService.getRegisteredParticipants(eventId, null, 10);
 
             // Assert
             assertThat(resultPage).isNotNull();
             assertThat(resultPage.totalElements()).isEqualTo(1);
+            assertThat(resultPage.hasNext()).isFalse();
+            assertThat(resultPage.nextCursor()).isNull();
             assertThat(resultPage.content())
                     .hasSize(1)
                     .first()
                     .extracting(RegisteredParticipantDTO::participantEmail)
                     .isEqualTo("test@example.com");
+
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should return a next cursor pointing to the last row when more rows exist")
+        void shouldReturnNextCursor_whenMoreRowsExist() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+
+            when(subscriptionRepository.findParticipantsPage(eventId, Limit.of(3)))
+                    .thenReturn(List.of(
+                            row(5, "a@example.com", createdAt, 1L),
+                            row(5, "b@example.com", createdAt, 2L),
+                            row(5, "c@example.com", createdAt.plusMinutes(1), 3L)
+                    ));
+
+            // Act
+            CursorPageResponseDTO<RegisteredParticipantDTO> resultPage = eventService.getRegisteredParticipants(eventId, null, 2);
+
+            // Assert
+            assertThat(resultPage.totalElements()).isEqualTo(5);
+            assertThat(resultPage.hasNext()).isTrue();
+            assertThat(resultPage.content())
+                    .extracting(RegisteredParticipantDTO::participantEmail)
+                    .containsExactly("a@example.com", "b@example.com");
+            assertThat(ParticipantCursor.decode(resultPage.nextCursor()))
+                    .isEqualTo(new ParticipantCursor(createdAt, 2L));
+        }
+
+        @Test
+        @DisplayName("Should continue after the decoded cursor")
+        void shouldQueryAfterCursor_whenCursorIsProvided() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+            String cursor = new ParticipantCursor(createdAt, 2L).encode();
+
+            when(subscriptionRepository.findParticipantsPageAfter(eventId, createdAt, 2L, Limit.of(11)))
+                    .thenReturn(List.of(row(3, "c@example.com", createdAt.plusMinutes(1), 3L)));
+
+            // Act
+            CursorPageResponseDTO<RegisteredParticipantDTO> resultPage = eventService.getRegisteredParticipants(eventId, cursor, 10);
+
+            // Assert
+            assertThat(resultPage.content())
+                    .extracting(RegisteredParticipantDTO::participantEmail)
+                    .containsExactly("c@example.com");
+            verify(subscriptionRepository, never()).findParticipantsPage(any(), any());
         }
 
         @Test
-        @DisplayName("Should throw EventNotFoundException for an invalid event ID")
+        @DisplayName("Should throw EventNotFoundException when the query returns no rows")
         void shouldThrowEventNotFoundException_whenInvalidEventId() {
             // Arrange
             UUID invalidEventId = UUID.randomUUID();
-            Pageable pageable = PageRequest.of(0, 10);
 
-            when(eventRepository.existsById(invalidEventId))
-                    .thenReturn(false);
+            when(subscriptionRepository.findParticipantsPage(invalidEventId, Limit.of(11)))
+                    .thenReturn(Collections.emptyList());
 
             // Act & Assert
-            assertThatThrownBy(() -> eventService.getRegisteredParticipants(invalidEventId, pageable))
+            assertThatThrownBy(() -> eventService.getRegisteredParticipants(invalidEventId, null, 10))
                     .isInstanceOf(EventNotFoundException.class)
                     .hasMessage("Evento com ID " + invalidEventId + " não encontrado.");
-
-            verify(eventRepository, never()).getReferenceById(invalidEventId);
-            verify(subscriptionRepository, never()).findByEvent(any(Event.class), any(Pageable.class));
         }
 
         @Test
@@ -712,24 +1864,45 @@ class EventServiceTest {
         void shouldReturnEmptyPage_whenEventHasNoParticipants() {
             // Arrange
             UUID eventId = UUID.randomUUID();
-            Event event = createEventEntity("Evento Vazio", LocalDateTime.now().plusDays(1), 100);
-            Pageable pageable = PageRequest.of(0, 10);
-            Page<Subscription> emptySubscriptionPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-            when(eventRepository.existsById(eventId))
-                    .thenReturn(true);
-            when(eventRepository.getReferenceById(eventId))
-                    .thenReturn(event);
-            when(subscriptionRepository.findByEvent(event, pageable))
-                    .thenReturn(emptySubscriptionPage);
+            // A consulta retorna uma linha do evento sem dados de inscrição
+            when(subscriptionRepository.findParticipantsPage(eventId, Limit.of(11)))
+                    .thenReturn(List.of(new EventParticipantRow(0, null, null, null)));
 
             // Act
-            PageResponseDTO<RegisteredParticipantDTO> resultPage = eventService.getRegisteredParticipants(eventId, pageable);
+            CursorPageResponseDTO<RegisteredParticipantDTO> resultPage = eventService.getRegisteredParticipants(eventId, null, 10);
 
             // Assert
             assertThat(resultPage).isNotNull();
             assertThat(resultPage.totalElements()).isZero();
             assertThat(resultPage.content()).isEmpty();
+            assertThat(resultPage.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should clamp the page size to the allowed maximum")
+        void shouldClampPageSize_whenSizeExceedsMaximum() {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            when(subscriptionRepository.findParticipantsPage(eventId, Limit.of(EventService.MAX_CURSOR_PAGE_SIZE + 1)))
+                    .thenReturn(List.of(new EventParticipantRow(0, null, null, null)));
+
+            // Act
+            CursorPageResponseDTO<RegisteredParticipantDTO> resultPage = eventService.getRegisteredParticipants(eventId, null, 10_000);
+
+            // Assert
+            assertThat(resultPage.size()).isEqualTo(EventService.MAX_CURSOR_PAGE_SIZE);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException for a malformed cursor")
+        void shouldThrowIllegalArgumentException_whenCursorIsMalformed() {
+            // Act & Assert
+            assertThatThrownBy(() -> eventService.getRegisteredParticipants(UUID.randomUUID(), "not-a-cursor", 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Cursor de paginação inválido.");
+
+            verifyNoInteractions(subscriptionRepository);
         }
 
         @Test
@@ -737,26 +1910,17 @@ class EventServiceTest {
         void shouldPropagateException_whenFetchingParticipantsFails() {
             // Arrange
             UUID eventId = UUID.randomUUID();
-            Event event = createEventEntity("Evento com Erro", LocalDateTime.now().plusDays(1), 100);
-            Pageable pageable = PageRequest.of(0, 10);
-
-            when(eventRepository.existsById(eventId))
-                    .thenReturn(true); // Evento existe
-            when(eventRepository.getReferenceById(eventId))
-                    .thenReturn(event); // Retorna o proxy do evento
 
             // Simula uma falha ao buscar as inscrições
             doThrow(new RuntimeException("Database connection lost"))
-                    .when(subscriptionRepository).findByEvent(any(Event.class), any(Pageable.class));
+                    .when(subscriptionRepository).findParticipantsPage(any(UUID.class), any(Limit.class));
 
             // Act & Assert
-            assertThatThrownBy(() -> eventService.getRegisteredParticipants(eventId, pageable))
+            assertThatThrownBy(() -> eventService.getRegisteredParticipants(eventId, null, 10))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Database connection lost");
 
-            verify(eventRepository, times(1)).existsById(eventId);
-            verify(eventRepository, times(1)).getReferenceById(eventId);
-            verify(subscriptionRepository, times(1)).findByEvent(event, pageable);
+            verify(subscriptionRepository, times(1)).findParticipantsPage(eventId, Limit.of(11));
         }
     }
 }
@@ -0,0 +1,263 @@
+package com.Samuel.event_microservice.infrastructure.application;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.infrastructure.application.EventSortPolicy.SortKey;
+import com.Samuel.event_microservice.infrastructure.repositories.JpaEventRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Prova que cada ordenação aceita por {@link EventSortPolicy} é atendida por um índice.
+ * <p>
+ * Cada consulta de página emitida pelo Hibernate é repetida com {@code EXPLAIN} e os mesmos
+ * parâmetros, e o plano é verificado: deve usar o índice esperado e, salvo no filtro por
+ * prefixo de local, não pode conter um nó de ordenação.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import(EventSortPolicyIndexUsageTest.PlanCaptureConfig.class)
+class EventSortPolicyIndexUsageTest {
+
+    private static final int EVENT_COUNT = 50_000;
+
+    private static final String START_INDEX = "idx_event_active_start_id";
+    private static final String REMOTE_INDEX = "idx_event_active_remote_start_id";
+    private static final String LOCATION_INDEX = "idx_event_active_location_start_id";
+    private static final String AVAILABLE_INDEX = "idx_event_active_available_start_id";
+    private static final String TITLE_INDEX = "idx_event_active_title_id";
+
+    private static final List<String> CAPTURED_PLANS = new CopyOnWriteArrayList<>();
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JpaEventRepository jpaEventRepository;
+
+    @BeforeAll
+    void seed() {
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        // Metade remota, um quarto lotado e um em cada dez cancelado, para que cada filtro seja seletivo.
+        jdbc.execute("""
+                INSERT INTO event (id, max_participants, registered_participants, title, description,
+                                   start_date_time, end_date_time, location, is_remote, status)
+                SELECT gen_random_uuid(), 10, CASE WHEN i %% 4 = 0 THEN 10 ELSE 0 END,
+                       'Evento ' || md5(i::text), 'Descrição do evento ' || i,
+                       now() + (i %% 2000) * interval '1 hour', now() + (i %% 2000) * interval '1 hour' + interval '2 hours',
+                       'Cidade ' || (i %% 5000), i %% 2 = 0,
+                       CASE WHEN i %% 10 = 0 THEN 'CANCELLED' ELSE 'ACTIVE' END
+                FROM generate_series(1, %d) AS i
+                """.formatted(EVENT_COUNT));
+        jdbc.execute("ANALYZE event");
+    }
+
+    @BeforeEach
+    void clearPlans() {
+        CAPTURED_PLANS.clear();
+    }
+
+    @Test
+    @DisplayName("The matrix should cover every sort key accepted by the policy")
+    void matrix_shouldCoverEveryAllowedSortKey() {
+        Set<String> coveredKeys = sortMatrix()
+                .map(arguments -> (String) arguments.get()[2])
+                .collect(Collectors.toSet());
+
+        assertThat(coveredKeys).containsExactlyInAnyOrderElementsOf(
+                Arrays.stream(SortKey.values()).map(SortKey::publicName).toList());
+    }
+
+    @ParameterizedTest(name = "{0}: sort={2},{3}")
+    @MethodSource("sortMatrix")
+    @DisplayName("Each allowed sort should be read from an index")
+    void allowedSort_shouldBeServedByIndex(String scenario, EventFilter filter, String sortKey, Sort.Direction direction,
+                                           Set<String> acceptedIndexes, boolean sortNodeAllowed) {
+        // Arrange
+        Pageable pageable = EventSortPolicy.apply(PageRequest.of(0, 10, Sort.by(direction, sortKey)), !filter.isEmpty());
+
+        // Act
+        jpaEventRepository.findActiveEventSummaries(filter, pageable);
+
+        // Assert
+        assertThat(CAPTURED_PLANS).as("plano da consulta de página").hasSize(1);
+        String plan = CAPTURED_PLANS.get(0);
+        assertThat(plan).as(plan).doesNotContain("Seq Scan");
+        assertThat(acceptedIndexes).as(plan).anyMatch(plan::contains);
+        if (!sortNodeAllowed) {
+            assertThat(plan).as(plan).doesNotContain("Sort Key");
+        }
+    }
+
+    static Stream<Arguments> sortMatrix() {
+        LocalDateTime from = LocalDateTime.now().plusDays(10);
+        EventFilter none = EventFilter.NONE;
+        EventFilter remote = new EventFilter(true, null, null, null, false);
+        EventFilter onSite = new EventFilter(false, null, null, null, false);
+        EventFilter dateRange = new EventFilter(null, null, from, from.plusDays(7), false);
+        EventFilter remoteInRange = new EventFilter(true, null, from, from.plusDays(7), false);
+        EventFilter availableSpots = new EventFilter(null, null, null, null, true);
+        EventFilter location = new EventFilter(null, "cidade 4242", null, null, false);
+
+        List<Arguments> matrix = new ArrayList<>();
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            matrix.add(arguments("sem filtros", none, "startDateTime", direction, Set.of(START_INDEX), false));
+            matrix.add(arguments("sem filtros", none, "title", direction, Set.of(TITLE_INDEX), false));
+            matrix.add(arguments("intervalo de datas", dateRange, "startDateTime", direction, Set.of(START_INDEX), false));
+            // Filtros pouco seletivos podem ser atendidos tanto pelo índice próprio quanto pelo índice
+            // por data com filtro: ambos já entregam as linhas na ordem da página.
+            matrix.add(arguments("remotos", remote, "startDateTime", direction, Set.of(REMOTE_INDEX, START_INDEX), false));
+            matrix.add(arguments("presenciais", onSite, "startDateTime", direction, Set.of(REMOTE_INDEX, START_INDEX), false));
+            matrix.add(arguments("remotos no intervalo", remoteInRange, "startDateTime", direction, Set.of(REMOTE_INDEX, START_INDEX), false));
+            matrix.add(arguments("com vagas", availableSpots, "startDateTime", direction, Set.of(AVAILABLE_INDEX, START_INDEX), false));
+            // O prefixo é um intervalo: ou o planejador ordena as poucas linhas do prefixo,
+            // ou percorre o índice por data filtrando o local. Em ambos os casos não há varredura da tabela.
+            matrix.add(arguments("prefixo de local", location, "startDateTime", direction, Set.of(LOCATION_INDEX, START_INDEX), true));
+        }
+        return matrix.stream();
+    }
+
+    /**
+     * Envolve o {@link DataSource} para repetir com {@code EXPLAIN} cada consulta de página sobre
+     * a tabela de eventos, com os mesmos parâmetros, guardando o plano em {@link #CAPTURED_PLANS}.
+     */
+    @TestConfiguration
+    static class PlanCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor planCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource, PlanCaptureConfig::wrapConnection) : bean;
+                }
+            };
+        }
+
+        private static Object wrapConnection(Object target, Method method, Object[] args) throws Throwable {
+            Object result = invoke(target, method, args);
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection, (conn, connMethod, connArgs) -> {
+                    Object statement = invoke(conn, connMethod, connArgs);
+                    if (connMethod.getName().equals("prepareStatement") && isListingQuery((String) connArgs[0])) {
+                        return capturingStatement((Connection) conn, (String) connArgs[0], (PreparedStatement) statement);
+                    }
+                    return statement;
+                });
+            }
+            return result;
+        }
+
+        private static boolean isListingQuery(String sql) {
+            String normalized = sql.toLowerCase(Locale.ROOT);
+            return normalized.startsWith("select") && normalized.contains(" from event ") && !normalized.contains("count(");
+        }
+
+        private static PreparedStatement capturingStatement(Connection connection, String sql, PreparedStatement statement) {
+            List<Object[]> parameterCalls = new ArrayList<>();
+            return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    parameterCalls.add(new Object[]{method, args});
+                } else if (method.getName().equals("executeQuery") && (args == null || args.length == 0)) {
+                    CAPTURED_PLANS.add(explain(connection, sql, parameterCalls));
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        private static String explain(Connection connection, String sql, List<Object[]> parameterCalls) throws Exception {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (Object[] call : parameterCalls) {
+                    ((Method) call[0]).invoke(explain, (Object[]) call[1]);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = explain.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> interceptor.intercept(target, method, args));
+        }
+
+        @FunctionalInterface
+        private interface Interceptor {
+            Object intercept(Object target, Method method, Object[] args) throws Throwable;
+        }
+    }
+}
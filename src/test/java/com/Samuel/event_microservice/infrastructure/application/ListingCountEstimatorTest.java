@@ -0,0 +1,107 @@
+package com.Samuel.event_microservice.infrastructure.application;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListingCountEstimatorTest {
+
+    private static final EventFilter REMOTE = new EventFilter(true, null, null, null, false);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final ListingCountEstimator estimator =
+            new ListingCountEstimator(Duration.ofSeconds(30), 2, Duration.ofMinutes(10), pendingRefreshes::add, clock::get);
+
+    @Test
+    @DisplayName("Should count on the first request and serve the cached total afterwards")
+    void estimate_shouldCountOnce_andServeCachedTotal() {
+        // Arrange
+        AtomicLong counted = new AtomicLong();
+
+        // Act
+        long first = estimator.estimate("all", EventFilter.NONE, () -> counted.incrementAndGet() * 100);
+        long second = estimator.estimate("all", EventFilter.NONE, () -> counted.incrementAndGet() * 100);
+
+        // Assert
+        assertThat(first).isEqualTo(100);
+        assertThat(second).isEqualTo(100);
+        assertThat(counted).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should keep separate totals per listing and filter")
+    void estimate_shouldKeepSeparateTotals_perListingAndFilter() {
+        // Act
+        estimator.estimate("all", EventFilter.NONE, () -> 100);
+        long upcoming = estimator.estimate("upcoming", EventFilter.NONE, () -> 40);
+        long remote = estimator.estimate("all", REMOTE, () -> 7);
+
+        // Assert
+        assertThat(upcoming).isEqualTo(40);
+        assertThat(remote).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should serve the stale total while a single background recount runs")
+    void estimate_shouldServeStaleTotal_whileRecountingInBackground() {
+        // Arrange
+        estimator.estimate("all", EventFilter.NONE, () -> 100);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        // Act
+        long stale = estimator.estimate("all", EventFilter.NONE, () -> 120);
+        long stillStale = estimator.estimate("all", EventFilter.NONE, () -> 120);
+        pendingRefreshes.forEach(Runnable::run);
+        long refreshed = estimator.estimate("all", EventFilter.NONE, () -> 999);
+
+        // Assert
+        assertThat(stale).isEqualTo(100);
+        assertThat(stillStale).isEqualTo(100);
+        assertThat(pendingRefreshes).hasSize(1);
+        assertThat(refreshed).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("Should retry the recount later when it fails")
+    void estimate_shouldRetryRecount_whenItFails() {
+        // Arrange
+        estimator.estimate("all", EventFilter.NONE, () -> 100);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        estimator.estimate("all", EventFilter.NONE, () -> {
+            throw new IllegalStateException("banco indisponível");
+        });
+        pendingRefreshes.remove(0).run();
+
+        // Act
+        long total = estimator.estimate("all", EventFilter.NONE, () -> 130);
+        pendingRefreshes.forEach(Runnable::run);
+
+        // Assert
+        assertThat(total).isEqualTo(100);
+        assertThat(estimator.estimate("all", EventFilter.NONE, () -> 0)).isEqualTo(130);
+    }
+
+    @Test
+    @DisplayName("Should forget a combination that was not requested within the idle timeout")
+    void estimate_shouldRecount_afterIdleTimeout() {
+        // Arrange
+        estimator.estimate("all", REMOTE, () -> 7);
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(11));
+
+        // Act
+        long total = estimator.estimate("all", REMOTE, () -> 9);
+
+        // Assert
+        assertThat(total).isEqualTo(9);
+        assertThat(pendingRefreshes).isEmpty();
+    }
+}
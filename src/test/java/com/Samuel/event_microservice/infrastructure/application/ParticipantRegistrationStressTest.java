@@ -0,0 +1,147 @@
+package com.Samuel.event_microservice.infrastructure.application;
+
+import com.Samuel.event_microservice.core.exceptions.EventFullException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionNotFoundException;
+import com.Samuel.event_microservice.core.ports.EventNotificationPort;
+import com.Samuel.event_microservice.core.usecases.EventUseCase;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventRequestDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.SubscriptionRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de estresse de inscrições e cancelamentos concorrentes no mesmo evento, contra um
+ * PostgreSQL real.
+ * <p>
+ * Várias threads inscrevem e cancelam participantes de um pequeno grupo de e-mails em um evento
+ * de poucas vagas. Apenas as regras de negócio (evento lotado, inscrição duplicada ou inexistente)
+ * são respostas esperadas: uma inscrição concorrente não pode falhar no bloqueio otimista nem na
+ * restrição de unicidade. Ao final, o contador do evento deve coincidir com as inscrições gravadas
+ * e com o saldo das operações bem-sucedidas, sem ultrapassar a capacidade.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+class ParticipantRegistrationStressTest {
+
+    private static final int MAX_PARTICIPANTS = 10;
+    private static final int PARTICIPANTS = 25;
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 150;
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private EventUseCase eventUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Evita chamadas ao serviço de e-mail externo durante o teste
+    @MockBean
+    private EventNotificationPort eventNotificationPort;
+
+    @Test
+    @DisplayName("Concurrent registrations and unregistrations should keep the counter equal to the stored subscriptions")
+    void concurrentRegisterAndUnregister_shouldKeepCounterConsistent() throws Exception {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(5);
+        EventResponseDTO event = eventUseCase.createEvent(new EventRequestDTO(
+                "Evento Disputado", "Descrição do evento disputado", start, start.plusHours(2),
+                MAX_PARTICIPANTS, null, "http://event.url", null, true));
+
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger unregistered = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    String email = "participant" + random.nextInt(PARTICIPANTS) + "@example.com";
+                    try {
+                        if (random.nextBoolean()) {
+                            eventUseCase.registerParticipant(event.id(), new SubscriptionRequestDTO(email));
+                            registered.incrementAndGet();
+                        } else {
+                            eventUseCase.unregisterParticipant(event.id(), email);
+                            unregistered.incrementAndGet();
+                        }
+                    } catch (EventFullException | SubscriptionAlreadyExistsException | SubscriptionNotFoundException expected) {
+                        // Respostas esperadas sob concorrência
+                    } catch (Throwable e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        // Assert
+        Integer counter = jdbcTemplate.queryForObject(
+                "SELECT registered_participants FROM event WHERE id = ?", Integer.class, event.id());
+        Integer stored = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM subscription WHERE event_id = ?", Integer.class, event.id());
+        Integer duplicated = jdbcTemplate.queryForObject(
+                "SELECT count(*) - count(DISTINCT participant_email) FROM subscription WHERE event_id = ?", Integer.class, event.id());
+
+        assertThat(unexpected).isEmpty();
+        assertThat(registered.get()).isPositive();
+        assertThat(unregistered.get()).isPositive();
+        assertThat(counter).isEqualTo(stored);
+        assertThat(counter).isEqualTo(registered.get() - unregistered.get());
+        assertThat(counter).isBetween(0, MAX_PARTICIPANTS);
+        assertThat(duplicated).isZero();
+    }
+}
@@ -0,0 +1,109 @@
+package com.Samuel.event_microservice.infrastructure.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GradientConcurrencyLimiter readLimiter = new GradientConcurrencyLimiter(2, 1, 2, 1.5, 0.2);
+    private final GradientConcurrencyLimiter writeLimiter = new GradientConcurrencyLimiter(1, 1, 1, 1.5, 0.2);
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConcurrencyLimitFilter(readLimiter, writeLimiter, Duration.ofSeconds(2),
+                new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    private static FilterChain respondWith(int status) {
+        return (request, response) -> ((MockHttpServletResponse) response).setStatus(status);
+    }
+
+    @Test
+    @DisplayName("Should shed writes with a fast 503 and Retry-After while reads keep being served")
+    void shouldShedWrites_whileReadsAreServed() throws Exception {
+        // Arrange
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        FilterChain slowWrite = (request, response) -> {
+            writeStarted.countDown();
+            try {
+                releaseWrite.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> inFlightWrite = executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("POST", "/events/1/register"), new MockHttpServletResponse(), slowWrite);
+                return null;
+            });
+            assertThat(writeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            MockHttpServletResponse shedWrite = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("POST", "/events/1/register"), shedWrite, respondWith(200));
+            MockHttpServletResponse read = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/events/1"), read, respondWith(200));
+
+            // Assert
+            assertThat(shedWrite.getStatus()).isEqualTo(503);
+            assertThat(shedWrite.getHeader("Retry-After")).isEqualTo("2");
+            assertThat(shedWrite.getContentAsString()).contains("O serviço está sobrecarregado.");
+            assertThat(read.getStatus()).isEqualTo(200);
+
+            releaseWrite.countDown();
+            inFlightWrite.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(writeLimiter.getInFlight()).isZero();
+        assertThat(meterRegistry.get("http.concurrency.rejected").tag("limiter", "writes").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("http.concurrency.rejected").tag("limiter", "reads").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should publish the current limit of each limiter")
+    void shouldPublishLimits() {
+        // Assert
+        assertThat(meterRegistry.get("http.concurrency.limit").tag("limiter", "reads").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("http.concurrency.limit").tag("limiter", "writes").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should release the slot even when the request fails")
+    void shouldReleaseSlot_whenRequestFails() {
+        // Arrange
+        FilterChain failing = (request, response) -> {
+            throw new IllegalStateException("falha");
+        };
+
+        // Act
+        try {
+            filter.doFilter(new MockHttpServletRequest("POST", "/events"), new MockHttpServletResponse(), failing);
+        } catch (Exception ignored) {
+            // a falha é propagada ao Tomcat
+        }
+
+        // Assert
+        assertThat(writeLimiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,89 @@
+package com.Samuel.event_microservice.infrastructure.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientConcurrencyLimiterTest {
+
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Mantém o limitador cheio e conclui uma requisição por vez com a latência informada.
+     */
+    private static void saturate(GradientConcurrencyLimiter limiter, int samples, long rttNanos) {
+        for (int i = 0; i < samples; i++) {
+            while (limiter.tryAcquire()) {
+                // ocupa todas as vagas
+            }
+            limiter.release(rttNanos);
+        }
+        while (limiter.getInFlight() > 0) {
+            limiter.release(rttNanos);
+        }
+    }
+
+    @Test
+    @DisplayName("tryAcquire should admit requests only up to the current limit")
+    void tryAcquire_shouldRespectLimit() {
+        // Arrange
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(3, 1, 10, 1.5, 0.2);
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+
+        limiter.release(BASE_RTT);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("The limit should grow while latency stays at its baseline under load")
+    void limit_shouldGrow_whenLatencyIsStable() {
+        // Arrange
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 2, 100, 1.5, 0.2);
+
+        // Act
+        saturate(limiter, 200, BASE_RTT);
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("The limit should shrink towards the minimum when latency rises")
+    void limit_shouldShrink_whenLatencyRises() {
+        // Arrange
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(50, 2, 100, 1.5, 0.2);
+        saturate(limiter, 50, BASE_RTT);
+        int before = limiter.getLimit();
+
+        // Act
+        saturate(limiter, 50, BASE_RTT * 10);
+
+        // Assert
+        assertThat(limiter.getLimit()).isLessThan(before / 4);
+    }
+
+    @Test
+    @DisplayName("The limit should not grow from samples taken while it was mostly unused")
+    void limit_shouldNotGrow_whenApplicationLimited() {
+        // Arrange
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 2, 100, 1.5, 0.2);
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            limiter.tryAcquire();
+            limiter.release(BASE_RTT);
+        }
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+}
@@ -1,15 +1,31 @@
 package com.Samuel.event_microservice.infrastructure.controller;
 
+import com.Samuel.event_microservice.core.data.EventVersion;
 import com.Samuel.event_microservice.core.exceptions.EventFullException;
 import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.models.RegistrationRequestStatus;
+import com.Samuel.event_microservice.infrastructure.dto.CursorPageResponseDTO;
 import com.Samuel.event_microservice.infrastructure.dto.PageResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.SliceResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventFilterDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventRequestDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventStatsResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventSuggestionDTO;
 import com.Samuel.event_microservice.infrastructure.dto.event.EventUpdateDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupRegistrationResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupRegistrationResultDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.GroupSubscriptionRequestDTO;
 import com.Samuel.event_microservice.infrastructure.dto.subscription.RegisteredParticipantDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.RegistrationTicketResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.SeatHoldResponseDTO;
 import com.Samuel.event_microservice.infrastructure.dto.subscription.SubscriptionRequestDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.WaitlistResponseDTO;
 import com.Samuel.event_microservice.core.exceptions.EventNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.GroupRegistrationRejectedException;
+import com.Samuel.event_microservice.core.exceptions.SeatHoldNotFoundException;
 import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionNotFoundException;
 import com.Samuel.event_microservice.core.usecases.EventUseCase;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -23,26 +39,38 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -60,10 +88,30 @@ class EventControllerTest {
     @MockBean
     private EventUseCase eventUseCase;
 
+    private static final long EVENT_VERSION = 3L;
+    private static final Instant EVENT_UPDATED_AT = Instant.parse("2030-01-15T10:30:00Z");
+
     @BeforeEach
     void setUp() {
         // Garante que o ObjectMapper usado nos testes entenda os tipos do Java 8 (LocalDateTime)
         objectMapper.registerModule(new JavaTimeModule());
+
+        // Versões consultadas nas requisições condicionais, antes de carregar os eventos
+        when(eventUseCase.getAllEventVersions(any(EventFilterDTO.class), any(Pageable.class)))
+                .thenReturn(Page.empty());
+        when(eventUseCase.getUpcomingEventVersions(any(EventFilterDTO.class), any(Pageable.class)))
+                .thenReturn(Page.empty());
+        when(eventUseCase.getAllEventVersionsSlice(any(EventFilterDTO.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+        when(eventUseCase.getUpcomingEventVersionsSlice(any(EventFilterDTO.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+    }
+
+    private static PageResponseDTO<EventResponseDTO> singleEventPage(UUID eventId, long version) {
+        LocalDateTime start = LocalDateTime.of(2030, 2, 1, 19, 0);
+        EventResponseDTO event = new EventResponseDTO(eventId, "Evento de Teste", "Descrição", start, start.plusHours(2),
+                100, 10, null, null, null, true, EventStatus.ACTIVE, version, EVENT_UPDATED_AT);
+        return new PageResponseDTO<>(List.of(event), 0, 20, 1, 1, true);
     }
 
     @Nested
@@ -81,10 +129,10 @@ class EventControllerTest {
             // 2. Cria a RESPOSTA esperada do serviço
             UUID eventId = UUID.randomUUID();
             LocalDateTime start = LocalDateTime.now().plusDays(1);
-            EventResponseDTO eventDTO = new EventResponseDTO(eventId, "Evento de Teste", "Descrição", start, start.plusHours(2), 100, 10, "http://image.url", "http://event.url", null, true, EventStatus.ACTIVE);
+            EventResponseDTO eventDTO = new EventResponseDTO(eventId, "Evento de Teste", "Descrição", start, start.plusHours(2), 100, 10, "http://image.url", "http://event.url", null, true, EventStatus.ACTIVE, EVENT_VERSION, EVENT_UPDATED_AT);
             PageResponseDTO<EventResponseDTO> eventPage = new PageResponseDTO<>(List.of(eventDTO), 0, 10, 1, 1, true);
 
-            when(eventUseCase.getAllEvents(any(Pageable.class)))
+            when(eventUseCase.getAllEvents(any(EventFilterDTO.class), any(Pageable.class)))
                     .thenReturn(eventPage);
 
             // Act & Assert
@@ -119,7 +167,7 @@ class EventControllerTest {
             // Arrange
             PageResponseDTO<EventResponseDTO> emptyPage = new PageResponseDTO<>(Collections.emptyList(), 0, 10, 0, 0, true);
 
-            when(eventUseCase.getAllEvents(any(Pageable.class)))
+            when(eventUseCase.getAllEvents(any(EventFilterDTO.class), any(Pageable.class)))
                     .thenReturn(emptyPage);
 
             // Act & Assert
@@ -131,6 +179,149 @@ class EventControllerTest {
                     .andExpect(jsonPath("$.content").isEmpty())
                     .andExpect(jsonPath("$.total_elements").value(0));
         }
+
+        @Test
+        @DisplayName("Should bind the filter query parameters when calling GET /events")
+        void shouldBindFilterQueryParameters() throws Exception {
+            // Arrange
+            PageResponseDTO<EventResponseDTO> emptyPage = new PageResponseDTO<>(Collections.emptyList(), 0, 10, 0, 0, true);
+            EventFilterDTO expectedFilter = new EventFilterDTO(false, "São Paulo",
+                    LocalDateTime.of(2030, 1, 1, 0, 0), LocalDateTime.of(2030, 2, 1, 0, 0), true);
+
+            when(eventUseCase.getAllEvents(any(EventFilterDTO.class), any(Pageable.class)))
+                    .thenReturn(emptyPage);
+
+            // Act & Assert
+            mockMvc.perform(get("/events")
+                            .param("isRemote", "false")
+                            .param("location", "São Paulo")
+                            .param("startFrom", "2030-01-01T00:00:00")
+                            .param("startTo", "2030-02-01T00:00:00")
+                            .param("hasAvailableSpots", "true"))
+                    .andExpect(status().isOk());
+
+            verify(eventUseCase).getAllEvents(eq(expectedFilter), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 when the filter combination is rejected")
+        void shouldReturnBadRequest_whenFilterIsRejected() throws Exception {
+            // Arrange
+            when(eventUseCase.getAllEvents(any(EventFilterDTO.class), any(Pageable.class)))
+                    .thenThrow(new IllegalArgumentException("O filtro de localização deve ter pelo menos 3 caracteres."));
+
+            // Act & Assert
+            mockMvc.perform(get("/events").param("location", "S"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should derive the page ETag from the loaded events without querying the versions")
+        void shouldDerivePageETagFromLoadedEvents_whenRequestIsUnconditional() throws Exception {
+            // Arrange
+            when(eventUseCase.getAllEvents(any(EventFilterDTO.class), any(Pageable.class)))
+                    .thenReturn(singleEventPage(UUID.randomUUID(), EVENT_VERSION));
+
+            // Act & Assert
+            mockMvc.perform(get("/events"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG));
+
+            verify(eventUseCase, never()).getAllEventVersions(any(EventFilterDTO.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should return status 304 without loading the events when the page ETag matches")
+        void shouldReturnNotModified_whenPageETagMatches() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            when(eventUseCase.getAllEvents(any(EventFilterDTO.class), any(Pageable.class)))
+                    .thenReturn(singleEventPage(eventId, EVENT_VERSION));
+            when(eventUseCase.getAllEventVersions(any(EventFilterDTO.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(new EventVersion(eventId, EVENT_VERSION, EVENT_UPDATED_AT))));
+
+            String eTag = mockMvc.perform(get("/events"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // Act & Assert
+            mockMvc.perform(get("/events").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            verify(eventUseCase, times(1)).getAllEvents(any(EventFilterDTO.class), any(Pageable.class));
+            verify(eventUseCase, never()).getEventPage(any());
+        }
+
+        @Test
+        @DisplayName("Should load the events by ID, without a second page query, when the page ETag is outdated")
+        void shouldLoadEventsByVersions_whenPageETagIsOutdated() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            Page<EventVersion> versions = new PageImpl<>(List.of(new EventVersion(eventId, 2L, EVENT_UPDATED_AT)));
+            when(eventUseCase.getAllEvents(any(EventFilterDTO.class), any(Pageable.class)))
+                    .thenReturn(singleEventPage(eventId, 1L));
+            when(eventUseCase.getAllEventVersions(any(EventFilterDTO.class), any(Pageable.class)))
+                    .thenReturn(versions);
+            when(eventUseCase.getEventPage(versions))
+                    .thenReturn(singleEventPage(eventId, 2L));
+
+            String firstETag = mockMvc.perform(get("/events"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // Act & Assert
+            mockMvc.perform(get("/events").header(HttpHeaders.IF_NONE_MATCH, firstETag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(firstETag)))
+                    .andExpect(jsonPath("$.content[0].id").value(eventId.toString()))
+                    .andExpect(jsonPath("$.content[0].version").doesNotExist());
+
+            verify(eventUseCase, times(1)).getAllEvents(any(EventFilterDTO.class), any(Pageable.class));
+            verify(eventUseCase).getEventPage(versions);
+        }
+
+        @Test
+        @DisplayName("Should return a slice without totals when calling GET /events with count=none")
+        void shouldReturnSliceWithoutTotals_whenCountIsNone() throws Exception {
+            // Arrange
+            SliceResponseDTO<EventResponseDTO> slice = new SliceResponseDTO<>(Collections.emptyList(), 0, 10, true, null);
+            when(eventUseCase.getAllEventsSlice(any(EventFilterDTO.class), any(Pageable.class), eq(false)))
+                    .thenReturn(slice);
+
+            // Act & Assert
+            mockMvc.perform(get("/events").param("count", "none"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(jsonPath("$.has_next").value(true))
+                    .andExpect(jsonPath("$.total_elements").doesNotExist())
+                    .andExpect(jsonPath("$.estimated_total_elements").doesNotExist());
+            verify(eventUseCase, never()).getAllEvents(any(EventFilterDTO.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should return the estimated total when calling GET /events with count=estimated")
+        void shouldReturnEstimatedTotal_whenCountIsEstimated() throws Exception {
+            // Arrange
+            SliceResponseDTO<EventResponseDTO> slice = new SliceResponseDTO<>(Collections.emptyList(), 0, 10, false, 1234L);
+            when(eventUseCase.getUpcomingEventsSlice(any(EventFilterDTO.class), any(Pageable.class), eq(true)))
+                    .thenReturn(slice);
+
+            // Act & Assert
+            mockMvc.perform(get("/events/upcoming").param("count", "ESTIMATED"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.has_next").value(false))
+                    .andExpect(jsonPath("$.estimated_total_elements").value(1234));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 when the count mode is unknown")
+        void shouldReturnBadRequest_whenCountModeIsUnknown() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/events").param("count", "approximate"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("O parâmetro count deve ser exact, none ou estimated."));
+            verify(eventUseCase, never()).getAllEvents(any(EventFilterDTO.class), any(Pageable.class));
+        }
     }
 
     @Nested
@@ -148,10 +339,10 @@ class EventControllerTest {
             // 2. Cria a RESPOSTA esperada do serviço
             UUID eventId = UUID.randomUUID();
             LocalDateTime start = LocalDateTime.now().plusDays(5);
-            EventResponseDTO upcomingEventDTO = new EventResponseDTO(eventId, "Evento Futuro", "Descrição", start, start.plusHours(1), 50, 5, "http://image.url", "http://event.url", null, true, EventStatus.ACTIVE);
+            EventResponseDTO upcomingEventDTO = new EventResponseDTO(eventId, "Evento Futuro", "Descrição", start, start.plusHours(1), 50, 5, "http://image.url", "http://event.url", null, true, EventStatus.ACTIVE, EVENT_VERSION, EVENT_UPDATED_AT);
             PageResponseDTO<EventResponseDTO> eventPage = new PageResponseDTO<>(List.of(upcomingEventDTO), 0, 10, 1, 1, true);
 
-            when(eventUseCase.getUpcomingEvents(any(Pageable.class)))
+            when(eventUseCase.getUpcomingEvents(any(EventFilterDTO.class), any(Pageable.class)))
                     .thenReturn(eventPage);
 
             // Act & Assert
@@ -186,7 +377,7 @@ class EventControllerTest {
             // Arrange
             PageResponseDTO<EventResponseDTO> emptyPage = new PageResponseDTO<>(Collections.emptyList(), 0, 5, 0, 0, true);
 
-            when(eventUseCase.getUpcomingEvents(any(Pageable.class)))
+            when(eventUseCase.getUpcomingEvents(any(EventFilterDTO.class), any(Pageable.class)))
                     .thenReturn(emptyPage);
 
             // Act & Assert
@@ -200,6 +391,109 @@ class EventControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /events/search")
+    class SearchEvents {
+
+        @Test
+        @DisplayName("Should return status 200 and a page of matching events")
+        void shouldReturnMatchingEvents() throws Exception {
+            // Arrange
+            LocalDateTime start = LocalDateTime.now().plusDays(5);
+            EventResponseDTO eventDTO = new EventResponseDTO(UUID.randomUUID(), "Java Avançado", "Descrição", start, start.plusHours(1), 50, 5, "http://image.url", "http://event.url", null, true, EventStatus.ACTIVE, EVENT_VERSION, EVENT_UPDATED_AT);
+            CursorPageResponseDTO<EventResponseDTO> searchPage = new CursorPageResponseDTO<>(List.of(eventDTO), 20, null, "bmV4dA", true);
+
+            when(eventUseCase.searchEvents("java", "Y3Vyc29y", 20))
+                    .thenReturn(searchPage);
+
+            // Act & Assert
+            mockMvc.perform(get("/events/search")
+                            .param("q", "java")
+                            .param("cursor", "Y3Vyc29y")
+                            .param("size", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(eventDTO.id().toString()))
+                    .andExpect(jsonPath("$.content[0].title").value(eventDTO.title()))
+                    .andExpect(jsonPath("$.size").value(20))
+                    .andExpect(jsonPath("$.total_elements").doesNotExist())
+                    .andExpect(jsonPath("$.next_cursor").value("bmV4dA"))
+                    .andExpect(jsonPath("$.has_next").value(true));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 when the query is missing")
+        void shouldReturnStatusBadRequest_whenQueryIsMissing() throws Exception {
+            // Arrange
+            when(eventUseCase.searchEvents(null, null, 10))
+                    .thenThrow(new IllegalArgumentException("O termo de busca não pode ser vazio."));
+
+            // Act & Assert
+            mockMvc.perform(get("/events/search"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("O termo de busca não pode ser vazio."));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /events/suggest")
+    class SuggestEvents {
+
+        @Test
+        @DisplayName("Should return status 200 and the suggestions for the prefix")
+        void shouldReturnSuggestions() throws Exception {
+            // Arrange
+            LocalDateTime start = LocalDateTime.now().plusDays(2);
+            EventSuggestionDTO suggestion = new EventSuggestionDTO(UUID.randomUUID(), "Java Day", start);
+            when(eventUseCase.suggestEvents("jav", 5)).thenReturn(List.of(suggestion));
+
+            // Act & Assert
+            mockMvc.perform(get("/events/suggest")
+                            .param("prefix", "jav")
+                            .param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(suggestion.id().toString()))
+                    .andExpect(jsonPath("$[0].title").value(suggestion.title()))
+                    .andExpect(jsonPath("$[0].startDateTime").value(start.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 when the prefix is missing")
+        void shouldReturnStatusBadRequest_whenPrefixIsMissing() throws Exception {
+            // Arrange
+            when(eventUseCase.suggestEvents(null, 10))
+                    .thenThrow(new IllegalArgumentException("O prefixo não pode ser vazio."));
+
+            // Act & Assert
+            mockMvc.perform(get("/events/suggest"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("O prefixo não pode ser vazio."));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /events/stats")
+    class GetEventStats {
+
+        @Test
+        @DisplayName("Should return status 200 and the event counters")
+        void shouldReturnEventCounters() throws Exception {
+            // Arrange
+            LocalDateTime updatedAt = LocalDateTime.now();
+            when(eventUseCase.getEventStats())
+                    .thenReturn(new EventStatsResponseDTO(7, 2, 30, 39, 1035, updatedAt));
+
+            // Act & Assert
+            mockMvc.perform(get("/events/stats"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.active_events").value(7))
+                    .andExpect(jsonPath("$.cancelled_events").value(2))
+                    .andExpect(jsonPath("$.finished_events").value(30))
+                    .andExpect(jsonPath("$.total_events").value(39))
+                    .andExpect(jsonPath("$.registered_participants").value(1035))
+                    .andExpect(jsonPath("$.updated_at").value(updatedAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)));
+        }
+    }
+
     @Nested
     @DisplayName("GET /events/{eventId}")
     class GetEventDetails {
@@ -210,7 +504,7 @@ class EventControllerTest {
             // Arrange
             UUID eventId = UUID.randomUUID();
             LocalDateTime start = LocalDateTime.now().plusDays(2);
-            EventResponseDTO eventDTO = new EventResponseDTO(eventId, "Evento Detalhado", "Descrição", start, start.plusHours(2), 100, 25, "http://image.url", null, "Local", false, EventStatus.ACTIVE);
+            EventResponseDTO eventDTO = new EventResponseDTO(eventId, "Evento Detalhado", "Descrição", start, start.plusHours(2), 100, 25, "http://image.url", null, "Local", false, EventStatus.ACTIVE, EVENT_VERSION, EVENT_UPDATED_AT);
 
             when(eventUseCase.getEventDetails(eventId))
                     .thenReturn(eventDTO);
@@ -247,6 +541,56 @@ class EventControllerTest {
                     .andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.message").value(errorMessage));
         }
+
+        @Test
+        @DisplayName("Should return the version as a strong ETag and the last update as Last-Modified")
+        void shouldReturnValidators_whenCallingGetEventDetails() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            LocalDateTime start = LocalDateTime.now().plusDays(2);
+            when(eventUseCase.getEventDetails(eventId))
+                    .thenReturn(new EventResponseDTO(eventId, "Evento Detalhado", "Descrição", start, start.plusHours(2), 100, 25, null, null, "Local", false, EventStatus.ACTIVE, EVENT_VERSION, EVENT_UPDATED_AT));
+            long lastModified = EVENT_UPDATED_AT.toEpochMilli();
+
+            // Act & Assert
+            mockMvc.perform(get("/events/{eventId}", eventId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"" + EVENT_VERSION + "\""))
+                    .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, lastModified));
+        }
+
+        @Test
+        @DisplayName("Should return status 304 without a body when If-None-Match matches the loaded version")
+        void shouldReturnNotModified_whenETagMatches() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            LocalDateTime start = LocalDateTime.now().plusDays(2);
+            when(eventUseCase.getEventDetails(eventId))
+                    .thenReturn(new EventResponseDTO(eventId, "Evento Detalhado", "Descrição", start, start.plusHours(2), 100, 25, null, null, "Local", false, EventStatus.ACTIVE, EVENT_VERSION, EVENT_UPDATED_AT));
+
+            // Act & Assert
+            mockMvc.perform(get("/events/{eventId}", eventId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"" + EVENT_VERSION + "\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"" + EVENT_VERSION + "\""))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return the full event when If-None-Match carries an outdated version")
+        void shouldReturnEvent_whenETagIsOutdated() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            LocalDateTime start = LocalDateTime.now().plusDays(2);
+            when(eventUseCase.getEventDetails(eventId))
+                    .thenReturn(new EventResponseDTO(eventId, "Evento Detalhado", "Descrição", start, start.plusHours(2), 100, 26, null, null, "Local", false, EventStatus.ACTIVE, EVENT_VERSION, EVENT_UPDATED_AT));
+
+            // Act & Assert
+            mockMvc.perform(get("/events/{eventId}", eventId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"" + (EVENT_VERSION - 1) + "\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.registeredParticipants").value(26));
+        }
     }
 
     @Nested
@@ -260,7 +604,7 @@ class EventControllerTest {
             LocalDateTime start = LocalDateTime.now().plusDays(1);
             LocalDateTime end = start.plusHours(2);
             EventRequestDTO requestDTO = new EventRequestDTO("Novo Evento", "Descrição longa o suficiente", start, end, 100, "http://image.url", null, "Local", false);
-            EventResponseDTO createdEventResponse = new EventResponseDTO(UUID.randomUUID(), "Novo Evento", "Descrição", start, end, 100, 0, "http://image.url", null, "Local", false, EventStatus.ACTIVE);
+            EventResponseDTO createdEventResponse = new EventResponseDTO(UUID.randomUUID(), "Novo Evento", "Descrição", start, end, 100, 0, "http://image.url", null, "Local", false, EventStatus.ACTIVE, EVENT_VERSION, EVENT_UPDATED_AT);
 
             when(eventUseCase.createEvent(any(EventRequestDTO.class)))
                     .thenReturn(createdEventResponse);
@@ -512,6 +856,278 @@ class EventControllerTest {
                     )
                     .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("Should return status 202 and the queue position when the participant joins the waitlist")
+        void shouldReturnAccepted_whenParticipantJoinsWaitlist() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            SubscriptionRequestDTO subscriptionDTO = new SubscriptionRequestDTO("test@example.com");
+            when(eventUseCase.registerParticipantOrWaitlist(eq(eventId), any(SubscriptionRequestDTO.class)))
+                    .thenReturn(Optional.of(new WaitlistResponseDTO(eventId, "test@example.com", 3)));
+
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/register", eventId)
+                            .param("waitlist", "true")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(subscriptionDTO)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.eventId").value(eventId.toString()))
+                    .andExpect(jsonPath("$.participantEmail").value("test@example.com"))
+                    .andExpect(jsonPath("$.position").value(3));
+            verify(eventUseCase, never()).registerParticipant(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should return status 200 when the waitlist option registers the participant directly")
+        void shouldReturnSuccessMessage_whenWaitlistIsNotNeeded() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            SubscriptionRequestDTO subscriptionDTO = new SubscriptionRequestDTO("test@example.com");
+            when(eventUseCase.registerParticipantOrWaitlist(eq(eventId), any(SubscriptionRequestDTO.class)))
+                    .thenReturn(Optional.empty());
+
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/register", eventId)
+                            .param("waitlist", "true")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(subscriptionDTO)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Inscrição realizada com sucesso!"));
+        }
+
+        @Test
+        @DisplayName("Should return status 202 with the ticket location when the registration is queued")
+        void shouldReturnAcceptedWithLocation_whenRegistrationIsQueued() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            UUID ticket = UUID.randomUUID();
+            SubscriptionRequestDTO subscriptionDTO = new SubscriptionRequestDTO("test@example.com");
+            when(eventUseCase.registerParticipantAsync(eq(eventId), any(SubscriptionRequestDTO.class)))
+                    .thenReturn(new RegistrationTicketResponseDTO(ticket, eventId, "test@example.com",
+                            RegistrationRequestStatus.PENDING, null, LocalDateTime.now(), null));
+
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/register", eventId)
+                            .param("async", "true")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(subscriptionDTO)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string(HttpHeaders.LOCATION, endsWith("/registrations/" + ticket)))
+                    .andExpect(jsonPath("$.ticket").value(ticket.toString()))
+                    .andExpect(jsonPath("$.status").value("PENDING"));
+            verify(eventUseCase, never()).registerParticipant(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should return status 400 when the asynchronous registration is combined with the waitlist")
+        void shouldReturnBadRequest_whenAsyncIsCombinedWithWaitlist() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            SubscriptionRequestDTO subscriptionDTO = new SubscriptionRequestDTO("test@example.com");
+
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/register", eventId)
+                            .param("async", "true")
+                            .param("waitlist", "true")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(subscriptionDTO)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("A inscrição assíncrona não pode ser combinada com a lista de espera."));
+            verify(eventUseCase, never()).registerParticipantAsync(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /events/{eventId}/register/group")
+    class RegisterGroup {
+
+        @Test
+        @DisplayName("Should return status 200 with the result of each participant")
+        void shouldReturnPerEmailResults() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            GroupSubscriptionRequestDTO request = new GroupSubscriptionRequestDTO(List.of("a@example.com", "b@example.com"), true);
+            when(eventUseCase.registerGroup(eq(eventId), any(GroupSubscriptionRequestDTO.class)))
+                    .thenReturn(new GroupRegistrationResponseDTO(eventId, 1, List.of(
+                            new GroupRegistrationResultDTO("a@example.com", GroupRegistrationResultDTO.Status.REGISTERED),
+                            new GroupRegistrationResultDTO("b@example.com", GroupRegistrationResultDTO.Status.EVENT_FULL))));
+
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/register/group", eventId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.registered").value(1))
+                    .andExpect(jsonPath("$.results[0].participantEmail").value("a@example.com"))
+                    .andExpect(jsonPath("$.results[0].status").value("REGISTERED"))
+                    .andExpect(jsonPath("$.results[1].status").value("EVENT_FULL"));
+        }
+
+        @Test
+        @DisplayName("Should return status 409 with the failures when an all-or-nothing group is rejected")
+        void shouldReturnConflict_whenGroupIsRejected() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            GroupSubscriptionRequestDTO request = new GroupSubscriptionRequestDTO(List.of("a@example.com", "b@example.com"), false);
+            when(eventUseCase.registerGroup(eq(eventId), any(GroupSubscriptionRequestDTO.class)))
+                    .thenThrow(new GroupRegistrationRejectedException(Map.of("b@example.com", "Não há vaga para este participante.")));
+
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/register/group", eventId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.errors['b@example.com']").value("Não há vaga para este participante."));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 when the group is empty or has an invalid email")
+        void shouldReturnBadRequest_whenGroupIsInvalid() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/register/group", eventId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new GroupSubscriptionRequestDTO(List.of(), false))))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(post("/events/{eventId}/register/group", eventId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new GroupSubscriptionRequestDTO(List.of("invalido"), false))))
+                    .andExpect(status().isBadRequest());
+            verify(eventUseCase, never()).registerGroup(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /events/{eventId}/participants/{email}")
+    class UnregisterParticipant {
+
+        @Test
+        @DisplayName("Should return status 200 and success message when unregistering a participant")
+        void shouldReturnSuccessMessage_whenUnregistering() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            doNothing().when(eventUseCase).unregisterParticipant(eventId, "test@example.com");
+
+            // Act & Assert
+            mockMvc.perform(delete("/events/{eventId}/participants/{email}", eventId, "test@example.com"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Inscrição cancelada com sucesso!"));
+            verify(eventUseCase).unregisterParticipant(eventId, "test@example.com");
+        }
+
+        @Test
+        @DisplayName("Should return status 404 when the participant is not subscribed")
+        void shouldReturnNotFound_whenNotSubscribed() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            doThrow(new SubscriptionNotFoundException())
+                    .when(eventUseCase).unregisterParticipant(eventId, "test@example.com");
+
+            // Act & Assert
+            mockMvc.perform(delete("/events/{eventId}/participants/{email}", eventId, "test@example.com"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Inscrição não encontrada para este evento."));
+        }
+    }
+
+    @Nested
+    @DisplayName("Seat holds")
+    class SeatHolds {
+
+        @Test
+        @DisplayName("POST /events/{eventId}/holds should return 201 with the hold and its Location")
+        void holdSeat_shouldReturnCreated() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            UUID holdId = UUID.randomUUID();
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5).withNano(0);
+            SubscriptionRequestDTO subscriptionDTO = new SubscriptionRequestDTO("test@example.com");
+            when(eventUseCase.holdSeat(eq(eventId), any(SubscriptionRequestDTO.class)))
+                    .thenReturn(new SeatHoldResponseDTO(holdId, eventId, "test@example.com", expiresAt));
+
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/holds", eventId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(subscriptionDTO)))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(HttpHeaders.LOCATION, endsWith("/events/" + eventId + "/holds/" + holdId)))
+                    .andExpect(jsonPath("$.holdId").value(holdId.toString()))
+                    .andExpect(jsonPath("$.participantEmail").value("test@example.com"))
+                    .andExpect(jsonPath("$.expiresAt").exists());
+        }
+
+        @Test
+        @DisplayName("POST /events/{eventId}/holds should return 409 when every free seat is held")
+        void holdSeat_shouldReturnConflict_whenEventIsFull() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            SubscriptionRequestDTO subscriptionDTO = new SubscriptionRequestDTO("test@example.com");
+            when(eventUseCase.holdSeat(eq(eventId), any(SubscriptionRequestDTO.class)))
+                    .thenThrow(new EventFullException("O evento já está lotado."));
+
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/holds", eventId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(subscriptionDTO)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message").value("O evento já está lotado."));
+        }
+
+        @Test
+        @DisplayName("POST /events/{eventId}/holds should return 400 for an invalid email")
+        void holdSeat_shouldReturnBadRequest_whenInvalidEmail() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/holds", UUID.randomUUID())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new SubscriptionRequestDTO("invalid-email"))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors.participantEmail").value("Formato de e-mail inválido."));
+        }
+
+        @Test
+        @DisplayName("POST /events/{eventId}/holds/{holdId}/confirm should return 200 and success message")
+        void confirmSeatHold_shouldReturnSuccessMessage() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            UUID holdId = UUID.randomUUID();
+
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/holds/{holdId}/confirm", eventId, holdId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Inscrição realizada com sucesso!"));
+            verify(eventUseCase).confirmSeatHold(eventId, holdId);
+        }
+
+        @Test
+        @DisplayName("POST /events/{eventId}/holds/{holdId}/confirm should return 404 for an expired hold")
+        void confirmSeatHold_shouldReturnNotFound_whenHoldExpired() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            UUID holdId = UUID.randomUUID();
+            doThrow(new SeatHoldNotFoundException()).when(eventUseCase).confirmSeatHold(eventId, holdId);
+
+            // Act & Assert
+            mockMvc.perform(post("/events/{eventId}/holds/{holdId}/confirm", eventId, holdId))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Reserva não encontrada ou expirada."));
+        }
+
+        @Test
+        @DisplayName("DELETE /events/{eventId}/holds/{holdId} should return 200 and success message")
+        void releaseSeatHold_shouldReturnSuccessMessage() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            UUID holdId = UUID.randomUUID();
+
+            // Act & Assert
+            mockMvc.perform(delete("/events/{eventId}/holds/{holdId}", eventId, holdId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Reserva liberada com sucesso!"));
+            verify(eventUseCase).releaseSeatHold(eventId, holdId);
+        }
     }
 
     @Nested
@@ -523,29 +1139,60 @@ class EventControllerTest {
         void shouldReturnParticipantsPage_whenValidEventId() throws Exception {
             // Arrange
             // 1. Define os parâmetros da REQUISIÇÃO
-            String requestedPage = "0";
+            String requestedCursor = "Y3Vyc29y";
             String requestedSize = "10";
 
             // 2. Cria a RESPOSTA esperada do serviço
             UUID eventId = UUID.randomUUID();
             RegisteredParticipantDTO participantDTO = new RegisteredParticipantDTO("participant@example.com");
-            PageResponseDTO<RegisteredParticipantDTO> participantsPage = new PageResponseDTO<>(List.of(participantDTO), 0, 10, 1, 1, true);
+            CursorPageResponseDTO<RegisteredParticipantDTO> participantsPage = new CursorPageResponseDTO<>(List.of(participantDTO), 10, 11L, "bmV4dA", true);
 
-            when(eventUseCase.getRegisteredParticipants(eq(eventId), any(Pageable.class)))
+            when(eventUseCase.getRegisteredParticipants(eventId, requestedCursor, 10))
                     .thenReturn(participantsPage);
 
             // Act & Assert
             mockMvc.perform(get("/events/{eventId}/participants", eventId)
                             .contentType(MediaType.APPLICATION_JSON)
-                            .param("page", requestedPage)
+                            .param("cursor", requestedCursor)
                             .param("size", requestedSize))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.content[0].participantEmail").value(participantsPage.content().getFirst().participantEmail()))
-                    .andExpect(jsonPath("$.page").value(participantsPage.page()))
                     .andExpect(jsonPath("$.size").value(participantsPage.size()))
                     .andExpect(jsonPath("$.total_elements").value(participantsPage.totalElements()))
-                    .andExpect(jsonPath("$.total_pages").value(participantsPage.totalPages()))
-                    .andExpect(jsonPath("$.is_last").value(participantsPage.isLast()));
+                    .andExpect(jsonPath("$.next_cursor").value(participantsPage.nextCursor()))
+                    .andExpect(jsonPath("$.has_next").value(participantsPage.hasNext()));
+        }
+
+        @Test
+        @DisplayName("Should request the first page with the default size when no parameters are given")
+        void shouldUseDefaults_whenNoParametersAreGiven() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            CursorPageResponseDTO<RegisteredParticipantDTO> emptyPage = new CursorPageResponseDTO<>(Collections.emptyList(), 10, 0L, null, false);
+
+            when(eventUseCase.getRegisteredParticipants(eventId, null, 10))
+                    .thenReturn(emptyPage);
+
+            // Act & Assert
+            mockMvc.perform(get("/events/{eventId}/participants", eventId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content").isEmpty())
+                    .andExpect(jsonPath("$.has_next").value(false));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 when the cursor is malformed")
+        void shouldReturnStatusBadRequest_whenCursorIsMalformed() throws Exception {
+            // Arrange
+            UUID eventId = UUID.randomUUID();
+            when(eventUseCase.getRegisteredParticipants(eq(eventId), eq("invalid"), anyInt()))
+                    .thenThrow(new IllegalArgumentException("Cursor de paginação inválido."));
+
+            // Act & Assert
+            mockMvc.perform(get("/events/{eventId}/participants", eventId)
+                            .param("cursor", "invalid"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Cursor de paginação inválido."));
         }
 
         @Test
@@ -555,7 +1202,7 @@ class EventControllerTest {
             UUID invalidEventId = UUID.randomUUID();
             String errorMessage = "Evento não encontrado.";
 
-            when(eventUseCase.getRegisteredParticipants(eq(invalidEventId), any(Pageable.class))).thenThrow(new EventNotFoundException(errorMessage));
+            when(eventUseCase.getRegisteredParticipants(eq(invalidEventId), any(), anyInt())).thenThrow(new EventNotFoundException(errorMessage));
 
             // Act & Assert
             mockMvc.perform(get("/events/{eventId}/participants", invalidEventId)
@@ -577,7 +1224,7 @@ class EventControllerTest {
             EventUpdateDTO updateDTO = new EventUpdateDTO("New Title", "New Description", null, null, 150, null, null, null, null);
 
             LocalDateTime start = LocalDateTime.now().plusDays(10);
-            EventResponseDTO updatedEventResponse = new EventResponseDTO(eventId, "New Title", "New Description", start, start.plusHours(2), 150, 10, "http://image.url", "http://event.url", null, true, EventStatus.ACTIVE);
+            EventResponseDTO updatedEventResponse = new EventResponseDTO(eventId, "New Title", "New Description", start, start.plusHours(2), 150, 10, "http://image.url", "http://event.url", null, true, EventStatus.ACTIVE, EVENT_VERSION, EVENT_UPDATED_AT);
 
             when(eventUseCase.updateEvent(eq(eventId), any(EventUpdateDTO.class)))
                     .thenReturn(updatedEventResponse);
@@ -0,0 +1,63 @@
+package com.Samuel.event_microservice.infrastructure.controller;
+
+import com.Samuel.event_microservice.core.exceptions.RegistrationTicketNotFoundException;
+import com.Samuel.event_microservice.core.models.RegistrationRequestStatus;
+import com.Samuel.event_microservice.core.usecases.EventUseCase;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.RegistrationTicketResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RegistrationController.class)
+@ActiveProfiles("test")
+class RegistrationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EventUseCase eventUseCase;
+
+    @Test
+    @DisplayName("Should return status 200 with the outcome of the registration ticket")
+    void shouldReturnTicket_whenTicketExists() throws Exception {
+        // Arrange
+        UUID ticket = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        when(eventUseCase.getRegistrationTicket(ticket)).thenReturn(new RegistrationTicketResponseDTO(
+                ticket, eventId, "test@example.com", RegistrationRequestStatus.REGISTERED, null, now, now));
+
+        // Act & Assert
+        mockMvc.perform(get("/registrations/{ticket}", ticket))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ticket").value(ticket.toString()))
+                .andExpect(jsonPath("$.eventId").value(eventId.toString()))
+                .andExpect(jsonPath("$.status").value("REGISTERED"));
+    }
+
+    @Test
+    @DisplayName("Should return status 404 when the registration ticket does not exist")
+    void shouldReturnNotFound_whenTicketDoesNotExist() throws Exception {
+        // Arrange
+        UUID ticket = UUID.randomUUID();
+        when(eventUseCase.getRegistrationTicket(ticket)).thenThrow(new RegistrationTicketNotFoundException());
+
+        // Act & Assert
+        mockMvc.perform(get("/registrations/{ticket}", ticket))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Pedido de inscrição não encontrado."));
+    }
+}
@@ -0,0 +1,75 @@
+package com.Samuel.event_microservice.infrastructure.controller;
+
+import com.Samuel.event_microservice.core.exceptions.AdmissionTokenInvalidException;
+import com.Samuel.event_microservice.infrastructure.admission.WaitingRoom;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.WaitingRoomPositionDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(WaitingRoomController.class)
+@ActiveProfiles("test")
+class WaitingRoomControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private WaitingRoom waitingRoom;
+
+    @Test
+    @DisplayName("Should return status 201 with the admission token when joining the waiting room")
+    void shouldReturnCreated_whenJoiningWaitingRoom() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        when(waitingRoom.join(eventId)).thenReturn(new WaitingRoomPositionDTO(eventId, "token", 42, 40, false, 1));
+
+        // Act & Assert
+        mockMvc.perform(post("/events/{eventId}/waiting-room", eventId))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.admissionToken").value("token"))
+                .andExpect(jsonPath("$.position").value(42))
+                .andExpect(jsonPath("$.ahead").value(40))
+                .andExpect(jsonPath("$.admitted").value(false));
+    }
+
+    @Test
+    @DisplayName("Should return status 200 with the current position for the admission token")
+    void shouldReturnPosition_whenTokenIsValid() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        when(waitingRoom.position(eventId, "token")).thenReturn(new WaitingRoomPositionDTO(eventId, "token", 42, 0, true, 0));
+
+        // Act & Assert
+        mockMvc.perform(get("/events/{eventId}/waiting-room", eventId)
+                        .header("Admission-Token", "token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.admitted").value(true));
+    }
+
+    @Test
+    @DisplayName("Should return status 403 when the admission token is invalid")
+    void shouldReturnForbidden_whenTokenIsInvalid() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        when(waitingRoom.position(eventId, "adulterado")).thenThrow(new AdmissionTokenInvalidException("Token de admissão inválido."));
+
+        // Act & Assert
+        mockMvc.perform(get("/events/{eventId}/waiting-room", eventId)
+                        .header("Admission-Token", "adulterado"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("Token de admissão inválido."));
+    }
+}
@@ -0,0 +1,130 @@
+package com.Samuel.event_microservice.infrastructure.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaA;
+
+    @Mock
+    private DataSource replicaB;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaAConnection;
+
+    @Mock
+    private Connection replicaBConnection;
+
+    private ReplicaNode nodeA;
+    private ReplicaNode nodeB;
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new ReplicaNode("replica-0", replicaA);
+        nodeB = new ReplicaNode("replica-1", replicaB);
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(nodeA, nodeB));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("Should route connections outside read-only transactions to the primary")
+    void shouldRouteToPrimary_whenTransactionIsNotReadOnly() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act & Assert
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replicaA, replicaB);
+    }
+
+    @Test
+    @DisplayName("Should distribute read-only transactions across replicas in round-robin")
+    void shouldRouteToReplicasRoundRobin_whenTransactionIsReadOnly() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+
+        // Act & Assert
+        assertThat(List.of(routingDataSource.getConnection(), routingDataSource.getConnection()))
+                .containsExactlyInAnyOrder(replicaAConnection, replicaBConnection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("Should skip unhealthy replicas and use the primary when none is healthy")
+    void shouldFallBackToPrimary_whenNoReplicaIsHealthy() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        nodeA.setHealthy(false);
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act & Assert
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaBConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaBConnection);
+
+        nodeB.setHealthy(false);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replicaA, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should fail over to the primary and mark the replica unhealthy when its connection fails")
+    void shouldFailOverToPrimary_whenReplicaConnectionFails() throws SQLException {
+        // Arrange
+        ReadReplicaRoutingDataSource singleReplica = new ReadReplicaRoutingDataSource(primary, List.of(nodeA));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaA.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = singleReplica.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(nodeA.isHealthy()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should route reads to the primary when read-your-writes is required")
+    void shouldRouteToPrimary_whenReadYourWritesIsRequired() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWritesContext.requirePrimary();
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act & Assert
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replicaA, replicaB);
+    }
+}
@@ -0,0 +1,168 @@
+package com.Samuel.event_microservice.infrastructure.datasource;
+
+import com.Samuel.event_microservice.core.usecases.EventUseCase;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventRequestDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de integração do roteamento de leituras com um primário e uma réplica de streaming reais.
+ * <p>
+ * A réplica é criada com {@code pg_basebackup -R} a partir do primário e permanece em hot standby,
+ * de modo que {@code pg_is_in_recovery()} identifica em qual servidor cada transação foi executada.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final Network network = Network.newNetwork();
+
+    // Primário com WAL de réplica e permissão de conexões de replicação
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withNetwork(network)
+            .withNetworkAliases("primary")
+            .withCommand("postgres", "-c", "wal_level=replica", "-c", "max_wal_senders=5", "-c", "hot_standby=on")
+            .withCopyToContainer(
+                    Transferable.of("echo 'host replication all all scram-sha-256' >> \"$PGDATA/pg_hba.conf\"\n", 0755),
+                    "/docker-entrypoint-initdb.d/00-replication.sh");
+
+    // Réplica inicializada por pg_basebackup, que grava o standby.signal e a primary_conninfo (-R)
+    @Container
+    static GenericContainer<?> replica = new GenericContainer<>("postgres:16-alpine")
+            .dependsOn(primary)
+            .withNetwork(network)
+            .withEnv("PGPASSWORD", "test")
+            .withExposedPorts(5432)
+            .withCommand("bash", "-c", """
+                    until pg_basebackup -h primary -U test -D /var/lib/postgresql/data -Fp -Xs -R; do sleep 1; done
+                    chown -R postgres:postgres /var/lib/postgresql/data && chmod 700 /var/lib/postgresql/data
+                    exec su-exec postgres postgres -c hot_standby=on
+                    """)
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("app.datasource.replicas.enabled", () -> "true");
+        registry.add("app.datasource.replicas.urls", () ->
+                "jdbc:postgresql://" + replica.getHost() + ":" + replica.getMappedPort(5432) + "/" + primary.getDatabaseName());
+        registry.add("app.datasource.replicas.health-check-interval", () -> "1h"); // Acionado manualmente
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EventUseCase eventUseCase;
+
+    @Autowired
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private ReplicaHealthMonitor replicaHealthMonitor;
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    private boolean runsOnStandby(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return Boolean.TRUE.equals(template.execute(status ->
+                jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class)));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Read-only transactions should run on the replica and read-write transactions on the primary")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertThat(runsOnStandby(true)).isTrue();
+        assertThat(runsOnStandby(false)).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Events written on the primary should be readable through the replica after replication")
+    void shouldReadReplicatedEventFromReplica() throws InterruptedException {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(5);
+        EventResponseDTO created = eventUseCase.createEvent(new EventRequestDTO(
+                "Evento Replicado", "Descrição do evento replicado", start, start.plusHours(2),
+                50, null, "http://event.url", null, true));
+
+        // Act: aguarda a replicação assíncrona
+        EventResponseDTO fromReplica = null;
+        for (int attempt = 0; attempt < 50 && fromReplica == null; attempt++) {
+            try {
+                fromReplica = eventUseCase.getEventDetails(created.id());
+            } catch (RuntimeException e) {
+                Thread.sleep(100);
+            }
+        }
+
+        // Assert
+        assertThat(fromReplica).isNotNull();
+        assertThat(fromReplica.title()).isEqualTo("Evento Replicado");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Read-your-writes context should force read-only transactions onto the primary")
+    void shouldRouteToPrimary_whenReadYourWritesIsRequired() {
+        ReadYourWritesContext.requirePrimary();
+        assertThat(runsOnStandby(true)).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Reads should fail over to the primary when the replica goes down")
+    void shouldFailOverToPrimary_whenReplicaIsDown() {
+        // Arrange
+        replica.stop();
+
+        // Act
+        replicaHealthMonitor.checkReplicas();
+
+        // Assert
+        assertThat(routingDataSource.getReplicas()).noneMatch(ReplicaNode::isHealthy);
+        assertThat(runsOnStandby(true)).isFalse();
+    }
+}
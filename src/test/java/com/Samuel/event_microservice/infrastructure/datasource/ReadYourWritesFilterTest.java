@@ -0,0 +1,72 @@
+package com.Samuel.event_microservice.infrastructure.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T10:00:00Z"), ZoneOffset.UTC);
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5), clock);
+
+    @Test
+    @DisplayName("Should mark the client with a cookie after a write request")
+    void shouldIssueCookie_whenRequestIsWrite() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/events/1/register");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> {});
+
+        // Assert
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getValue()).isEqualTo(String.valueOf(clock.millis() + 5000));
+    }
+
+    @Test
+    @DisplayName("Should require the primary while the cookie is still valid")
+    void shouldRequirePrimary_whenCookieIsValid() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events/1/participants");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(clock.millis() + 1000)));
+        AtomicBoolean primaryRequired = new AtomicBoolean();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> primaryRequired.set(ReadYourWritesContext.isPrimaryRequired()));
+
+        // Assert
+        assertThat(primaryRequired).isTrue();
+        assertThat(ReadYourWritesContext.isPrimaryRequired()).isFalse(); // Limpo ao final da requisição
+    }
+
+    @Test
+    @DisplayName("Should allow replica reads when the cookie has expired or is absent")
+    void shouldNotRequirePrimary_whenCookieIsExpired() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(clock.millis() - 1)));
+        AtomicBoolean primaryRequired = new AtomicBoolean(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response,
+                (req, res) -> primaryRequired.set(ReadYourWritesContext.isPrimaryRequired()));
+
+        // Assert
+        assertThat(primaryRequired).isFalse();
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+    }
+}
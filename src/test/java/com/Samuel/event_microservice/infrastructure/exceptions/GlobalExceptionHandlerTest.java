@@ -15,6 +15,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -95,6 +96,162 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.errors").doesNotExist());
     }
 
+    @Test
+    @DisplayName("Should return 404 Not Found for SubscriptionNotFoundException")
+    void handleSubscriptionNotFoundException() throws Exception {
+        // Arrange
+        String expectedMessage = "Inscrição de teste não encontrada.";
+        String expectedPath = "/test/subscription-not-found";
+
+        // Act & Assert
+        mockMvc.perform(get(expectedPath)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.error").value("Not Found"))
+                .andExpect(jsonPath("$.message").value(expectedMessage))
+                .andExpect(jsonPath("$.path").value(expectedPath))
+                .andExpect(jsonPath("$.timestamp").exists())
+                .andExpect(jsonPath("$.errors").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 409 Conflict with the failures for GroupRegistrationRejectedException")
+    void handleGroupRegistrationRejectedException() throws Exception {
+        // Arrange
+        String expectedPath = "/test/group-registration-rejected";
+
+        // Act & Assert
+        mockMvc.perform(get(expectedPath)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.error").value("Conflict"))
+                .andExpect(jsonPath("$.message").value("O grupo não pôde ser inscrito por completo; nenhuma inscrição foi realizada."))
+                .andExpect(jsonPath("$.path").value(expectedPath))
+                .andExpect(jsonPath("$.errors['b@example.com']").value("Não há vaga para este participante."));
+    }
+
+    @Test
+    @DisplayName("Should return 404 Not Found for RegistrationTicketNotFoundException")
+    void handleRegistrationTicketNotFoundException() throws Exception {
+        // Arrange
+        String expectedPath = "/test/registration-ticket-not-found";
+
+        // Act & Assert
+        mockMvc.perform(get(expectedPath)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.error").value("Not Found"))
+                .andExpect(jsonPath("$.message").value("Pedido de teste não encontrado."))
+                .andExpect(jsonPath("$.path").value(expectedPath));
+    }
+
+    @Test
+    @DisplayName("Should return 503 Service Unavailable with Retry-After for RegistrationQueueFullException")
+    void handleRegistrationQueueFullException() throws Exception {
+        // Arrange
+        String expectedPath = "/test/registration-queue-full";
+
+        // Act & Assert
+        mockMvc.perform(get(expectedPath)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "7"))
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.error").value("Service Unavailable"))
+                .andExpect(jsonPath("$.message").value("A fila de inscrições está cheia. Tente novamente em instantes."))
+                .andExpect(jsonPath("$.path").value(expectedPath));
+    }
+
+    @Test
+    @DisplayName("Should return 403 Forbidden for AdmissionTokenInvalidException")
+    void handleAdmissionTokenInvalidException() throws Exception {
+        // Arrange
+        String expectedPath = "/test/admission-token-invalid";
+
+        // Act & Assert
+        mockMvc.perform(get(expectedPath)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.status").value(403))
+                .andExpect(jsonPath("$.error").value("Forbidden"))
+                .andExpect(jsonPath("$.message").value("Token de admissão inválido."))
+                .andExpect(jsonPath("$.path").value(expectedPath));
+    }
+
+    @Test
+    @DisplayName("Should return 429 Too Many Requests with Retry-After for NotAdmittedYetException")
+    void handleNotAdmittedYetException() throws Exception {
+        // Arrange
+        String expectedPath = "/test/not-admitted-yet";
+
+        // Act & Assert
+        mockMvc.perform(get(expectedPath)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "3"))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"))
+                .andExpect(jsonPath("$.message").value("Ainda não é a sua vez na sala de espera. Há 120 pessoa(s) à sua frente."))
+                .andExpect(jsonPath("$.path").value(expectedPath));
+    }
+
+    @Test
+    @DisplayName("Should return 409 Conflict for DataIntegrityViolationException without exposing the database message")
+    void handleDataIntegrityViolationException() throws Exception {
+        // Arrange
+        String expectedPath = "/test/data-integrity-violation";
+
+        // Act & Assert
+        mockMvc.perform(get(expectedPath)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("A operação conflita com uma alteração feita por outra requisição. Tente novamente."))
+                .andExpect(jsonPath("$.errors").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 404 Not Found for SeatHoldNotFoundException")
+    void handleSeatHoldNotFoundException() throws Exception {
+        // Arrange
+        String expectedMessage = "Reserva de teste não encontrada.";
+        String expectedPath = "/test/seat-hold-not-found";
+
+        // Act & Assert
+        mockMvc.perform(get(expectedPath)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.error").value("Not Found"))
+                .andExpect(jsonPath("$.message").value(expectedMessage))
+                .andExpect(jsonPath("$.path").value(expectedPath))
+                .andExpect(jsonPath("$.timestamp").exists())
+                .andExpect(jsonPath("$.timestamp").value(notNullValue()))
+                .andExpect(jsonPath("$.errors").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 501 Not Implemented for SeatHoldsDisabledException")
+    void handleSeatHoldsDisabledException() throws Exception {
+        // Arrange
+        String expectedMessage = "Reservas de teste desabilitadas.";
+        String expectedPath = "/test/seat-holds-disabled";
+
+        // Act & Assert
+        mockMvc.perform(get(expectedPath)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotImplemented())
+                .andExpect(jsonPath("$.status").value(501))
+                .andExpect(jsonPath("$.error").value("Not Implemented"))
+                .andExpect(jsonPath("$.message").value(expectedMessage))
+                .andExpect(jsonPath("$.path").value(expectedPath))
+                .andExpect(jsonPath("$.timestamp").exists())
+                .andExpect(jsonPath("$.errors").doesNotExist());
+    }
+
     @Test
     @DisplayName("Should return 409 Conflict for EventFullException")
     void handleEventFullException() throws Exception {
@@ -135,6 +292,26 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.errors").doesNotExist());
     }
 
+    @Test
+    @DisplayName("Should return 409 Conflict for OptimisticLockingFailureException")
+    void handleOptimisticLockingFailureException() throws Exception {
+        // Arrange
+        String expectedMessage = "O evento foi alterado por outra requisição. Tente novamente.";
+        String expectedPath = "/test/optimistic-lock";
+
+        // Act & Assert
+        mockMvc.perform(get(expectedPath)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.error").value("Conflict"))
+                .andExpect(jsonPath("$.message").value(expectedMessage))
+                .andExpect(jsonPath("$.path").value(expectedPath))
+                .andExpect(jsonPath("$.timestamp").exists())
+                .andExpect(jsonPath("$.timestamp").value(notNullValue()))
+                .andExpect(jsonPath("$.errors").doesNotExist());
+    }
+
     @Test
     @DisplayName("Should return 400 Bad Request for IllegalArgumentException")
     void handleIllegalArgumentException() throws Exception {
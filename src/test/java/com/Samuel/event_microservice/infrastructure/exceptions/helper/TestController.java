@@ -1,12 +1,25 @@
 package com.Samuel.event_microservice.infrastructure.exceptions.helper;
 
+import com.Samuel.event_microservice.core.exceptions.AdmissionTokenInvalidException;
 import com.Samuel.event_microservice.core.exceptions.EventFullException;
 import com.Samuel.event_microservice.core.exceptions.EventNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.GroupRegistrationRejectedException;
+import com.Samuel.event_microservice.core.exceptions.NotAdmittedYetException;
+import com.Samuel.event_microservice.core.exceptions.RegistrationQueueFullException;
+import com.Samuel.event_microservice.core.exceptions.RegistrationTicketNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SeatHoldNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SeatHoldsDisabledException;
 import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionNotFoundException;
 import jakarta.validation.Valid;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * Um controller "dummy" que existe apenas para lançar exceções
  * e ser usado em testes que validam o GlobalExceptionHandler.
@@ -25,6 +38,51 @@ public class TestController {
         throw new EventNotFoundException("Evento de teste não encontrado.");
     }
 
+    @GetMapping("/seat-hold-not-found")
+    public void throwSeatHoldNotFound() {
+        throw new SeatHoldNotFoundException("Reserva de teste não encontrada.");
+    }
+
+    @GetMapping("/seat-holds-disabled")
+    public void throwSeatHoldsDisabled() {
+        throw new SeatHoldsDisabledException("Reservas de teste desabilitadas.");
+    }
+
+    @GetMapping("/subscription-not-found")
+    public void throwSubscriptionNotFound() {
+        throw new SubscriptionNotFoundException("Inscrição de teste não encontrada.");
+    }
+
+    @GetMapping("/group-registration-rejected")
+    public void throwGroupRegistrationRejected() {
+        throw new GroupRegistrationRejectedException(Map.of("b@example.com", "Não há vaga para este participante."));
+    }
+
+    @GetMapping("/registration-ticket-not-found")
+    public void throwRegistrationTicketNotFound() {
+        throw new RegistrationTicketNotFoundException("Pedido de teste não encontrado.");
+    }
+
+    @GetMapping("/registration-queue-full")
+    public void throwRegistrationQueueFull() {
+        throw new RegistrationQueueFullException(Duration.ofSeconds(7));
+    }
+
+    @GetMapping("/admission-token-invalid")
+    public void throwAdmissionTokenInvalid() {
+        throw new AdmissionTokenInvalidException("Token de admissão inválido.");
+    }
+
+    @GetMapping("/not-admitted-yet")
+    public void throwNotAdmittedYet() {
+        throw new NotAdmittedYetException(120, Duration.ofSeconds(3));
+    }
+
+    @GetMapping("/data-integrity-violation")
+    public void throwDataIntegrityViolation() {
+        throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+    }
+
     @GetMapping("/event-full")
     public void throwEventFull() {
         throw new EventFullException("Evento de teste está lotado.");
@@ -35,6 +93,11 @@ public class TestController {
         throw new SubscriptionAlreadyExistsException("Inscrição de teste já existe.");
     }
 
+    @GetMapping("/optimistic-lock")
+    public void throwOptimisticLockingFailure() {
+        throw new OptimisticLockingFailureException("Versão do evento de teste desatualizada.");
+    }
+
     @GetMapping("/illegal-argument")
     public void throwIllegalArgument() {
         throw new IllegalArgumentException("Argumento de teste inválido.");
@@ -0,0 +1,38 @@
+package com.Samuel.event_microservice.infrastructure.holds;
+
+import com.Samuel.event_microservice.core.exceptions.SeatHoldsDisabledException;
+import com.Samuel.event_microservice.core.models.SeatHold;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DisabledSeatHoldRegistryTest {
+
+    private final DisabledSeatHoldRegistry registry = new DisabledSeatHoldRegistry();
+
+    @Test
+    @DisplayName("Should refuse to hold or claim a seat")
+    void holdAndClaim_shouldBeRefused() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        SeatHold seatHold = new SeatHold(eventId, "test@example.com", Duration.ofMinutes(5));
+
+        // Act & Assert
+        assertThatThrownBy(() -> registry.tryHold(seatHold, 10))
+                .isInstanceOf(SeatHoldsDisabledException.class)
+                .hasMessage("As reservas de vagas não estão habilitadas nesta implantação.");
+        assertThatThrownBy(() -> registry.claim(eventId, seatHold.getId()))
+                .isInstanceOf(SeatHoldsDisabledException.class);
+    }
+
+    @Test
+    @DisplayName("Should report no held seats")
+    void activeHolds_shouldBeZero() {
+        assertThat(registry.activeHolds(UUID.randomUUID())).isZero();
+    }
+}
@@ -0,0 +1,307 @@
+package com.Samuel.event_microservice.infrastructure.holds;
+
+import com.Samuel.event_microservice.core.models.SeatHold;
+import com.Samuel.event_microservice.core.ports.SeatHoldRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.SeatHoldProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemorySeatHoldRegistryTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private SeatHoldRepositoryPort seatHoldRepository;
+
+    private final MutableClock clock = new MutableClock();
+    private InMemorySeatHoldRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        SeatHoldProperties properties = new SeatHoldProperties();
+        properties.setTtl(TTL);
+        properties.setTick(Duration.ofSeconds(1));
+        registry = new InMemorySeatHoldRegistry(seatHoldRepository, properties, clock);
+    }
+
+    @AfterEach
+    void clearTransactionSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static SeatHold hold(UUID eventId, String email) {
+        return new SeatHold(eventId, email, TTL);
+    }
+
+    @Test
+    @DisplayName("tryHold should accept holds only while free seats remain")
+    void tryHold_shouldRespectAvailableSeats() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+
+        // Act & Assert
+        assertThat(registry.tryHold(hold(eventId, "a@example.com"), 2)).isTrue();
+        assertThat(registry.tryHold(hold(eventId, "b@example.com"), 2)).isTrue();
+        assertThat(registry.tryHold(hold(eventId, "c@example.com"), 2)).isFalse();
+        assertThat(registry.activeHolds(eventId)).isEqualTo(2);
+        assertThat(registry.activeHolds(UUID.randomUUID())).isZero();
+    }
+
+    @Test
+    @DisplayName("tryHold should reject a second active hold for the same participant")
+    void tryHold_shouldRejectDuplicateParticipant() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        registry.tryHold(hold(eventId, "a@example.com"), 10);
+
+        // Act & Assert
+        assertThatThrownBy(() -> registry.tryHold(hold(eventId, "a@example.com"), 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Este participante já possui uma reserva ativa para este evento.");
+        assertThat(registry.activeHolds(eventId)).isOne();
+    }
+
+    @Test
+    @DisplayName("tryHold should never grant more holds than seats under concurrency")
+    void tryHold_shouldBeAtomicPerEvent() throws Exception {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            SeatHold candidate = hold(eventId, "p" + i + "@example.com");
+            results.add(executor.submit(() -> {
+                start.await();
+                return registry.tryHold(candidate, 50);
+            }));
+        }
+
+        // Act
+        start.countDown();
+        int accepted = 0;
+        for (Future<Boolean> result : results) {
+            accepted += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(accepted).isEqualTo(50);
+        assertThat(registry.activeHolds(eventId)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("claim should remove the hold once and ignore holds of other events")
+    void claim_shouldRemoveHoldOnce() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        SeatHold seatHold = hold(eventId, "a@example.com");
+        registry.tryHold(seatHold, 10);
+
+        // Act & Assert
+        assertThat(registry.claim(UUID.randomUUID(), seatHold.getId())).isEmpty();
+        assertThat(registry.claim(eventId, seatHold.getId())).contains(seatHold);
+        assertThat(registry.claim(eventId, seatHold.getId())).isEmpty();
+        assertThat(registry.activeHolds(eventId)).isZero();
+    }
+
+    @Test
+    @DisplayName("sweep should expire due holds and delete their rows in one batch")
+    void sweep_shouldExpireDueHolds() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        SeatHold first = hold(eventId, "a@example.com");
+        SeatHold second = hold(eventId, "b@example.com");
+        registry.tryHold(first, 10);
+        registry.tryHold(second, 10);
+
+        // Act
+        clock.advance(TTL.minusSeconds(2));
+        registry.sweep();
+        int beforeDeadline = registry.activeHolds(eventId);
+        clock.advance(Duration.ofSeconds(3));
+        registry.sweep();
+
+        // Assert
+        assertThat(beforeDeadline).isEqualTo(2);
+        assertThat(registry.activeHolds(eventId)).isZero();
+        assertThat(registry.claim(eventId, first.getId())).isEmpty();
+        verify(seatHoldRepository).deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    @DisplayName("sweep should notify each event with expired holds once, ignoring holds already claimed")
+    void sweep_shouldNotifyExpiryListenersPerEvent() {
+        // Arrange
+        UUID expiringEvent = UUID.randomUUID();
+        UUID claimedEvent = UUID.randomUUID();
+        registry.tryHold(hold(expiringEvent, "a@example.com"), 10);
+        registry.tryHold(hold(expiringEvent, "b@example.com"), 10);
+        SeatHold claimed = hold(claimedEvent, "c@example.com");
+        registry.tryHold(claimed, 10);
+        registry.claim(claimedEvent, claimed.getId());
+
+        List<UUID> notified = new ArrayList<>();
+        registry.addExpiryListener(notified::add);
+        registry.addExpiryListener(eventId -> {
+            throw new IllegalStateException("listener failure");
+        });
+
+        // Act
+        clock.advance(TTL.plusSeconds(1));
+        registry.sweep();
+
+        // Assert
+        assertThat(notified).containsExactly(expiringEvent);
+    }
+
+    @Test
+    @DisplayName("claim should not return a hold past its deadline even before it is swept")
+    void claim_shouldRejectExpiredHold() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        SeatHold seatHold = hold(eventId, "a@example.com");
+        registry.tryHold(seatHold, 10);
+
+        // Act
+        clock.advance(TTL.plusMillis(500));
+
+        // Assert
+        assertThat(registry.claim(eventId, seatHold.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("tryHold should be undone when the surrounding transaction rolls back")
+    void tryHold_shouldBeUndoneOnRollback() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        registry.tryHold(hold(eventId, "a@example.com"), 10);
+        int duringTransaction = registry.activeHolds(eventId);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertThat(duringTransaction).isOne();
+        assertThat(registry.activeHolds(eventId)).isZero();
+    }
+
+    @Test
+    @DisplayName("claim should restore the hold when the surrounding transaction rolls back")
+    void claim_shouldRestoreHoldOnRollback() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        SeatHold seatHold = hold(eventId, "a@example.com");
+        registry.tryHold(seatHold, 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        registry.claim(eventId, seatHold.getId());
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertThat(registry.activeHolds(eventId)).isOne();
+        assertThat(registry.claim(eventId, seatHold.getId())).contains(seatHold);
+    }
+
+    @Test
+    @DisplayName("recover should restore unexpired holds and delete expired rows")
+    void recover_shouldRestoreActiveHoldsAndDiscardExpiredOnes() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        SeatHold active = hold(eventId, "a@example.com");
+        SeatHold expired = new SeatHold(eventId, "b@example.com", Duration.ofMillis(1));
+        clock.advance(Duration.ofSeconds(1));
+        when(seatHoldRepository.findAll()).thenReturn(List.of(active, expired));
+
+        // Act
+        registry.recover();
+
+        // Assert
+        assertThat(registry.activeHolds(eventId)).isOne();
+        verify(seatHoldRepository).deleteAllByIdInBatch(List.of(expired.getId()));
+
+        clock.advance(TTL);
+        registry.sweep();
+        assertThat(registry.activeHolds(eventId)).isZero();
+    }
+
+    @Test
+    @DisplayName("recover should not touch the table when every row is still valid")
+    void recover_shouldNotDeleteWhenNothingExpired() {
+        // Arrange
+        when(seatHoldRepository.findAll()).thenReturn(List.of(hold(UUID.randomUUID(), "a@example.com")));
+
+        // Act
+        registry.recover();
+
+        // Assert
+        verify(seatHoldRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    /**
+     * Relógio controlado pelo teste, iniciado no instante atual para que os prazos das
+     * reservas (calculados com o relógio do sistema) sejam comparáveis.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
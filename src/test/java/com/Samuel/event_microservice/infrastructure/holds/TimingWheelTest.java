@@ -0,0 +1,66 @@
+package com.Samuel.event_microservice.infrastructure.holds;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long ORIGIN = 1_000_000L;
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(Duration.ofMillis(100), 8, ORIGIN);
+
+    @Test
+    @DisplayName("Items should expire on the first tick at or after their deadline, never before")
+    void advanceTo_shouldExpireItemsAtTheirDeadlineTick() {
+        // Arrange
+        wheel.schedule("a", ORIGIN + 250);
+        wheel.schedule("b", ORIGIN + 300);
+
+        // Act & Assert
+        assertThat(wheel.advanceTo(ORIGIN + 299)).isEmpty();
+        assertThat(wheel.advanceTo(ORIGIN + 300)).containsExactly("a", "b");
+        assertThat(wheel.advanceTo(ORIGIN + 1_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deadlines beyond one revolution should survive the slot until their own round")
+    void advanceTo_shouldKeepItemsOfFutureRounds() {
+        // Arrange: 8 posições de 100ms; 1.050ms cai na mesma posição que 250ms, uma volta depois
+        wheel.schedule("far", ORIGIN + 1_050);
+        wheel.schedule("near", ORIGIN + 250);
+
+        // Act & Assert
+        assertThat(wheel.advanceTo(ORIGIN + 400)).containsExactly("near");
+        assertThat(wheel.advanceTo(ORIGIN + 1_050)).isEmpty();
+        assertThat(wheel.advanceTo(ORIGIN + 1_100)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("Catching up after a pause should return every due item in deadline order")
+    void advanceTo_shouldCatchUpSkippedTicks() {
+        // Arrange
+        wheel.schedule("third", ORIGIN + 2_500);
+        wheel.schedule("first", ORIGIN + 100);
+        wheel.schedule("second", ORIGIN + 900);
+        wheel.schedule("later", ORIGIN + 5_000);
+
+        // Act & Assert
+        assertThat(wheel.advanceTo(ORIGIN + 3_000)).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    @DisplayName("Deadlines already in the past should expire on the next tick")
+    void schedule_shouldExpirePastDeadlinesOnNextTick() {
+        // Arrange
+        wheel.advanceTo(ORIGIN + 500);
+        wheel.schedule("late", ORIGIN);
+
+        // Act & Assert
+        assertThat(wheel.advanceTo(ORIGIN + 599)).isEmpty();
+        assertThat(wheel.advanceTo(ORIGIN + 600)).containsExactly("late");
+    }
+}
@@ -0,0 +1,271 @@
+package com.Samuel.event_microservice.infrastructure.idempotency;
+
+import com.Samuel.event_microservice.core.models.IdempotencyRecord;
+import com.Samuel.event_microservice.core.ports.IdempotencyRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.IdempotencyProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"participantEmail\":\"test@example.com\"}";
+    private static final int MAX_BODY_SIZE = 1024;
+
+    @Mock
+    private IdempotencyRepositoryPort idempotencyRepository;
+
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyStore store = new IdempotencyStore(idempotencyRepository, new IdempotencyProperties());
+        filter = new IdempotencyFilter(store, new ObjectMapper().findAndRegisterModules(), MAX_BODY_SIZE);
+    }
+
+    private static MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/events/1/register");
+        request.addHeader(IdempotencyFilter.HEADER_NAME, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    // Simula o controller: lê o corpo e responde 201 com Location
+    private static FilterChain controller(AtomicInteger executions) {
+        return (req, res) -> {
+            executions.incrementAndGet();
+            String received = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setStatus(201);
+            response.setContentType("application/json");
+            response.setHeader("Location", "http://localhost/events/1");
+            response.getWriter().write("{\"echo\":" + received + "}");
+        };
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response without executing the request again")
+    void shouldReplayStoredResponse_whenKeyIsRetried() throws Exception {
+        // Arrange
+        when(idempotencyRepository.findById("key-1")).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveIfAbsent(any())).thenReturn(1);
+        AtomicInteger executions = new AtomicInteger();
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("key-1", BODY), first, controller(executions));
+        filter.doFilter(request("key-1", BODY), retry, controller(executions));
+
+        // Assert
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getContentAsString()).isEqualTo("{\"echo\":" + BODY + "}");
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader("Location")).isEqualTo("http://localhost/events/1");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER_NAME)).isEqualTo("true");
+        // A nova tentativa é atendida pelo cache: uma única leitura da tabela, na primeira requisição
+        verify(idempotencyRepository, times(1)).findById("key-1");
+    }
+
+    @Test
+    @DisplayName("Should replay a response stored by another instance after one lookup by key")
+    void shouldReplayResponseFromTable_whenNotCached() throws Exception {
+        // Arrange
+        MockHttpServletRequest original = request("key-2", BODY);
+        IdempotencyRecord stored = IdempotencyRecord.builder()
+                .idempotencyKey("key-2")
+                .requestFingerprint(IdempotencyFilter.fingerprint(original, BODY.getBytes(StandardCharsets.UTF_8)))
+                .statusCode(409)
+                .contentType("application/json")
+                .responseBody("{\"status\":409}".getBytes(StandardCharsets.UTF_8))
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        when(idempotencyRepository.findById("key-2")).thenReturn(Optional.of(stored));
+        AtomicInteger executions = new AtomicInteger();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("key-2", BODY), response, controller(executions));
+
+        // Assert
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getContentAsString()).isEqualTo("{\"status\":409}");
+        verify(idempotencyRepository, never()).saveIfAbsent(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request body")
+    void shouldReturnUnprocessableEntity_whenKeyIsReusedWithDifferentBody() throws Exception {
+        // Arrange
+        when(idempotencyRepository.findById("key-3")).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveIfAbsent(any())).thenReturn(1);
+        AtomicInteger executions = new AtomicInteger();
+        filter.doFilter(request("key-3", BODY), new MockHttpServletResponse(), controller(executions));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("key-3", "{\"participantEmail\":\"other@example.com\"}"), response, controller(executions));
+
+        // Assert
+        assertThat(executions).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("Esta Idempotency-Key já foi usada em uma requisição diferente.");
+    }
+
+    @Test
+    @DisplayName("Should not store server errors, so that the request can be retried")
+    void shouldNotStoreResponse_whenServerErrorOccurs() throws Exception {
+        // Arrange
+        when(idempotencyRepository.findById("key-4")).thenReturn(Optional.empty());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("key-4", BODY), response, (req, res) -> ((HttpServletResponse) res).setStatus(503));
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(503);
+        verify(idempotencyRepository, never()).saveIfAbsent(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a retry while the original request is still running")
+    void shouldReturnConflict_whenKeyIsInFlight() throws Exception {
+        // Arrange
+        when(idempotencyRepository.findById("key-5")).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveIfAbsent(any())).thenReturn(1);
+        CountDownLatch originalStarted = new CountDownLatch(1);
+        CountDownLatch releaseOriginal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> original = executor.submit(() -> {
+            filter.doFilter(request("key-5", BODY), new MockHttpServletResponse(), (req, res) -> {
+                originalStarted.countDown();
+                try {
+                    releaseOriginal.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            return null;
+        });
+        assertThat(originalStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("key-5", BODY), retry, controller(new AtomicInteger()));
+        releaseOriginal.countDown();
+        original.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Assert
+        assertThat(retry.getStatus()).isEqualTo(409);
+        verify(idempotencyRepository, times(1)).findById("key-5");
+    }
+
+    @Test
+    @DisplayName("Should pass through requests without the header")
+    void shouldNotIntercept_whenHeaderIsAbsent() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/events");
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> executions.incrementAndGet());
+
+        // Assert
+        assertThat(executions).hasValue(1);
+        verify(idempotencyRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a key longer than the limit")
+    void shouldReturnBadRequest_whenKeyIsTooLong() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("k".repeat(IdempotencyFilter.MAX_KEY_LENGTH + 1), BODY), response, controller(new AtomicInteger()));
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(400);
+        verify(idempotencyRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a body larger than the limit without executing the request")
+    void shouldReturnPayloadTooLarge_whenBodyExceedsLimit() throws Exception {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+        MockHttpServletResponse declared = new MockHttpServletResponse();
+        MockHttpServletResponse chunked = new MockHttpServletResponse();
+        // Sem Content-Length, como em uma requisição chunked: o limite vale para os bytes lidos
+        MockHttpServletRequest chunkedRequest = new MockHttpServletRequest("POST", "/events/1/register") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunkedRequest.addHeader(IdempotencyFilter.HEADER_NAME, "key-2");
+        chunkedRequest.setContent("x".repeat(MAX_BODY_SIZE + 1).getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        filter.doFilter(request("key-1", "x".repeat(MAX_BODY_SIZE + 1)), declared, controller(executions));
+        filter.doFilter(chunkedRequest, chunked, controller(executions));
+
+        // Assert
+        assertThat(declared.getStatus()).isEqualTo(413);
+        assertThat(chunked.getStatus()).isEqualTo(413);
+        assertThat(chunked.getContentAsString()).contains("no máximo 1024 bytes");
+        assertThat(executions).hasValue(0);
+        verify(idempotencyRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should accept a body exactly at the limit")
+    void shouldExecuteRequest_whenBodyIsAtLimit() throws Exception {
+        // Arrange
+        when(idempotencyRepository.findById("key-1")).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveIfAbsent(any())).thenReturn(1);
+        AtomicInteger executions = new AtomicInteger();
+        String body = "\"" + "x".repeat(MAX_BODY_SIZE - 2) + "\"";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("key-1", body), response, controller(executions));
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(1);
+    }
+}
@@ -0,0 +1,156 @@
+package com.Samuel.event_microservice.infrastructure.idempotency;
+
+import com.Samuel.event_microservice.core.models.IdempotencyRecord;
+import com.Samuel.event_microservice.core.ports.IdempotencyRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.IdempotencyProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyRepositoryPort idempotencyRepository;
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setCacheSize(2);
+        properties.setPurgeBatchSize(100);
+        store = new IdempotencyStore(idempotencyRepository, properties);
+    }
+
+    private static IdempotencyRecord record(String key, LocalDateTime expiresAt) {
+        return IdempotencyRecord.builder()
+                .idempotencyKey(key)
+                .requestFingerprint("fingerprint")
+                .statusCode(200)
+                .responseBody(new byte[0])
+                .createdAt(expiresAt.minusHours(24))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should read the table once and then serve the key from the cache")
+    void find_shouldCacheRecordReadFromTable() {
+        // Arrange
+        when(idempotencyRepository.findById("key")).thenReturn(Optional.of(record("key", LocalDateTime.now().plusHours(1))));
+
+        // Act
+        Optional<IdempotencyRecord> first = store.find("key");
+        Optional<IdempotencyRecord> second = store.find("key");
+
+        // Assert
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        verify(idempotencyRepository, times(1)).findById("key");
+    }
+
+    @Test
+    @DisplayName("Should ignore an expired record that was not purged yet")
+    void find_shouldIgnoreExpiredRecord() {
+        // Arrange
+        when(idempotencyRepository.findById("key")).thenReturn(Optional.of(record("key", LocalDateTime.now().minusSeconds(1))));
+
+        // Act
+        Optional<IdempotencyRecord> result = store.find("key");
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used key when the cache is full")
+    void save_shouldEvictLeastRecentlyUsedKey() {
+        // Arrange
+        when(idempotencyRepository.saveIfAbsent(any())).thenReturn(1);
+        when(idempotencyRepository.findById("a")).thenReturn(Optional.empty());
+        store.save("a", "fingerprint", 201, null, null, new byte[0]);
+        store.save("b", "fingerprint", 201, null, null, new byte[0]);
+        store.find("b");
+
+        // Act
+        store.save("c", "fingerprint", 201, null, null, new byte[0]);
+
+        // Assert
+        assertThat(store.find("b")).isPresent();
+        assertThat(store.find("c")).isPresent();
+        assertThat(store.find("a")).isEmpty(); // Removida do cache; a tabela é consultada
+        verify(idempotencyRepository, times(1)).findById("a");
+    }
+
+    @Test
+    @DisplayName("Should not cache a response when the key already has a valid one in the table")
+    void save_shouldNotCache_whenKeyAlreadyStored() {
+        // Arrange
+        when(idempotencyRepository.saveIfAbsent(any())).thenReturn(0);
+        when(idempotencyRepository.findById("key")).thenReturn(Optional.empty());
+
+        // Act
+        store.save("key", "fingerprint", 201, null, null, new byte[0]);
+        store.find("key");
+
+        // Assert
+        verify(idempotencyRepository).findById("key");
+    }
+
+    @Test
+    @DisplayName("Should swallow storage failures, since the request was already executed")
+    void save_shouldNotThrow_whenRepositoryFails() {
+        // Arrange
+        when(idempotencyRepository.saveIfAbsent(any())).thenThrow(new RuntimeException("Database is down"));
+
+        // Act
+        store.save("key", "fingerprint", 201, null, null, new byte[0]);
+
+        // Assert
+        verify(idempotencyRepository).saveIfAbsent(any());
+    }
+
+    @Test
+    @DisplayName("Should purge expired keys in batches until a partial batch is deleted")
+    void purgeExpired_shouldDeleteInBatches() {
+        // Arrange
+        when(idempotencyRepository.deleteExpired(any(), eq(100))).thenReturn(100, 100, 42);
+
+        // Act
+        int purged = store.purgeExpired();
+
+        // Assert
+        assertThat(purged).isEqualTo(242);
+        verify(idempotencyRepository, times(3)).deleteExpired(any(), eq(100));
+    }
+
+    @Test
+    @DisplayName("Should not query the table again when nothing is left to purge")
+    void purgeExpired_shouldStop_whenNothingExpired() {
+        // Arrange
+        when(idempotencyRepository.deleteExpired(any(), eq(100))).thenReturn(0);
+
+        // Act
+        int purged = store.purgeExpired();
+
+        // Assert
+        assertThat(purged).isZero();
+        verify(idempotencyRepository, times(1)).deleteExpired(any(), eq(100));
+        verify(idempotencyRepository, never()).findById(any());
+    }
+}
@@ -0,0 +1,150 @@
+package com.Samuel.event_microservice.infrastructure.mutations;
+
+import com.Samuel.event_microservice.core.ports.EventMutationExecutorPort;
+import com.Samuel.event_microservice.core.ports.EventNotificationPort;
+import com.Samuel.event_microservice.core.usecases.EventUseCase;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventRequestDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventUpdateDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.SubscriptionRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes da fila de alterações por evento ({@code app.mutations.mailbox.enabled}) contra um
+ * PostgreSQL real: as alterações enfileiradas atrás de uma alteração em andamento são confirmadas
+ * em um único lote.
+ */
+@SpringBootTest(properties = "app.mutations.mailbox.enabled=true")
+@ActiveProfiles("test")
+@Testcontainers
+class EventMailboxExecutorIntegrationTest {
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private EventUseCase eventUseCase;
+
+    @Autowired
+    private EventMutationExecutorPort eventMutationExecutor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Evita chamadas ao serviço de e-mail externo durante o teste
+    @MockBean
+    private EventNotificationPort eventNotificationPort;
+
+    @Test
+    @DisplayName("A registration followed by an update in the same batch should commit together, without replaying the batch")
+    void registrationAndUpdateInSameBatch_shouldCommitWithoutReplay() throws Exception {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(5);
+        EventResponseDTO event = eventUseCase.createEvent(new EventRequestDTO(
+                "Evento em Lote", "Descrição do evento em lote", start, start.plusHours(2),
+                10, null, "http://event.url", null, true));
+        UUID eventId = event.id();
+        AtomicInteger batchRuns = new AtomicInteger();
+
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread blocker = new Thread(() -> eventMutationExecutor.executeWithoutResult(eventId, () -> {
+            blocking.countDown();
+            await(release);
+        }));
+        blocker.start();
+        assertThat(blocking.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act: a inscrição altera o contador por um comando nativo; a atualização vem em seguida no mesmo lote
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicReference<EventResponseDTO> updated = new AtomicReference<>();
+        Thread firstInBatch = startQueued(failures, () ->
+                eventMutationExecutor.executeWithoutResult(eventId, batchRuns::incrementAndGet));
+        Thread registration = startQueued(failures, () ->
+                eventUseCase.registerParticipant(eventId, new SubscriptionRequestDTO("batched@example.com")));
+        Thread update = startQueued(failures, () -> updated.set(eventUseCase.updateEvent(eventId,
+                new EventUpdateDTO("Evento Atualizado", null, null, null, 5, null, null, null, null))));
+        release.countDown();
+        for (Thread thread : List.of(blocker, firstInBatch, registration, update)) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        // Assert
+        assertThat(failures).isEmpty();
+        assertThat(updated.get().registeredParticipants()).isEqualTo(1);
+        assertThat(updated.get().maxParticipants()).isEqualTo(5);
+        // Repetido uma a uma, o lote executaria de novo a primeira alteração
+        assertThat(batchRuns).hasValue(1);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT title, max_participants, registered_participants FROM event WHERE id = ?", eventId);
+        assertThat(row).containsEntry("title", "Evento Atualizado")
+                .containsEntry("max_participants", 5)
+                .containsEntry("registered_participants", 1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Inicia o chamador e aguarda até que ele esteja esperando o resultado, ou seja, com a
+     * alteração já enfileirada atrás das anteriores.
+     */
+    private static Thread startQueued(Queue<Throwable> failures, Runnable caller) throws InterruptedException {
+        Thread thread = new Thread(() -> {
+            try {
+                caller.run();
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+        });
+        thread.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        return thread;
+    }
+}
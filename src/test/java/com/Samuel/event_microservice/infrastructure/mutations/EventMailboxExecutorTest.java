@@ -0,0 +1,284 @@
+package com.Samuel.event_microservice.infrastructure.mutations;
+
+import com.Samuel.event_microservice.core.exceptions.EventFullException;
+import com.Samuel.event_microservice.infrastructure.entitycache.EventCacheInvalidator;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventMailboxExecutorTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Savepoint savepoint;
+
+    @Mock
+    private EventCacheInvalidator eventCacheInvalidator;
+
+    private EventMailboxExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        // As alterações do lote rodam sob savepoints na conexão da sessão
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(session);
+        lenient().when(session.doReturningWork(any())).thenAnswer(invocation ->
+                invocation.<ReturningWork<?>>getArgument(0).execute(connection));
+        lenient().doAnswer(invocation -> {
+            invocation.<Work>getArgument(0).execute(connection);
+            return null;
+        }).when(session).doWork(any());
+        executor = new EventMailboxExecutor(new TransactionTemplate(transactionManager), entityManager,
+                eventCacheInvalidator, 2, 64);
+    }
+
+    /**
+     * Enfileira quatro alterações atrás de uma alteração bloqueante, das quais a segunda lança a
+     * exceção informada, libera a fila e retorna as exceções recebidas pelos chamadores.
+     */
+    private Queue<Throwable> runBatchWithOneFailure(RuntimeException failure, AtomicInteger succeeded) throws Exception {
+        CountDownLatch release = blockMailbox();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        List<Runnable> callers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            boolean fails = i == 1;
+            callers.add(() -> {
+                try {
+                    executor.executeWithoutResult(EVENT_ID, () -> {
+                        if (fails) {
+                            throw failure;
+                        }
+                    });
+                    succeeded.incrementAndGet();
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                }
+            });
+        }
+        List<Thread> threads = startAndAwaitQueued(callers);
+
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        return failures;
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Bloqueia a fila do evento com uma alteração que só termina quando o latch retornado é liberado.
+     */
+    private CountDownLatch blockMailbox() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread blocker = new Thread(() -> executor.executeWithoutResult(EVENT_ID, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        blocker.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return release;
+    }
+
+    /**
+     * Inicia os chamadores e aguarda até que todos estejam esperando o resultado, ou seja, com a
+     * alteração já enfileirada.
+     */
+    private static List<Thread> startAndAwaitQueued(List<Runnable> callers) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (Runnable caller : callers) {
+            Thread thread = new Thread(caller);
+            thread.start();
+            threads.add(thread);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (threads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING)) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        return threads;
+    }
+
+    @Test
+    @DisplayName("Should return the mutation result to the caller")
+    void execute_shouldReturnMutationResult() {
+        // Act
+        String result = executor.execute(EVENT_ID, () -> "applied");
+
+        // Assert
+        assertThat(result).isEqualTo("applied");
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should never run two mutations of the same event at the same time")
+    void execute_shouldSerializeMutationsOfSameEvent() throws Exception {
+        // Arrange
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Runnable> callers = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            callers.add(() -> executor.executeWithoutResult(EVENT_ID, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.onSpinWait();
+                running.decrementAndGet();
+            }));
+        }
+
+        // Act
+        List<Thread> threads = new ArrayList<>();
+        for (Runnable caller : callers) {
+            Thread thread = new Thread(caller);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        // Assert
+        assertThat(maxRunning).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should commit the mutations queued behind a running one in a single transaction")
+    void execute_shouldGroupCommitQueuedMutations() throws Exception {
+        // Arrange
+        CountDownLatch release = blockMailbox();
+        Queue<Integer> applied = new ConcurrentLinkedQueue<>();
+        List<Runnable> callers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            callers.add(() -> executor.executeWithoutResult(EVENT_ID, () -> applied.add(value)));
+        }
+        List<Thread> threads = startAndAwaitQueued(callers);
+
+        // Act
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        // Assert
+        assertThat(applied).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+        verify(transactionManager, times(2)).commit(any()); // A alteração bloqueante e o lote
+    }
+
+    @Test
+    @DisplayName("Should roll back only the rejected mutation to its savepoint and commit the rest of the batch")
+    void execute_shouldRollBackToSavepoint_whenMutationInBatchIsRejected() throws Exception {
+        // Arrange
+        AtomicInteger succeeded = new AtomicInteger();
+        when(connection.setSavepoint()).thenReturn(savepoint);
+
+        // Act
+        Queue<Throwable> failures = runBatchWithOneFailure(new EventFullException("O evento já está lotado."), succeeded);
+
+        // Assert
+        assertThat(succeeded).hasValue(3);
+        assertThat(failures).singleElement().isInstanceOf(EventFullException.class);
+        verify(connection, times(4)).setSavepoint();
+        verify(connection, times(1)).rollback(savepoint);
+        verify(connection, times(3)).releaseSavepoint(savepoint);
+        // O contexto é esvaziado depois de cada alteração do lote, confirmada ou desfeita
+        verify(session, times(4)).clear();
+        verify(eventCacheInvalidator).evict(EVENT_ID);
+        // A alteração bloqueante e o lote, sem repetir as alterações uma a uma
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should apply the mutations of a batch one by one when one of them fails in the database")
+    void execute_shouldApplyOneByOne_whenMutationInBatchFailsInDatabase() throws Exception {
+        // Arrange
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // Act
+        Queue<Throwable> failures = runBatchWithOneFailure(new DataIntegrityViolationException("duplicate key"), succeeded);
+
+        // Assert
+        assertThat(succeeded).hasValue(3);
+        assertThat(failures).singleElement().isInstanceOf(DataIntegrityViolationException.class);
+        verify(connection, never()).rollback(any(Savepoint.class));
+        // O lote é desfeito e cada alteração roda de novo em uma transação própria
+        verify(transactionManager, atLeast(2)).rollback(any());
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should run a nested mutation inline instead of queueing it behind itself")
+    void execute_shouldRunNestedMutationInline() {
+        // Act
+        String result = executor.execute(EVENT_ID, () -> executor.execute(EVENT_ID, () -> "nested"));
+
+        // Assert
+        assertThat(result).isEqualTo("nested");
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should reject new mutations after shutdown")
+    void execute_shouldReject_whenShutDown() {
+        // Arrange
+        executor.shutdown();
+
+        // Act & Assert
+        assertThatThrownBy(() -> executor.execute(EVENT_ID, () -> "late"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("A aplicação está sendo encerrada; tente novamente.");
+    }
+}
@@ -0,0 +1,173 @@
+package com.Samuel.event_microservice.infrastructure.mutations;
+
+import com.Samuel.event_microservice.core.ports.EventNotificationPort;
+import com.Samuel.event_microservice.core.usecases.EventUseCase;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventRequestDTO;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventResponseDTO;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.SubscriptionRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de inscrições concorrentes em um único evento concorrido, com e sem a fila de
+ * alterações por evento ({@code app.mutations.mailbox.enabled}) e o agrupamento de inscrições
+ * ({@code app.registrations.batching.enabled}).
+ * <p>
+ * Sem a fila, cada inscrição é uma transação própria que aguarda o bloqueio da linha do evento no
+ * comando condicional do contador; com a fila, as inscrições do evento são aplicadas por um único
+ * escritor e confirmadas em lotes; com o agrupamento, cada lote é gravado por um único comando.
+ * <p>
+ * Fica fora do build padrão; rode com {@code mvn test -Pbenchmark -Dtest=EventMutationBenchmarkTest}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+class EventMutationBenchmarkTest {
+
+    private static final int REGISTRATIONS_PER_CLIENT = 200;
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private EventUseCase eventUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Evita chamadas ao serviço de e-mail externo durante o teste
+    @MockBean
+    private EventNotificationPort eventNotificationPort;
+
+    @Nested
+    @DisplayName("One transaction per registration")
+    class TransactionPerRegistration {
+
+        @ParameterizedTest(name = "{0} clients")
+        @ValueSource(ints = {1, 8, 64})
+        @DisplayName("Concurrent registrations on one event report throughput and latency")
+        void concurrentRegistrations_reportThroughput(int clients) throws Exception {
+            run("transação por inscrição", clients);
+        }
+    }
+
+    @Nested
+    @DisplayName("Per-event mailbox with group commit")
+    @TestPropertySource(properties = "app.mutations.mailbox.enabled=true")
+    class PerEventMailbox {
+
+        @ParameterizedTest(name = "{0} clients")
+        @ValueSource(ints = {1, 8, 64})
+        @DisplayName("Concurrent registrations on one event report throughput and latency")
+        void concurrentRegistrations_reportThroughput(int clients) throws Exception {
+            run("fila por evento", clients);
+        }
+    }
+
+    @Nested
+    @DisplayName("Micro-batched registrations")
+    @TestPropertySource(properties = "app.registrations.batching.enabled=true")
+    class MicroBatchedRegistrations {
+
+        @ParameterizedTest(name = "{0} clients")
+        @ValueSource(ints = {1, 8, 64})
+        @DisplayName("Concurrent registrations on one event report throughput and latency")
+        void concurrentRegistrations_reportThroughput(int clients) throws Exception {
+            run("inscrições em lote", clients);
+        }
+    }
+
+    private void run(String scenario, int clients) throws Exception {
+        // Arrange
+        int total = clients * REGISTRATIONS_PER_CLIENT;
+        LocalDateTime start = LocalDateTime.now().plusDays(5);
+        EventResponseDTO event = eventUseCase.createEvent(new EventRequestDTO(
+                "Evento Concorrido", "Descrição do evento concorrido", start, start.plusHours(2),
+                total, null, "http://event.url", null, true));
+
+        Queue<Double> samples = new ConcurrentLinkedQueue<>();
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            int client = c;
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                for (int i = 0; i < REGISTRATIONS_PER_CLIENT; i++) {
+                    SubscriptionRequestDTO request = new SubscriptionRequestDTO("client" + client + "-" + i + "@example.com");
+                    long begin = System.nanoTime();
+                    eventUseCase.registerParticipant(event.id(), request);
+                    samples.add((System.nanoTime() - begin) / 1_000_000.0);
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        long begin = System.nanoTime();
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.MINUTES);
+        }
+        double elapsedSeconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+        executor.shutdown();
+
+        // Assert
+        List<Double> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        System.out.printf("[benchmark] %-24s %3d clientes: %8.1f inscrições/s p50=%7.2fms p95=%7.2fms%n",
+                scenario, clients, total / elapsedSeconds, percentile(sorted, 50), percentile(sorted, 95));
+
+        Integer counter = jdbcTemplate.queryForObject(
+                "SELECT registered_participants FROM event WHERE id = ?", Integer.class, event.id());
+        Integer stored = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM subscription WHERE event_id = ?", Integer.class, event.id());
+        assertThat(counter).isEqualTo(stored).isEqualTo(total);
+    }
+
+    private static double percentile(List<Double> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
@@ -0,0 +1,88 @@
+package com.Samuel.event_microservice.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimitStoreTest {
+
+    // Três requisições de uma vez e uma nova a cada 500ms
+    private static final RateLimitRule RULE = RateLimitRule.of("registrations", List.of("POST"), List.of("/events/*/register"), 3, 2);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    private final LocalRateLimitStore store = new LocalRateLimitStore(clock::get);
+
+    @Test
+    @DisplayName("Should allow a burst up to the capacity and then report the wait for the next token")
+    void tryAcquire_shouldAllowBurst_andThenReportWait() {
+        // Act
+        long first = store.tryAcquire("registrations|ip|10.0.0.1", RULE);
+        long second = store.tryAcquire("registrations|ip|10.0.0.1", RULE);
+        long third = store.tryAcquire("registrations|ip|10.0.0.1", RULE);
+        long fourth = store.tryAcquire("registrations|ip|10.0.0.1", RULE);
+
+        // Assert
+        assertThat(List.of(first, second, third)).containsOnly(0L);
+        assertThat(fourth).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    @DisplayName("Should refill one token per emission interval, without exceeding the capacity")
+    void tryAcquire_shouldRefillOverTime() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("registrations|ip|10.0.0.1", RULE);
+        }
+
+        // Act
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        long afterOneInterval = store.tryAcquire("registrations|ip|10.0.0.1", RULE);
+        long stillEmpty = store.tryAcquire("registrations|ip|10.0.0.1", RULE);
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        int allowedAfterIdle = 0;
+        while (store.tryAcquire("registrations|ip|10.0.0.1", RULE) == 0) {
+            allowedAfterIdle++;
+        }
+
+        // Assert
+        assertThat(afterOneInterval).isZero();
+        assertThat(stillEmpty).isPositive();
+        assertThat(allowedAfterIdle).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep a separate bucket per key")
+    void tryAcquire_shouldKeepSeparateBucketsPerKey() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("registrations|ip|10.0.0.1", RULE);
+        }
+
+        // Act & Assert
+        assertThat(store.tryAcquire("registrations|ip|10.0.0.1", RULE)).isPositive();
+        assertThat(store.tryAcquire("registrations|ip|10.0.0.2", RULE)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict only full buckets, without changing any client's limit")
+    void evictFull_shouldRemoveOnlyFullBuckets() {
+        // Arrange
+        store.tryAcquire("registrations|ip|idle", RULE);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("registrations|ip|busy", RULE);
+        }
+
+        // Act
+        store.evictFull();
+
+        // Assert
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.tryAcquire("registrations|ip|busy", RULE)).isPositive();
+    }
+}
@@ -0,0 +1,86 @@
+package com.Samuel.event_microservice.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark do custo do filtro de limite de requisições por requisição, com os baldes em memória e
+ * dez mil clientes.
+ * <p>
+ * Fica fora do build padrão; rode com {@code mvn test -Pbenchmark -Dtest=RateLimitFilterBenchmarkTest}.
+ */
+@Tag("benchmark")
+class RateLimitFilterBenchmarkTest {
+
+    private static final int CLIENT_COUNT = 10_000;
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 200_000;
+    private static final double MAX_P95_MICROS = 5.0;
+
+    @Test
+    @DisplayName("Per-request overhead of the rate limit filter over 10k clients")
+    void perRequestOverhead() throws Exception {
+        // Limites altos: o benchmark mede o caminho da requisição aceita, o mais comum
+        List<RateLimitRule> rules = List.of(
+                RateLimitRule.of("listings", List.of("GET"), List.of("/events", "/events/upcoming", "/events/search", "/events/suggest"),
+                        1_000_000, 1_000_000),
+                RateLimitRule.of("registrations", List.of("POST"), List.of("/events/*/register", "/events/*/register/group"),
+                        1_000_000, 1_000_000));
+        RateLimitFilter filter = new RateLimitFilter(rules, new LocalRateLimitStore(), "X-API-Key",
+                new ObjectMapper(), new SimpleMeterRegistry());
+        FilterChain chain = (request, response) -> { };
+
+        List<MockHttpServletRequest> requests = new ArrayList<>(CLIENT_COUNT);
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            MockHttpServletRequest request = i % 2 == 0
+                    ? new MockHttpServletRequest("GET", "/events/search")
+                    : new MockHttpServletRequest("POST", "/events/" + i + "/register");
+            if (i % 3 == 0) {
+                request.addHeader("X-API-Key", "client-" + i);
+            } else {
+                request.setRemoteAddr("10.0." + (i / 256) + "." + (i % 256));
+            }
+            requests.add(request);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        List<Double> samples = new ArrayList<>(MEASURED_ITERATIONS);
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+            MockHttpServletRequest request = requests.get(i % CLIENT_COUNT);
+            // O filtro marca a requisição como já filtrada; a marca é removida para reutilizá-la
+            request.clearAttributes();
+
+            long start = System.nanoTime();
+            filter.doFilter(request, response, chain);
+            double elapsedMicros = (System.nanoTime() - start) / 1_000.0;
+
+            if (i >= WARMUP_ITERATIONS) {
+                samples.add(elapsedMicros);
+            }
+        }
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        System.out.printf("[benchmark] filtro de limite de requisições: p50=%.2fµs p95=%.2fµs p99=%.2fµs (%d amostras, %d clientes)%n",
+                percentile(samples, 50), percentile(samples, 95), percentile(samples, 99), samples.size(), CLIENT_COUNT);
+        assertThat(percentile(samples, 95)).isLessThan(MAX_P95_MICROS);
+    }
+
+    private static double percentile(List<Double> samples, int percentile) {
+        List<Double> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
@@ -0,0 +1,111 @@
+package com.Samuel.event_microservice.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    private final AtomicInteger served = new AtomicInteger();
+    private final FilterChain chain = (request, response) -> served.incrementAndGet();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        List<RateLimitRule> rules = List.of(
+                RateLimitRule.of("listings", List.of("GET"), List.of("/events", "/events/search"), 2, 1),
+                RateLimitRule.of("registrations", List.of("POST"), List.of("/events/{eventId}/register"), 1, 0.25));
+        filter = new RateLimitFilter(rules, new LocalRateLimitStore(clock::get), "X-API-Key",
+                new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String remoteAddr, String apiKey) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    @DisplayName("Should reject with 429 and Retry-After once the client's bucket is empty")
+    void shouldReject_whenBucketIsEmpty() throws Exception {
+        // Act
+        perform("POST", "/events/1/register", "10.0.0.1", null);
+        MockHttpServletResponse rejected = perform("POST", "/events/2/register", "10.0.0.1", null);
+
+        // Assert
+        assertThat(served).hasValue(1);
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("4");
+        assertThat(rejected.getContentAsString()).contains("Limite de requisições excedido.");
+        assertThat(meterRegistry.get("http.rate-limit.rejected").tag("group", "registrations").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per endpoint group and per client")
+    void shouldKeepSeparateBuckets_perGroupAndClient() throws Exception {
+        // Arrange
+        perform("POST", "/events/1/register", "10.0.0.1", null);
+
+        // Act
+        MockHttpServletResponse otherGroup = perform("GET", "/events", "10.0.0.1", null);
+        MockHttpServletResponse otherIp = perform("POST", "/events/1/register", "10.0.0.2", null);
+        MockHttpServletResponse apiKey = perform("POST", "/events/1/register", "10.0.0.1", "client-a");
+        MockHttpServletResponse sameApiKey = perform("POST", "/events/1/register", "10.0.0.3", "client-a");
+
+        // Assert
+        assertThat(otherGroup.getStatus()).isEqualTo(200);
+        assertThat(otherIp.getStatus()).isEqualTo(200);
+        assertThat(apiKey.getStatus()).isEqualTo(200);
+        assertThat(sameApiKey.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Should not limit requests outside every group")
+    void shouldNotLimit_requestsOutsideGroups() throws Exception {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            perform("GET", "/events/1", "10.0.0.1", null);
+            perform("GET", "/events/1/register", "10.0.0.1", null);
+        }
+
+        // Assert
+        assertThat(served).hasValue(20);
+    }
+
+    @Test
+    @DisplayName("Should serve the client again once the bucket refills")
+    void shouldServeAgain_afterRefill() throws Exception {
+        // Arrange
+        perform("GET", "/events/search", "10.0.0.1", null);
+        perform("GET", "/events", "10.0.0.1", null);
+        assertThat(perform("GET", "/events", "10.0.0.1", null).getStatus()).isEqualTo(429);
+
+        // Act
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        MockHttpServletResponse response = perform("GET", "/events", "10.0.0.1", null);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+}
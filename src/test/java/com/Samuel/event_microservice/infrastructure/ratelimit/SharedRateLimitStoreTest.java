@@ -0,0 +1,73 @@
+package com.Samuel.event_microservice.infrastructure.ratelimit;
+
+import com.Samuel.event_microservice.core.ports.RateLimitBucketRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SharedRateLimitStoreTest {
+
+    // Cinco requisições de uma vez e uma nova a cada 100ms
+    private static final RateLimitRule RULE = RateLimitRule.of("listings", List.of("GET"), List.of("/events"), 5, 10);
+
+    @Mock
+    private RateLimitBucketRepositoryPort bucketRepository;
+
+    @Test
+    @DisplayName("Should consume from the hashed bucket with the rule's interval and tolerance in microseconds")
+    void tryAcquire_shouldConsumeFromHashedBucket() {
+        // Arrange
+        SharedRateLimitStore store = new SharedRateLimitStore(bucketRepository, 100);
+        String hashed = SharedRateLimitStore.hash("listings|key|secret");
+        when(bucketRepository.tryConsume(hashed, 100_000, 400_000)).thenReturn(1, 0);
+
+        // Act
+        long allowed = store.tryAcquire("listings|key|secret", RULE);
+        long rejected = store.tryAcquire("listings|key|secret", RULE);
+
+        // Assert
+        assertThat(hashed).hasSize(64).doesNotContain("secret");
+        assertThat(allowed).isZero();
+        assertThat(rejected).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    @DisplayName("Should allow the request when the database is unavailable")
+    void tryAcquire_shouldAllow_whenDatabaseFails() {
+        // Arrange
+        SharedRateLimitStore store = new SharedRateLimitStore(bucketRepository, 100);
+        when(bucketRepository.tryConsume(anyString(), anyLong(), anyLong()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        // Act & Assert
+        assertThat(store.tryAcquire("listings|ip|10.0.0.1", RULE)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict full buckets in batches until a partial batch")
+    void evictFull_shouldDeleteInBatches() {
+        // Arrange
+        SharedRateLimitStore store = new SharedRateLimitStore(bucketRepository, 100);
+        when(bucketRepository.deleteFull(100)).thenReturn(100, 100, 7);
+
+        // Act
+        store.evictFull();
+
+        // Assert
+        verify(bucketRepository, times(3)).deleteFull(100);
+    }
+}
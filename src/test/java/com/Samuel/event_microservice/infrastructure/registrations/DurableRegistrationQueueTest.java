@@ -0,0 +1,115 @@
+package com.Samuel.event_microservice.infrastructure.registrations;
+
+import com.Samuel.event_microservice.core.exceptions.RegistrationQueueFullException;
+import com.Samuel.event_microservice.core.models.RegistrationRequest;
+import com.Samuel.event_microservice.core.models.RegistrationRequestStatus;
+import com.Samuel.event_microservice.core.ports.RegistrationRequestRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.RegistrationQueueProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DurableRegistrationQueueTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    @Mock
+    private RegistrationRequestRepositoryPort registrationRequestRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DurableRegistrationQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        RegistrationQueueProperties properties = new RegistrationQueueProperties();
+        properties.setCapacity(2);
+        properties.setRetryAfter(Duration.ofSeconds(7));
+        properties.setRetention(Duration.ofDays(1));
+        properties.setPurgeBatchSize(2);
+        queue = new DurableRegistrationQueue(registrationRequestRepository, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should store a pending request and count it in the depth")
+    void enqueue_shouldStorePendingRequest_andCountIt() {
+        // Arrange
+        when(registrationRequestRepository.save(any(RegistrationRequest.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        RegistrationRequest request = queue.enqueue(EVENT_ID, "a@example.com");
+
+        // Assert
+        assertThat(request.getStatus()).isEqualTo(RegistrationRequestStatus.PENDING);
+        assertThat(request.getTicket()).isNotNull();
+        assertThat(queue.depth()).isEqualTo(1);
+        assertThat(meterRegistry.get("registrations.queue.depth").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject new requests with the Retry-After delay when the queue is full")
+    void enqueue_shouldReject_whenQueueIsFull() {
+        // Arrange
+        when(registrationRequestRepository.countByStatus(RegistrationRequestStatus.PENDING)).thenReturn(2L);
+        queue.refreshDepth();
+
+        // Act & Assert
+        assertThatThrownBy(() -> queue.enqueue(EVENT_ID, "a@example.com"))
+                .isInstanceOf(RegistrationQueueFullException.class)
+                .hasMessage("A fila de inscrições está cheia. Tente novamente em instantes.")
+                .extracting("retryAfter").isEqualTo(Duration.ofSeconds(7));
+        verify(registrationRequestRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should accept requests again once the recount shows the queue drained")
+    void enqueue_shouldAcceptAgain_afterQueueDrains() {
+        // Arrange
+        when(registrationRequestRepository.countByStatus(RegistrationRequestStatus.PENDING)).thenReturn(2L, 0L);
+        when(registrationRequestRepository.save(any(RegistrationRequest.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        queue.refreshDepth();
+
+        // Act
+        queue.refreshDepth();
+        queue.enqueue(EVENT_ID, "a@example.com");
+
+        // Assert
+        assertThat(queue.depth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should purge processed requests older than the retention in batches until a partial batch")
+    void purgeProcessed_shouldDeleteInBatches_untilPartialBatch() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.now().minusDays(1);
+        when(registrationRequestRepository.deleteProcessedBefore(any(LocalDateTime.class), eq(2))).thenReturn(2, 2, 1);
+
+        // Act
+        int purged = queue.purgeProcessed();
+
+        // Assert
+        assertThat(purged).isEqualTo(5);
+        verify(registrationRequestRepository, times(3)).deleteProcessedBefore(
+                argThat(cutoff -> !cutoff.isBefore(before) && cutoff.isBefore(LocalDateTime.now().minusHours(23))), eq(2));
+    }
+}
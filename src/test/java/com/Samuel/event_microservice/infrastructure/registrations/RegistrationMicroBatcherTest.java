@@ -0,0 +1,223 @@
+package com.Samuel.event_microservice.infrastructure.registrations;
+
+import com.Samuel.event_microservice.core.exceptions.EventFullException;
+import com.Samuel.event_microservice.core.exceptions.EventNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.ports.EventNotificationPort;
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.core.ports.SeatHoldRegistryPort;
+import com.Samuel.event_microservice.core.ports.SubscriptionRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegistrationMicroBatcherTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final Duration NO_DEADLINE = Duration.ofHours(1);
+
+    @Mock
+    private EventRepositoryPort eventRepository;
+
+    @Mock
+    private SubscriptionRepositoryPort subscriptionRepository;
+
+    @Mock
+    private SeatHoldRegistryPort seatHoldRegistry;
+
+    @Mock
+    private EventNotificationPort eventNotificationPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RegistrationMicroBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        batcher.stop();
+    }
+
+    private RegistrationMicroBatcher batcher(Duration maxDelay, int maxBatchSize) {
+        batcher = new RegistrationMicroBatcher(eventRepository, subscriptionRepository, seatHoldRegistry,
+                eventNotificationPort, new TransactionTemplate(transactionManager), true, maxDelay, maxBatchSize,
+                Runnable::run);
+        return batcher;
+    }
+
+    private Event activeEvent() {
+        Event event = Event.builder().id(EVENT_ID).title("Evento").maxParticipants(10).status(EventStatus.ACTIVE).build();
+        when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event));
+        return event;
+    }
+
+    /**
+     * Inscreve cada e-mail em uma thread própria e retorna o resultado de cada um, por e-mail:
+     * {@code null} para inscrito ou a exceção recebida.
+     */
+    private Map<String, Throwable> registerConcurrently(String... participantEmails) throws Exception {
+        Map<String, CompletableFuture<Throwable>> outcomes = new LinkedHashMap<>();
+        List<Thread> threads = new ArrayList<>();
+        for (String email : participantEmails) {
+            CompletableFuture<Throwable> outcome = new CompletableFuture<>();
+            outcomes.put(email, outcome);
+            Thread thread = new Thread(() -> {
+                try {
+                    batcher.register(EVENT_ID, email);
+                    outcome.complete(null);
+                } catch (Throwable e) {
+                    outcome.complete(e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        Map<String, Throwable> results = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<Throwable>> entry : outcomes.entrySet()) {
+            results.put(entry.getKey(), entry.getValue().get(5, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("Should write a full batch with a single group registration and report each outcome")
+    void register_shouldWriteFullBatchOnce_andReportEachOutcome() throws Exception {
+        // Arrange
+        batcher(NO_DEADLINE, 3);
+        Event event = activeEvent();
+        when(seatHoldRegistry.activeHolds(EVENT_ID)).thenReturn(1);
+        when(subscriptionRepository.registerGroup(eq(EVENT_ID), anyList(), eq(1))).thenReturn(List.of("a@example.com"));
+        when(subscriptionRepository.findSubscribedEmails(eq(EVENT_ID), any()))
+                .thenReturn(List.of("b@example.com"));
+
+        // Act
+        Map<String, Throwable> outcomes = registerConcurrently("a@example.com", "b@example.com", "c@example.com");
+
+        // Assert
+        assertThat(outcomes.get("a@example.com")).isNull();
+        assertThat(outcomes.get("b@example.com")).isInstanceOf(SubscriptionAlreadyExistsException.class);
+        assertThat(outcomes.get("c@example.com")).isInstanceOf(EventFullException.class)
+                .hasMessage("O evento já está lotado.");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> emails = ArgumentCaptor.forClass(List.class);
+        verify(subscriptionRepository, times(1)).registerGroup(eq(EVENT_ID), emails.capture(), eq(1));
+        assertThat(emails.getValue()).containsExactlyInAnyOrder("a@example.com", "b@example.com", "c@example.com");
+        verify(transactionManager, times(1)).commit(any());
+        verify(eventNotificationPort).sendRegistrationConfirmation(event, "a@example.com");
+        verify(eventNotificationPort, never()).sendRegistrationConfirmation(event, "b@example.com");
+    }
+
+    @Test
+    @DisplayName("Should write an incomplete batch when its deadline expires")
+    void register_shouldWriteIncompleteBatch_whenDeadlineExpires() {
+        // Arrange
+        batcher(Duration.ofMillis(10), 100);
+        activeEvent();
+        when(subscriptionRepository.registerGroup(EVENT_ID, List.of("a@example.com"), 0)).thenReturn(List.of("a@example.com"));
+
+        // Act
+        batcher.register(EVENT_ID, "a@example.com");
+
+        // Assert
+        verify(subscriptionRepository).registerGroup(EVENT_ID, List.of("a@example.com"), 0);
+        verify(subscriptionRepository, never()).findSubscribedEmails(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should register a participant repeated in the same batch only once")
+    void register_shouldRegisterOnce_whenParticipantIsRepeatedInBatch() throws Exception {
+        // Arrange
+        batcher(NO_DEADLINE, 2);
+        activeEvent();
+        when(subscriptionRepository.registerGroup(EVENT_ID, List.of("a@example.com"), 0)).thenReturn(List.of("a@example.com"));
+        List<Throwable> failures = new ArrayList<>();
+        Thread first = new Thread(() -> {
+            try {
+                batcher.register(EVENT_ID, "a@example.com");
+            } catch (RuntimeException e) {
+                synchronized (failures) {
+                    failures.add(e);
+                }
+            }
+        });
+
+        // Act
+        first.start();
+        Throwable second = null;
+        try {
+            batcher.register(EVENT_ID, "a@example.com");
+        } catch (RuntimeException e) {
+            second = e;
+        }
+        first.join(TimeUnit.SECONDS.toMillis(5));
+        if (second != null) {
+            failures.add(second);
+        }
+
+        // Assert
+        assertThat(failures).singleElement().isInstanceOf(SubscriptionAlreadyExistsException.class);
+        verify(subscriptionRepository, times(1)).registerGroup(EVENT_ID, List.of("a@example.com"), 0);
+    }
+
+    @Test
+    @DisplayName("Should fail every registration of the batch when the event does not exist")
+    void register_shouldFailWholeBatch_whenEventDoesNotExist() throws Exception {
+        // Arrange
+        batcher(NO_DEADLINE, 2);
+        when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.empty());
+
+        // Act
+        Map<String, Throwable> outcomes = registerConcurrently("a@example.com", "b@example.com");
+
+        // Assert
+        assertThat(outcomes.values()).allSatisfy(outcome -> assertThat(outcome).isInstanceOf(EventNotFoundException.class));
+        verify(subscriptionRepository, never()).registerGroup(any(), anyList(), anyInt());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should reject the registration when the event is not active")
+    void register_shouldReject_whenEventIsNotActive() {
+        // Arrange
+        batcher(NO_DEADLINE, 1);
+        Event event = Event.builder().id(EVENT_ID).status(EventStatus.CANCELLED).build();
+        when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event));
+
+        // Act & Assert
+        assertThatThrownBy(() -> batcher.register(EVENT_ID, "a@example.com"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Não é possível se inscrever em um evento que não está ativo.");
+        verify(subscriptionRepository, never()).registerGroup(any(), anyList(), anyInt());
+    }
+}
@@ -0,0 +1,165 @@
+package com.Samuel.event_microservice.infrastructure.registrations;
+
+import com.Samuel.event_microservice.core.exceptions.EventFullException;
+import com.Samuel.event_microservice.core.exceptions.EventNotFoundException;
+import com.Samuel.event_microservice.core.exceptions.SubscriptionAlreadyExistsException;
+import com.Samuel.event_microservice.core.models.RegistrationRequest;
+import com.Samuel.event_microservice.core.models.RegistrationRequestStatus;
+import com.Samuel.event_microservice.core.ports.RegistrationRequestRepositoryPort;
+import com.Samuel.event_microservice.core.usecases.EventUseCase;
+import com.Samuel.event_microservice.infrastructure.dto.subscription.SubscriptionRequestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegistrationQueueWorkerTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+
+    @Mock
+    private RegistrationRequestRepositoryPort registrationRequestRepository;
+
+    @Mock
+    private EventUseCase eventUseCase;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RegistrationQueueWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new RegistrationQueueWorker(registrationRequestRepository, eventUseCase,
+                new TransactionTemplate(transactionManager), 2, CLAIM_TIMEOUT);
+    }
+
+    private static SubscriptionRequestDTO subscription(String participantEmail) {
+        return new SubscriptionRequestDTO(participantEmail);
+    }
+
+    @Test
+    @DisplayName("Should process the claimed requests in order and save each outcome")
+    void drainBatch_shouldProcessInOrder_andRecordOutcomes() {
+        // Arrange
+        RegistrationRequest first = new RegistrationRequest(EVENT_ID, "a@example.com");
+        RegistrationRequest second = new RegistrationRequest(EVENT_ID, "b@example.com");
+        when(registrationRequestRepository.lockNextPending(eq(2), any(LocalDateTime.class))).thenReturn(List.of(first, second));
+        doNothing().when(eventUseCase).registerParticipant(EVENT_ID, subscription("a@example.com"));
+        doThrow(new EventFullException("O evento já está lotado."))
+                .when(eventUseCase).registerParticipant(EVENT_ID, subscription("b@example.com"));
+
+        // Act
+        int processed = worker.drainBatch();
+
+        // Assert
+        assertThat(processed).isEqualTo(2);
+        assertThat(first.getStatus()).isEqualTo(RegistrationRequestStatus.REGISTERED);
+        assertThat(first.getMessage()).isNull();
+        assertThat(second.getStatus()).isEqualTo(RegistrationRequestStatus.EVENT_FULL);
+        assertThat(second.getMessage()).isEqualTo("O evento já está lotado.");
+
+        InOrder order = inOrder(eventUseCase, registrationRequestRepository);
+        order.verify(eventUseCase).registerParticipant(EVENT_ID, subscription("a@example.com"));
+        order.verify(registrationRequestRepository).save(first);
+        order.verify(eventUseCase).registerParticipant(EVENT_ID, subscription("b@example.com"));
+        order.verify(registrationRequestRepository).save(second);
+    }
+
+    @Test
+    @DisplayName("Should claim the requests in a short transaction and register them after it commits")
+    void drainBatch_shouldRegisterAfterClaimCommits() {
+        // Arrange
+        RegistrationRequest request = new RegistrationRequest(EVENT_ID, "a@example.com");
+        when(registrationRequestRepository.lockNextPending(eq(2), any(LocalDateTime.class))).thenReturn(List.of(request));
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertThat(request.getClaimedUntil()).isAfterOrEqualTo(before.plus(CLAIM_TIMEOUT));
+        InOrder order = inOrder(transactionManager, eventUseCase, registrationRequestRepository);
+        order.verify(registrationRequestRepository).lockNextPending(eq(2), any(LocalDateTime.class));
+        order.verify(transactionManager).commit(any());
+        order.verify(eventUseCase).registerParticipant(EVENT_ID, subscription("a@example.com"));
+        order.verify(registrationRequestRepository).save(request);
+    }
+
+    @Test
+    @DisplayName("Should map already subscribed, missing event and unexpected failures to their outcomes")
+    void drainBatch_shouldMapFailuresToOutcomes() {
+        // Arrange
+        RegistrationRequest duplicated = new RegistrationRequest(EVENT_ID, "a@example.com");
+        RegistrationRequest missingEvent = new RegistrationRequest(UUID.randomUUID(), "b@example.com");
+        when(registrationRequestRepository.lockNextPending(eq(2), any(LocalDateTime.class))).thenReturn(List.of(duplicated, missingEvent));
+        doThrow(new SubscriptionAlreadyExistsException("Este participante já está inscrito neste evento."))
+                .when(eventUseCase).registerParticipant(EVENT_ID, subscription("a@example.com"));
+        doThrow(new EventNotFoundException("Evento não encontrado."))
+                .when(eventUseCase).registerParticipant(missingEvent.getEventId(), subscription("b@example.com"));
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertThat(duplicated.getStatus()).isEqualTo(RegistrationRequestStatus.ALREADY_SUBSCRIBED);
+        assertThat(missingEvent.getStatus()).isEqualTo(RegistrationRequestStatus.REJECTED);
+        assertThat(missingEvent.getMessage()).isEqualTo("Evento não encontrado.");
+    }
+
+    @Test
+    @DisplayName("Should hide the message of unexpected failures")
+    void drainBatch_shouldHideUnexpectedFailureMessage() {
+        // Arrange
+        RegistrationRequest request = new RegistrationRequest(EVENT_ID, "a@example.com");
+        when(registrationRequestRepository.lockNextPending(eq(2), any(LocalDateTime.class))).thenReturn(List.of(request));
+        doThrow(new RuntimeException("connection reset"))
+                .when(eventUseCase).registerParticipant(EVENT_ID, subscription("a@example.com"));
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertThat(request.getStatus()).isEqualTo(RegistrationRequestStatus.REJECTED);
+        assertThat(request.getMessage()).isEqualTo("Não foi possível processar a inscrição.");
+    }
+
+    @Test
+    @DisplayName("Should keep draining while the batches come back full")
+    void drain_shouldLoopUntilQueueIsEmpty() {
+        // Arrange
+        when(registrationRequestRepository.lockNextPending(eq(2), any(LocalDateTime.class)))
+                .thenReturn(List.of(new RegistrationRequest(EVENT_ID, "a@example.com"), new RegistrationRequest(EVENT_ID, "b@example.com")))
+                .thenReturn(List.of(new RegistrationRequest(EVENT_ID, "c@example.com")));
+        doNothing().when(eventUseCase).registerParticipant(eq(EVENT_ID), any(SubscriptionRequestDTO.class));
+
+        // Act
+        worker.drain();
+
+        // Assert
+        verify(registrationRequestRepository, times(2)).lockNextPending(eq(2), any(LocalDateTime.class));
+        verify(eventUseCase, times(3)).registerParticipant(eq(EVENT_ID), any(SubscriptionRequestDTO.class));
+    }
+}
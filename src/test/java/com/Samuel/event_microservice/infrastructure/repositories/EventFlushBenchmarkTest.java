@@ -0,0 +1,128 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.Event;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark do flush de uma alteração com muitos eventos no contexto de persistência.
+ * <p>
+ * Sem o enhancement, o flush compara cada atributo de cada evento carregado com a sua cópia;
+ * com ele, consulta apenas os atributos marcados na escrita. Para comparar, rode
+ * {@code mvn test -Pbenchmark -Dtest=EventFlushBenchmarkTest} com e sem
+ * {@code -Dhibernate.enhance.phase=none}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EventFlushBenchmarkTest {
+
+    private static final int MANAGED_EVENTS = 1_000;
+    private static final int WARMUP_ITERATIONS = 100;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JpaEventRepository jpaEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void seed() {
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        new JdbcTemplate(dataSource).execute("""
+                INSERT INTO event (id, max_participants, registered_participants, title, description, image_url,
+                                   start_date_time, end_date_time, is_remote, event_url, status)
+                SELECT gen_random_uuid(), 1000000, 0, 'Evento ' || i, repeat('Descrição do evento ' || i || '. ', 20),
+                       'https://imagens.example.com/' || i || '.png',
+                       now() + (i %% 365) * interval '1 day', now() + (i %% 365) * interval '1 day' + interval '2 hours',
+                       true, 'https://eventos.example.com/' || i, 'ACTIVE'
+                FROM generate_series(1, %d) AS i
+                """.formatted(MANAGED_EVENTS));
+    }
+
+    @Test
+    @DisplayName("Flushing one change among many managed events reports its latency")
+    void changeFlush_reportsLatency() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+            int iteration = i;
+            double millis = transaction.execute(status -> {
+                List<Event> events = jpaEventRepository.findAll(PageRequest.of(0, MANAGED_EVENTS, Sort.by("id"))).getContent();
+                // Cada iteração cancela um evento diferente: há mais eventos que iterações
+                events.get(iteration % events.size()).cancel();
+
+                long start = System.nanoTime();
+                entityManager.flush();
+                return (System.nanoTime() - start) / 1_000_000.0;
+            });
+            if (i >= WARMUP_ITERATIONS) {
+                samples.add(millis);
+            }
+        }
+
+        System.out.printf("[benchmark] flush de uma alteração (%s) p50=%6.3fms p95=%6.3fms p99=%6.3fms (%d amostras, %d eventos gerenciados)%n",
+                ManagedEntity.class.isAssignableFrom(Event.class) ? "com enhancement" : "sem enhancement",
+                percentile(samples, 50), percentile(samples, 95), percentile(samples, 99), samples.size(), MANAGED_EVENTS);
+
+        assertThat(samples).hasSize(MEASURED_ITERATIONS);
+    }
+
+    private static double percentile(List<Double> samples, int percentile) {
+        List<Double> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
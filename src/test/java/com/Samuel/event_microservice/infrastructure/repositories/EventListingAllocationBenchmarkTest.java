@@ -0,0 +1,146 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.infrastructure.dto.event.EventResponseDTO;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de alocação das listagens de eventos: carregar entidades e copiá-las para o DTO de
+ * resposta versus projetar as colunas diretamente em {@code EventSummary}.
+ * <p>
+ * Mede os bytes alocados pela thread em cada página, do início da transação somente leitura até a
+ * lista de DTOs pronta. Fica fora do build padrão; rode com
+ * {@code mvn test -Pbenchmark -Dtest=EventListingAllocationBenchmarkTest}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EventListingAllocationBenchmarkTest {
+
+    private static final int EVENT_COUNT = 10_000;
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int MEASURED_ITERATIONS = 2_000;
+    private static final int PAGE_SIZE = 100;
+    private static final Sort LISTING_SORT = Sort.by("startDateTime").and(Sort.by("id"));
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JpaEventRepository jpaEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeAll
+    void seed() {
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        new JdbcTemplate(dataSource).execute("""
+                INSERT INTO event (id, max_participants, registered_participants, title, description, image_url,
+                                   start_date_time, end_date_time, is_remote, event_url, status)
+                SELECT gen_random_uuid(), 100, i % 100, 'Evento ' || i, 'Descrição do evento ' || i,
+                       'https://imagens.example.com/' || i || '.png',
+                       now() + (i % 365) * interval '1 day', now() + (i % 365) * interval '1 day' + interval '2 hours',
+                       true, 'https://eventos.example.com/' || i, 'ACTIVE'
+                FROM generate_series(1, %d) AS i
+                """.formatted(EVENT_COUNT));
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("Listing through the summary projection should allocate less than loading entities")
+    void summaryProjection_shouldAllocateLessThanEntities() {
+        List<Long> entities = measure(pageable -> jpaEventRepository.findActiveEvents(EventFilter.NONE, pageable)
+                .map(EventResponseDTO::new).getContent());
+        List<Long> summaries = measure(pageable -> jpaEventRepository.findActiveEventSummaries(EventFilter.NONE, pageable)
+                .map(EventResponseDTO::new).getContent());
+
+        report("entidades", entities);
+        report("resumos (projeção)", summaries);
+        System.out.printf("[benchmark] alocação dos resumos / entidades: %.2f (mediana)%n",
+                (double) median(summaries) / median(entities));
+
+        assertThat(median(summaries)).isLessThan(median(entities));
+    }
+
+    /**
+     * Mede os bytes alocados por página, percorrendo as primeiras páginas da listagem.
+     */
+    private List<Long> measure(Function<Pageable, List<EventResponseDTO>> listing) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        List<Long> samples = new ArrayList<>();
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+            Pageable pageable = PageRequest.of(i % 10, PAGE_SIZE, LISTING_SORT);
+
+            long before = threads.getCurrentThreadAllocatedBytes();
+            List<EventResponseDTO> page = readOnlyTransaction.execute(status -> listing.apply(pageable));
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+            assertThat(page).hasSize(PAGE_SIZE);
+            if (i >= WARMUP_ITERATIONS) {
+                samples.add(allocated);
+            }
+        }
+        return samples;
+    }
+
+    private static long median(List<Long> samples) {
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static void report(String scenario, List<Long> samples) {
+        System.out.printf("[benchmark] listagem por %-20s mediana=%8.1fKB por página (%d amostras, %d eventos por página)%n",
+                scenario, median(samples) / 1024.0, samples.size(), PAGE_SIZE);
+    }
+}
@@ -0,0 +1,168 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.data.EventSearchHit;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark da busca textual sobre uma massa de um milhão de eventos.
+ * <p>
+ * Fica fora do build padrão; rode com {@code mvn test -Pbenchmark -Dtest=EventSearchBenchmarkTest}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EventSearchBenchmarkTest {
+
+    private static final int EVENT_COUNT = 1_000_000;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 500;
+    private static final int PAGE_SIZE = 20;
+    private static final double MAX_P95_MILLIS = 50.0;
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JpaEventRepository jpaEventRepository;
+
+    @BeforeAll
+    void seed() {
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        // 40 temas, 2.000 tags e 5.000 palestrantes: cada tag casa ~500 eventos e cada tema ~25.000.
+        // Um em cada dez eventos é cancelado, para que o filtro de status participe do plano.
+        jdbc.execute("""
+                INSERT INTO event (id, max_participants, registered_participants, title, description,
+                                   start_date_time, end_date_time, is_remote, event_url, status)
+                SELECT gen_random_uuid(), 100, 0,
+                       'Encontro de ' || (ARRAY['java','kotlin','spring','postgres','docker','kubernetes','react','angular',
+                                                'python','golang','rust','scala','elixir','haskell','clojure','typescript',
+                                                'terraform','ansible','kafka','rabbitmq','redis','mongodb','cassandra','elastic',
+                                                'graphql','grpc','microsserviços','observabilidade','segurança','devops',
+                                                'arquitetura','testes','acessibilidade','design','produto','dados',
+                                                'aprendizado','nuvem','mobile','jogos'])[1 + i %% 40] || ' tag' || (i %% 2000),
+                       'Edição ' || i || ' com palestrante' || (i %% 5000) || ' e muito networking',
+                       now() + (i %% 365) * interval '1 day', now() + (i %% 365) * interval '1 day' + interval '2 hours',
+                       true, 'https://eventos.example.com/' || i,
+                       CASE WHEN i %% 10 = 0 THEN 'CANCELLED' ELSE 'ACTIVE' END
+                FROM generate_series(1, %d) AS i
+                """.formatted(EVENT_COUNT));
+        jdbc.execute("VACUUM ANALYZE event");
+    }
+
+    @Test
+    @DisplayName("Selective searches over one million events should stay under 50ms at p95")
+    void selectiveSearches_shouldStayUnderFiftyMillisAtP95() {
+        List<Double> tagSearch = measure(i -> "tag" + (i * 7 % 2000));
+        List<Double> combinedSearch = measure(i -> "kotlin tag" + (i * 40 + 1) % 2000);
+        List<Double> speakerSearch = measure(i -> "palestrante" + (i * 13 % 5000));
+
+        report("tag (~450 hits)", tagSearch);
+        report("tema + tag (~450 hits)", combinedSearch);
+        report("palestrante (~180 hits)", speakerSearch);
+
+        assertThat(percentile(tagSearch, 95)).isLessThan(MAX_P95_MILLIS);
+        assertThat(percentile(combinedSearch, 95)).isLessThan(MAX_P95_MILLIS);
+        assertThat(percentile(speakerSearch, 95)).isLessThan(MAX_P95_MILLIS);
+    }
+
+    @Test
+    @DisplayName("Broad searches report their latency (ranking cost grows with the number of hits)")
+    void broadSearches_reportLatency() {
+        List<Double> broadSearch = measure(i -> List.of("java", "kubernetes", "dados", "nuvem").get(i % 4));
+
+        report("tema (~22.500 hits)", broadSearch);
+
+        assertThat(broadSearch).isNotEmpty();
+    }
+
+    /**
+     * Mede o caminho completo de cada página, como faz o serviço: a consulta textual e a
+     * leitura dos resumos dos eventos pela chave primária. Quando há próxima página, ela também é
+     * medida a partir do cursor, como uma amostra separada.
+     */
+    private List<Double> measure(IntFunction<String> queryForIteration) {
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+            String query = queryForIteration.apply(i);
+            boolean measured = i >= WARMUP_ITERATIONS;
+
+            long start = System.nanoTime();
+            List<EventSearchHit> firstPage = fetchPage(jpaEventRepository.searchActiveEvents(query, Limit.of(PAGE_SIZE + 1)));
+            recordIf(measured, samples, start);
+
+            if (firstPage.size() > PAGE_SIZE) {
+                EventSearchHit last = firstPage.get(PAGE_SIZE - 1);
+                start = System.nanoTime();
+                fetchPage(jpaEventRepository.searchActiveEventsAfter(query, last.getRank(), last.getId(), Limit.of(PAGE_SIZE + 1)));
+                recordIf(measured, samples, start);
+            }
+        }
+        return samples;
+    }
+
+    private List<EventSearchHit> fetchPage(List<EventSearchHit> hits) {
+        jpaEventRepository.findSummariesByIds(hits.stream().limit(PAGE_SIZE).map(EventSearchHit::getId).toList());
+        return hits;
+    }
+
+    private static void recordIf(boolean measured, List<Double> samples, long startNanos) {
+        if (measured) {
+            samples.add((System.nanoTime() - startNanos) / 1_000_000.0);
+        }
+    }
+
+    private static double percentile(List<Double> samples, int percentile) {
+        List<Double> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+
+    private static void report(String scenario, List<Double> samples) {
+        System.out.printf("[benchmark] busca por %-26s p50=%6.2fms p95=%6.2fms p99=%6.2fms (%d amostras, %d eventos)%n",
+                scenario, percentile(samples, 50), percentile(samples, 95), percentile(samples, 99),
+                samples.size(), EVENT_COUNT);
+    }
+}
@@ -0,0 +1,208 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.data.EventSummary;
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.models.IdempotencyRecord;
+import com.Samuel.event_microservice.core.models.Subscription;
+import com.Samuel.event_microservice.infrastructure.config.EntityCacheConfig;
+import com.Samuel.event_microservice.infrastructure.config.EntityCacheProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica quais comandos nativos invalidam os eventos guardados no cache de segundo nível.
+ * Cada passo roda em uma transação própria, porque o cache só é preenchido e invalidado no commit.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EntityCacheConfig.class, EntityCacheProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventSecondLevelCacheTest {
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        // Desabilita o ddl-auto para ter controle total
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JpaEventRepository jpaEventRepository;
+
+    @Autowired
+    private JpaSubscriptionRepository jpaSubscriptionRepository;
+
+    @Autowired
+    private JpaRateLimitBucketRepository jpaRateLimitBucketRepository;
+
+    @Autowired
+    private JpaIdempotencyRepository jpaIdempotencyRepository;
+
+    @BeforeEach
+    void setup() {
+        // Executa o Flyway manualmente antes de cada teste
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    /**
+     * Grava um evento com uma inscrição; o commit da inserção já coloca o evento no cache.
+     */
+    private UUID persistCachedEvent() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID eventId = transactionTemplate.execute(status -> {
+            Event event = Event.builder()
+                    .title("Evento em Cache")
+                    .startDateTime(now.plusDays(1))
+                    .endDateTime(now.plusDays(2))
+                    .maxParticipants(100)
+                    .registeredParticipants(1)
+                    .status(EventStatus.ACTIVE)
+                    .build();
+            entityManager.persist(event);
+            entityManager.persist(Subscription.builder().event(event).participantEmail("a@example.com").createdAt(now).build());
+            return event.getId();
+        });
+        assertThat(isCached(eventId)).isTrue();
+        return eventId;
+    }
+
+    private boolean isCached(UUID eventId) {
+        return entityManagerFactory.getCache().contains(Event.class, eventId);
+    }
+
+    @Test
+    @DisplayName("A cached event should survive rate limit and idempotency key writes")
+    void cachedEvent_shouldSurviveUnrelatedNativeWrites() {
+        // Arrange
+        UUID eventId = persistCachedEvent();
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        jpaRateLimitBucketRepository.tryConsume("bucket-" + eventId, TimeUnit.SECONDS.toMicros(1), 0);
+        jpaRateLimitBucketRepository.deleteFull(100);
+        jpaIdempotencyRepository.saveIfAbsent(new IdempotencyRecord("key-" + eventId, "fingerprint", 201,
+                "application/json", null, "{}".getBytes(), Duration.ofHours(1)));
+        jpaIdempotencyRepository.deleteExpired(now, 100);
+
+        // Assert
+        assertThat(isCached(eventId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Cancelling a registration should evict the event from the cache")
+    void deleteParticipant_shouldEvictEvent() {
+        // Arrange
+        UUID eventId = persistCachedEvent();
+
+        // Act
+        int updated = jpaSubscriptionRepository.deleteParticipant(eventId, "a@example.com");
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        assertThat(isCached(eventId)).isFalse();
+        Event reloaded = transactionTemplate.execute(status -> entityManager.find(Event.class, eventId));
+        assertThat(reloaded.getRegisteredParticipants()).isZero();
+    }
+
+    @Test
+    @DisplayName("A group registration should evict only the registered event from the cache")
+    void registerGroup_shouldEvictOnlyThatEvent() {
+        // Arrange
+        UUID eventId = persistCachedEvent();
+        UUID otherEventId = persistCachedEvent();
+
+        // Act
+        List<String> registered = transactionTemplate.execute(status ->
+                jpaSubscriptionRepository.registerGroup(eventId, List.of("b@example.com", "c@example.com"), 0));
+
+        // Assert
+        assertThat(registered).containsExactly("b@example.com", "c@example.com");
+        assertThat(isCached(eventId)).isFalse();
+        assertThat(isCached(otherEventId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("A cached event summary should reflect the counter after a group registration")
+    void registerGroup_shouldInvalidateCachedSummary() {
+        // Arrange
+        UUID eventId = persistCachedEvent();
+        EventSummary before = transactionTemplate.execute(status -> jpaEventRepository.findSummaryById(eventId).orElseThrow());
+        // A segunda leitura vem do cache de consultas
+        transactionTemplate.execute(status -> jpaEventRepository.findSummaryById(eventId).orElseThrow());
+
+        // Act
+        transactionTemplate.execute(status -> jpaSubscriptionRepository.registerGroup(eventId, List.of("b@example.com"), 0));
+
+        // Assert
+        EventSummary after = transactionTemplate.execute(status -> jpaEventRepository.findSummaryById(eventId).orElseThrow());
+        assertThat(after.registeredParticipants()).isEqualTo(before.registeredParticipants() + 1);
+        assertThat(after.version()).isGreaterThan(before.version());
+    }
+
+    @Test
+    @DisplayName("Repairing a drifted counter should evict the event from the cache")
+    void repairRegisteredParticipants_shouldEvictEvent() {
+        // Arrange
+        UUID eventId = persistCachedEvent();
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createNativeQuery("DELETE FROM subscription WHERE event_id = :eventId")
+                .setParameter("eventId", eventId)
+                .executeUpdate());
+        // O DELETE acima não declara as tabelas e limpa o cache; o evento é carregado de novo
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Event.class, eventId));
+        assertThat(isCached(eventId)).isTrue();
+
+        // Act
+        int repaired = jpaEventRepository.repairRegisteredParticipants(eventId, 1);
+
+        // Assert
+        assertThat(repaired).isEqualTo(1);
+        assertThat(isCached(eventId)).isFalse();
+    }
+}
@@ -1,8 +1,18 @@
 package com.Samuel.event_microservice.infrastructure.repositories;
 
+import com.Samuel.event_microservice.core.data.EventFilter;
+import com.Samuel.event_microservice.core.data.EventSearchHit;
+import com.Samuel.event_microservice.core.data.EventStatusTotals;
+import com.Samuel.event_microservice.core.data.EventSuggestion;
+import com.Samuel.event_microservice.core.data.EventSummary;
+import com.Samuel.event_microservice.core.data.EventUpdateData;
+import com.Samuel.event_microservice.core.data.EventVersion;
+import com.Samuel.event_microservice.core.data.ParticipantCounterCheck;
 import com.Samuel.event_microservice.core.models.Event;
 import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.models.Subscription;
 import org.flywaydb.core.Flyway;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,8 +20,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -19,10 +32,14 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import javax.sql.DataSource;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 @DataJpaTest
 @Testcontainers
@@ -59,8 +76,8 @@ class JpaEventRepositoryTest {
     }
 
     @Test
-    @DisplayName("findUpcomingEvents should return only active and future events")
-    void findUpcomingEvents_shouldReturnOnlyActiveAndFutureEvents() {
+    @DisplayName("findActiveEvents starting from now should return only active and future events")
+    void findActiveEvents_startingFromNow_shouldReturnOnlyActiveAndFutureEvents() {
         // Arrange
         LocalDateTime now = LocalDateTime.now();
         
@@ -94,7 +111,7 @@ class JpaEventRepositoryTest {
         entityManager.flush();
 
         // Act
-        Page<Event> resultPage = jpaEventRepository.findUpcomingEvents(now, PageRequest.of(0, 10));
+        Page<Event> resultPage = jpaEventRepository.findActiveEvents(EventFilter.NONE.startingNoEarlierThan(now), PageRequest.of(0, 10));
 
         // Assert
         // 1. Verifica os metadados da página
@@ -114,8 +131,8 @@ class JpaEventRepositoryTest {
     }
 
     @Test
-    @DisplayName("findAll should return only active events")
-    void findAll_shouldReturnOnlyActiveEvents() {
+    @DisplayName("findActiveEvents without filters should return only active events")
+    void findActiveEvents_withoutFilters_shouldReturnOnlyActiveEvents() {
         // Arrange
         LocalDateTime now = LocalDateTime.now();
 
@@ -140,7 +157,7 @@ class JpaEventRepositoryTest {
         entityManager.flush();
 
         // Act
-        Page<Event> resultPage = jpaEventRepository.findAll(PageRequest.of(0, 10));
+        Page<Event> resultPage = jpaEventRepository.findActiveEvents(EventFilter.NONE, PageRequest.of(0, 10));
 
         // Assert
         assertThat(resultPage.getTotalElements()).isEqualTo(1);
@@ -157,6 +174,356 @@ class JpaEventRepositoryTest {
                 });
     }
 
+    @Test
+    @DisplayName("findActiveEvents should combine the remote, location, date and available spots filters")
+    void findActiveEvents_shouldCombineFilters() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(10).truncatedTo(ChronoUnit.MICROS);
+        Event expected = persistListedEvent("São Paulo - Centro", false, start, 0);
+        Event laterMatch = persistListedEvent("SãO PAULO - Pinheiros", false, start.plusDays(1), 5);
+        persistListedEvent("São Paulo - Centro", true, start, 0); // remoto
+        persistListedEvent("Rio de Janeiro", false, start, 0); // outra localização
+        persistListedEvent("São Paulo - Centro", false, start.plusDays(60), 0); // fora do intervalo
+        persistListedEvent("São Paulo - Centro", false, start, 10); // lotado
+        entityManager.flush();
+
+        EventFilter filter = new EventFilter(false, "são paulo", start, start.plusDays(30), true);
+
+        // Act
+        Page<Event> resultPage = jpaEventRepository.findActiveEvents(filter, PageRequest.of(0, 10, Sort.by("startDateTime")));
+
+        // Assert
+        assertThat(resultPage.getContent())
+                .extracting(Event::getId)
+                .containsExactly(expected.getId(), laterMatch.getId());
+    }
+
+    @Test
+    @DisplayName("findActiveEvents should treat LIKE wildcards in the location filter literally")
+    void findActiveEvents_shouldEscapeLikeWildcardsInLocation() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(10);
+        Event literalMatch = persistListedEvent("100% Online Hall", false, start, 0);
+        persistListedEvent("100 Online Hall", false, start, 0);
+        entityManager.flush();
+
+        EventFilter filter = new EventFilter(null, "100%", null, null, false);
+
+        // Act
+        Page<Event> resultPage = jpaEventRepository.findActiveEvents(filter, PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(resultPage.getContent())
+                .extracting(Event::getId)
+                .containsExactly(literalMatch.getId());
+    }
+
+    private Event persistListedEvent(String location, boolean isRemote, LocalDateTime start, int registeredParticipants) {
+        return entityManager.persist(Event.builder()
+                .title("Evento em " + location)
+                .description("Descrição em " + location)
+                .location(location)
+                .isRemote(isRemote)
+                .maxParticipants(10)
+                .registeredParticipants(registeredParticipants)
+                .startDateTime(start)
+                .endDateTime(start.plusHours(2))
+                .status(EventStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("findSummaryById should return the version and last update, bumped on every update")
+    void findSummaryById_shouldReturnVersionBumpedOnUpdate() {
+        // Arrange
+        Event event = persistListedEvent("São Paulo - Centro", false, LocalDateTime.now().plusDays(10), 0);
+        entityManager.flush();
+        long initialVersion = jpaEventRepository.findSummaryById(event.getId()).orElseThrow().version();
+
+        // Act
+        event.updateDetails(new EventUpdateData(null, null, null, null, 20, null, null, null, null), 0);
+        entityManager.flush();
+
+        // Assert
+        assertThat(jpaEventRepository.findSummaryById(event.getId()))
+                .hasValueSatisfying(summary -> {
+                    assertThat(summary.id()).isEqualTo(event.getId());
+                    assertThat(summary.version()).isEqualTo(initialVersion + 1);
+                    assertThat(summary.updatedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    @DisplayName("findAvailableSeatsById should read the seats from the row, not from the loaded entity")
+    void findAvailableSeatsById_shouldReadCurrentRow() {
+        // Arrange
+        Event event = persistListedEvent("Curitiba", false, LocalDateTime.now().plusDays(10), 3);
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE event SET registered_participants = 8 WHERE id = :id")
+                .setParameter("id", event.getId())
+                .executeUpdate();
+
+        // Act & Assert
+        assertThat(event.getRegisteredParticipants()).isEqualTo(3);
+        assertThat(jpaEventRepository.findAvailableSeatsById(event.getId())).contains(2);
+        assertThat(jpaEventRepository.findAvailableSeatsById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Loading an event should fetch the description only when it is accessed")
+    void loadingEvent_shouldFetchDescriptionLazily() {
+        // Arrange
+        Event persisted = persistListedEvent("Recife", false, LocalDateTime.now().plusDays(10), 0);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        Event event = entityManager.find(Event.class, persisted.getId());
+
+        // Assert
+        assertThat(Hibernate.isPropertyInitialized(event, "description")).isFalse();
+        assertThat(event.getDescription()).isEqualTo("Descrição em Recife");
+        assertThat(Hibernate.isPropertyInitialized(event, "description")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Flushing an update should write only the changed columns")
+    void updateDetails_shouldUpdateOnlyChangedColumns() {
+        // Arrange
+        Event persisted = persistListedEvent("Recife", false, LocalDateTime.now().plusDays(10), 0);
+        entityManager.flush();
+        entityManager.clear();
+        Event event = entityManager.find(Event.class, persisted.getId());
+        // Altera o título por fora do contexto de persistência, sem mudar a versão
+        entityManager.getEntityManager()
+                .createQuery("UPDATE event e SET e.title = 'Título alterado' WHERE e.id = :id")
+                .setParameter("id", event.getId())
+                .executeUpdate();
+
+        // Act
+        event.updateDetails(new EventUpdateData(null, null, null, null, 20, null, null, null, null), 0);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        Event reloaded = entityManager.find(Event.class, event.getId());
+        assertThat(reloaded.getMaxParticipants()).isEqualTo(20);
+        assertThat(reloaded.getTitle()).isEqualTo("Título alterado");
+        assertThat(reloaded.getVersion()).isEqualTo(event.getVersion());
+        assertThat(reloaded.getUpdatedAt()).isAfterOrEqualTo(persisted.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("findSummaryById and findSummariesByIds should read the summaries, including the description")
+    void findSummaries_shouldReadSummariesById() {
+        // Arrange
+        Event first = persistListedEvent("Recife", false, LocalDateTime.now().plusDays(10), 2);
+        Event second = persistListedEvent("Natal", false, LocalDateTime.now().plusDays(11), 0);
+        persistListedEvent("Olinda", false, LocalDateTime.now().plusDays(12), 0);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        EventSummary summary = jpaEventRepository.findSummaryById(first.getId()).orElseThrow();
+        List<EventSummary> summaries = jpaEventRepository.findSummariesByIds(List.of(first.getId(), second.getId()));
+
+        // Assert
+        assertThat(summary.description()).isEqualTo("Descrição em Recife");
+        assertThat(summary.registeredParticipants()).isEqualTo(2);
+        assertThat(summary.status()).isEqualTo(EventStatus.ACTIVE);
+        assertThat(summaries).extracting(EventSummary::id).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(jpaEventRepository.findSummaryById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findIdsUpdatedSince should return only the events updated from the given instant")
+    void findIdsUpdatedSince_shouldReturnOnlyRecentlyUpdatedEvents() {
+        // Arrange
+        Instant since = Instant.now().minus(1, ChronoUnit.MINUTES);
+        Event recent = persistListedEvent("Recife", false, LocalDateTime.now().plusDays(10), 0);
+        Event old = persistListedEvent("Natal", false, LocalDateTime.now().plusDays(10), 0);
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE event e SET e.updatedAt = :updatedAt WHERE e.id = :id")
+                .setParameter("updatedAt", since.minus(1, ChronoUnit.HOURS))
+                .setParameter("id", old.getId())
+                .executeUpdate();
+
+        // Act
+        List<UUID> updated = jpaEventRepository.findIdsUpdatedSince(since);
+
+        // Assert
+        assertThat(updated).containsExactly(recent.getId());
+    }
+
+    @Test
+    @DisplayName("findActiveEventVersions should return the same page, in the same order, as findActiveEvents")
+    void findActiveEventVersions_shouldMatchFindActiveEvents() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(10);
+        for (int i = 0; i < 5; i++) {
+            persistListedEvent("São Paulo - Centro", i % 2 == 0, start.plusHours(i), 0);
+        }
+        persistListedEvent("Rio de Janeiro", false, start, 0);
+        entityManager.flush();
+
+        EventFilter filter = new EventFilter(null, "são paulo", null, null, false);
+        PageRequest pageable = PageRequest.of(0, 3, Sort.by("startDateTime").and(Sort.by("id")));
+
+        // Act
+        Page<Event> events = jpaEventRepository.findActiveEvents(filter, pageable);
+        Page<EventVersion> versions = jpaEventRepository.findActiveEventVersions(filter, pageable);
+
+        // Assert
+        assertThat(versions.getTotalElements()).isEqualTo(events.getTotalElements()).isEqualTo(5);
+        assertThat(versions.getContent())
+                .extracting(EventVersion::id)
+                .containsExactlyElementsOf(events.getContent().stream().map(Event::getId).toList());
+    }
+
+    @Test
+    @DisplayName("findActiveEventSummaries should return the same page as findActiveEvents, with every listed field")
+    void findActiveEventSummaries_shouldMatchFindActiveEvents() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(10).truncatedTo(ChronoUnit.MICROS);
+        for (int i = 0; i < 5; i++) {
+            persistListedEvent("São Paulo - Centro", false, start.plusHours(i), i);
+        }
+        persistListedEvent("Rio de Janeiro", false, start, 0);
+        entityManager.flush();
+        entityManager.clear();
+
+        EventFilter filter = new EventFilter(null, "são paulo", null, null, false);
+        PageRequest pageable = PageRequest.of(1, 3, Sort.by("startDateTime").and(Sort.by("id")));
+
+        // Act
+        Page<Event> events = jpaEventRepository.findActiveEvents(filter, pageable);
+        Page<EventSummary> summaries = jpaEventRepository.findActiveEventSummaries(filter, pageable);
+
+        // Assert
+        assertThat(summaries.getTotalElements()).isEqualTo(events.getTotalElements()).isEqualTo(5);
+        assertThat(summaries.getContent()).containsExactlyElementsOf(events.getContent().stream()
+                .map(event -> new EventSummary(event.getId(), event.getTitle(), event.getDescription(),
+                        event.getStartDateTime(), event.getEndDateTime(), event.getMaxParticipants(),
+                        event.getRegisteredParticipants(), event.getImageUrl(), event.getEventUrl(),
+                        event.getLocation(), event.isRemote(), event.getStatus(), event.getVersion(),
+                        event.getUpdatedAt()))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("findActiveEventSummariesSlice should return the same page as findActiveEventSummaries and detect the next page without counting")
+    void findActiveEventSummariesSlice_shouldMatchFindActiveEventSummaries_andDetectNextPage() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(10);
+        for (int i = 0; i < 5; i++) {
+            persistListedEvent("São Paulo - Centro", false, start.plusHours(i), 0);
+        }
+        persistListedEvent("Rio de Janeiro", false, start, 0);
+        entityManager.flush();
+
+        EventFilter filter = new EventFilter(null, "são paulo", null, null, false);
+        Sort sort = Sort.by("startDateTime").and(Sort.by("id"));
+
+        // Act
+        Page<EventSummary> firstPage = jpaEventRepository.findActiveEventSummaries(filter, PageRequest.of(0, 3, sort));
+        Slice<EventSummary> firstSlice = jpaEventRepository.findActiveEventSummariesSlice(filter, PageRequest.of(0, 3, sort));
+        Slice<EventVersion> lastVersions = jpaEventRepository.findActiveEventVersionsSlice(filter, PageRequest.of(1, 3, sort));
+
+        // Assert
+        assertThat(firstSlice.getContent()).containsExactlyElementsOf(firstPage.getContent());
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(lastVersions.getContent()).hasSize(2);
+        assertThat(lastVersions.hasNext()).isFalse();
+        assertThat(jpaEventRepository.countActiveEvents(filter)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("countEventsByStatus should count the events and sum the registered participants of each status")
+    void countEventsByStatus_shouldGroupByStatus() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(10);
+        persistListedEvent("Recife", false, start, 3);
+        persistListedEvent("Recife", false, start, 4);
+        persistSearchableEvent("Cancelado", "Evento cancelado", EventStatus.CANCELLED);
+        entityManager.flush();
+
+        // Act
+        List<EventStatusTotals> totals = jpaEventRepository.countEventsByStatus();
+
+        // Assert
+        assertThat(totals).containsExactlyInAnyOrder(
+                new EventStatusTotals(EventStatus.ACTIVE, 2, 7),
+                new EventStatusTotals(EventStatus.CANCELLED, 1, 0));
+    }
+
+    @Test
+    @DisplayName("findParticipantCounters should compare each counter with the subscriptions")
+    void findParticipantCounters_shouldCompareCountersWithSubscriptions() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(10);
+        Event consistent = persistListedEvent("Recife", false, start, 1);
+        Event drifted = persistListedEvent("Recife", false, start, 3);
+        entityManager.persist(Subscription.builder().event(consistent).participantEmail("a@example.com").createdAt(start).build());
+        entityManager.persist(Subscription.builder().event(drifted).participantEmail("b@example.com").createdAt(start).build());
+        entityManager.flush();
+
+        // Act
+        List<ParticipantCounterCheck> checks = jpaEventRepository.findParticipantCounters(new UUID(0, 0), 10);
+
+        // Assert
+        assertThat(checks).extracting(ParticipantCounterCheck::getId)
+                .containsExactlyInAnyOrder(consistent.getId(), drifted.getId());
+        assertThat(checks).filteredOn(ParticipantCounterCheck::isDrifted)
+                .singleElement()
+                .satisfies(check -> {
+                    assertThat(check.getId()).isEqualTo(drifted.getId());
+                    assertThat(check.getRecorded()).isEqualTo(3);
+                    assertThat(check.getActual()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("repairRegisteredParticipants should recount the subscriptions only if the counter still has the compared value")
+    void repairRegisteredParticipants_shouldRecount_onlyIfCounterIsUnchanged() {
+        // Arrange
+        Event event = persistListedEvent("Recife", false, LocalDateTime.now().plusDays(10), 3);
+        entityManager.persist(Subscription.builder().event(event).participantEmail("a@example.com").createdAt(LocalDateTime.now()).build());
+        entityManager.flush();
+
+        // Act
+        int stale = jpaEventRepository.repairRegisteredParticipants(event.getId(), 2);
+        int repaired = jpaEventRepository.repairRegisteredParticipants(event.getId(), 3);
+        entityManager.clear();
+
+        // Assert
+        assertThat(stale).isZero();
+        assertThat(repaired).isEqualTo(1);
+        Event reloaded = entityManager.find(Event.class, event.getId());
+        assertThat(reloaded.getRegisteredParticipants()).isEqualTo(1);
+        assertThat(reloaded.getVersion()).isEqualTo(event.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("updatedAt set by a native command should be the current instant, whatever the session time zone")
+    void nativeUpdate_shouldStoreUpdatedAtAsInstant_regardlessOfSessionTimeZone() {
+        // Arrange
+        Event event = persistListedEvent("Belém", false, LocalDateTime.now().plusDays(10), 1);
+        entityManager.flush();
+        // Desfeito junto com a transação do teste
+        entityManager.getEntityManager().createNativeQuery("SET TIME ZONE 'America/Sao_Paulo'").executeUpdate();
+
+        // Act: o comando grava updated_at = now(), no relógio do banco
+        jpaEventRepository.repairRegisteredParticipants(event.getId(), 1);
+        entityManager.clear();
+
+        // Assert
+        Event reloaded = entityManager.find(Event.class, event.getId());
+        assertThat(reloaded.getRegisteredParticipants()).isZero();
+        assertThat(reloaded.getUpdatedAt()).isCloseTo(Instant.now(), within(1, ChronoUnit.MINUTES));
+    }
+
     @Test
     @DisplayName("findActiveEventsFinishedBefore should return only active events that have ended")
     void findActiveEventsFinishedBefore_shouldReturnOnlyActiveAndFinishedEvents() {
@@ -206,4 +573,91 @@ class JpaEventRepositoryTest {
                     assertThat(event.getStatus()).isEqualTo(activeAndFinished.getStatus());
                 });
     }
+
+    @Test
+    @DisplayName("findUpcomingEventSuggestions should return only active and future events")
+    void findUpcomingEventSuggestions_shouldReturnOnlyActiveAndFutureEvents() {
+        // Arrange
+        // Truncado para a precisão do banco, pois a projeção lê as datas do banco e não do contexto de persistência
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Event upcoming = entityManager.persist(Event.builder()
+                .title("Evento Futuro")
+                .startDateTime(now.plusDays(1))
+                .endDateTime(now.plusDays(2))
+                .status(EventStatus.ACTIVE)
+                .build());
+        entityManager.persist(Event.builder()
+                .title("Evento Passado")
+                .startDateTime(now.minusDays(2))
+                .endDateTime(now.minusDays(1))
+                .status(EventStatus.ACTIVE)
+                .build());
+        entityManager.persist(Event.builder()
+                .title("Evento Cancelado")
+                .startDateTime(now.plusDays(3))
+                .endDateTime(now.plusDays(4))
+                .status(EventStatus.CANCELLED)
+                .build());
+        entityManager.flush();
+
+        // Act
+        List<EventSuggestion> suggestions = jpaEventRepository.findUpcomingEventSuggestions(now);
+
+        // Assert
+        assertThat(suggestions)
+                .containsExactly(new EventSuggestion(upcoming.getId(), upcoming.getTitle(), upcoming.getStartDateTime()));
+    }
+
+    private Event persistSearchableEvent(String title, String description, EventStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        return entityManager.persist(Event.builder()
+                .title(title)
+                .description(description)
+                .startDateTime(now.plusDays(1))
+                .endDateTime(now.plusDays(2))
+                .status(status)
+                .build());
+    }
+
+    @Test
+    @DisplayName("searchActiveEvents should rank title matches above description matches and ignore inactive events")
+    void searchActiveEvents_shouldRankTitleMatchesFirstAndIgnoreInactiveEvents() {
+        // Arrange
+        Event titleMatch = persistSearchableEvent("Workshop de Kubernetes", "Prática com clusters", EventStatus.ACTIVE);
+        Event descriptionMatch = persistSearchableEvent("Encontro de DevOps", "Falaremos de Kubernetes em produção", EventStatus.ACTIVE);
+        persistSearchableEvent("Kubernetes Avançado", "Evento cancelado", EventStatus.CANCELLED);
+        persistSearchableEvent("Workshop de Java", "Sem relação com a busca", EventStatus.ACTIVE);
+        entityManager.flush();
+
+        // Act
+        List<EventSearchHit> hits = jpaEventRepository.searchActiveEvents("kubernetes", Limit.of(10));
+
+        // Assert
+        assertThat(hits)
+                .extracting(EventSearchHit::getId)
+                .containsExactly(titleMatch.getId(), descriptionMatch.getId());
+        assertThat(hits.get(0).getRank()).isGreaterThan(hits.get(1).getRank());
+    }
+
+    @Test
+    @DisplayName("searchActiveEventsAfter should continue after the cursor without repeating or skipping hits")
+    void searchActiveEventsAfter_shouldContinueAfterCursor() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            persistSearchableEvent("Meetup de Kotlin " + i, "Edição mensal", EventStatus.ACTIVE);
+        }
+        entityManager.flush();
+        List<EventSearchHit> allHits = jpaEventRepository.searchActiveEvents("kotlin", Limit.of(10));
+
+        // Act
+        List<EventSearchHit> firstPage = jpaEventRepository.searchActiveEvents("kotlin", Limit.of(2));
+        EventSearchHit last = firstPage.get(firstPage.size() - 1);
+        List<EventSearchHit> secondPage = jpaEventRepository.searchActiveEventsAfter("kotlin", last.getRank(), last.getId(), Limit.of(10));
+
+        // Assert
+        assertThat(allHits).hasSize(5);
+        assertThat(secondPage)
+                .extracting(EventSearchHit::getId)
+                .containsExactlyElementsOf(allHits.subList(2, 5).stream().map(EventSearchHit::getId).toList());
+    }
 }
@@ -0,0 +1,87 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.EventStats;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.ports.EventStatsRepositoryPort;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JpaEventStatsRepositoryTest {
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        // Desabilita o ddl-auto para ter controle total
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventStatsRepositoryPort eventStatsRepository; // Implementado por JpaEventStatsRepository
+
+    @BeforeEach
+    void setup() {
+        // Executa o Flyway manualmente antes de cada teste
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @Test
+    @DisplayName("Should have one counter row per status, locked in status order")
+    void findAllForUpdate_shouldReturnOneRowPerStatus() {
+        // Act & Assert
+        assertThat(eventStatsRepository.findAllForUpdate())
+                .extracting(EventStats::getStatus)
+                .containsExactly(EventStatus.ACTIVE, EventStatus.CANCELLED, EventStatus.FINISHED);
+    }
+
+    @Test
+    @DisplayName("Should move an event and its participants between statuses")
+    void recordTransition_shouldMoveEventAndParticipants() {
+        // Arrange
+        eventStatsRepository.overwrite(EventStatus.ACTIVE, 2, 10);
+        eventStatsRepository.overwrite(EventStatus.CANCELLED, 0, 0);
+
+        // Act
+        eventStatsRepository.recordTransition(EventStatus.ACTIVE, EventStatus.CANCELLED, 4);
+        entityManager.clear();
+
+        // Assert
+        EventStats active = entityManager.find(EventStats.class, EventStatus.ACTIVE);
+        EventStats cancelled = entityManager.find(EventStats.class, EventStatus.CANCELLED);
+        assertThat(active.getEventCount()).isEqualTo(1);
+        assertThat(active.getRegisteredParticipants()).isEqualTo(6);
+        assertThat(cancelled.getEventCount()).isEqualTo(1);
+        assertThat(cancelled.getRegisteredParticipants()).isEqualTo(4);
+        assertThat(cancelled.getUpdatedAt()).isNotNull();
+    }
+}
@@ -0,0 +1,132 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.IdempotencyRecord;
+import com.Samuel.event_microservice.core.ports.IdempotencyRepositoryPort;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JpaIdempotencyRepositoryTest {
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        // Desabilita o ddl-auto para ter controle total
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private IdempotencyRepositoryPort idempotencyRepository; // Implementado por JpaIdempotencyRepository
+
+    @BeforeEach
+    void setup() {
+        // Executa o Flyway manualmente antes de cada teste
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    private static IdempotencyRecord record(String key, String body, LocalDateTime expiresAt) {
+        return IdempotencyRecord.builder()
+                .idempotencyKey(key)
+                .requestFingerprint("fingerprint-" + body)
+                .statusCode(201)
+                .contentType("application/json")
+                .location("http://localhost/events/1")
+                .responseBody(body.getBytes(StandardCharsets.UTF_8))
+                .createdAt(LocalDateTime.now())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("saveIfAbsent should store the response and keep the first one for the same key")
+    void saveIfAbsent_shouldKeepFirstResponse() {
+        // Arrange
+        IdempotencyRecord first = new IdempotencyRecord("key-1", "fingerprint", 201, "application/json",
+                "http://localhost/events/1", "{\"id\":1}".getBytes(StandardCharsets.UTF_8), Duration.ofHours(1));
+        IdempotencyRecord second = new IdempotencyRecord("key-1", "other", 409, "application/json",
+                null, "{}".getBytes(StandardCharsets.UTF_8), Duration.ofHours(1));
+
+        // Act
+        int firstSaved = idempotencyRepository.saveIfAbsent(first);
+        int secondSaved = idempotencyRepository.saveIfAbsent(second);
+        entityManager.clear();
+
+        // Assert
+        assertThat(firstSaved).isEqualTo(1);
+        assertThat(secondSaved).isZero();
+        IdempotencyRecord stored = idempotencyRepository.findById("key-1").orElseThrow();
+        assertThat(stored.getStatusCode()).isEqualTo(201);
+        assertThat(stored.getLocation()).isEqualTo("http://localhost/events/1");
+        assertThat(new String(stored.getResponseBody(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("saveIfAbsent should replace an expired response that was not purged yet")
+    void saveIfAbsent_shouldReplaceExpiredResponse() {
+        // Arrange
+        idempotencyRepository.saveIfAbsent(record("key-2", "old", LocalDateTime.now().minusMinutes(1)));
+
+        // Act
+        int saved = idempotencyRepository.saveIfAbsent(record("key-2", "new", LocalDateTime.now().plusHours(1)));
+        entityManager.clear();
+
+        // Assert
+        assertThat(saved).isEqualTo(1);
+        assertThat(idempotencyRepository.findById("key-2").orElseThrow().getRequestFingerprint()).isEqualTo("fingerprint-new");
+    }
+
+    @Test
+    @DisplayName("deleteExpired should remove at most one batch of expired keys")
+    void deleteExpired_shouldRemoveOneBatchOfExpiredKeys() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            idempotencyRepository.saveIfAbsent(record("expired-" + i, "body", now.minusMinutes(1)));
+        }
+        idempotencyRepository.saveIfAbsent(record("valid", "body", now.plusHours(1)));
+
+        // Act
+        int firstBatch = idempotencyRepository.deleteExpired(now, 2);
+        int secondBatch = idempotencyRepository.deleteExpired(now, 2);
+        entityManager.clear();
+
+        // Assert
+        assertThat(firstBatch).isEqualTo(2);
+        assertThat(secondBatch).isEqualTo(1);
+        assertThat(idempotencyRepository.findById("valid")).isPresent();
+        assertThat(idempotencyRepository.findById("expired-0")).isEmpty();
+    }
+}
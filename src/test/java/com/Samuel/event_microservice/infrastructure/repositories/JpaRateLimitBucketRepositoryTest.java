@@ -0,0 +1,100 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.RateLimitBucket;
+import com.Samuel.event_microservice.core.ports.RateLimitBucketRepositoryPort;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JpaRateLimitBucketRepositoryTest {
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        // Desabilita o ddl-auto para ter controle total
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    // Uma requisição por hora, com rajada de três: o balde não é reabastecido durante o teste
+    private static final long INTERVAL_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final long TOLERANCE_MICROS = 2 * INTERVAL_MICROS;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RateLimitBucketRepositoryPort bucketRepository; // Implementado por JpaRateLimitBucketRepository
+
+    @BeforeEach
+    void setup() {
+        // Executa o Flyway manualmente antes de cada teste
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @Test
+    @DisplayName("Should consume tokens up to the burst and then reject without changing the bucket")
+    void tryConsume_shouldAllowBurst_thenReject() {
+        // Act
+        int first = bucketRepository.tryConsume("bucket-a", INTERVAL_MICROS, TOLERANCE_MICROS);
+        int second = bucketRepository.tryConsume("bucket-a", INTERVAL_MICROS, TOLERANCE_MICROS);
+        int third = bucketRepository.tryConsume("bucket-a", INTERVAL_MICROS, TOLERANCE_MICROS);
+        long tatWhenEmpty = entityManager.find(RateLimitBucket.class, "bucket-a").getTat();
+        entityManager.clear();
+        int fourth = bucketRepository.tryConsume("bucket-a", INTERVAL_MICROS, TOLERANCE_MICROS);
+        int otherBucket = bucketRepository.tryConsume("bucket-b", INTERVAL_MICROS, TOLERANCE_MICROS);
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isEqualTo(1);
+        assertThat(fourth).isZero();
+        assertThat(otherBucket).isEqualTo(1);
+        assertThat(entityManager.find(RateLimitBucket.class, "bucket-a").getTat()).isEqualTo(tatWhenEmpty);
+    }
+
+    @Test
+    @DisplayName("Should delete only the buckets that are already full")
+    void deleteFull_shouldDeleteOnlyFullBuckets() {
+        // Arrange
+        entityManager.persist(RateLimitBucket.builder().bucketKey("full").tat(0).build());
+        entityManager.flush();
+        bucketRepository.tryConsume("in-use", INTERVAL_MICROS, TOLERANCE_MICROS);
+        entityManager.clear();
+
+        // Act
+        int removed = bucketRepository.deleteFull(100);
+
+        // Assert
+        assertThat(removed).isEqualTo(1);
+        assertThat(entityManager.find(RateLimitBucket.class, "full")).isNull();
+        assertThat(entityManager.find(RateLimitBucket.class, "in-use")).isNotNull();
+    }
+}
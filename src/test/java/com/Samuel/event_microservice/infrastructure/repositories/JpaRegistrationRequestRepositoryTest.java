@@ -0,0 +1,167 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.RegistrationRequest;
+import com.Samuel.event_microservice.core.models.RegistrationRequestStatus;
+import com.Samuel.event_microservice.core.ports.RegistrationRequestRepositoryPort;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JpaRegistrationRequestRepositoryTest {
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        // Desabilita o ddl-auto para ter controle total
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RegistrationRequestRepositoryPort registrationRequestRepository; // Implementado por JpaRegistrationRequestRepository
+
+    @BeforeEach
+    void setup() {
+        // Executa o Flyway manualmente antes de cada teste
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    private RegistrationRequest enqueue(UUID eventId, String email) {
+        RegistrationRequest registrationRequest = registrationRequestRepository.save(new RegistrationRequest(eventId, email));
+        entityManager.flush();
+        return registrationRequest;
+    }
+
+    private void markProcessedAt(RegistrationRequest registrationRequest, LocalDateTime processedAt) {
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE registration_request SET processed_at = :processedAt WHERE ticket = :ticket")
+                .setParameter("processedAt", processedAt)
+                .setParameter("ticket", registrationRequest.getTicket())
+                .executeUpdate();
+    }
+
+    @Test
+    @DisplayName("Should lock only the pending requests, in arrival order, up to the limit")
+    void lockNextPending_shouldReturnPendingRequestsInArrivalOrder() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        RegistrationRequest processed = enqueue(eventId, "a@example.com");
+        RegistrationRequest first = enqueue(eventId, "b@example.com");
+        RegistrationRequest second = enqueue(eventId, "c@example.com");
+        enqueue(eventId, "d@example.com");
+        processed.complete(RegistrationRequestStatus.REGISTERED, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<RegistrationRequest> batch = registrationRequestRepository.lockNextPending(2, LocalDateTime.now());
+
+        // Assert
+        assertThat(batch).extracting(RegistrationRequest::getTicket)
+                .containsExactly(first.getTicket(), second.getTicket());
+    }
+
+    @Test
+    @DisplayName("Should skip the requests claimed by another round until the claim expires")
+    void lockNextPending_shouldSkipClaimedRequestsUntilClaimExpires() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        RegistrationRequest claimed = enqueue(eventId, "a@example.com");
+        RegistrationRequest next = enqueue(eventId, "b@example.com");
+        claimed.claim(now.plusMinutes(5));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<RegistrationRequest> whileClaimed = registrationRequestRepository.lockNextPending(2, now);
+        List<RegistrationRequest> afterExpiry = registrationRequestRepository.lockNextPending(2, now.plusMinutes(5));
+
+        // Assert
+        assertThat(whileClaimed).extracting(RegistrationRequest::getTicket).containsExactly(next.getTicket());
+        assertThat(afterExpiry).extracting(RegistrationRequest::getTicket)
+                .containsExactly(claimed.getTicket(), next.getTicket());
+    }
+
+    @Test
+    @DisplayName("Should find a request by its ticket and count the requests by status")
+    void findByTicket_andCountByStatus_shouldReflectStoredRequests() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        RegistrationRequest pending = enqueue(eventId, "a@example.com");
+        RegistrationRequest rejected = enqueue(eventId, "b@example.com");
+        rejected.complete(RegistrationRequestStatus.REJECTED, "Evento não encontrado.");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act & Assert
+        assertThat(registrationRequestRepository.findByTicket(pending.getTicket()))
+                .hasValueSatisfying(found -> assertThat(found.getParticipantEmail()).isEqualTo("a@example.com"));
+        assertThat(registrationRequestRepository.findByTicket(UUID.randomUUID())).isEmpty();
+        assertThat(registrationRequestRepository.countByStatus(RegistrationRequestStatus.PENDING)).isEqualTo(1);
+        assertThat(registrationRequestRepository.countByStatus(RegistrationRequestStatus.REJECTED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should delete only the requests processed before the cutoff, up to the batch size")
+    void deleteProcessedBefore_shouldDeleteOnlyOldProcessedRequests() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+        RegistrationRequest pending = enqueue(eventId, "a@example.com");
+        RegistrationRequest recent = enqueue(eventId, "b@example.com");
+        RegistrationRequest oldRegistered = enqueue(eventId, "c@example.com");
+        RegistrationRequest oldRejected = enqueue(eventId, "d@example.com");
+        recent.complete(RegistrationRequestStatus.REGISTERED, null);
+        oldRegistered.complete(RegistrationRequestStatus.REGISTERED, null);
+        oldRejected.complete(RegistrationRequestStatus.REJECTED, "Evento não encontrado.");
+        entityManager.flush();
+        markProcessedAt(oldRegistered, cutoff.minusDays(1));
+        markProcessedAt(oldRejected, cutoff.minusDays(2));
+        entityManager.clear();
+
+        // Act
+        int firstBatch = registrationRequestRepository.deleteProcessedBefore(cutoff, 1);
+        int secondBatch = registrationRequestRepository.deleteProcessedBefore(cutoff, 1);
+        int thirdBatch = registrationRequestRepository.deleteProcessedBefore(cutoff, 1);
+
+        // Assert
+        assertThat(List.of(firstBatch, secondBatch, thirdBatch)).containsExactly(1, 1, 0);
+        assertThat(registrationRequestRepository.findByTicket(oldRegistered.getTicket())).isEmpty();
+        assertThat(registrationRequestRepository.findByTicket(oldRejected.getTicket())).isEmpty();
+        assertThat(registrationRequestRepository.findByTicket(recent.getTicket())).isPresent();
+        assertThat(registrationRequestRepository.findByTicket(pending.getTicket())).isPresent();
+    }
+}
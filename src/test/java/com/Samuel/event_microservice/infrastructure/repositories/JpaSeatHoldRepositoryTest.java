@@ -0,0 +1,117 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.models.SeatHold;
+import com.Samuel.event_microservice.core.ports.SeatHoldRepositoryPort;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JpaSeatHoldRepositoryTest {
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        // Desabilita o ddl-auto para ter controle total
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SeatHoldRepositoryPort seatHoldRepository; // Implementado por JpaSeatHoldRepository
+
+    @BeforeEach
+    void setup() {
+        // Executa o Flyway manualmente antes de cada teste
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    private Event persistEvent() {
+        LocalDateTime now = LocalDateTime.now();
+        return entityManager.persist(Event.builder()
+                .title("Evento com Reservas")
+                .startDateTime(now.plusDays(1))
+                .endDateTime(now.plusDays(2))
+                .maxParticipants(100)
+                .status(EventStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("save should insert a new hold with its pre-assigned id and findAll should load it back")
+    void save_shouldInsertHoldWithAssignedId() {
+        // Arrange
+        Event event = persistEvent();
+        SeatHold hold = new SeatHold(event.getId(), "test@example.com", Duration.ofMinutes(5));
+
+        // Act
+        SeatHold saved = seatHoldRepository.save(hold);
+        entityManager.flush();
+        entityManager.clear();
+        List<SeatHold> loaded = seatHoldRepository.findAll();
+
+        // Assert
+        assertThat(saved).isSameAs(hold);
+        assertThat(saved.isNew()).isFalse();
+        assertThat(loaded).singleElement().satisfies(row -> {
+            assertThat(row.getId()).isEqualTo(hold.getId());
+            assertThat(row.isNew()).isFalse();
+            assertThat(row.getEventId()).isEqualTo(event.getId());
+            assertThat(row.getParticipantEmail()).isEqualTo("test@example.com");
+            assertThat(row.getExpiresAt()).isCloseTo(hold.getExpiresAt(), within(1, ChronoUnit.MILLIS));
+        });
+    }
+
+    @Test
+    @DisplayName("deleteAllByIdInBatch should remove only the informed holds")
+    void deleteAllByIdInBatch_shouldRemoveInformedHolds() {
+        // Arrange
+        Event event = persistEvent();
+        SeatHold expired = seatHoldRepository.save(new SeatHold(event.getId(), "a@example.com", Duration.ofMinutes(5)));
+        SeatHold alreadyConfirmed = new SeatHold(event.getId(), "b@example.com", Duration.ofMinutes(5));
+        SeatHold kept = seatHoldRepository.save(new SeatHold(event.getId(), "c@example.com", Duration.ofMinutes(5)));
+        entityManager.flush();
+
+        // Act
+        seatHoldRepository.deleteAllByIdInBatch(List.of(expired.getId(), alreadyConfirmed.getId()));
+        entityManager.clear();
+
+        // Assert
+        assertThat(seatHoldRepository.findAll()).extracting(SeatHold::getId).containsExactly(kept.getId());
+    }
+}
@@ -0,0 +1,245 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.data.EventParticipantRow;
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.models.Subscription;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JpaSubscriptionRepositoryTest {
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        // Desabilita o ddl-auto para ter controle total
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JpaSubscriptionRepository jpaSubscriptionRepository;
+
+    @BeforeEach
+    void setup() {
+        // Executa o Flyway manualmente antes de cada teste
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    private Event persistEvent(int registeredParticipants) {
+        LocalDateTime now = LocalDateTime.now();
+        Event event = Event.builder()
+                .title("Evento com Participantes")
+                .startDateTime(now.plusDays(1))
+                .endDateTime(now.plusDays(2))
+                .maxParticipants(100)
+                .registeredParticipants(registeredParticipants)
+                .status(EventStatus.ACTIVE)
+                .build();
+        return entityManager.persist(event);
+    }
+
+    private Subscription persistSubscription(Event event, String email, LocalDateTime createdAt) {
+        return entityManager.persist(Subscription.builder()
+                .event(event)
+                .participantEmail(email)
+                .createdAt(createdAt)
+                .build());
+    }
+
+    @Test
+    @DisplayName("findParticipantsPage should return participants ordered by createdAt and id, with the event counter")
+    void findParticipantsPage_shouldReturnOrderedParticipants() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        Event event = persistEvent(3);
+        persistSubscription(event, "c@example.com", base.plusMinutes(2));
+        persistSubscription(event, "a@example.com", base);
+        persistSubscription(event, "b@example.com", base.plusMinutes(1));
+        entityManager.flush();
+
+        // Act
+        List<EventParticipantRow> rows = jpaSubscriptionRepository.findParticipantsPage(event.getId(), Limit.of(2));
+
+        // Assert
+        assertThat(rows)
+                .extracting(EventParticipantRow::participantEmail)
+                .containsExactly("a@example.com", "b@example.com");
+        assertThat(rows)
+                .allSatisfy(row -> assertThat(row.registeredParticipants()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("findParticipantsPageAfter should continue after the cursor, breaking createdAt ties by id")
+    void findParticipantsPageAfter_shouldContinueAfterCursor() {
+        // Arrange
+        // Trunca para microssegundos, a precisão do TIMESTAMP no banco, como num cursor lido de uma página real
+        LocalDateTime sameInstant = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.MICROS);
+        Event event = persistEvent(3);
+        Subscription first = persistSubscription(event, "a@example.com", sameInstant);
+        persistSubscription(event, "b@example.com", sameInstant);
+        persistSubscription(event, "c@example.com", sameInstant.plusMinutes(1));
+        entityManager.flush();
+
+        // Act
+        List<EventParticipantRow> rows = jpaSubscriptionRepository.findParticipantsPageAfter(
+                event.getId(), first.getCreatedAt(), first.getId(), Limit.of(10));
+
+        // Assert
+        assertThat(rows)
+                .extracting(EventParticipantRow::participantEmail)
+                .containsExactly("b@example.com", "c@example.com");
+    }
+
+    @Test
+    @DisplayName("findParticipantsPage should return a single row without subscription when the event has no participants")
+    void findParticipantsPage_shouldReturnEventRow_whenNoParticipants() {
+        // Arrange
+        Event event = persistEvent(0);
+        entityManager.flush();
+
+        // Act
+        List<EventParticipantRow> rows = jpaSubscriptionRepository.findParticipantsPage(event.getId(), Limit.of(10));
+
+        // Assert
+        assertThat(rows)
+                .hasSize(1)
+                .first()
+                .satisfies(row -> {
+                    assertThat(row.hasSubscription()).isFalse();
+                    assertThat(row.registeredParticipants()).isZero();
+                });
+    }
+
+    @Test
+    @DisplayName("findParticipantsPage should return no rows when the event does not exist")
+    void findParticipantsPage_shouldReturnEmpty_whenEventDoesNotExist() {
+        // Act
+        List<EventParticipantRow> rows = jpaSubscriptionRepository.findParticipantsPage(UUID.randomUUID(), Limit.of(10));
+
+        // Assert
+        assertThat(rows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteParticipant should remove the subscription and release its seat without loading entities")
+    void deleteParticipant_shouldRemoveSubscriptionAndDecrementCounter() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Event event = persistEvent(2);
+        persistSubscription(event, "a@example.com", now);
+        persistSubscription(event, "b@example.com", now);
+        entityManager.flush();
+        long versionBefore = event.getVersion();
+
+        // Act
+        int updated = jpaSubscriptionRepository.deleteParticipant(event.getId(), "a@example.com");
+        entityManager.clear();
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        Event reloaded = entityManager.find(Event.class, event.getId());
+        assertThat(reloaded.getRegisteredParticipants()).isEqualTo(1);
+        assertThat(reloaded.getVersion()).isEqualTo(versionBefore + 1);
+        assertThat(jpaSubscriptionRepository.findByEvent(reloaded))
+                .extracting(Subscription::getParticipantEmail)
+                .containsExactly("b@example.com");
+    }
+
+    @Test
+    @DisplayName("deleteParticipant should leave the event untouched when the participant is not subscribed")
+    void deleteParticipant_shouldDoNothing_whenNotSubscribed() {
+        // Arrange
+        Event event = persistEvent(1);
+        persistSubscription(event, "a@example.com", LocalDateTime.now());
+        entityManager.flush();
+        long versionBefore = event.getVersion();
+
+        // Act
+        int updated = jpaSubscriptionRepository.deleteParticipant(event.getId(), "other@example.com");
+        int unknownEvent = jpaSubscriptionRepository.deleteParticipant(UUID.randomUUID(), "a@example.com");
+        entityManager.clear();
+
+        // Assert
+        assertThat(updated).isZero();
+        assertThat(unknownEvent).isZero();
+        Event reloaded = entityManager.find(Event.class, event.getId());
+        assertThat(reloaded.getRegisteredParticipants()).isEqualTo(1);
+        assertThat(reloaded.getVersion()).isEqualTo(versionBefore);
+    }
+
+    @Test
+    @DisplayName("registerGroup should insert the group in order up to the free seats, skipping subscribed participants")
+    void registerGroup_shouldInsertUpToFreeSeatsAndSkipSubscribed() {
+        // Arrange: 100 vagas, 97 ocupadas e 1 reservada -> 2 livres
+        Event event = persistEvent(97);
+        persistSubscription(event, "a@example.com", LocalDateTime.now());
+        entityManager.flush();
+        long versionBefore = event.getVersion();
+
+        // Act
+        List<String> registered = jpaSubscriptionRepository.registerGroup(event.getId(),
+                List.of("a@example.com", "b@example.com", "c@example.com", "d@example.com"), 1);
+        entityManager.clear();
+
+        // Assert
+        assertThat(registered).containsExactlyInAnyOrder("b@example.com", "c@example.com");
+        Event reloaded = entityManager.find(Event.class, event.getId());
+        assertThat(reloaded.getRegisteredParticipants()).isEqualTo(99);
+        assertThat(reloaded.getVersion()).isEqualTo(versionBefore + 1);
+        assertThat(jpaSubscriptionRepository.findSubscribedEmails(event.getId(), List.of("a@example.com", "c@example.com", "d@example.com")))
+                .containsExactlyInAnyOrder("a@example.com", "c@example.com");
+    }
+
+    @Test
+    @DisplayName("registerGroup should not register anyone in an inactive event")
+    void registerGroup_shouldNotRegister_whenEventIsNotActive() {
+        // Arrange
+        Event event = persistEvent(0);
+        event.cancel();
+        entityManager.flush();
+
+        // Act
+        List<String> registered = jpaSubscriptionRepository.registerGroup(event.getId(), List.of("a@example.com"), 0);
+        entityManager.clear();
+
+        // Assert
+        assertThat(registered).isEmpty();
+        assertThat(entityManager.find(Event.class, event.getId()).getRegisteredParticipants()).isZero();
+    }
+}
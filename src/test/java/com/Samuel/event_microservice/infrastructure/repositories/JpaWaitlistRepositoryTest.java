@@ -0,0 +1,166 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.models.Subscription;
+import com.Samuel.event_microservice.core.models.WaitlistEntry;
+import com.Samuel.event_microservice.core.ports.WaitlistRepositoryPort;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JpaWaitlistRepositoryTest {
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        // Desabilita o ddl-auto para ter controle total
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private WaitlistRepositoryPort waitlistRepository; // Implementado por JpaWaitlistRepository
+
+    @BeforeEach
+    void setup() {
+        // Executa o Flyway manualmente antes de cada teste
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    private Event persistEvent(int maxParticipants, int registeredParticipants, EventStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        return entityManager.persist(Event.builder()
+                .title("Evento com Lista de Espera")
+                .startDateTime(now.plusDays(1))
+                .endDateTime(now.plusDays(2))
+                .maxParticipants(maxParticipants)
+                .registeredParticipants(registeredParticipants)
+                .status(status)
+                .build());
+    }
+
+    private void enqueue(UUID eventId, String... emails) {
+        for (String email : emails) {
+            waitlistRepository.save(new WaitlistEntry(eventId, email));
+        }
+        entityManager.flush();
+    }
+
+    private List<String> subscribedEmails(UUID eventId) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT s.participantEmail FROM subscription s WHERE s.event.id = :eventId ORDER BY s.id", String.class)
+                .setParameter("eventId", eventId)
+                .getResultList();
+    }
+
+    @Test
+    @DisplayName("countByEventIdAndIdLessThanEqual should return the queue position of an entry")
+    void countByEventIdAndIdLessThanEqual_shouldReturnPosition() {
+        // Arrange
+        Event event = persistEvent(1, 1, EventStatus.ACTIVE);
+        Event otherEvent = persistEvent(1, 1, EventStatus.ACTIVE);
+        waitlistRepository.save(new WaitlistEntry(event.getId(), "a@example.com"));
+        waitlistRepository.save(new WaitlistEntry(otherEvent.getId(), "x@example.com"));
+        WaitlistEntry second = waitlistRepository.save(new WaitlistEntry(event.getId(), "b@example.com"));
+
+        // Act & Assert
+        assertThat(waitlistRepository.countByEventIdAndIdLessThanEqual(event.getId(), second.getId())).isEqualTo(2);
+        assertThat(waitlistRepository.existsByEventIdAndParticipantEmail(event.getId(), "b@example.com")).isTrue();
+        assertThat(waitlistRepository.existsByEventIdAndParticipantEmail(event.getId(), "x@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("promoteWaitlist should promote in arrival order up to the free seats not held, and update the counter and version")
+    void promoteWaitlist_shouldPromoteFifoUpToFreeSeats() {
+        // Arrange
+        Event event = persistEvent(5, 1, EventStatus.ACTIVE);
+        long versionBefore = event.getVersion();
+        enqueue(event.getId(), "a@example.com", "b@example.com", "c@example.com", "d@example.com");
+
+        // Act: 4 vagas livres, 1 reservada
+        List<String> promoted = waitlistRepository.promoteWaitlist(event.getId(), 1);
+        entityManager.clear();
+
+        // Assert
+        assertThat(promoted).containsExactly("a@example.com", "b@example.com", "c@example.com");
+        assertThat(subscribedEmails(event.getId())).containsExactly("a@example.com", "b@example.com", "c@example.com");
+        Event reloaded = entityManager.find(Event.class, event.getId());
+        assertThat(reloaded.getRegisteredParticipants()).isEqualTo(4);
+        assertThat(reloaded.getVersion()).isEqualTo(versionBefore + 1);
+        assertThat(waitlistRepository.existsByEventIdAndParticipantEmail(event.getId(), "a@example.com")).isFalse();
+        assertThat(waitlistRepository.existsByEventIdAndParticipantEmail(event.getId(), "d@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("promoteWaitlist should skip participants who subscribed directly in the meantime")
+    void promoteWaitlist_shouldSkipAlreadySubscribed() {
+        // Arrange
+        Event event = persistEvent(3, 1, EventStatus.ACTIVE);
+        entityManager.persist(new Subscription(event, "a@example.com"));
+        enqueue(event.getId(), "a@example.com", "b@example.com");
+
+        // Act
+        List<String> promoted = waitlistRepository.promoteWaitlist(event.getId(), 0);
+        entityManager.clear();
+
+        // Assert
+        assertThat(promoted).containsExactly("b@example.com");
+        assertThat(entityManager.find(Event.class, event.getId()).getRegisteredParticipants()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("promoteWaitlist should not promote anyone when the event is full or not active")
+    void promoteWaitlist_shouldNotPromote_whenEventIsFullOrInactive() {
+        // Arrange
+        Event fullEvent = persistEvent(2, 2, EventStatus.ACTIVE);
+        Event cancelledEvent = persistEvent(10, 0, EventStatus.CANCELLED);
+        long versionBefore = fullEvent.getVersion();
+        enqueue(fullEvent.getId(), "a@example.com");
+        enqueue(cancelledEvent.getId(), "a@example.com");
+
+        // Act
+        List<String> fromFull = waitlistRepository.promoteWaitlist(fullEvent.getId(), 0);
+        List<String> fromCancelled = waitlistRepository.promoteWaitlist(cancelledEvent.getId(), 0);
+        entityManager.clear();
+
+        // Assert
+        assertThat(fromFull).isEmpty();
+        assertThat(fromCancelled).isEmpty();
+        assertThat(entityManager.find(Event.class, fullEvent.getId()).getVersion()).isEqualTo(versionBefore);
+        assertThat(waitlistRepository.existsByEventIdAndParticipantEmail(fullEvent.getId(), "a@example.com")).isTrue();
+        assertThat(waitlistRepository.existsByEventIdAndParticipantEmail(cancelledEvent.getId(), "a@example.com")).isTrue();
+    }
+}
@@ -0,0 +1,115 @@
+package com.Samuel.event_microservice.infrastructure.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prova que as páginas de participantes são lidas do índice {@code (event_id, created_at, id)}.
+ * <p>
+ * As consultas de {@link JpaSubscriptionRepository} são repetidas com {@code EXPLAIN} sobre um
+ * evento com muitas inscrições, e o plano não pode conter um nó de ordenação: cada página deve
+ * parar no limite em vez de ordenar todas as inscrições do evento.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ParticipantPageIndexUsageTest {
+
+    private static final int EVENT_COUNT = 20;
+    private static final int SUBSCRIPTIONS_PER_EVENT = 5_000;
+    private static final String PARTICIPANT_INDEX = "idx_subscription_event_created_at_id";
+
+    // Define um container do PostgreSQL que será iniciado antes dos testes
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Configura dinamicamente as propriedades do Spring para se conectar ao container
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbc;
+    private UUID eventId;
+
+    @BeforeAll
+    void seed() {
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("""
+                INSERT INTO event (id, max_participants, registered_participants, title, description,
+                                   start_date_time, end_date_time, location, is_remote, status)
+                SELECT gen_random_uuid(), %1$d, %1$d, 'Evento ' || i, 'Descrição do evento ' || i,
+                       now() + interval '1 day', now() + interval '1 day 2 hours', 'Cidade', false, 'ACTIVE'
+                FROM generate_series(1, %2$d) AS i
+                """.formatted(SUBSCRIPTIONS_PER_EVENT, EVENT_COUNT));
+        // Várias inscrições por instante, para que o desempate por id também seja exercitado.
+        jdbc.execute("""
+                INSERT INTO subscription (event_id, participant_email, created_at)
+                SELECT e.id, 'participante' || i || '@email.com', now() - (i / 3) * interval '1 second'
+                FROM event e CROSS JOIN generate_series(1, %d) AS i
+                """.formatted(SUBSCRIPTIONS_PER_EVENT));
+        jdbc.execute("ANALYZE event");
+        jdbc.execute("ANALYZE subscription");
+        eventId = jdbc.queryForObject("SELECT id FROM event LIMIT 1", UUID.class);
+    }
+
+    @Test
+    @DisplayName("The first participants page should be read from the index without sorting")
+    void participantsPage_shouldBeServedByIndex() {
+        String sql = JpaSubscriptionRepository.PARTICIPANTS_PAGE
+                .replace(":eventId", "'" + eventId + "'::uuid")
+                .replace(":limit", "11");
+
+        String plan = explain(sql);
+
+        assertThat(plan).as(plan).contains(PARTICIPANT_INDEX);
+        assertThat(plan).as(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("The participants page after a cursor should start the index scan at the cursor without sorting")
+    void participantsPageAfter_shouldBeServedByIndex() {
+        String sql = JpaSubscriptionRepository.PARTICIPANTS_PAGE_AFTER
+                .replace(":eventId", "'" + eventId + "'::uuid")
+                .replace(":afterCreatedAt", "(now() - interval '10 minutes')::timestamp")
+                .replace(":afterId", "1")
+                .replace(":limit", "11");
+
+        String plan = explain(sql);
+
+        assertThat(plan).as(plan).contains(PARTICIPANT_INDEX);
+        assertThat(plan).as(plan).doesNotContain("Sort");
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbc.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,214 @@
+package com.Samuel.event_microservice.infrastructure.responsecache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SerializedResponseCache cache = new SerializedResponseCache(Duration.ofMinutes(1), 100);
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(cache, List.of("/events", "/events/upcoming"), 10, meterRegistry);
+    private final AtomicInteger rendered = new AtomicInteger();
+
+    // Simula o controller: cada execução consulta o banco e serializa uma página nova
+    private final FilterChain controller = (request, response) -> {
+        int render = rendered.incrementAndGet();
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        httpResponse.setContentType("application/json");
+        httpResponse.setHeader("ETag", "\"page-" + render + "\"");
+        httpResponse.getOutputStream().write(("{\"render\":" + render + "}").getBytes(StandardCharsets.UTF_8));
+    };
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String uri, Map<String, String> parameters) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        parameters.forEach(request::addParameter);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should serve repeated requests for the same normalized page from the stored bytes")
+    void shouldServeRepeatedRequests_fromStoredBytes() throws Exception {
+        // Act
+        MockHttpServletResponse first = perform(get("/events", Map.of()));
+        MockHttpServletResponse second = perform(get("/events", Map.of("page", "0", "size", "10")));
+        MockHttpServletResponse other = perform(get("/events", Map.of("page", "1")));
+
+        // Assert
+        assertThat(rendered).hasValue(2);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"render\":1}");
+        assertThat(second.getContentType()).isEqualTo("application/json");
+        assertThat(second.getHeader("ETag")).isEqualTo("\"page-1\"");
+        assertThat(other.getContentAsString()).isEqualTo("{\"render\":2}");
+        assertThat(meterRegistry.get("http.response-cache.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should send the gzip variant to clients that accept it")
+    void shouldSendGzipVariant_whenAccepted() throws Exception {
+        // Arrange
+        perform(get("/events/upcoming", Map.of()));
+        MockHttpServletRequest request = get("/events/upcoming", Map.of());
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+
+        // Act
+        MockHttpServletResponse response = perform(request);
+
+        // Assert
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getHeader("ETag")).isEqualTo("\"page-1-gzip\"");
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo("{\"render\":1}");
+    }
+
+    @Test
+    @DisplayName("Should send the identity body to clients that refuse gzip with a zero weight")
+    void shouldSendIdentity_whenGzipHasZeroWeight() throws Exception {
+        // Arrange
+        perform(get("/events/upcoming", Map.of()));
+        MockHttpServletRequest request = get("/events/upcoming", Map.of());
+        request.addHeader("Accept-Encoding", "gzip;q=0, *;q=1");
+
+        // Act
+        MockHttpServletResponse response = perform(request);
+
+        // Assert
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getHeader("ETag")).isEqualTo("\"page-1\"");
+        assertThat(response.getContentAsString()).isEqualTo("{\"render\":1}");
+    }
+
+    @Test
+    @DisplayName("Should accept gzip only with a positive weight, directly or through the wildcard")
+    void acceptsGzip_shouldHonorQualityValues() {
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip("br, *;q=0.1")).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip; q=0.0, *")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip;q=invalid")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("identity, deflate")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 from the cache when If-None-Match matches the stored ETag")
+    void shouldAnswerNotModified_fromCache() throws Exception {
+        // Arrange
+        perform(get("/events", Map.of()));
+        MockHttpServletRequest request = get("/events", Map.of());
+        request.addHeader("If-None-Match", "\"page-1\"");
+
+        // Act
+        MockHttpServletResponse response = perform(request);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentLength()).isZero();
+        assertThat(rendered).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 to the gzip variant only when If-None-Match carries the gzip ETag")
+    void shouldAnswerNotModified_forGzipVariantETag() throws Exception {
+        // Arrange
+        perform(get("/events", Map.of()));
+        MockHttpServletRequest identityETag = get("/events", Map.of());
+        identityETag.addHeader("Accept-Encoding", "gzip");
+        identityETag.addHeader("If-None-Match", "\"page-1\"");
+        MockHttpServletRequest gzipETag = get("/events", Map.of());
+        gzipETag.addHeader("Accept-Encoding", "gzip");
+        gzipETag.addHeader("If-None-Match", "\"page-1-gzip\"");
+
+        // Act
+        MockHttpServletResponse withIdentityETag = perform(identityETag);
+        MockHttpServletResponse withGzipETag = perform(gzipETag);
+
+        // Assert
+        assertThat(withIdentityETag.getStatus()).isEqualTo(200);
+        assertThat(withIdentityETag.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(withGzipETag.getStatus()).isEqualTo(304);
+        assertThat(withGzipETag.getHeader("ETag")).isEqualTo("\"page-1-gzip\"");
+        assertThat(rendered).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the cache on writes to events, except waiting room joins")
+    void shouldInvalidate_onWrites() throws Exception {
+        // Arrange
+        perform(get("/events", Map.of()));
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", "/events/1/waiting-room"), new MockHttpServletResponse(), (req, res) -> { });
+        MockHttpServletResponse afterJoin = perform(get("/events", Map.of()));
+        filter.doFilter(new MockHttpServletRequest("POST", "/events/1/register"), new MockHttpServletResponse(), (req, res) -> { });
+        MockHttpServletResponse afterRegistration = perform(get("/events", Map.of()));
+
+        // Assert
+        assertThat(afterJoin.getContentAsString()).isEqualTo("{\"render\":1}");
+        assertThat(afterRegistration.getContentAsString()).isEqualTo("{\"render\":2}");
+    }
+
+    @Test
+    @DisplayName("Should keep the cache on rejected writes and on writes accepted for later processing")
+    void shouldKeepCache_onRejectedOrAcceptedWrites() throws Exception {
+        // Arrange
+        perform(get("/events", Map.of()));
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", "/events/1/register"), new MockHttpServletResponse(),
+                (req, res) -> ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_CONFLICT));
+        filter.doFilter(new MockHttpServletRequest("POST", "/events/1/register/async"), new MockHttpServletResponse(),
+                (req, res) -> ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_ACCEPTED));
+        MockHttpServletResponse afterWrites = perform(get("/events", Map.of()));
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/events/1"), new MockHttpServletResponse(),
+                (req, res) -> ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_NO_CONTENT));
+        MockHttpServletResponse afterCancellation = perform(get("/events", Map.of()));
+
+        // Assert
+        assertThat(afterWrites.getContentAsString()).isEqualTo("{\"render\":1}");
+        assertThat(afterCancellation.getContentAsString()).isEqualTo("{\"render\":2}");
+    }
+
+    @Test
+    @DisplayName("Should normalize parameter order, default paging and sort direction in the key")
+    void keyOf_shouldNormalizeParameters() {
+        // Act
+        String key = filter.keyOf("/events", Map.of(
+                "sort", new String[]{"title", "startDateTime,DESC"},
+                "size", new String[]{"10"},
+                "page", new String[]{"2"},
+                "isRemote", new String[]{"true"}));
+
+        // Assert
+        assertThat(key).isEqualTo("/events?isRemote=true&page=2&sort=title,asc&sort=startDateTime,desc");
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.Samuel.event_microservice.infrastructure.responsecache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponseCacheTest {
+
+    private static final byte[] BODY = "{\"content\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SerializedResponseCache cache = new SerializedResponseCache(Duration.ofSeconds(2), 2, clock::get);
+
+    @Test
+    @DisplayName("Should return the stored bytes and a gzip variant of them")
+    void get_shouldReturnStoredBytesAndGzipVariant() throws IOException {
+        // Arrange
+        cache.put("/events", cache.generation(), "application/json", "\"etag\"", BODY);
+
+        // Act
+        SerializedResponseCache.CachedResponse cached = cache.get("/events");
+
+        // Assert
+        assertThat(cached.body()).isEqualTo(BODY);
+        assertThat(cached.eTag()).isEqualTo("\"etag\"");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(cached.gzipBody()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the TTL")
+    void get_shouldExpireEntriesAfterTtl() {
+        // Arrange
+        cache.put("/events", cache.generation(), "application/json", null, BODY);
+
+        // Act
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        // Assert
+        assertThat(cache.get("/events")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop every entry on invalidation and ignore responses computed before it")
+    void invalidateAll_shouldDropEntries_andIgnoreStaleResponses() {
+        // Arrange
+        cache.put("/events", cache.generation(), "application/json", null, BODY);
+        long generationBeforeWrite = cache.generation();
+
+        // Act
+        cache.invalidateAll();
+        cache.put("/events/upcoming", generationBeforeWrite, "application/json", null, BODY);
+
+        // Assert
+        assertThat(cache.get("/events")).isNull();
+        assertThat(cache.get("/events/upcoming")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not grow past the maximum number of entries, making room by removing expired ones")
+    void put_shouldRespectMaxEntries() {
+        // Arrange
+        cache.put("/events?page=1", cache.generation(), "application/json", null, BODY);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        cache.put("/events?page=2", cache.generation(), "application/json", null, BODY);
+
+        // Act
+        cache.put("/events?page=3", cache.generation(), "application/json", null, BODY);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        cache.put("/events?page=4", cache.generation(), "application/json", null, BODY);
+
+        // Assert
+        assertThat(cache.get("/events?page=3")).isNull();
+        assertThat(cache.get("/events?page=2")).isNotNull();
+        assertThat(cache.get("/events?page=4")).isNotNull();
+    }
+}
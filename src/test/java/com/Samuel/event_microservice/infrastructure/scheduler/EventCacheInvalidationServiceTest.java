@@ -0,0 +1,72 @@
+package com.Samuel.event_microservice.infrastructure.scheduler;
+
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.EntityCacheProperties;
+import com.Samuel.event_microservice.infrastructure.entitycache.EventCacheInvalidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventCacheInvalidationServiceTest {
+
+    private static final Instant START = Instant.parse("2026-01-10T12:00:00Z");
+
+    @Mock
+    private EventRepositoryPort eventRepository;
+
+    @Mock
+    private EventCacheInvalidator eventCacheInvalidator;
+
+    @Mock
+    private Clock clock;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EventCacheInvalidationService invalidationService;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(START, START.plusSeconds(5), START.plusSeconds(10));
+        EntityCacheProperties properties = new EntityCacheProperties();
+        properties.setInvalidationLookback(Duration.ofSeconds(30));
+        invalidationService = new EventCacheInvalidationService(eventRepository, eventCacheInvalidator, properties,
+                meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("Should evict the events updated since the previous run minus the lookback")
+    void invalidate_shouldEvictEventsUpdatedSincePreviousRunMinusLookback() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(eventRepository.findIdsUpdatedSince(START.minusSeconds(30))).thenReturn(List.of(first, second));
+        when(eventRepository.findIdsUpdatedSince(START.minusSeconds(25))).thenReturn(List.of(second));
+
+        // Act
+        int firstRun = invalidationService.invalidate();
+        int secondRun = invalidationService.invalidate();
+
+        // Assert
+        assertThat(firstRun).isEqualTo(2);
+        assertThat(secondRun).isEqualTo(1);
+        verify(eventCacheInvalidator).evict(List.of(first, second));
+        verify(eventCacheInvalidator).evict(List.of(second));
+        assertThat(meterRegistry.get("events.entity-cache.invalidated").counter().count()).isEqualTo(3);
+    }
+}
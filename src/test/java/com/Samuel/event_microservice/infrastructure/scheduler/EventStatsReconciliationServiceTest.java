@@ -0,0 +1,89 @@
+package com.Samuel.event_microservice.infrastructure.scheduler;
+
+import com.Samuel.event_microservice.core.data.EventStatusTotals;
+import com.Samuel.event_microservice.core.models.EventStats;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.core.ports.EventStatsRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventStatsReconciliationServiceTest {
+
+    @Mock
+    private EventRepositoryPort eventRepository;
+
+    @Mock
+    private EventStatsRepositoryPort eventStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EventStatsReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        reconciliationService = new EventStatsReconciliationService(eventRepository, eventStatsRepository,
+                new TransactionTemplate(transactionManager));
+    }
+
+    private static EventStats stats(EventStatus status, long eventCount, long registeredParticipants) {
+        return EventStats.builder().status(status).eventCount(eventCount).registeredParticipants(registeredParticipants).build();
+    }
+
+    @Test
+    @DisplayName("Should overwrite the drifted counters with the grouped totals after locking them")
+    void reconcile_shouldOverwriteDriftedCounters_afterLockingThem() {
+        // Arrange
+        when(eventStatsRepository.findAllForUpdate()).thenReturn(List.of(
+                stats(EventStatus.ACTIVE, 10, 100),
+                stats(EventStatus.CANCELLED, 2, 5),
+                stats(EventStatus.FINISHED, 1, 0)));
+        when(eventRepository.countEventsByStatus()).thenReturn(List.of(
+                new EventStatusTotals(EventStatus.ACTIVE, 11, 130),
+                new EventStatusTotals(EventStatus.CANCELLED, 2, 5)));
+
+        // Act
+        reconciliationService.reconcile();
+
+        // Assert
+        InOrder order = inOrder(eventStatsRepository, eventRepository);
+        order.verify(eventStatsRepository).findAllForUpdate();
+        order.verify(eventRepository).countEventsByStatus();
+        verify(eventStatsRepository).overwrite(EventStatus.ACTIVE, 11, 130);
+        verify(eventStatsRepository).overwrite(EventStatus.FINISHED, 0, 0);
+        verify(eventStatsRepository, never()).overwrite(EventStatus.CANCELLED, 2, 5);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should not write when the counters match the grouped totals")
+    void reconcile_shouldNotWrite_whenCountersMatch() {
+        // Arrange
+        when(eventStatsRepository.findAllForUpdate()).thenReturn(List.of(stats(EventStatus.ACTIVE, 3, 7)));
+        when(eventRepository.countEventsByStatus()).thenReturn(List.of(new EventStatusTotals(EventStatus.ACTIVE, 3, 7)));
+
+        // Act
+        reconciliationService.reconcile();
+
+        // Assert
+        verify(eventStatsRepository, never()).overwrite(any(), anyLong(), anyLong());
+    }
+}
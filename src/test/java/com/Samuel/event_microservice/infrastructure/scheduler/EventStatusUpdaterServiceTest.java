@@ -3,6 +3,8 @@ package com.Samuel.event_microservice.infrastructure.scheduler;
 import com.Samuel.event_microservice.core.models.Event;
 import com.Samuel.event_microservice.core.models.EventStatus;
 import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.core.ports.EventStatsRepositoryPort;
+import com.Samuel.event_microservice.core.ports.EventSuggestionIndexPort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -32,6 +34,12 @@ class EventStatusUpdaterServiceTest {
     @Mock
     private EventRepositoryPort eventRepository;
 
+    @Mock
+    private EventStatsRepositoryPort eventStatsRepository;
+
+    @Mock
+    private EventSuggestionIndexPort eventSuggestionIndex;
+
     @Mock
     private TransactionTemplate transactionTemplate;
 
@@ -97,6 +105,9 @@ class EventStatusUpdaterServiceTest {
             assertThat(event1.getStatus()).isEqualTo(EventStatus.FINISHED);
             assertThat(event2.getStatus()).isEqualTo(EventStatus.FINISHED);
             verify(eventRepository, times(2)).save(any(Event.class));
+            verify(eventSuggestionIndex).remove(event1.getId());
+            verify(eventSuggestionIndex).remove(event2.getId());
+            verify(eventStatsRepository, times(2)).recordTransition(EventStatus.ACTIVE, EventStatus.FINISHED, 0);
         }
 
         @Test
@@ -138,6 +149,9 @@ class EventStatusUpdaterServiceTest {
 
             verify(eventRepository, times(1)).save(eventToFail);
             verify(eventRepository, times(1)).save(eventToSucceed);
+            verify(eventSuggestionIndex, never()).remove(eventToFail.getId());
+            verify(eventSuggestionIndex, times(1)).remove(eventToSucceed.getId());
+            verify(eventStatsRepository, times(1)).recordTransition(EventStatus.ACTIVE, EventStatus.FINISHED, 0);
         }
     }
 }
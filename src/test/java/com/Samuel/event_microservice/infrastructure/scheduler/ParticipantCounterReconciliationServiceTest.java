@@ -0,0 +1,122 @@
+package com.Samuel.event_microservice.infrastructure.scheduler;
+
+import com.Samuel.event_microservice.core.data.ParticipantCounterCheck;
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.infrastructure.config.ParticipantCounterReconciliationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantCounterReconciliationServiceTest {
+
+    private static final UUID FIRST_EVENT = new UUID(0, 0);
+
+    @Mock
+    private EventRepositoryPort eventRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ParticipantCounterReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        ParticipantCounterReconciliationProperties properties = new ParticipantCounterReconciliationProperties();
+        properties.setChunkSize(2);
+        reconciliationService = new ParticipantCounterReconciliationService(eventRepository, properties, meterRegistry);
+    }
+
+    private static ParticipantCounterCheck check(UUID id, int recorded, long actual) {
+        return new ParticipantCounterCheck() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public int getRecorded() {
+                return recorded;
+            }
+
+            @Override
+            public long getActual() {
+                return actual;
+            }
+        };
+    }
+
+    private double reconciled(String result) {
+        return meterRegistry.get("events.participant-counters.reconciled").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should walk every chunk after the last event of the previous one and repair only drifted counters")
+    void reconcile_shouldWalkChunks_andRepairOnlyDriftedCounters() {
+        // Arrange
+        UUID first = new UUID(0, 1);
+        UUID second = new UUID(0, 2);
+        UUID third = new UUID(0, 3);
+        when(eventRepository.findParticipantCounters(FIRST_EVENT, 2))
+                .thenReturn(List.of(check(first, 5, 5), check(second, 7, 6)));
+        when(eventRepository.findParticipantCounters(second, 2))
+                .thenReturn(List.of(check(third, 0, 2)));
+        when(eventRepository.repairRegisteredParticipants(second, 7)).thenReturn(1);
+        when(eventRepository.repairRegisteredParticipants(third, 0)).thenReturn(1);
+
+        // Act
+        int repaired = reconciliationService.reconcile();
+
+        // Assert
+        assertThat(repaired).isEqualTo(2);
+        verify(eventRepository, never()).repairRegisteredParticipants(first, 5);
+        assertThat(reconciled("checked")).isEqualTo(3.0);
+        assertThat(reconciled("drifted")).isEqualTo(2.0);
+        assertThat(reconciled("repaired")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should not count a repair when the counter changed since it was compared")
+    void reconcile_shouldSkipRepair_whenCounterChangedConcurrently() {
+        // Arrange
+        UUID eventId = new UUID(0, 1);
+        when(eventRepository.findParticipantCounters(FIRST_EVENT, 2)).thenReturn(List.of(check(eventId, 3, 4)));
+        when(eventRepository.repairRegisteredParticipants(eventId, 3)).thenReturn(0);
+
+        // Act
+        int repaired = reconciliationService.reconcile();
+
+        // Assert
+        assertThat(repaired).isZero();
+        assertThat(reconciled("drifted")).isEqualTo(1.0);
+        assertThat(reconciled("repaired")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should do nothing when there are no events")
+    void reconcile_shouldDoNothing_whenThereAreNoEvents() {
+        // Arrange
+        when(eventRepository.findParticipantCounters(FIRST_EVENT, 2)).thenReturn(List.of());
+
+        // Act
+        int repaired = reconciliationService.reconcile();
+
+        // Assert
+        assertThat(repaired).isZero();
+        verify(eventRepository, never()).repairRegisteredParticipants(any(), anyInt());
+    }
+}
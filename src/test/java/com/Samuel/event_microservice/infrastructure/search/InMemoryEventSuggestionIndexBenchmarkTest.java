@@ -0,0 +1,127 @@
+package com.Samuel.event_microservice.infrastructure.search;
+
+import com.Samuel.event_microservice.core.data.EventSuggestion;
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark de memória e latência do índice de sugestões com duzentos mil eventos.
+ * <p>
+ * Fica fora do build padrão; rode com {@code mvn test -Pbenchmark -Dtest=InMemoryEventSuggestionIndexBenchmarkTest}.
+ */
+@Tag("benchmark")
+class InMemoryEventSuggestionIndexBenchmarkTest {
+
+    private static final int EVENT_COUNT = 200_000;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 50_000;
+    private static final int LIMIT = 10;
+    private static final double MAX_P95_MICROS = 1_000.0;
+
+    private static final String[] TOPICS = {"Java", "Kotlin", "Spring", "Postgres", "Docker", "Kubernetes", "React",
+            "Angular", "Python", "Golang", "Rust", "Segurança", "Dados", "Nuvem", "DevOps", "Arquitetura", "Testes",
+            "Acessibilidade", "Design", "Produto", "Mobile", "Jogos", "Observabilidade", "Microsserviços"};
+    private static final String[] KINDS = {"Meetup", "Workshop", "Conference", "Day", "Summit", "Bootcamp", "Talks", "Hackathon"};
+    private static final String[] CITIES = {"São Paulo", "Rio de Janeiro", "Belo Horizonte", "Recife", "Porto Alegre",
+            "Curitiba", "Salvador", "Fortaleza", "Florianópolis", "Brasília", "Online"};
+
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("Index footprint and prefix lookup latency over 200k events")
+    void footprintAndLatency() {
+        EventRepositoryPort repository = mock(EventRepositoryPort.class);
+        InMemoryEventSuggestionIndex index = new InMemoryEventSuggestionIndex(repository);
+
+        long heapBefore = usedHeapAfterGc();
+        List<String> titles = new ArrayList<>(EVENT_COUNT);
+        when(repository.findUpcomingEventSuggestions(any(LocalDateTime.class))).thenAnswer(invocation -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EventSuggestion> suggestions = new ArrayList<>(EVENT_COUNT);
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                String title = TOPICS[random.nextInt(TOPICS.length)] + " " + KINDS[random.nextInt(KINDS.length)]
+                        + " " + CITIES[random.nextInt(CITIES.length)] + " " + (2025 + i % 3) + " #" + i;
+                suggestions.add(new EventSuggestion(UUID.randomUUID(), title, now.plusMinutes(1 + random.nextInt(525_600))));
+                if (i % 1_000 == 0) {
+                    titles.add(title);
+                }
+            }
+            return suggestions;
+        });
+
+        long buildStart = System.nanoTime();
+        index.rebuild();
+        double buildMillis = (System.nanoTime() - buildStart) / 1_000_000.0;
+        long heapAfter = usedHeapAfterGc();
+
+        assertThat(index.size()).isEqualTo(EVENT_COUNT);
+        long footprint = heapAfter - heapBefore;
+        System.out.printf("[benchmark] índice de sugestões: %d eventos, ~%.1f MB (~%d bytes/evento), construído em %.0fms%n",
+                EVENT_COUNT, footprint / 1_048_576.0, footprint / EVENT_COUNT, buildMillis);
+
+        List<Double> shortPrefixes = measure(index, titles, 1);
+        List<Double> typedPrefixes = measure(index, titles, 3);
+        List<Double> longPrefixes = measure(index, titles, 8);
+        report("1 caractere", shortPrefixes);
+        report("3 caracteres", typedPrefixes);
+        report("8 caracteres", longPrefixes);
+
+        assertThat(percentile(shortPrefixes, 95)).isLessThan(MAX_P95_MICROS);
+        assertThat(percentile(typedPrefixes, 95)).isLessThan(MAX_P95_MICROS);
+        assertThat(percentile(longPrefixes, 95)).isLessThan(MAX_P95_MICROS);
+    }
+
+    private List<Double> measure(InMemoryEventSuggestionIndex index, List<String> titles, int prefixLength) {
+        List<Double> samples = new ArrayList<>(MEASURED_ITERATIONS);
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+            String title = titles.get(random.nextInt(titles.size()));
+            String prefix = title.substring(0, Math.min(prefixLength, title.length()));
+
+            long start = System.nanoTime();
+            List<EventSuggestion> suggestions = index.suggest(prefix, LIMIT);
+            double elapsedMicros = (System.nanoTime() - start) / 1_000.0;
+
+            assertThat(suggestions).isNotEmpty();
+            if (i >= WARMUP_ITERATIONS) {
+                samples.add(elapsedMicros);
+            }
+        }
+        return samples;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static double percentile(List<Double> samples, int percentile) {
+        List<Double> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+
+    private static void report(String scenario, List<Double> samples) {
+        System.out.printf("[benchmark] prefixo de %-13s p50=%7.1fµs p95=%7.1fµs p99=%7.1fµs (%d amostras)%n",
+                scenario, percentile(samples, 50), percentile(samples, 95), percentile(samples, 99), samples.size());
+    }
+}
@@ -0,0 +1,162 @@
+package com.Samuel.event_microservice.infrastructure.search;
+
+import com.Samuel.event_microservice.core.data.EventSuggestion;
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.models.EventStatus;
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryEventSuggestionIndexTest {
+
+    @InjectMocks
+    private InMemoryEventSuggestionIndex index;
+
+    @Mock
+    private EventRepositoryPort eventRepository;
+
+    @AfterEach
+    void clearTransactionSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Event event(String title, LocalDateTime start, EventStatus status) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .startDateTime(start)
+                .endDateTime(start.plusHours(2))
+                .status(status)
+                .build();
+    }
+
+    private List<String> titles(List<EventSuggestion> suggestions) {
+        return suggestions.stream().map(EventSuggestion::title).toList();
+    }
+
+    @Test
+    @DisplayName("rebuild should load upcoming events and match prefixes ignoring case and accents")
+    void rebuild_shouldIndexUpcomingEventsIgnoringCaseAndAccents() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(eventRepository.findUpcomingEventSuggestions(any(LocalDateTime.class))).thenReturn(List.of(
+                new EventSuggestion(UUID.randomUUID(), "Segurança em APIs", now.plusDays(2)),
+                new EventSuggestion(UUID.randomUUID(), "Seguranca   na Nuvem", now.plusDays(1)),
+                new EventSuggestion(UUID.randomUUID(), "Spring Boot", now.plusDays(3))
+        ));
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(titles(index.suggest("SEGURANÇA", 10)))
+                .containsExactly("Seguranca   na Nuvem", "Segurança em APIs");
+        assertThat(titles(index.suggest("seguranca na", 10))).containsExactly("Seguranca   na Nuvem");
+        assertThat(index.suggest("kotlin", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("suggest should return the k closest events ordered by start date")
+    void suggest_shouldReturnClosestEventsFirst() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        for (int day = 10; day >= 1; day--) {
+            index.upsert(event("Java Meetup " + day, now.plusDays(day), EventStatus.ACTIVE));
+        }
+
+        // Act
+        List<EventSuggestion> suggestions = index.suggest("java", 3);
+
+        // Assert
+        assertThat(titles(suggestions)).containsExactly("Java Meetup 1", "Java Meetup 2", "Java Meetup 3");
+    }
+
+    @Test
+    @DisplayName("upsert should move renamed events and remove cancelled ones")
+    void upsert_shouldReflectRenamesAndCancellations() {
+        // Arrange
+        Event event = event("Docker Básico", LocalDateTime.now().plusDays(1), EventStatus.ACTIVE);
+        index.upsert(event);
+
+        // Act
+        Event renamed = Event.builder()
+                .id(event.getId())
+                .title("Kubernetes Básico")
+                .startDateTime(event.getStartDateTime())
+                .endDateTime(event.getEndDateTime())
+                .status(EventStatus.ACTIVE)
+                .build();
+        index.upsert(renamed);
+
+        // Assert
+        assertThat(index.suggest("docker", 10)).isEmpty();
+        assertThat(titles(index.suggest("kube", 10))).containsExactly("Kubernetes Básico");
+        assertThat(index.size()).isEqualTo(1);
+
+        // Act
+        renamed.cancel();
+        index.upsert(renamed);
+
+        // Assert
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("upsert should ignore events that already started")
+    void upsert_shouldIgnorePastEvents() {
+        // Act
+        index.upsert(event("Evento Passado", LocalDateTime.now().minusHours(1), EventStatus.ACTIVE));
+
+        // Assert
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("remove should drop the event from the index")
+    void remove_shouldDropEvent() {
+        // Arrange
+        Event event = event("Python Day", LocalDateTime.now().plusDays(1), EventStatus.ACTIVE);
+        index.upsert(event);
+
+        // Act
+        index.remove(event.getId());
+
+        // Assert
+        assertThat(index.suggest("python", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("writes inside a transaction should only be applied after commit")
+    void upsert_shouldWaitForCommit_whenInsideTransaction() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        Event event = event("Rust Conf", LocalDateTime.now().plusDays(1), EventStatus.ACTIVE);
+
+        // Act
+        index.upsert(event);
+
+        // Assert
+        assertThat(index.size()).isZero();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(titles(index.suggest("rust", 10))).containsExactly("Rust Conf");
+    }
+}
@@ -0,0 +1,188 @@
+package com.Samuel.event_microservice.infrastructure.waitlist;
+
+import com.Samuel.event_microservice.core.models.Event;
+import com.Samuel.event_microservice.core.ports.EventNotificationPort;
+import com.Samuel.event_microservice.core.ports.EventRepositoryPort;
+import com.Samuel.event_microservice.core.ports.SeatHoldRegistryPort;
+import com.Samuel.event_microservice.core.ports.WaitlistRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistPromoterTest {
+
+    @Mock
+    private WaitlistRepositoryPort waitlistRepository;
+
+    @Mock
+    private EventRepositoryPort eventRepository;
+
+    @Mock
+    private SeatHoldRegistryPort seatHoldRegistry;
+
+    @Mock
+    private EventNotificationPort eventNotificationPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // Executor manual: as promoções só rodam quando o teste as drena
+    private final Queue<Runnable> promotions = new ArrayDeque<>();
+
+    private WaitlistPromoter promoter;
+
+    @BeforeEach
+    void setUp() {
+        promoter = new WaitlistPromoter(waitlistRepository, eventRepository, seatHoldRegistry, eventNotificationPort,
+                new TransactionTemplate(transactionManager), promotions::add);
+    }
+
+    @AfterEach
+    void clearTransactionSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void drain(Queue<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    @Test
+    @DisplayName("promote should fill the free seats, respecting active holds, and notify the promoted participants")
+    void promote_shouldPromoteAndNotify() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        Event event = Event.builder().id(eventId).title("Evento").build();
+        when(seatHoldRegistry.activeHolds(eventId)).thenReturn(2);
+        when(waitlistRepository.promoteWaitlist(eventId, 2)).thenReturn(List.of("a@example.com", "b@example.com"));
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+        // Act
+        promoter.promoteAfterCommit(eventId);
+        drain(promotions);
+
+        // Assert
+        verify(eventNotificationPort).sendRegistrationConfirmation(event, "a@example.com");
+        verify(eventNotificationPort).sendRegistrationConfirmation(event, "b@example.com");
+    }
+
+    @Test
+    @DisplayName("promote should not load the event when nobody was promoted")
+    void promote_shouldDoNothing_whenNobodyIsPromoted() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        when(waitlistRepository.promoteWaitlist(eventId, 0)).thenReturn(Collections.emptyList());
+
+        // Act
+        promoter.promoteAfterCommit(eventId);
+        drain(promotions);
+
+        // Assert
+        verifyNoInteractions(eventRepository);
+        verify(eventNotificationPort, never()).sendRegistrationConfirmation(any(), any());
+    }
+
+    @Test
+    @DisplayName("promoteAfterCommit should coalesce requests for an event already waiting to be promoted")
+    void promoteAfterCommit_shouldCoalescePendingRequests() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        UUID otherEventId = UUID.randomUUID();
+        when(waitlistRepository.promoteWaitlist(any(), anyInt())).thenReturn(Collections.emptyList());
+
+        // Act
+        promoter.promoteAfterCommit(eventId);
+        promoter.promoteAfterCommit(eventId);
+        promoter.promoteAfterCommit(otherEventId);
+        drain(promotions);
+        promoter.promoteAfterCommit(eventId);
+        drain(promotions);
+
+        // Assert
+        verify(waitlistRepository, times(2)).promoteWaitlist(eventId, 0);
+        verify(waitlistRepository, times(1)).promoteWaitlist(otherEventId, 0);
+    }
+
+    @Test
+    @DisplayName("promoteAfterCommit should schedule the promotion only once the transaction commits")
+    void promoteAfterCommit_shouldWaitForCommit() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        promoter.promoteAfterCommit(eventId);
+        int scheduledBeforeCommit = promotions.size();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertThat(scheduledBeforeCommit).isZero();
+        assertThat(promotions).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("promote should swallow failures so the promoter thread keeps running")
+    void promote_shouldSwallowFailures() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        doThrow(new IllegalStateException("database down")).when(waitlistRepository).promoteWaitlist(eventId, 0);
+
+        // Act
+        promoter.promoteAfterCommit(eventId);
+        drain(promotions);
+
+        // Assert
+        verifyNoInteractions(eventRepository, eventNotificationPort);
+    }
+
+    @Test
+    @DisplayName("listenToExpiredHolds should promote the waitlist of events whose holds expired")
+    void listenToExpiredHolds_shouldRegisterPromotionListener() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        ArgumentCaptor<Consumer<UUID>> listener = ArgumentCaptor.captor();
+        when(waitlistRepository.promoteWaitlist(eventId, 0)).thenReturn(Collections.emptyList());
+
+        // Act
+        promoter.listenToExpiredHolds();
+        verify(seatHoldRegistry).addExpiryListener(listener.capture());
+        listener.getValue().accept(eventId);
+        drain(promotions);
+
+        // Assert
+        verify(waitlistRepository).promoteWaitlist(eventId, 0);
+    }
+}